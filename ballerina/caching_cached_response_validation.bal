@@ -63,7 +63,7 @@ isolated function getValidationResponse(HttpClient httpClient, Request req, Resp
     } else {
         // Forward the received response and replace the stored responses
         validationResponse.requestTime = currentT;
-        cache.put(getCacheKey(httpMethod, path), req.cacheControl, validationResponse);
+        cache.put(getCacheKey(httpMethod, path), req, validationResponse);
         log:printDebug("Received a full response. Storing it in cache and forwarding to the client");
         return validationResponse;
     }
@@ -98,6 +98,17 @@ isolated function sendValidationRequest(HttpClient httpClient, string httpMethod
     return resp;
 }
 
+// Updates a stored response using the validation response, along with the response being served if it was created from
+// the same stored response.
+isolated function updateStoredResponse(HttpCache cache, Response storedResponse, Response validationResponse,
+                                       Response cachedResponse) {
+    updateResponse(storedResponse, validationResponse);
+    cache.update(storedResponse);
+    if cache.isSameEntry(storedResponse, cachedResponse) {
+        updateResponse(cachedResponse, validationResponse);
+    }
+}
+
 // Based on https://tools.ietf.org/html/rfc7234#section-4.3.4
 isolated function handle304Response(Response validationResponse, Response cachedResponse, HttpCache cache, string path,
                            string httpMethod) returns Response|ClientError {
@@ -108,7 +119,7 @@ isolated function handle304Response(Response validationResponse, Response cached
             Response[] matchingCachedResponses = cache.getAllByETag(getCacheKey(httpMethod, path), etag);
 
             foreach var resp in matchingCachedResponses {
-                updateResponse(resp, validationResponse);
+                updateStoredResponse(cache, resp, validationResponse, cachedResponse);
             }
             log:printDebug("304 response received, with a strong validator. Response(s) updated");
             return cachedResponse;
@@ -117,7 +128,7 @@ isolated function handle304Response(Response validationResponse, Response cached
             Response[] matchingCachedResponses = cache.getAllByWeakETag(getCacheKey(httpMethod, path), etag);
 
             foreach var resp in matchingCachedResponses {
-                updateResponse(resp, validationResponse);
+                updateStoredResponse(cache, resp, validationResponse, cachedResponse);
             }
             log:printDebug("304 response received, with a weak validator. Response(s) updated");
             return cachedResponse;
@@ -130,6 +141,7 @@ isolated function handle304Response(Response validationResponse, Response cached
                                                         !validationResponse.hasHeader(LAST_MODIFIED) {
         log:printDebug("304 response received and stored response do not have validators. Updating the stored response.");
         updateResponse(cachedResponse, validationResponse);
+        cache.update(cachedResponse);
     }
 
     log:printDebug("304 response received, but stored responses were not updated.");
@@ -14,34 +14,35 @@
 // specific language governing permissions and limitations
 // under the License.
 
-import ballerina/cache;
+import ballerina/jballerina.java;
 import ballerina/log;
 
 # Implements a cache for storing HTTP responses. This cache complies with the caching policy set when configuring
-# HTTP caching in the HTTP client endpoint.
+# HTTP caching in the HTTP client endpoint. The responses are stored natively, and a new `Response` is created from
+# the stored response for each lookup, sharing the stored payload without copying it.
 #
-# + cache - The underlying cache used for storing HTTP responses
 # + policy - Gives the user some control over the caching behaviour. By default, this is set to
 #            `CACHE_CONTROL_AND_VALIDATORS`. The default behaviour is to allow caching only when the `cache-control`
 #            header and either the `etag` or `last-modified` header are present.
 # + isShared - Specifies whether the HTTP caching layer should behave as a public cache or a private cache
 public isolated class HttpCache {
 
-    final cache:Cache cache;
     private final CachingPolicy policy;
     private final boolean isShared;
+    private final boolean coalesceRequests;
+    private final decimal coalescingMaxWait;
+    private final decimal staleWhileRevalidate;
 
     # Creates the HTTP cache.
     #
     # + cacheConfig - The configurations for the HTTP cache
     public isolated function init(CacheConfig cacheConfig) {
-        cache:CacheConfig config = {
-            capacity: cacheConfig.capacity,
-            evictionFactor: cacheConfig.evictionFactor
-        };
-        self.cache = new cache:Cache(config);
         self.policy = cacheConfig.policy;
         self.isShared = cacheConfig.isShared;
+        self.coalesceRequests = cacheConfig.coalesceRequests;
+        self.coalescingMaxWait = cacheConfig.coalescingMaxWait;
+        self.staleWhileRevalidate = cacheConfig.staleWhileRevalidate;
+        externInitResponseStore(self, cacheConfig.capacity, cacheConfig.maxSizeInBytes);
     }
 
     isolated function isAllowedToCache(Response response) returns boolean {
@@ -52,8 +53,8 @@ public isolated class HttpCache {
         return true;
     }
 
-    isolated function put(string key, RequestCacheControl? requestCacheControl, Response inboundResponse) {
-        if self.isNonCacheableResponse(requestCacheControl, inboundResponse.cacheControl) {
+    isolated function put(string key, Request request, Response inboundResponse) {
+        if self.isNonCacheableResponse(request.cacheControl, inboundResponse.cacheControl) {
             return;
         }
 
@@ -63,9 +64,10 @@ public isolated class HttpCache {
             byte[]|error binaryPayload = inboundResponse.getBinaryPayload();
             if binaryPayload is error {
                 log:printDebug("Error building the payload in HTTP caching: " + binaryPayload.message());
+                return;
             }
             log:printDebug("Adding new cache entry for: " + key);
-            addEntry(self.cache, key, inboundResponse);
+            externPut(self, key, request, inboundResponse, binaryPayload);
         }
     }
 
@@ -96,71 +98,76 @@ public isolated class HttpCache {
     }
 
     isolated function hasKey(string key) returns boolean {
-        return self.cache.hasKey(key);
+        return externHasKey(self, key);
     }
 
-    isolated function get(string key) returns any|error {
-        return self.cache.get(key);
+    // Based on https://tools.ietf.org/html/rfc7234#section-4.1, only a response stored for a request with the same
+    // values for the headers nominated by its `vary` header is selected.
+    isolated function get(string key, Request request) returns Response? {
+        return externGet(self, key, request);
     }
 
     isolated function getAll(string key) returns Response[]|() {
-        var cacheEntry = trap <Response[]> checkpanic self.cache.get(key);
-        if cacheEntry is Response[] {
-            return cacheEntry;
-        }
-        return ();
+        return externGetAll(self, key);
     }
 
     isolated function getAllByETag(string key, string etag) returns Response[] {
-        Response[] cachedResponses = [];
-        Response[] matchingResponses = [];
-        int i = 0;
+        return externGetAllByETag(self, key, etag, false) ?: [];
+    }
 
-        var responses = self.getAll(key);
-        if responses is Response[] {
-            cachedResponses = responses;
-        }
+    isolated function getAllByWeakETag(string key, string etag) returns Response[] {
+        return externGetAllByETag(self, key, etag, true) ?: [];
+    }
 
-        foreach var cachedResp in cachedResponses {
-            string|error headerValue = cachedResp.getHeader(ETAG);
-            if headerValue is string && headerValue == etag && !etag.startsWith(WEAK_VALIDATOR_TAG) {
-                matchingResponses[i] = cachedResp;
-                i = i + 1;
-            }
-        }
+    # Writes the headers of a response created by this cache back to the stored response.
+    #
+    # + cachedResponse - A response returned by this cache
+    isolated function update(Response cachedResponse) {
+        externUpdate(cachedResponse);
+    }
 
-        return matchingResponses;
+    # Checks whether two responses returned by this cache were created from the same stored response.
+    #
+    # + cachedResponse - A response returned by this cache
+    # + otherResponse - Another response returned by this cache
+    # + return - `true` if both are created from the same stored response
+    isolated function isSameEntry(Response cachedResponse, Response otherResponse) returns boolean {
+        return externIsSameEntry(cachedResponse, otherResponse);
     }
 
-    isolated function getAllByWeakETag(string key, string etag) returns Response[] {
-        Response[] cachedResponses = [];
-        Response[] matchingResponses = [];
-        int i = 0;
+    isolated function remove(string key) {
+        externRemove(self, key);
+    }
 
-        var responses = self.getAll(key);
-        if responses is Response[] {
-            cachedResponses = responses;
-        }
+    isolated function isCoalescingEnabled() returns boolean {
+        return self.coalesceRequests;
+    }
 
-        foreach var cachedResp in cachedResponses {
-            string|error etagHeader = cachedResp.getHeader(ETAG);
-            if etagHeader is string {
-                if weakValidatorEquals(etag, etagHeader) {
-                    matchingResponses[i] = cachedResp;
-                    i = i + 1;
-                }
+    isolated function getStaleWhileRevalidate() returns decimal {
+        return self.staleWhileRevalidate;
+    }
 
-            }
-        }
+    # Marks a request to the origin server as in flight for the key, unless there is one already.
+    #
+    # + key - The cache key
+    # + return - `true` if the caller sends the request, in which case it has to call `endFlight()` once done
+    isolated function startFlight(string key) returns boolean {
+        return externStartFlight(self, key);
+    }
 
-        return matchingResponses;
+    # Ends the request in flight for the key and releases the requests waiting on it.
+    #
+    # + key - The cache key
+    isolated function endFlight(string key) {
+        externEndFlight(self, key);
     }
 
-    isolated function remove(string key) {
-        cache:Error? result = self.cache.invalidate(key);
-        if result is cache:Error {
-            log:printDebug("Failed to remove the key: " + key + " from the HTTP cache.");
-        }
+    # Waits for the request in flight for the key to end, for at most `coalescingMaxWait` seconds.
+    #
+    # + key - The cache key
+    # + return - `true` if the request ended, or `false` if the wait timed out
+    isolated function awaitFlight(string key) returns boolean {
+        return externAwaitFlight(self, key, self.coalescingMaxWait);
     }
 }
 
@@ -173,26 +180,68 @@ isolated function isCacheableStatusCode(int statusCode) returns boolean {
            statusCode == STATUS_NOT_IMPLEMENTED;
 }
 
-isolated function addEntry(cache:Cache cache, string key, Response inboundResponse) {
-    if cache.hasKey(key) {
-        Response[] existingResponses = <Response[]> checkpanic cache.get(key);
-        existingResponses.push(inboundResponse);
-    } else {
-        Response[] cachedResponses = [inboundResponse];
-        cache:Error? result = cache.put(key, cachedResponses);
-        if result is cache:Error {
-            log:printDebug("Failed to add cached response with the key: " + key + " to the HTTP cache.");
-        }
-    }
-}
-
-isolated function weakValidatorEquals(string etag1, string etag2) returns boolean {
-    string validatorPortion1 = etag1.startsWith(WEAK_VALIDATOR_TAG) ? etag1.substring(2, etag1.length()) : etag1;
-    string validatorPortion2 = etag2.startsWith(WEAK_VALIDATOR_TAG) ? etag2.substring(2, etag2.length()) : etag2;
-
-    return validatorPortion1 == validatorPortion2;
-}
-
 isolated function getCacheKey(string httpMethod, string url) returns string {
     return string `${httpMethod} ${url}`;
 }
+
+isolated function externInitResponseStore(HttpCache cache, int capacity, int maxSizeInBytes) = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternHttpCache",
+    name: "initResponseStore"
+} external;
+
+isolated function externPut(HttpCache cache, string key, Request request, Response response, byte[] payload) =
+@java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternHttpCache",
+    name: "put"
+} external;
+
+isolated function externGet(HttpCache cache, string key, Request request) returns Response? = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternHttpCache",
+    name: "get"
+} external;
+
+isolated function externGetAll(HttpCache cache, string key) returns Response[]? = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternHttpCache",
+    name: "getAll"
+} external;
+
+isolated function externGetAllByETag(HttpCache cache, string key, string etag, boolean weak) returns Response[]? =
+@java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternHttpCache",
+    name: "getAllByETag"
+} external;
+
+isolated function externHasKey(HttpCache cache, string key) returns boolean = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternHttpCache",
+    name: "hasKey"
+} external;
+
+isolated function externRemove(HttpCache cache, string key) = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternHttpCache",
+    name: "remove"
+} external;
+
+isolated function externUpdate(Response cachedResponse) = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternHttpCache",
+    name: "update"
+} external;
+
+isolated function externIsSameEntry(Response cachedResponse, Response otherResponse) returns boolean = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternHttpCache",
+    name: "isSameEntry"
+} external;
+
+isolated function externStartFlight(HttpCache cache, string key) returns boolean = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternHttpCache",
+    name: "startFlight"
+} external;
+
+isolated function externEndFlight(HttpCache cache, string key) = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternHttpCache",
+    name: "endFlight"
+} external;
+
+isolated function externAwaitFlight(HttpCache cache, string key, decimal maxWait) returns boolean = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternHttpCache",
+    name: "awaitFlight"
+} external;
@@ -14,7 +14,6 @@
 // specific language governing permissions and limitations
 // under the License.
 
-import ballerina/cache;
 import ballerina/log;
 import ballerina/time;
 
@@ -268,12 +267,10 @@ isolated function getCachedResponse(HttpCache cache, HttpClient httpClient, Requ
                            boolean isShared, boolean forwardRequest) returns Response|ClientError {
     time:Utc currentT = time:utcNow();
     req.parseCacheControlHeader();
+    string cacheKey = getCacheKey(httpMethod, path);
 
-    any|error cacheEntry = cache.get(getCacheKey(httpMethod, path));
-    if cacheEntry !is error {
-        Response[] cachedValue = <Response[]> cacheEntry;
-        Response cachedResponse = cachedValue[cachedValue.length() - 1];
-
+    Response? cachedResponse = cache.get(cacheKey, req);
+    if cachedResponse is Response {
         log:printDebug("Cached response found for: '" + httpMethod + " " + path + "'");
 
         // Based on https://tools.ietf.org/html/rfc7234#section-4
@@ -312,18 +309,80 @@ isolated function getCachedResponse(HttpCache cache, HttpClient httpClient, Requ
             return cachedResponse;
         }
 
-        log:printDebug("Validating a stale response for '" + path + "' with the origin server.");
+        // Within the stale-while-revalidate window, the stale response is served right away and a single request
+        // validates it in the background.
+        if isAllowedToBeServedWhileRevalidating(req.cacheControl, cachedResponse, isShared,
+                                                cache.getStaleWhileRevalidate()) && !req.hasHeader(PRAGMA) {
+            if cache.startFlight(cacheKey) {
+                log:printDebug("Validating a stale response for '" + path + "' in the background");
+                final map<string[]> & readonly headers = getRequestHeaders(req);
+                _ = start revalidateInBackground(cache, httpClient, headers, httpMethod, path, cacheKey);
+            }
+            log:printDebug("Serving cached stale response while it is being validated");
+            cachedResponse.setHeader(WARNING, WARNING_110_RESPONSE_IS_STALE);
+            return cachedResponse;
+        }
 
-        var validatedResponse = getValidationResponse(httpClient, req, cachedResponse, cache, currentT, path,
-                                                            httpMethod, false);
-        if validatedResponse is Response {
-            updateResponseTimestamps(validatedResponse, currentT, time:utcNow());
-            setAgeHeader(validatedResponse);
+        if cache.isCoalescingEnabled() && !cache.startFlight(cacheKey) {
+            Response? coalescedResponse = getCoalescedResponse(cache, req, cacheKey, isShared);
+            if coalescedResponse is Response {
+                return coalescedResponse;
+            }
+            return validateStaleResponse(httpClient, req, cachedResponse, cache, currentT, path, httpMethod);
         }
-        return validatedResponse;
+
+        // The flight is ended even if the validation panics, so that the coalesced requests do not wait for the
+        // maximum wait time
+        Response|ClientError|error validatedResponse = trap validateStaleResponse(httpClient, req, cachedResponse,
+                                                                                  cache, currentT, path, httpMethod);
+        if cache.isCoalescingEnabled() {
+            cache.endFlight(cacheKey);
+        }
+        if validatedResponse is Response|ClientError {
+            return validatedResponse;
+        }
+        panic validatedResponse;
     }
 
     log:printDebug("Cached response not found for: '" + httpMethod + " " + path + "'");
+
+    // Only the GET and HEAD requests which are not forwarded as they are can be served from the cache
+    boolean coalescing = cache.isCoalescingEnabled() && !forwardRequest;
+    if coalescing && !cache.startFlight(cacheKey) {
+        Response? coalescedResponse = getCoalescedResponse(cache, req, cacheKey, isShared);
+        if coalescedResponse is Response {
+            return coalescedResponse;
+        }
+        return fetchResponse(httpClient, req, cache, currentT, path, httpMethod, forwardRequest);
+    }
+
+    Response|ClientError|error response = trap fetchResponse(httpClient, req, cache, currentT, path, httpMethod,
+                                                             forwardRequest);
+    if coalescing {
+        cache.endFlight(cacheKey);
+    }
+    if response is Response|ClientError {
+        return response;
+    }
+    panic response;
+}
+
+isolated function validateStaleResponse(HttpClient httpClient, Request req, Response cachedResponse, HttpCache cache,
+                                        time:Utc currentT, string path, string httpMethod)
+                                                                                returns Response|ClientError {
+    log:printDebug("Validating a stale response for '" + path + "' with the origin server.");
+
+    var validatedResponse = getValidationResponse(httpClient, req, cachedResponse, cache, currentT, path,
+                                                        httpMethod, false);
+    if validatedResponse is Response {
+        updateResponseTimestamps(validatedResponse, currentT, time:utcNow());
+        setAgeHeader(validatedResponse);
+    }
+    return validatedResponse;
+}
+
+isolated function fetchResponse(HttpClient httpClient, Request req, HttpCache cache, time:Utc currentT, string path,
+                                string httpMethod, boolean forwardRequest) returns Response|ClientError {
     log:printDebug("Sending new request to: " + path);
 
     var response = sendNewRequest(httpClient, req, path, httpMethod, forwardRequest);
@@ -331,7 +390,7 @@ isolated function getCachedResponse(HttpCache cache, HttpClient httpClient, Requ
         if cache.isAllowedToCache(response) {
             response.requestTime = currentT;
             response.receivedTime = time:utcNow();
-            cache.put(getCacheKey(httpMethod, path), req.cacheControl, response);
+            cache.put(getCacheKey(httpMethod, path), req, response);
         }
         return response;
     } else {
@@ -339,26 +398,77 @@ isolated function getCachedResponse(HttpCache cache, HttpClient httpClient, Requ
     }
 }
 
+// Waits for the request another caller sends to the origin server for the same key, and serves the response it
+// stored in the cache. Returns nil if the wait timed out or if the stored response cannot be served as it is, in which
+// case the caller sends its own request.
+isolated function getCoalescedResponse(HttpCache cache, Request req, string cacheKey, boolean isShared)
+                                                                                                    returns Response? {
+    log:printDebug("Waiting for the ongoing request to the origin server for: '" + cacheKey + "'");
+    if !cache.awaitFlight(cacheKey) {
+        log:printDebug("Timed out waiting for the ongoing request to the origin server for: '" + cacheKey + "'");
+        return;
+    }
+
+    time:Utc currentT = time:utcNow();
+    Response? cachedResponse = cache.get(cacheKey, req);
+    if cachedResponse is () {
+        return;
+    }
+    updateResponseTimestamps(cachedResponse, currentT, currentT);
+    setAgeHeader(cachedResponse);
+    if isFreshResponse(cachedResponse, isShared) && !isNoCacheSet(req.cacheControl, cachedResponse.cacheControl) &&
+            !req.hasHeader(PRAGMA) {
+        log:printDebug("Serving the response stored by the ongoing request to the origin server");
+        return cachedResponse;
+    }
+    return;
+}
+
+isolated function revalidateInBackground(HttpCache cache, HttpClient httpClient, map<string[]> & readonly headers,
+                                         string httpMethod, string path, string cacheKey) {
+    Request req = new;
+    foreach [string, string[]] [headerName, headerValues] in headers.entries() {
+        foreach string headerValue in headerValues {
+            req.addHeader(headerName, headerValue);
+        }
+    }
+    req.parseCacheControlHeader();
+
+    Response|ClientError|error? response = trap validateInBackground(cache, httpClient, req, httpMethod, path,
+                                                                     cacheKey);
+    cache.endFlight(cacheKey);
+    if response is error {
+        log:printDebug("Background validation failed for '" + path + "': " + response.message());
+    }
+}
+
+isolated function validateInBackground(HttpCache cache, HttpClient httpClient, Request req, string httpMethod,
+                                       string path, string cacheKey) returns Response|ClientError? {
+    Response? cachedResponse = cache.get(cacheKey, req);
+    if cachedResponse is Response {
+        return getValidationResponse(httpClient, req, cachedResponse, cache, time:utcNow(), path, httpMethod, false);
+    }
+    return ();
+}
+
+isolated function getRequestHeaders(Request req) returns map<string[]> & readonly {
+    map<string[]> headers = {};
+    foreach string headerName in req.getHeaderNames() {
+        string[]|HeaderNotFoundError headerValues = req.getHeaders(headerName);
+        if headerValues is string[] {
+            headers[headerName] = headerValues;
+        }
+    }
+    return headers.cloneReadOnly();
+}
+
 // Based on https://tools.ietf.org/html/rfc7234#section-4.4
 isolated function invalidateResponses(HttpCache httpCache, Response inboundResponse, string path) {
     // TODO: Improve this logic in accordance with the spec
     if isCacheableStatusCode(inboundResponse.statusCode) &&
                     inboundResponse.statusCode >= 200 && inboundResponse.statusCode < 400 {
-        string getMethodCacheKey = getCacheKey(HTTP_GET, path);
-        if httpCache.cache.hasKey(getMethodCacheKey) {
-            cache:Error? result = httpCache.cache.invalidate(getMethodCacheKey);
-            if result is cache:Error {
-                log:printDebug("Failed to remove the key: " + getMethodCacheKey + " from the cache.");
-            }
-        }
-
-        string headMethodCacheKey = getCacheKey(HTTP_HEAD, path);
-        if httpCache.cache.hasKey(headMethodCacheKey) {
-            cache:Error? result = httpCache.cache.invalidate(headMethodCacheKey);
-            if result is cache:Error {
-                log:printDebug("Failed to remove the key: " + headMethodCacheKey + " from the cache.");
-            }
-        }
+        httpCache.remove(getCacheKey(HTTP_GET, path));
+        httpCache.remove(getCacheKey(HTTP_HEAD, path));
     }
 }
 
@@ -28,6 +28,22 @@ isolated function isAllowedToBeServedStale(RequestCacheControl? requestCacheCont
     return isStaleResponseAccepted(requestCacheControl, cachedResponse, isSharedCache);
 }
 
+// Based on https://tools.ietf.org/html/rfc5861#section-3, with the window configured for the cache rather than taken
+// from the response
+isolated function isAllowedToBeServedWhileRevalidating(RequestCacheControl? requestCacheControl,
+                                                       Response cachedResponse, boolean isSharedCache,
+                                                       decimal staleWhileRevalidate) returns boolean {
+    if staleWhileRevalidate <= 0d {
+        return false;
+    }
+    if isServingStaleProhibitedInRequestCC(requestCacheControl) ||
+            isServingStaleProhibitedInResponseCC(cachedResponse.cacheControl) {
+        return false;
+    }
+    return getResponseAge(cachedResponse) - getFreshnessLifetime(cachedResponse, isSharedCache) <=
+                                                                                            staleWhileRevalidate;
+}
+
 isolated function isServingStaleProhibitedInRequestCC(RequestCacheControl? cacheControl) returns boolean {
     // A cache MUST NOT generate a stale response if it is prohibited by an explicit in-protocol directive
     if cacheControl is () {
@@ -29,16 +29,32 @@ public const RFC_7234 = "RFC_7234";
 #
 # + enabled - Specifies whether HTTP caching is enabled. Caching is enabled by default.
 # + isShared - Specifies whether the HTTP caching layer should behave as a public cache or a private cache
-# + capacity - The capacity of the cache
+# + capacity - The maximum number of cache keys. The responses of a key which vary on request headers are counted
+#              as one
+# + maxSizeInBytes - The maximum total size of the cached responses in bytes. A non-positive value means that only
+#                    the `capacity` limits the cache
 # + evictionFactor - The fraction of entries to be removed when the cache is full. The value should be
-#                    between 0 (exclusive) and 1 (inclusive).
+#                    between 0 (exclusive) and 1 (inclusive). This is not used anymore, as a single entry, which is
+#                    chosen based on how often and how recently the entries were accessed, is evicted at a time.
 # + policy - Gives the user some control over the caching behaviour. By default, this is set to
 #            `CACHE_CONTROL_AND_VALIDATORS`. The default behaviour is to allow caching only when the `cache-control`
 #            header and either the `etag` or `last-modified` header are present.
+# + coalesceRequests - Specifies whether concurrent requests for the same cache key wait for a single request to the
+#                      origin server, instead of each fetching or validating the response on its own. This is
+#                      disabled by default, as the requests for a response which turns out not to be cacheable wait
+#                      for one another as well
+# + coalescingMaxWait - The maximum time in seconds a coalesced request waits for the ongoing request to the origin
+#                       server, after which it is sent on its own
+# + staleWhileRevalidate - The time in seconds after a response becomes stale, during which it is served as it is
+#                          while a single validation request runs in the background. A value of 0 disables this
 public type CacheConfig record {|
     boolean enabled = true;
     boolean isShared = false;
     int capacity = 16;
+    int maxSizeInBytes = 16777216;
     float evictionFactor = 0.2;
     CachingPolicy policy = CACHE_CONTROL_AND_VALIDATORS;
+    boolean coalesceRequests = false;
+    decimal coalescingMaxWait = 10;
+    decimal staleWhileRevalidate = 0;
 |};
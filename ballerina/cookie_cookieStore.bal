@@ -14,20 +14,20 @@
 // specific language governing permissions and limitations
 // under the License.
 
+import ballerina/jballerina.java;
 import ballerina/log;
 import ballerina/time;
 
 # Represents the cookie store.
 #
-# + allSessionCookies - Array to store all the session cookies
 # + persistentCookieHandler - Persistent cookie handler to manage persistent cookies
 public isolated class CookieStore {
 
-    private final Cookie[] allSessionCookies = [];
     private final PersistentCookieHandler? persistentCookieHandler;
 
     public isolated function init(PersistentCookieHandler? persistentCookieHandler = ()) {
         self.persistentCookieHandler = persistentCookieHandler;
+        externInitCookieIndex(self);
     }
 
     # Adds a cookie to the cookie store according to the rules in [RFC-6265](https://tools.ietf.org/html/rfc6265#section-5.3).
@@ -38,12 +38,13 @@ public isolated class CookieStore {
     # + requestPath - Resource path
     # + return - An `http:CookieHandlingError` if there is any error occurred when adding a cookie or else `()`
     public isolated function addCookie(Cookie cookie, CookieConfig cookieConfig, string url, string requestPath) returns CookieHandlingError? {
-        if self.getAllCookies().length() == cookieConfig.maxTotalCookieCount {
+        self.loadPersistentCookies();
+        if externGetCookieCount(self) == cookieConfig.maxTotalCookieCount {
             return error CookieHandlingError("Number of total cookies in the cookie store can not exceed the maximum amount");
         }
 
         string domain = getDomain(url);
-        if self.getCookiesByDomain(domain).length() == cookieConfig.maxCookiesPerDomain {
+        if externGetCookieCountByDomain(self, domain) == cookieConfig.maxCookiesPerDomain {
             return error CookieHandlingError("Number of total cookies for the domain: " + domain + " in the cookie store can not exceed the maximum amount per domain");
         }
 
@@ -77,7 +78,7 @@ public isolated class CookieStore {
                     if result is error {
                         return error CookieHandlingError("Error in adding persistent cookies", result);
                     }
-                } else if isFirstRequest(self.allSessionCookies, domain) {
+                } else if !externHasSessionCookieRelatedTo(self, domain) {
                     log:printError("Client is not configured to use persistent cookies. Hence, persistent cookies from "
                                         + domain + " will be discarded.");
                 }
@@ -112,59 +113,26 @@ public isolated class CookieStore {
     # + requestPath - Path of the request URI
     # + return - Array of the matched cookies stored in the cookie store
     public isolated function getCookies(string url, string requestPath) returns Cookie[] {
-        Cookie[] cookiesToReturn = [];
+        self.loadPersistentCookies();
         string domain = getDomain(url);
         string path  = requestPath;
         int? index = requestPath.indexOf("?");
         if index is int {
             path = requestPath.substring(0,index);
         }
-        Cookie[] allCookies = self.getAllCookies();
-        lock {
-            foreach var cookie in allCookies {
-                if isExpired(cookie) {
-                    continue;
-                }
-                if !((url.startsWith(HTTPS) && cookie.secure) || cookie.secure == false) {
-                    continue;
-                }
-                if !((url.startsWith(HTTP) && cookie.httpOnly) || cookie.httpOnly == false) {
-                    continue;
-                }
-                if cookie.hostOnly == true {
-                    if cookie.domain == domain && checkPath(path, cookie) {
-                        cookiesToReturn.push(cookie);
-                    }
-                } else {
-                    var cookieDomain = cookie.domain;
-                    if ((cookieDomain is string && domain.endsWith("." + cookieDomain)) || cookie.domain == domain ) && checkPath(path, cookie) {
-                        cookiesToReturn.push(cookie);
-                    }
-                }
-            }
-            return cookiesToReturn;
-        }
+        // Only the cookies of the domain and its parent domains are looked up
+        Cookie[] matchedCookies = [];
+        externGetCookies(self, domain, path, url.startsWith(HTTPS), url.startsWith(HTTP), matchedCookies);
+        return matchedCookies.filter(cookie => !isExpired(cookie));
     }
 
     # Gets all the cookies in the cookie store.
     #
     # + return - Array of all the cookie objects
     public isolated function getAllCookies() returns Cookie[] {
-        var persistentCookieHandler = self.persistentCookieHandler;
+        self.loadPersistentCookies();
         Cookie[] allCookies = [];
-        lock {
-            allCookies = self.allSessionCookies.clone();
-        }
-        if persistentCookieHandler is PersistentCookieHandler {
-            var result = persistentCookieHandler.getAllCookies();
-            if result is error {
-                log:printError("Error in getting persistent cookies: ", 'error = result);
-            } else {
-                foreach var cookie in result {
-                    allCookies.push(cookie);
-                }
-            }
-        }
+        externGetAllCookies(self, allCookies);
         return allCookies;
     }
 
@@ -205,22 +173,12 @@ public isolated class CookieStore {
     # + path - Path of the cookie to be removed
     # + return - An `http:CookieHandlingError` if there is any error occurred during the removal of the cookie or else `()`
     public isolated function removeCookie(string name, string domain, string path) returns CookieHandlingError? {
+        self.loadPersistentCookies();
         lock {
-            // Removes the session cookie if it is in the session cookies array, which is matched with the given name, domain, and path.
-            int k = 0;
-            while k < self.allSessionCookies.length() {
-                if name == self.allSessionCookies[k].name && domain == self.allSessionCookies[k].domain && path ==  self.allSessionCookies[k].path {
-                    int j = k;
-                    while j < self.allSessionCookies.length() - 1 {
-                        self.allSessionCookies[j] = self.allSessionCookies[j + 1];
-                        j += 1;
-                    }
-                    _ = self.allSessionCookies.pop();
-                    return;
-                }
-                k += 1;
+            if externRemoveCookie(self, name, domain, path) == SESSION_COOKIE_REMOVED {
+                return;
             }
-            // Removes the persistent cookie if it is in the persistent cookie store, which is matched with the given name, domain, and path.
+            // Removes the persistent cookie from the persistent cookie store, which is matched with the given name, domain, and path.
             var persistentCookieHandler = self.persistentCookieHandler;
             if persistentCookieHandler is PersistentCookieHandler {
                 return persistentCookieHandler.removeCookie(name, domain, path);
@@ -257,31 +215,24 @@ public isolated class CookieStore {
     #
     # + return - An `http:CookieHandlingError` if there is any error occurred during the removal of expired cookies or else `()`
     public isolated function removeExpiredCookies() returns CookieHandlingError? {
-        var persistentCookieHandler = self.persistentCookieHandler;
-        if persistentCookieHandler is PersistentCookieHandler {
-            var result = persistentCookieHandler.getAllCookies();
-            if result is error {
-                return error CookieHandlingError("Error in removing expired cookies", result);
-            } else {
-                lock {
-                    foreach var cookie in result {
-                        if !isExpired(cookie) {
-                            continue;
-                        }
-                        var cookieName = cookie.name;
-                        var cookieDomain = cookie.domain;
-                        var cookiePath = cookie.path;
-                        if cookieDomain is string && cookiePath is string {
-                            var removeResult = persistentCookieHandler.removeCookie(cookieName, cookieDomain, cookiePath);
-                            if removeResult is error {
-                                return error CookieHandlingError("Error in removing expired cookies", removeResult);
-                            }
-                        }
+        if self.persistentCookieHandler is () {
+            return error CookieHandlingError("No persistent cookie store to remove expired cookies");
+        }
+        lock {
+            foreach var cookie in self.getAllCookies() {
+                if !cookie.isPersistent() || !isExpired(cookie) {
+                    continue;
+                }
+                var cookieName = cookie.name;
+                var cookieDomain = cookie.domain;
+                var cookiePath = cookie.path;
+                if cookieDomain is string && cookiePath is string {
+                    var removeResult = self.removeCookie(cookieName, cookieDomain, cookiePath);
+                    if removeResult is error {
+                        return error CookieHandlingError("Error in removing expired cookies", removeResult);
                     }
                 }
             }
-        } else {
-            return error CookieHandlingError("No persistent cookie store to remove expired cookies");
         }
         return;
     }
@@ -292,8 +243,9 @@ public isolated class CookieStore {
     public isolated function removeAllCookies() returns CookieHandlingError? {
         var persistentCookieHandler = self.persistentCookieHandler;
         lock {
-            self.allSessionCookies.removeAll();
+            externRemoveAllCookies(self);
             if persistentCookieHandler is PersistentCookieHandler {
+                externSetPersistentCookiesLoaded(self);
                 return persistentCookieHandler.removeAllCookies();
             }
         }
@@ -306,16 +258,31 @@ public isolated class CookieStore {
     # + cookieToCompare - Cookie to be compared
     # + return - Identical cookie if one exists, else `()`
     isolated function getIdenticalCookie(Cookie cookieToCompare) returns Cookie? {
-        Cookie[] allCookies = self.getAllCookies();
-        int k = 0 ;
-        while k < allCookies.length() {
-            if cookieToCompare.name == allCookies[k].name && cookieToCompare.domain == allCookies[k].domain
-                && cookieToCompare.path ==  allCookies[k].path {
-                return allCookies[k];
+        self.loadPersistentCookies();
+        return externGetIdenticalCookie(self, cookieToCompare);
+    }
+
+    // Loads the cookies of the persistent cookie handler into the cookie store, once. Afterwards, the changes are
+    // written through to the handler and the cookies are read from the cookie store.
+    isolated function loadPersistentCookies() {
+        var persistentCookieHandler = self.persistentCookieHandler;
+        if persistentCookieHandler is () || externIsPersistentCookiesLoaded(self) {
+            return;
+        }
+        lock {
+            if externIsPersistentCookiesLoaded(self) {
+                return;
             }
-            k += 1;
+            var result = persistentCookieHandler.getAllCookies();
+            if result is error {
+                log:printError("Error in getting persistent cookies: ", 'error = result);
+                return;
+            }
+            foreach var cookie in result {
+                externAddCookie(self, cookie, true);
+            }
+            externSetPersistentCookiesLoaded(self);
         }
-        return;
     }
 
     // Adds a session cookie to the cookie store according to the rules in [RFC-6265](https://tools.ietf.org/html/rfc6265#section-5.3 , https://tools.ietf.org/html/rfc6265#section-4.1.2).
@@ -331,15 +298,11 @@ public isolated class CookieStore {
                 if removeResult is error {
                     return removeResult;
                 }
-                lock {
-                    self.allSessionCookies.push(getClone(cookie, identicalCookie.createdTime, time:utcNow()));
-                }
+                externAddCookie(self, getClone(cookie, identicalCookie.createdTime, time:utcNow()), false);
             }
         } else {
             // Adds the session cookie.
-            lock {
-                self.allSessionCookies.push(getClone(cookie, time:utcNow(), time:utcNow()));
-            }
+            externAddCookie(self, getClone(cookie, time:utcNow(), time:utcNow()), false);
         }
         return;
     }
@@ -361,18 +324,23 @@ public isolated class CookieStore {
                         return removeResult;
                     }
                     Cookie newCookie = getClone(cookie, identicalCookie.createdTime, time:utcNow());
-                    return persistentCookieHandler.storeCookie(newCookie);
+                    return self.storePersistentCookie(newCookie, persistentCookieHandler);
                 }
             }
         } else {
             // If cookie is not expired, adds that cookie.
             if !isExpired(cookie) {
                 Cookie newCookie = getClone(cookie, time:utcNow(), time:utcNow());
-                return persistentCookieHandler.storeCookie(newCookie);
+                return self.storePersistentCookie(newCookie, persistentCookieHandler);
             }
         }
         return;
     }
+
+    isolated function storePersistentCookie(Cookie cookie, PersistentCookieHandler persistentCookieHandler) returns error? {
+        check persistentCookieHandler.storeCookie(cookie);
+        externAddCookie(self, cookie, true);
+    }
 }
 
 const string HTTP = "http";
@@ -381,6 +349,7 @@ const string URL_TYPE_1 = "https://www.";
 const string URL_TYPE_2 = "http://www.";
 const string URL_TYPE_3 = "http://";
 const string URL_TYPE_4 = "https://";
+const int SESSION_COOKIE_REMOVED = 1;
 
 // Extracts domain name from the request URL.
 isolated function getDomain(string url) returns string {
@@ -468,17 +437,6 @@ isolated function validateExpiresAttribute(Cookie cookie) returns Cookie? {
     return;
 }
 
-// Checks whether the user has requested a particular domain or a sub-domain of it previously or not.
-isolated function isFirstRequest(Cookie[] allSessionCookies, string domain) returns boolean {
-    foreach var cookie in allSessionCookies {
-       var cookieDomain = cookie.domain;
-       if ((cookieDomain is string && (domain.endsWith("." + cookieDomain) || cookieDomain.endsWith("." + domain))) || cookie.domain == domain ) {
-           return false;
-       }
-    }
-    return true;
-}
-
 // Returns true if the cookie is expired according to the rules in [RFC-6265](https://tools.ietf.org/html/rfc6265#section-4.1.2.2).
 isolated function isExpired(Cookie cookie) returns boolean {
     if cookie.maxAge > 0 {
@@ -496,3 +454,66 @@ isolated function isExpired(Cookie cookie) returns boolean {
     }
     return false;
 }
+
+isolated function externInitCookieIndex(CookieStore cookieStore) = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternCookieStore",
+    name: "initCookieIndex"
+} external;
+
+isolated function externAddCookie(CookieStore cookieStore, Cookie cookie, boolean persistent) = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternCookieStore",
+    name: "addCookie"
+} external;
+
+isolated function externRemoveCookie(CookieStore cookieStore, string name, string domain, string path) returns int =
+@java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternCookieStore",
+    name: "removeCookie"
+} external;
+
+isolated function externRemoveAllCookies(CookieStore cookieStore) = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternCookieStore",
+    name: "removeAllCookies"
+} external;
+
+isolated function externGetIdenticalCookie(CookieStore cookieStore, Cookie cookie) returns Cookie? = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternCookieStore",
+    name: "getIdenticalCookie"
+} external;
+
+isolated function externGetCookies(CookieStore cookieStore, string domain, string path, boolean secure,
+        boolean httpOnly, Cookie[] cookies) = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternCookieStore",
+    name: "getCookies"
+} external;
+
+isolated function externGetAllCookies(CookieStore cookieStore, Cookie[] cookies) = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternCookieStore",
+    name: "getAllCookies"
+} external;
+
+isolated function externGetCookieCount(CookieStore cookieStore) returns int = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternCookieStore",
+    name: "getCookieCount"
+} external;
+
+isolated function externGetCookieCountByDomain(CookieStore cookieStore, string domain) returns int = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternCookieStore",
+    name: "getCookieCountByDomain"
+} external;
+
+isolated function externHasSessionCookieRelatedTo(CookieStore cookieStore, string domain) returns boolean =
+@java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternCookieStore",
+    name: "hasSessionCookieRelatedTo"
+} external;
+
+isolated function externIsPersistentCookiesLoaded(CookieStore cookieStore) returns boolean = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternCookieStore",
+    name: "isPersistentCookiesLoaded"
+} external;
+
+isolated function externSetPersistentCookiesLoaded(CookieStore cookieStore) = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternCookieStore",
+    name: "setPersistentCookiesLoaded"
+} external;
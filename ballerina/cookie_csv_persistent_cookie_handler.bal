@@ -15,35 +15,22 @@
 // under the License.
 
 import ballerina/file;
-import ballerina/io;
-import ballerina/log;
+import ballerina/jballerina.java;
 import ballerina/time;
 
-type myCookie record {
-    readonly string name;
-    string value;
-    readonly string domain;
-    readonly string path;
-    string expires;
-    int maxAge;
-    boolean httpOnly;
-    boolean secure;
-    string createdTime;
-    string lastAccessedTime;
-    boolean hostOnly;
-};
-
 # Represents a default persistent cookie handler, which stores persistent cookies in a CSV file.
+# The file is kept as a journal. Storing or removing a cookie appends a record to it and the file is compacted once
+# most of its records are stale.
 #
 # + fileName - Name of the CSV file to store persistent cookies
 public isolated class CsvPersistentCookieHandler {
     *PersistentCookieHandler;
 
     private final string fileName;
-    private table<myCookie> key(name, domain, path) cookiesTable = table [];
 
     public isolated function init(string fileName) {
         self.fileName = checkpanic validateFileExtension(fileName);
+        externInitCookieJournal(self, self.fileName);
     }
 
     # Adds a persistent cookie to the cookie store.
@@ -51,26 +38,13 @@ public isolated class CsvPersistentCookieHandler {
     # + cookie - Cookie to be added
     # + return - An error will be returned if there is any error occurred during the storing process of the cookie or else nil is returned
     public isolated function storeCookie(Cookie cookie) returns CookieHandlingError? {
-        lock {
-            if fileExist(self.fileName) && self.cookiesTable.length() == 0 {
-                var tblResult = readFile(self.fileName);
-                if tblResult is table<myCookie> key(name, domain, path) {
-                    self.cookiesTable = tblResult;
-                } else {
-                    return error CookieHandlingError("Error in reading the csv file", tblResult);
-                }
-            }
-            var tableUpdateResult = addNewCookieToTable(self.cookiesTable, cookie);
-            if tableUpdateResult is table<myCookie> key(name, domain, path) {
-                self.cookiesTable = tableUpdateResult;
-            } else {
-                return error CookieHandlingError("Error in updating the records in csv file",
-                cause = tableUpdateResult);
-            }
-            var result = writeToFile(self.cookiesTable, self.fileName);
-            if result is error {
-                return error CookieHandlingError("Error in writing the csv file", result);
-            }
+        string[]|error cookieRecord = toCookieRecord(cookie);
+        if cookieRecord is error {
+            return error CookieHandlingError("Error in updating the records in csv file", cookieRecord);
+        }
+        error? result = externStoreCookieRecord(self, cookieRecord);
+        if result is error {
+            return error CookieHandlingError("Error in writing the csv file", result);
         }
         return;
     }
@@ -79,38 +53,20 @@ public isolated class CsvPersistentCookieHandler {
     #
     # + return - Array of persistent cookies stored in the cookie store or else an error is returned if one occurred during the retrieval of the cookies
     public isolated function getAllCookies() returns Cookie[]|CookieHandlingError {
+        string[][] cookieRecords = [];
+        error? result = externGetAllCookieRecords(self, cookieRecords);
+        if result is error {
+            return error CookieHandlingError("Error in reading the csv file", result);
+        }
         Cookie[] cookies = [];
-        if fileExist(self.fileName) {
-            var tblResult = readFile(self.fileName);
-            if tblResult is table<myCookie> key(name, domain, path) {
-                foreach var rec in tblResult {
-                    CookieOptions options = {};
-                    options.domain = rec.domain;
-                    options.path = rec.path;
-                    if !(rec.expires == "-") {
-                        options.expires = rec.expires;
-                    }
-                    options.maxAge = rec.maxAge;
-                    options.httpOnly = rec.httpOnly;
-                    options.secure = rec.secure;
-                    time:Utc|error t1 = time:utcFromString(rec.createdTime);
-                    if t1 is time:Utc {
-                        options.createdTime = t1;
-                    }
-                    time:Utc|error t2 = time:utcFromString(rec.lastAccessedTime);
-                    if t2 is time:Utc {
-                        options.lastAccessedTime = t2;
-                    }
-                    options.hostOnly = rec.hostOnly;
-                    Cookie cookie = new(rec.name, rec.value, options);
-                    cookies.push(cookie);
-                }
-                return cookies;
-            } else {
-                return error CookieHandlingError("Error in reading the csv file", tblResult);
+        foreach string[] cookieRecord in cookieRecords {
+            Cookie|error cookie = toCookie(cookieRecord);
+            if cookie is error {
+                return error CookieHandlingError("Error in reading the csv file", cookie);
             }
+            cookies.push(cookie);
         }
-       return cookies;
+        return cookies;
     }
 
     # Removes a specific persistent cookie.
@@ -120,35 +76,21 @@ public isolated class CsvPersistentCookieHandler {
     # + path - Path of the persistent cookie to be removed
     # + return - An error will be returned if there is any error occurred during the removal of the cookie or else nil is returned
     public isolated function removeCookie(string name, string domain, string path) returns CookieHandlingError? {
-        if fileExist(self.fileName) {
-            lock {
-                if self.cookiesTable.length() == 0 {
-                    var tblResult = readFile(self.fileName);
-                    if tblResult is table<myCookie> key(name, domain, path) {
-                        self.cookiesTable = tblResult;
-                    } else {
-                        return error CookieHandlingError("Error in reading the csv file", tblResult);
-                    }
-                }
-                _ = self.cookiesTable.remove([name, domain, path]);
-                error? removeResults = file:remove(self.fileName);
-                if removeResults is error {
-                    return error CookieHandlingError("Error in removing the csv file", removeResults);
-                }
-                var writeResult = writeToFile(self.cookiesTable, self.fileName);
-                if writeResult is error {
-                    return error CookieHandlingError("Error in writing the csv file", writeResult);
-                }
-                return;
-            }
+        if !fileExist(self.fileName) {
+            return error CookieHandlingError("Error in removing cookie: No persistent cookie store file to remove");
+        }
+        boolean|error result = externRemoveCookieRecord(self, name, domain, path);
+        if result is error {
+            return error CookieHandlingError("Error in writing the csv file", result);
         }
-        return error CookieHandlingError("Error in removing cookie: No persistent cookie store file to remove");
+        return;
     }
 
     # Removes all persistent cookies.
     #
     # + return - An error will be returned if there is any error occurred during the removal of all the cookies or else nil is returned
     public isolated function removeAllCookies() returns CookieHandlingError? {
+        externClearCookieRecords(self);
         error? removeResults = file:remove(self.fileName);
         if removeResults is error {
             return error CookieHandlingError("Error in removing the csv file", removeResults);
@@ -164,76 +106,40 @@ isolated function validateFileExtension(string fileName) returns string|CookieHa
     return error CookieHandlingError("Invalid file format");
 }
 
-isolated function readFile(string fileName) returns error|table<myCookie> key(name, domain, path) {
-    io:ReadableCSVChannel rCsvChannel2 = check io:openReadableCsvFile(fileName);
-    var tblResult = rCsvChannel2.toTable(myCookie, ["name", "domain", "path"]);
-    closeReadableCSVChannel(rCsvChannel2);
-    if tblResult is table<record{| anydata...;|}> {
-        return <table<myCookie> key(name, domain, path)>tblResult;
-    } else {
-        return tblResult;
-    }
-}
-
-isolated function closeReadableCSVChannel(io:ReadableCSVChannel csvChannel) {
-    var result = csvChannel.close();
-    if result is error {
-        log:printError("Error occurred while closing the channel: ", 'error = result);
-    }
-}
-
-// Updates the table with new cookie.
-isolated function addNewCookieToTable(table<myCookie> key(name, domain, path) cookiesTable, Cookie cookieToAdd)
-returns table<myCookie> key(name, domain, path)|error {
-    table<myCookie> key(name, domain, path) tableToReturn = cookiesTable;
-    var name = cookieToAdd.name;
-    var value = cookieToAdd.value;
-    var domain = cookieToAdd.domain;
-    var path = cookieToAdd.path;
-    var expires = cookieToAdd.expires;
-    string createdTime = time:utcToString(cookieToAdd.createdTime);
-    string lastAccessedTime = time:utcToString(cookieToAdd.lastAccessedTime);
+// Converts a cookie to its record in the csv file.
+isolated function toCookieRecord(Cookie cookie) returns string[]|error {
+    var domain = cookie.domain;
+    var path = cookie.path;
+    var expires = cookie.expires;
     if domain is string && path is string {
-        myCookie c1 = { name: name, value: value, domain: domain, path: path, expires: expires is string ?
-        expires : "-", maxAge: cookieToAdd.maxAge, httpOnly: cookieToAdd.httpOnly, secure: cookieToAdd.secure,
-        createdTime: createdTime, lastAccessedTime: lastAccessedTime, hostOnly: cookieToAdd.hostOnly };
-        tableToReturn.add(c1);
-        return tableToReturn;
+        return [cookie.name, cookie.value, domain, path, expires is string ? expires : "-", cookie.maxAge.toString(),
+            cookie.httpOnly.toString(), cookie.secure.toString(), time:utcToString(cookie.createdTime),
+            time:utcToString(cookie.lastAccessedTime), cookie.hostOnly.toString()];
     }
     return error CookieHandlingError("Invalid data types for cookie attributes");
 }
 
-// Writes the updated table to the file.
-isolated function writeToFile(table<myCookie> key(name, domain, path) cookiesTable, string fileName) returns error? {
-    io:WritableCSVChannel wCsvChannel2 = check io:openWritableCsvFile(fileName);
-    foreach var entry in cookiesTable {
-        string[] rec = [entry.name, entry.value, entry.domain, entry.path, entry.expires, entry.maxAge.toString(),
-        entry.httpOnly.toString(), entry.secure.toString(), entry.createdTime, entry.lastAccessedTime,
-        entry.hostOnly.toString()];
-        var writeResult = writeDataToCSVChannel(wCsvChannel2, rec);
-        if writeResult is error {
-            return writeResult;
-        }
+// Converts a record in the csv file to a cookie.
+isolated function toCookie(string[] cookieRecord) returns Cookie|error {
+    CookieOptions options = {};
+    options.domain = cookieRecord[2];
+    options.path = cookieRecord[3];
+    if !(cookieRecord[4] == "-") {
+        options.expires = cookieRecord[4];
     }
-    closeWritableCSVChannel(wCsvChannel2);
-    return;
-}
-
-isolated function writeDataToCSVChannel(io:WritableCSVChannel csvChannel, string[]... data) returns error? {
-    foreach var rec in data {
-        var returnedVal = csvChannel.write(rec);
-        if returnedVal is error {
-            return returnedVal;
-        }
+    options.maxAge = check int:fromString(cookieRecord[5]);
+    options.httpOnly = check boolean:fromString(cookieRecord[6]);
+    options.secure = check boolean:fromString(cookieRecord[7]);
+    time:Utc|error t1 = time:utcFromString(cookieRecord[8]);
+    if t1 is time:Utc {
+        options.createdTime = t1;
     }
-    return;
-}
-
-isolated function closeWritableCSVChannel(io:WritableCSVChannel csvChannel) {
-    var result = csvChannel.close();
-    if result is error {
-        log:printError("Error occurred while closing the channel: ", 'error = result);
+    time:Utc|error t2 = time:utcFromString(cookieRecord[9]);
+    if t2 is time:Utc {
+        options.lastAccessedTime = t2;
     }
+    options.hostOnly = check boolean:fromString(cookieRecord[10]);
+    return new Cookie(cookieRecord[0], cookieRecord[1], options);
 }
 
 isolated function fileExist(string fileName) returns boolean {
@@ -243,3 +149,31 @@ isolated function fileExist(string fileName) returns boolean {
     }
     return false;
 }
+
+isolated function externInitCookieJournal(CsvPersistentCookieHandler cookieHandler, string fileName) = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternCookieStore",
+    name: "initCookieJournal"
+} external;
+
+isolated function externStoreCookieRecord(CsvPersistentCookieHandler cookieHandler, string[] cookieRecord)
+returns error? = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternCookieStore",
+    name: "storeCookieRecord"
+} external;
+
+isolated function externRemoveCookieRecord(CsvPersistentCookieHandler cookieHandler, string name, string domain,
+        string path) returns boolean|error = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternCookieStore",
+    name: "removeCookieRecord"
+} external;
+
+isolated function externGetAllCookieRecords(CsvPersistentCookieHandler cookieHandler, string[][] cookieRecords)
+returns error? = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternCookieStore",
+    name: "getAllCookieRecords"
+} external;
+
+isolated function externClearCookieRecords(CsvPersistentCookieHandler cookieHandler) = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternCookieStore",
+    name: "clearCookieRecords"
+} external;
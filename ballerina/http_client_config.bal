@@ -168,6 +168,10 @@ public type CookieConfig record {|
 # + tcpNoDelay - Enable/disable TCP_NODELAY (disable/enable Nagle's algorithm).
 # + socketReuse - Enable/disable the SO_REUSEADDR socket option.
 # + keepAlive - Enable/disable SO_KEEPALIVE.
+# + transport - The socket transport. The native transports are used only on the platforms that support them and
+# fall back to the next available transport otherwise.
+# + tcpFastOpen - Enable/disable TCP_FASTOPEN. Only applies with the native transports.
+# + tcpQuickAck - Enable/disable TCP_QUICKACK. Only applies with the native transports.
 public type ClientSocketConfig record {|
     decimal connectTimeOut = 15;
     int receiveBufferSize = 1048576;
@@ -175,8 +179,23 @@ public type ClientSocketConfig record {|
     boolean tcpNoDelay = true;
     boolean socketReuse = true;
     boolean keepAlive = false;
+    SocketTransport transport = TRANSPORT_NIO;
+    boolean tcpFastOpen = false;
+    boolean tcpQuickAck = false;
 |};
 
+# Defines the socket transports.
+public type SocketTransport TRANSPORT_AUTO|TRANSPORT_NIO|TRANSPORT_EPOLL|TRANSPORT_IO_URING;
+
+# Uses the epoll transport when it is available and the NIO transport otherwise
+public const TRANSPORT_AUTO = "AUTO";
+# Uses the Java NIO transport, which is available on all the platforms
+public const TRANSPORT_NIO = "NIO";
+# Uses the Linux epoll transport
+public const TRANSPORT_EPOLL = "EPOLL";
+# Uses the Linux io_uring transport. Requires the Netty io_uring incubator library in the classpath
+public const TRANSPORT_IO_URING = "IO_URING";
+
 # Represents HTTP methods.
 public enum Method {
     GET,
@@ -20,6 +20,7 @@ configurable int maxActiveConnections = -1;
 configurable int maxIdleConnections = 100;
 configurable decimal waitTime = 30;
 configurable int maxActiveStreamsPerConnection = 100;
+configurable int minConnectionsPerRoute = 0;
 
 # Configurations for managing HTTP client connection pool.
 #
@@ -27,11 +28,14 @@ configurable int maxActiveStreamsPerConnection = 100;
 # + maxIdleConnections - Maximum number of idle connections allowed per pool.
 # + waitTime - Maximum amount of time (in seconds), the client should wait for an idle connection before it sends an error when the pool is exhausted
 # + maxActiveStreamsPerConnection - Maximum active streams per connection. This only applies to HTTP/2. Default value is 100
+# + minConnectionsPerRoute - Minimum number of connections per route(host:port) that the streams are spread across. New
+# connections are opened by the requests until the minimum is reached. This only applies to HTTP/2. Default value is 0
 public type PoolConfiguration record {|
     int maxActiveConnections = maxActiveConnections;
     int maxIdleConnections = maxIdleConnections;
     decimal waitTime = waitTime;
     int maxActiveStreamsPerConnection = maxActiveStreamsPerConnection;
+    int minConnectionsPerRoute = minConnectionsPerRoute;
 |};
 //This is a hack to get the global map initialized, without involving locking.
 class ConnectionManager {
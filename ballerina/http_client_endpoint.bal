@@ -17,7 +17,6 @@
 import ballerina/jballerina.java;
 import ballerina/mime;
 import ballerina/observe;
-import ballerina/time;
 
 # The HTTP client provides the capability for initiating contact with a remote HTTP service. The API it
 # provides includes the functions for the standard HTTP methods forwarding a received request and sending requests
@@ -543,15 +542,7 @@ isolated function createCircuitBreakerClient(string uri, ClientConfiguration con
             }
         }
 
-        time:Utc circuitStartTime = time:utcNow();
         int numberOfBuckets = <int> (cbConfig.rollingWindow.timeWindow / cbConfig.rollingWindow.bucketSize);
-        Bucket?[] bucketArray = [];
-        int bucketIndex = 0;
-        while bucketIndex < numberOfBuckets {
-            bucketArray[bucketIndex] = {};
-            bucketIndex = bucketIndex + 1;
-        }
-
         CircuitBreakerInferredConfig circuitBreakerInferredConfig = {
             failureThreshold: cbConfig.failureThreshold,
             resetTime: cbConfig.resetTime,
@@ -559,14 +550,7 @@ isolated function createCircuitBreakerClient(string uri, ClientConfiguration con
             noOfBuckets: numberOfBuckets,
             rollingWindow: cbConfig.rollingWindow
         };
-        CircuitHealth circuitHealth = {
-            startTime: circuitStartTime,
-            lastRequestTime: circuitStartTime,
-            lastErrorTime: circuitStartTime,
-            lastForcedOpenTime: circuitStartTime,
-            totalBuckets: bucketArray
-        };
-        return new CircuitBreakerClient(uri, configuration, circuitBreakerInferredConfig, cbHttpClient, circuitHealth);
+        return new CircuitBreakerClient(uri, configuration, circuitBreakerInferredConfig, cbHttpClient);
     } else {
         return createCookieClient(uri, configuration, cookieStore);
     }
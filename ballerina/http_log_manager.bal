@@ -36,9 +36,11 @@ public type TraceLogAdvancedConfiguration record {|
 #
 # + console - Boolean value to enable or disable console access logs
 # + path - Optional file path to store access logs
+# + format - The format of the access log entries. Either `flat` or `json`
 public type AccessLogConfiguration record {|
     boolean console = false;
     string path?;
+    "flat"|"json" format = "flat";
 |};
 
 configurable TraceLogAdvancedConfiguration traceLogAdvancedConfig = {};
@@ -148,6 +148,7 @@ public type Local record {|
 # + gracefulStopTimeout - Grace period of time in seconds for listener gracefulStop
 # + socketConfig - Provides settings related to server socket configuration
 # + http2InitialWindowSize - Configuration to change the initial window size in HTTP/2
+# + compression - Configurations associated with the compression of the response payloads
 public type ListenerConfiguration record {|
     string host = "0.0.0.0";
     ListenerHttp1Settings http1Settings = {};
@@ -159,6 +160,7 @@ public type ListenerConfiguration record {|
     decimal gracefulStopTimeout = DEFAULT_GRACEFULSTOP_TIMEOUT;
     ServerSocketConfig socketConfig = {};
     int http2InitialWindowSize = 65535;
+    ListenerCompressionConfig compression = {};
 |};
 
 # Provides a set of cloneable configurations for HTTP listener.
@@ -221,6 +223,15 @@ public type RequestLimitConfigs record {|
 # + shareSession - Enable/Disable new SSL session creation
 # + handshakeTimeout - SSL handshake time out
 # + sessionTimeout - SSL session time out
+# + sessionCacheSize - Maximum number of sessions kept in the session cache of the listener for resumption. The
+#                      default of the TLS provider is used if not set
+# + sessionTicketKeyRotationInterval - Interval in seconds after which a new key is used to encrypt the session
+#                                      tickets issued by the listener. Tickets issued with the previous key are still
+#                                      accepted for one more interval. The keys are managed by the TLS provider if not
+#                                      set. Applies only when OpenSSL is used
+# + preferOpenSsl - Use OpenSSL for HTTP/1.x connections when it is available instead of the JDK provider. HTTP/2
+#                   connections always use OpenSSL. OpenSSL always allows new sessions, so `shareSession` is not
+#                   honored when this is set
 public type ListenerSecureSocket record {|
     crypto:KeyStore|CertKey key;
     record {|
@@ -244,14 +255,52 @@ public type ListenerSecureSocket record {|
     boolean shareSession = true;
     decimal handshakeTimeout?;
     decimal sessionTimeout?;
+    int sessionCacheSize?;
+    decimal sessionTicketKeyRotationInterval?;
+    boolean preferOpenSsl = false;
 |};
 
 # Provides settings related to server socket configuration.
 #
 # + soBackLog - Requested maximum length of the queue of incoming connections.
+# + reusePort - Enable/disable SO_REUSEPORT. With the native transports, the listener binds an acceptor socket on
+# each acceptor thread and the incoming connections are distributed among them.
 public type ServerSocketConfig record {|
     *ClientSocketConfig;
     int soBackLog = 100;
+    boolean reusePort = false;
+|};
+
+# Provides settings related to the compression of the response payloads sent by the listener. The content coding
+# set by a service, e.g. as per its `CompressionConfig`, takes precedence over these settings.
+#
+# + encodings - The content codings which may be applied. Among the codings accepted by the client with the same
+#               quality, the one listed first is applied
+# + level - The compression level from 1 (fastest) to 9 (smallest). `br` is applied with its default quality
+# + minSize - The minimum size in bytes of a payload to be compressed. Payloads of unknown size are compressed
+# + contentTypes - Settings which override the above for specific content types
+# + cacheSize - The maximum total size in bytes of the compressed payloads kept for reuse. Only the payloads of the
+#               responses which carry a strong `ETag` and are publicly cacheable are kept. Use value 0 to disable
+#               the cache
+public type ListenerCompressionConfig record {|
+    ContentCoding[] encodings = [CONTENT_CODING_GZIP, CONTENT_CODING_DEFLATE];
+    int level = 6;
+    int minSize = 0;
+    ContentTypeCompressionConfig[] contentTypes = [];
+    int cacheSize = 0;
+|};
+
+# Provides settings related to the compression of the response payloads of a content type.
+#
+# + contentType - The media type such as `application/json`, or a media range such as `text/*`
+# + enabled - Whether the payloads of the content type are compressed
+# + level - The compression level. If not set, the level of the listener applies
+# + minSize - The minimum size in bytes of a payload to be compressed. If not set, the size of the listener applies
+public type ContentTypeCompressionConfig record {|
+    string contentType;
+    boolean enabled = true;
+    int level?;
+    int minSize?;
 |};
 
 # Represents combination of certificate, private key and private key password if encrypted.
@@ -294,6 +343,19 @@ public const KEEPALIVE_ALWAYS = "ALWAYS";
 # Closes the connection irrespective of the `connection` header value }
 public const KEEPALIVE_NEVER = "NEVER";
 
+# Defines the content codings which can be applied to the response payloads. `br` and `zstd` are applied only if
+# the Brotli4j and zstd-jni libraries are available at runtime.
+public type ContentCoding CONTENT_CODING_GZIP|CONTENT_CODING_DEFLATE|CONTENT_CODING_BROTLI|CONTENT_CODING_ZSTD;
+
+# The gzip content coding
+public const CONTENT_CODING_GZIP = "gzip";
+# The deflate content coding
+public const CONTENT_CODING_DEFLATE = "deflate";
+# The Brotli content coding
+public const CONTENT_CODING_BROTLI = "br";
+# The Zstandard content coding
+public const CONTENT_CODING_ZSTD = "zstd";
+
 # Constant for the service name reference.
 public const SERVICE_NAME = "SERVICE_NAME";
 # Constant for the resource name reference.
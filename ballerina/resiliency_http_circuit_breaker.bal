@@ -14,6 +14,7 @@
 // specific language governing permissions and limitations
 // under the License.
 
+import ballerina/jballerina.java;
 import ballerina/log;
 import ballerina/time;
 
@@ -116,14 +117,10 @@ public type CircuitBreakerInferredConfig record {|
 # + url - The URL of the target service
 # + circuitBreakerInferredConfig - Configurations derived from `CircuitBreakerConfig`
 # + httpClient - The underlying `HttpActions` instance which will be making the actual network calls
-# + circuitHealth - The circuit health monitor
-# + currentCircuitState - The current state the circuit is in
 client isolated class CircuitBreakerClient {
 
     private string url;
     private final CircuitBreakerInferredConfig & readonly circuitBreakerInferredConfig;
-    private final CircuitHealth circuitHealth;
-    private CircuitState currentCircuitState = CB_CLOSED_STATE;
     final HttpClient httpClient;
 
     # A Circuit Breaker implementation which can be used to gracefully handle network failures.
@@ -132,10 +129,9 @@ client isolated class CircuitBreakerClient {
     # + config - The configurations of the client endpoint associated with this `CircuitBreaker` instance
     # + circuitBreakerInferredConfig - Configurations derived from the `http:CircuitBreakerConfig`
     # + httpClient - The underlying `HttpActions` instance, which will be making the actual network calls
-    # + circuitHealth - The circuit health monitor
     # + return - The `client` or an `http:ClientError` if the initialization failed
     isolated function init(string url, ClientConfiguration config, CircuitBreakerInferredConfig
-        circuitBreakerInferredConfig, HttpClient httpClient, CircuitHealth circuitHealth) returns ClientError? {
+        circuitBreakerInferredConfig, HttpClient httpClient) returns ClientError? {
         RollingWindow rollingWindow = circuitBreakerInferredConfig.rollingWindow;
         if rollingWindow.timeWindow < rollingWindow.bucketSize {
             return error GenericClientError("Circuit breaker 'timeWindow' value should be greater" +
@@ -144,7 +140,10 @@ client isolated class CircuitBreakerClient {
         self.url = url;
         self.circuitBreakerInferredConfig = circuitBreakerInferredConfig.cloneReadOnly();
         self.httpClient = httpClient;
-        self.circuitHealth = circuitHealth.clone();
+        // The health of the circuit is tracked natively, so that concurrent requests do not contend on a lock
+        externInitCircuitHealth(self, circuitBreakerInferredConfig.noOfBuckets, rollingWindow.bucketSize,
+                                circuitBreakerInferredConfig.resetTime, rollingWindow.requestVolumeThreshold,
+                                circuitBreakerInferredConfig.failureThreshold);
         return;
     }
 
@@ -155,8 +154,7 @@ client isolated class CircuitBreakerClient {
     # + message - An HTTP outbound request or any allowed payload
     # + return - The response or an `http:ClientError` if failed to establish the communication with the upstream server
     remote isolated function post(string path, RequestMessage message) returns Response|ClientError {
-        self.setCurrentState(self.updateCircuitState());
-        if self.getCurrentState() == CB_OPEN_STATE {
+        if self.updateCircuitState() == CB_OPEN_STATE {
             // TODO: Allow the user to handle this scenario. Maybe through a user provided function
             return self.handleOpenCircuit();
         } else {
@@ -172,8 +170,7 @@ client isolated class CircuitBreakerClient {
     # + message - An optional HTTP outbound request or any allowed payload
     # + return - The response or an `http:ClientError` if failed to establish the communication with the upstream server
     remote isolated function head(string path, RequestMessage message = ()) returns Response|ClientError {
-        self.setCurrentState(self.updateCircuitState());
-        if self.getCurrentState() == CB_OPEN_STATE {
+        if self.updateCircuitState() == CB_OPEN_STATE {
             // TODO: Allow the user to handle this scenario. Maybe through a user provided function
             return self.handleOpenCircuit();
         } else {
@@ -189,8 +186,7 @@ client isolated class CircuitBreakerClient {
     # + message - An HTTP outbound request or any allowed payload
     # + return - The response or an `http:ClientError` if failed to establish the communication with the upstream server
     remote isolated function put(string path, RequestMessage message) returns Response|ClientError {
-        self.setCurrentState(self.updateCircuitState());
-        if self.getCurrentState() == CB_OPEN_STATE {
+        if self.updateCircuitState() == CB_OPEN_STATE {
             // TODO: Allow the user to handle this scenario. Maybe through a user provided function
             return self.handleOpenCircuit();
         } else {
@@ -207,8 +203,7 @@ client isolated class CircuitBreakerClient {
     # + message - An HTTP outbound request or any allowed payload
     # + return - The response or an `http:ClientError` if failed to establish the communication with the upstream server
     remote isolated function execute(string httpVerb, string path, RequestMessage message) returns Response|ClientError {
-        self.setCurrentState(self.updateCircuitState());
-        if self.getCurrentState() == CB_OPEN_STATE {
+        if self.updateCircuitState() == CB_OPEN_STATE {
             // TODO: Allow the user to handle this scenario. Maybe through a user provided function
             return self.handleOpenCircuit();
         } else {
@@ -224,8 +219,7 @@ client isolated class CircuitBreakerClient {
     # + message - An HTTP outbound request or any allowed payload
     # + return - The response or an `http:ClientError` if failed to establish the communication with the upstream server
     remote isolated function patch(string path, RequestMessage message) returns Response|ClientError {
-        self.setCurrentState(self.updateCircuitState());
-        if self.getCurrentState() == CB_OPEN_STATE {
+        if self.updateCircuitState() == CB_OPEN_STATE {
             // TODO: Allow the user to handle this scenario. Maybe through a user provided function
             return self.handleOpenCircuit();
         } else {
@@ -241,8 +235,7 @@ client isolated class CircuitBreakerClient {
     # + message - An optional HTTP outbound request or any allowed payload
     # + return - The response or an `http:ClientError` if failed to establish the communication with the upstream server
     remote isolated function delete(string path, RequestMessage message = ()) returns Response|ClientError {
-        self.setCurrentState(self.updateCircuitState());
-        if self.getCurrentState() == CB_OPEN_STATE {
+        if self.updateCircuitState() == CB_OPEN_STATE {
             // TODO: Allow the user to handle this scenario. Maybe through a user provided function
             return self.handleOpenCircuit();
         } else {
@@ -258,8 +251,7 @@ client isolated class CircuitBreakerClient {
     # + message - An optional HTTP outbound request or any allowed payload
     # + return - The response or an `http:ClientError` if failed to establish the communication with the upstream server
     remote isolated function get(string path, RequestMessage message = ()) returns Response|ClientError {
-        self.setCurrentState(self.updateCircuitState());
-        if self.getCurrentState() == CB_OPEN_STATE {
+        if self.updateCircuitState() == CB_OPEN_STATE {
             // TODO: Allow the user to handle this scenario. Maybe through a user provided function
             return self.handleOpenCircuit();
         } else {
@@ -275,8 +267,7 @@ client isolated class CircuitBreakerClient {
     # + message - An optional HTTP outbound request or any allowed payload
     # + return - The response or an `http:ClientError` if failed to establish the communication with the upstream server
     remote isolated function options(string path, RequestMessage message = ()) returns Response|ClientError {
-        self.setCurrentState(self.updateCircuitState());
-        if self.getCurrentState() == CB_OPEN_STATE {
+        if self.updateCircuitState() == CB_OPEN_STATE {
             // TODO: Allow the user to handle this scenario. Maybe through a user provided function
             return self.handleOpenCircuit();
         } else {
@@ -292,8 +283,7 @@ client isolated class CircuitBreakerClient {
     # + request - A Request struct
     # + return - The response or an `http:ClientError` if failed to establish the communication with the upstream server
     remote isolated function forward(string path, Request request) returns Response|ClientError {
-        self.setCurrentState(self.updateCircuitState());
-        if self.getCurrentState() == CB_OPEN_STATE {
+        if self.updateCircuitState() == CB_OPEN_STATE {
             // TODO: Allow the user to handle this scenario. Maybe through a user provided function
             return self.handleOpenCircuit();
         } else {
@@ -312,8 +302,7 @@ client isolated class CircuitBreakerClient {
     # + return - An `http:HttpFuture` that represents an asynchronous service invocation or else an `http:ClientError` if the submission
     #            fails
     remote isolated function submit(string httpVerb, string path, RequestMessage message) returns HttpFuture|ClientError {
-        self.setCurrentState(self.updateCircuitState());
-        if self.getCurrentState() == CB_OPEN_STATE {
+        if self.updateCircuitState() == CB_OPEN_STATE {
             // TODO: Allow the user to handle this scenario. Maybe through a user provided function
             return self.handleOpenCircuit();
         } else {
@@ -377,83 +366,46 @@ client isolated class CircuitBreakerClient {
     # until the failure threshold exceeds.
     isolated function forceClose() {
         log:printInfo("Circuit forcefully switched to CLOSE state.");
-        self.setCurrentState(CB_CLOSED_STATE);
-        lock {
-            self.reInitializeBuckets(self.circuitHealth);
-        }
+        externForceClose(self);
     }
 
     # Force the circuit into a open state in which it will suspend all requests
     # until `resetTime` interval exceeds.
     isolated function forceOpen() {
-        lock {
-            self.currentCircuitState = CB_OPEN_STATE;
-            self.circuitHealth.lastForcedOpenTime = time:utcNow();
-        }
+        externForceOpen(self);
     }
 
     # Provides the `http:CircuitState` of the circuit breaker.
     #
     # + return - The current `http:CircuitState` of the circuit breaker
     isolated function getCurrentState() returns CircuitState {
-        lock {
-            return self.currentCircuitState;
-        }
+        return toCircuitState(externGetState(self));
     }
 
-    # Updates the circuit state.
+    # Updates the circuit state and counts the new request in the `RollingWindow`.
     #
-    # + return - State of the circuit
+    # + return - State of the circuit for this request, as decided together with its transition
     isolated function updateCircuitState() returns CircuitState {
-        lock {
-            CircuitState currentState = self.currentCircuitState;
-            self.prepareRollingWindow(self.circuitHealth, self.circuitBreakerInferredConfig);
-            int currentBucketId = self.getCurrentBucketId(self.circuitHealth);
-            self.updateLastUsedBucketId(self.circuitHealth, currentBucketId);
-            self.circuitHealth.lastRequestTime = time:utcNow();
-            int totalRequestsCount = self.getTotalRequestsCount(self.circuitHealth);
-            self.circuitHealth.totalRequestCount = totalRequestsCount;
-            if totalRequestsCount >= self.circuitBreakerInferredConfig.rollingWindow.requestVolumeThreshold {
-                if currentState == CB_OPEN_STATE {
-                    currentState = self.switchCircuitStateOpenToHalfOpenOnResetTime(self.circuitBreakerInferredConfig,
-                                                                                    self.circuitHealth, currentState);
-                } else if currentState == CB_HALF_OPEN_STATE {
-                    if !self.circuitHealth.lastRequestSuccess {
-                        // If the trial run has failed, trip the circuit again
-                        currentState = CB_OPEN_STATE;
-                        log:printInfo("CircuitBreaker trial run has failed. Circuit switched from HALF_OPEN to OPEN state.")
-                        ;
-                    } else {
-                        // If the trial run was successful reset the circuit
-                        currentState = CB_CLOSED_STATE;
-                        log:printInfo(
-                            "CircuitBreaker trial run  was successful. Circuit switched from HALF_OPEN to CLOSE state.");
-                    }
-                } else {
-                    float currentFailureRate = self.getCurrentFailureRatio(self.circuitHealth);
-
-                    if currentFailureRate > self.circuitBreakerInferredConfig.failureThreshold {
-                        currentState = CB_OPEN_STATE;
-                        log:printInfo("CircuitBreaker failure threshold exceeded. Circuit tripped from CLOSE to OPEN state."
-                        );
-                    }
-                }
-            } else {
-                currentState = self.switchCircuitStateOpenToHalfOpenOnResetTime(self.circuitBreakerInferredConfig,
-                                                                                self.circuitHealth, currentState);
-            }
-            Bucket bucket = <Bucket> self.circuitHealth.totalBuckets[currentBucketId];
-            bucket.totalCount += 1;
-            return currentState;
+        int result = externOnRequest(self);
+        int transition = result >> CB_TRANSITION_SHIFT;
+        if transition == CB_TRIPPED {
+            log:printInfo("CircuitBreaker failure threshold exceeded. Circuit tripped from CLOSE to OPEN state.");
+        } else if transition == CB_RESET_TIMEOUT_REACHED {
+            log:printInfo("CircuitBreaker reset timeout reached. Circuit switched from OPEN to HALF_OPEN state.");
+        } else if transition == CB_TRIAL_FAILED {
+            log:printInfo("CircuitBreaker trial run has failed. Circuit switched from HALF_OPEN to OPEN state.");
+        } else if transition == CB_TRIAL_SUCCEEDED {
+            log:printInfo("CircuitBreaker trial run  was successful. Circuit switched from HALF_OPEN to CLOSE state.");
         }
+        // Reading the state again could see the transition of a concurrent request, such as the trial request being
+        // rejected after a request which followed it opened the circuit again
+        return toCircuitState(result & CB_STATE_MASK);
     }
 
     // Handles open circuit state.
     isolated function handleOpenCircuit() returns ClientError {
-        time:Utc effectiveErrorTime = self.getEffectiveErrorTime();
-        time:Seconds timeDif = time:utcDiffSeconds(time:utcNow(), effectiveErrorTime);
-        int timeRemaining = <int> (self.circuitBreakerInferredConfig.resetTime - <decimal> timeDif);
-        self.updateRejectedRequestCount();
+        int timeRemaining = externGetRemainingResetTime(self);
+        externOnRejection(self);
         string errorMessage = "Upstream service unavailable. Requests to upstream service will be suspended for "
             + timeRemaining.toString() + " seconds.";
         return error UpstreamServiceUnavailableError(errorMessage);
@@ -474,218 +426,31 @@ client isolated class CircuitBreakerClient {
     }
 
     isolated function updateCircuitHealthFailure() {
-        lock {
-            int currentBucketId = self.getCurrentBucketId(self.circuitHealth);
-            self.circuitHealth.lastRequestSuccess = false;
-            self.updateLastUsedBucketId(self.circuitHealth, currentBucketId);
-            Bucket bucket = <Bucket> self.circuitHealth.totalBuckets[currentBucketId];
-            bucket.failureCount += 1;
-            time:Utc lastUpdated = time:utcNow();
-            self.circuitHealth.lastErrorTime = lastUpdated;
-            Bucket?[] buckets = self.circuitHealth.totalBuckets;
-            if buckets is Bucket[] {
-                //TODO:Get this verified
-                time:Utc? lastUpdatedTime = buckets[currentBucketId]?.lastUpdatedTime;
-                if lastUpdatedTime is time:Utc {
-                    lastUpdatedTime = lastUpdated;
-                }
-            }
-        }
+        externOnFailure(self);
     }
 
     isolated function updateCircuitHealthSuccess() {
-        lock {
-            int currentBucketId = self.getCurrentBucketId(self.circuitHealth);
-            time:Utc lastUpdated = time:utcNow();
-            self.updateLastUsedBucketId(self.circuitHealth, currentBucketId);
-            self.circuitHealth.lastRequestSuccess = true;
-            Bucket?[] buckets = self.circuitHealth.totalBuckets;
-            if buckets is Bucket[] {
-                //TODO:Get this verified
-                time:Utc? lastUpdatedTime = buckets[currentBucketId]?.lastUpdatedTime;
-                if lastUpdatedTime is time:Utc {
-                    lastUpdatedTime = lastUpdated;
-                }
-            }
-        }
-    }
-
-    # Calculates a failure at a given point.
-    #
-    # + circuitHealth - Circuit Breaker health status
-    # + return - Current failure ratio
-    isolated function getCurrentFailureRatio(CircuitHealth circuitHealth) returns float {
-        int totalCount = 0;
-        int totalFailures = 0;
-
-        foreach var optBucket in circuitHealth.totalBuckets {
-            var bucket = <Bucket>optBucket;
-            totalCount =  totalCount + bucket.failureCount +
-                                            (bucket.totalCount - (bucket.failureCount + bucket.rejectedCount));
-            totalFailures = totalFailures + bucket.failureCount;
-        }
-        float ratio = 0.0;
-        if totalCount > 0 {
-            ratio = <float> totalFailures / <float> totalCount;
-        }
-        return ratio;
-    }
-
-    # Calculates the total requests count within a `RollingWindow`.
-    #
-    # + circuitHealth - Circuit Breaker health status
-    # + return - Total requests count
-    isolated function getTotalRequestsCount(CircuitHealth circuitHealth) returns int {
-        int totalCount = 0;
-        foreach var bucket in circuitHealth.totalBuckets {
-            Bucket temp = <Bucket>bucket;
-            totalCount  =  totalCount + temp.totalCount;
-        }
-        return totalCount;
-    }
-
-    # Calculates the current bucket ID.
-    #
-    # + circuitHealth - Circuit Breaker health status
-    # + return - Current bucket id
-    isolated function getCurrentBucketId(CircuitHealth circuitHealth) returns int {
-        decimal elapsedTime = time:utcDiffSeconds(time:utcNow(), circuitHealth.startTime) %
-            (self.circuitBreakerInferredConfig.rollingWindow.timeWindow);
-        int currentBucketId = <int> (((elapsedTime / self.circuitBreakerInferredConfig.rollingWindow.bucketSize) + 1d)
-            % <decimal> self.circuitBreakerInferredConfig.noOfBuckets);
-        return currentBucketId;
-    }
-
-    # Updates the rejected requests count.
-    isolated function updateRejectedRequestCount() {
-        lock {
-            int currentBucketId = self.getCurrentBucketId(self.circuitHealth);
-            self.updateLastUsedBucketId(self.circuitHealth, currentBucketId);
-            Bucket bucket = <Bucket>self.circuitHealth.totalBuckets[currentBucketId];
-            bucket.rejectedCount += 1;
-        }
-    }
-
-    # Resets the bucket values to the default ones.
-    #
-    # + circuitHealth - Circuit Breaker health status
-    # + bucketId - - Id of the bucket should reset.
-    isolated function resetBucketStats(CircuitHealth circuitHealth, int bucketId) {
-        circuitHealth.totalBuckets[bucketId] = {};
-    }
-
-    isolated function getEffectiveErrorTime() returns time:Utc {
-        time:Utc? lastErrorTime;
-        time:Utc? lastForcedOpenTime;
-        lock {
-            lastErrorTime = self.circuitHealth?.lastErrorTime;
-            lastForcedOpenTime = self.circuitHealth?.lastForcedOpenTime;
-        }
-        if lastErrorTime is time:Utc && lastForcedOpenTime is time:Utc {
-            return (time:utcDiffSeconds(lastErrorTime, lastForcedOpenTime) > 0d) ? lastErrorTime : lastForcedOpenTime;
-        }
-        //TODO:What to send?
-        return time:utcNow();
-    }
-
-    # Populates the `RollingWindow` statistics to handle circuit breaking within the `RollingWindow` time frame.
-    #
-    # + circuitHealth - Circuit Breaker health status
-    # + circuitBreakerInferredConfig - Configurations derived from `CircuitBreakerConfig`
-    isolated function prepareRollingWindow(CircuitHealth circuitHealth, CircuitBreakerInferredConfig circuitBreakerInferredConfig) {
-
-        time:Utc currentTime = time:utcNow();
-        time:Utc? lastRequestTime = circuitHealth?.lastRequestTime;
-        //TODO:Get this logic verified
-        decimal idleTime = 0;
-        if lastRequestTime is time:Utc {
-            idleTime = time:utcDiffSeconds(currentTime, lastRequestTime);
-        }
-        RollingWindow rollingWindow = circuitBreakerInferredConfig.rollingWindow;
-        // If the time duration between two requests greater than timeWindow values, reset the buckets to default.
-        if idleTime > rollingWindow.timeWindow {
-            self.reInitializeBuckets(circuitHealth);
-        } else {
-            int currentBucketId = self.getCurrentBucketId(circuitHealth);
-            int lastUsedBucketId = circuitHealth.lastUsedBucketId;
-            // Check whether subsequent requests received within same bucket(sub time window). If the idle time is greater
-            // than bucketSize means subsequent calls are received time exceeding the rolling window. if we need to
-            // reset the buckets to default.
-            if currentBucketId == circuitHealth.lastUsedBucketId && idleTime > rollingWindow.bucketSize {
-                self.reInitializeBuckets(circuitHealth);
-            // If the current bucket (sub time window) is less than last updated bucket. Stats of the current bucket to
-            // zeroth bucket and Last bucket to last used bucket needs to be reset to default.
-            } else if currentBucketId < lastUsedBucketId {
-                int index = currentBucketId;
-                while (index >= 0) {
-                    self.resetBucketStats(circuitHealth, index);
-                    index -= 1;
-                }
-                int lastIndex = (circuitHealth.totalBuckets.length()) - 1;
-                while (lastIndex > lastUsedBucketId) {
-                    self.resetBucketStats(circuitHealth, lastIndex);
-                    lastIndex -= 1;
-                }
-            } else {
-                // If the current bucket (sub time window) is greater than last updated bucket. Stats of current bucket to
-                // last used bucket needs to be reset without resetting last used bucket stat.
-                while (currentBucketId > lastUsedBucketId && idleTime > rollingWindow.bucketSize) {
-                    self.resetBucketStats(circuitHealth, currentBucketId);
-                    currentBucketId -= 1;
-                }
-            }
-        }
+        externOnSuccess(self);
     }
+}
 
-    # Reinitializes the Buckets to the default state.
-    #
-    # + circuitHealth - Circuit Breaker health status
-    isolated function reInitializeBuckets(CircuitHealth circuitHealth) {
-        Bucket?[] bucketArray = [];
-        int bucketIndex = 0;
-        while (bucketIndex < circuitHealth.totalBuckets.length()) {
-            bucketArray[bucketIndex] = {};
-            bucketIndex += 1;
-        }
-        circuitHealth.totalBuckets = bucketArray;
-    }
+// The transitions reported by the native circuit health monitor
+const CB_TRIPPED = 1;
+const CB_RESET_TIMEOUT_REACHED = 2;
+const CB_TRIAL_FAILED = 3;
+const CB_TRIAL_SUCCEEDED = 4;
 
-    # Updates the `lastUsedBucketId` in `CircuitHealth`.
-    #
-    # + circuitHealth - Circuit Breaker health status
-    # + bucketId - Position of the currently used bucket
-    isolated function updateLastUsedBucketId(CircuitHealth circuitHealth, int bucketId) {
-        if bucketId != circuitHealth.lastUsedBucketId {
-            self.resetBucketStats(circuitHealth, bucketId);
-            circuitHealth.lastUsedBucketId = bucketId;
-        }
-    }
+// The native circuit health monitor packs the state of the circuit for a request and its transition into one value
+const CB_TRANSITION_SHIFT = 2;
+const CB_STATE_MASK = 3;
 
-    # Switches circuit state from open to half open state when reset time exceeded.
-    #
-    # + circuitBreakerInferredConfig -  Configurations derived from `CircuitBreakerConfig`
-    # + circuitHealth - Circuit Breaker health status
-    # + currentState - current state of the circuit
-    # + return - Calculated state value of the circuit
-    isolated function switchCircuitStateOpenToHalfOpenOnResetTime(CircuitBreakerInferredConfig circuitBreakerInferredConfig,
-                                            CircuitHealth circuitHealth, CircuitState currentState) returns CircuitState {
-        CircuitState currentCircuitState = currentState;
-        if currentState == CB_OPEN_STATE {
-            time:Utc effectiveErrorTime = self.getEffectiveErrorTime();
-            time:Seconds elapsedTime = time:utcDiffSeconds(time:utcNow(), effectiveErrorTime);
-            if elapsedTime > circuitBreakerInferredConfig.resetTime {
-                currentCircuitState = CB_HALF_OPEN_STATE;
-                log:printInfo("CircuitBreaker reset timeout reached. Circuit switched from OPEN to HALF_OPEN state.");
-            }
-        }
-        return currentCircuitState;
-    }
-
-    isolated function setCurrentState(CircuitState currentCircuitState) {
-        lock {
-            self.currentCircuitState = currentCircuitState;
-        }
+isolated function toCircuitState(int state) returns CircuitState {
+    if state == 1 {
+        return CB_OPEN_STATE;
+    } else if state == 2 {
+        return CB_HALF_OPEN_STATE;
     }
+    return CB_CLOSED_STATE;
 }
 
 // Validates the struct configurations passed to create circuit breaker.
@@ -697,3 +462,50 @@ isolated function validateCircuitBreakerConfiguration(CircuitBreakerConfig circu
         panic error CircuitBreakerConfigError(errorMessage);
     }
 }
+
+isolated function externInitCircuitHealth(CircuitBreakerClient circuitBreaker, int noOfBuckets, decimal bucketSize,
+                                          decimal resetTime, int requestVolumeThreshold, float failureThreshold) =
+@java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternCircuitBreaker",
+    name: "initCircuitHealth"
+} external;
+
+isolated function externOnRequest(CircuitBreakerClient circuitBreaker) returns int = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternCircuitBreaker",
+    name: "onRequest"
+} external;
+
+isolated function externOnSuccess(CircuitBreakerClient circuitBreaker) = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternCircuitBreaker",
+    name: "onSuccess"
+} external;
+
+isolated function externOnFailure(CircuitBreakerClient circuitBreaker) = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternCircuitBreaker",
+    name: "onFailure"
+} external;
+
+isolated function externOnRejection(CircuitBreakerClient circuitBreaker) = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternCircuitBreaker",
+    name: "onRejection"
+} external;
+
+isolated function externForceClose(CircuitBreakerClient circuitBreaker) = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternCircuitBreaker",
+    name: "forceClose"
+} external;
+
+isolated function externForceOpen(CircuitBreakerClient circuitBreaker) = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternCircuitBreaker",
+    name: "forceOpen"
+} external;
+
+isolated function externGetState(CircuitBreakerClient circuitBreaker) returns int = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternCircuitBreaker",
+    name: "getState"
+} external;
+
+isolated function externGetRemainingResetTime(CircuitBreakerClient circuitBreaker) returns int = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternCircuitBreaker",
+    name: "getRemainingResetTime"
+} external;
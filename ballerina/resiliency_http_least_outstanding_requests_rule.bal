@@ -0,0 +1,39 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# Implementation of least outstanding requests load balancing strategy. A request is sent to the client which has the
+# least requests in progress, so a backend which slows down gets less traffic as its requests pile up. A failed
+# request counts as five requests in progress, which fades over about 10 seconds, so a backend which fails fast does
+# not attract the traffic. The requests in progress are only tracked by the `http:LoadBalanceClient`.
+public isolated class LoadBalancerLeastOutstandingRequestsRule {
+    *LoadBalancerRule;
+
+    # Provides an HTTP client, which is chosen according to the least outstanding requests algorithm.
+    #
+    # + loadBalanceCallerActionsArray - Array of HTTP clients, which needs to be load balanced
+    # + return - Chosen `http:Client` from the algorithm or else an `http:ClientError` for a failure in
+    #            the algorithm implementation
+    public isolated function getNextClient(Client?[] loadBalanceCallerActionsArray) returns Client|ClientError {
+        return <Client>loadBalanceCallerActionsArray[externSelectLeastOutstanding(loadBalanceCallerActionsArray)];
+    }
+}
+
+isolated function externSelectLeastOutstanding(Client?[] clients) returns int = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternLoadBalancer",
+    name: "selectLeastOutstanding"
+} external;
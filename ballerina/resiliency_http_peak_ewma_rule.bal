@@ -0,0 +1,39 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# Implementation of power of two choices load balancing strategy with peak EWMA latency. Two clients are picked at
+# random and the request is sent to the one with the lower cost, which is the moving average of its latency scaled by
+# its requests in progress. The average follows a latency spike right away and decays over about 10 seconds. A failed
+# request counts as taking at least a second. The latencies are only tracked by the `http:LoadBalanceClient`.
+public isolated class LoadBalancerPeakEwmaRule {
+    *LoadBalancerRule;
+
+    # Provides an HTTP client, which is chosen according to the power of two choices algorithm.
+    #
+    # + loadBalanceCallerActionsArray - Array of HTTP clients, which needs to be load balanced
+    # + return - Chosen `http:Client` from the algorithm or else an `http:ClientError` for a failure in
+    #            the algorithm implementation
+    public isolated function getNextClient(Client?[] loadBalanceCallerActionsArray) returns Client|ClientError {
+        return <Client>loadBalanceCallerActionsArray[externSelectPeakEwma(loadBalanceCallerActionsArray)];
+    }
+}
+
+isolated function externSelectPeakEwma(Client?[] clients) returns int = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternLoadBalancer",
+    name: "selectPeakEwma"
+} external;
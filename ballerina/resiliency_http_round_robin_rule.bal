@@ -14,13 +14,17 @@
 // specific language governing permissions and limitations
 // under the License.
 
-# Implementation of round robin load balancing strategy.
-#
-# + index - Keep tracks the current point of the Client[]
+import ballerina/jballerina.java;
+
+# Implementation of round robin load balancing strategy. The position in the rotation is kept in a native atomic
+# counter, so concurrent selections do not take a lock.
 public isolated class LoadBalancerRoundRobinRule {
     *LoadBalancerRule;
 
-    private int index = 0;
+    # Initializes the round robin rule.
+    public isolated function init() {
+        externInitRoundRobinCounter(self);
+    }
 
     # Provides an HTTP client, which is chosen according to the round robin algorithm.
     #
@@ -28,16 +32,17 @@ public isolated class LoadBalancerRoundRobinRule {
     # + return - Chosen `http:Client` from the algorithm or else an `http:ClientError` for a failure in
     #            the algorithm implementation
     public isolated function getNextClient(Client?[] loadBalanceCallerActionsArray) returns Client|ClientError {
-        lock {
-            Client httpClient = <Client>loadBalanceCallerActionsArray[self.index];
-            if self.index == ((loadBalanceCallerActionsArray.length()) - 1) {
-                httpClient = <Client>loadBalanceCallerActionsArray[self.index];
-                self.index = 0;
-            } else {
-                httpClient = <Client>loadBalanceCallerActionsArray[self.index];
-                self.index += 1;
-            }
-            return httpClient;
-        }
+        int index = externNextRoundRobinIndex(self, loadBalanceCallerActionsArray.length());
+        return <Client>loadBalanceCallerActionsArray[index];
     }
 }
+
+isolated function externInitRoundRobinCounter(LoadBalancerRoundRobinRule rule) = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternLoadBalancer",
+    name: "initRoundRobinCounter"
+} external;
+
+isolated function externNextRoundRobinIndex(LoadBalancerRoundRobinRule rule, int size) returns int = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternLoadBalancer",
+    name: "nextRoundRobinIndex"
+} external;
@@ -28,7 +28,8 @@ public client isolated class LoadBalanceClient {
     *ClientObject;
 
     private final Client?[] loadBalanceClientsArray;
-    private LoadBalancerRule lbRule;
+    private final LoadBalancerRule lbRule;
+    private final boolean trackBackendLoad;
     private final boolean failover;
     private final boolean requireValidation;
 
@@ -44,6 +45,7 @@ public client isolated class LoadBalanceClient {
         foreach var target in loadBalanceClientConfig.targets {
             ClientConfiguration epConfig = createClientEPConfigFromLoalBalanceEPConfig(loadBalanceClientConfig, target);
             clientEp = check new(target.url , epConfig);
+            externInitBackendLoad(clientEp);
             lock {
                 self.loadBalanceClientsArray[i] = clientEp;
             }
@@ -56,6 +58,8 @@ public client isolated class LoadBalanceClient {
             LoadBalancerRoundRobinRule loadBalancerRoundRobinRule = new;
             self.lbRule = loadBalancerRoundRobinRule;
         }
+        // The requests in progress and the latencies of the backends are only needed by the load aware rules
+        self.trackBackendLoad = self.lbRule is LoadBalancerLeastOutstandingRequestsRule|LoadBalancerPeakEwmaRule;
         self.requireValidation = loadBalanceClientConfig.validation;
         return;
     }
@@ -438,13 +442,44 @@ public client isolated class LoadBalanceClient {
         lock {
             arrLength = self.loadBalanceClientsArray.length();
         }
+        int[] failedIndexes = [];
         while (loadBalanceTermination < arrLength) {
             Client|ClientError loadBalanceClient;
+            int clientIndex = -1;
+            final int[] & readonly excludedIndexes = failedIndexes.cloneReadOnly();
             lock {
-                loadBalanceClient = self.lbRule.getNextClient(self.loadBalanceClientsArray);
+                Client?[] candidates = self.loadBalanceClientsArray;
+                if excludedIndexes.length() > 0 {
+                    // The load aware rules never choose an empty slot, so the backends which already failed this
+                    // request are left out while the others are tried
+                    candidates = [];
+                    foreach int i in 0 ..< self.loadBalanceClientsArray.length() {
+                        candidates.push(excludedIndexes.indexOf(i) is int ? () : self.loadBalanceClientsArray[i]);
+                    }
+                }
+                loadBalanceClient = self.lbRule.getNextClient(candidates);
+                if self.failover && self.trackBackendLoad {
+                    foreach int i in 0 ..< candidates.length() {
+                        if candidates[i] === loadBalanceClient {
+                            clientIndex = i;
+                            break;
+                        }
+                    }
+                }
             }
             if loadBalanceClient is Client {
-                var serviceResponse = invokeEndpoint(path, request, requestAction, loadBalanceClient.httpClient);
+                int startTime = self.trackBackendLoad ? externStartRequest(loadBalanceClient) : 0;
+                // The request is ended even if the invocation panics, so that the in-flight count of the client
+                // does not stay raised
+                HttpResponse|ClientError|error result = trap invokeEndpoint(path, request, requestAction,
+                                                                            loadBalanceClient.httpClient);
+                if self.trackBackendLoad {
+                    externEndRequest(loadBalanceClient, startTime, result is error);
+                }
+                if result !is HttpResponse|ClientError {
+                    panic result;
+                }
+                HttpResponse|ClientError serviceResponse = result;
                 if serviceResponse is Response {
                     return serviceResponse;
                 } else if serviceResponse is HttpFuture {
@@ -454,6 +489,9 @@ public client isolated class LoadBalanceClient {
                         loadBalancerInRequest = check createFailoverRequest(loadBalancerInRequest, requestEntity);
                         loadBalanceActionErrorData.httpActionErr[lbErrorIndex] = serviceResponse;
                         lbErrorIndex += 1;
+                        if clientIndex >= 0 {
+                            failedIndexes.push(clientIndex);
+                        }
                         loadBalanceTermination = loadBalanceTermination + 1;
                     } else {
                         return serviceResponse;
@@ -484,6 +522,20 @@ isolated function populateGenericLoadBalanceActionError(LoadBalanceActionErrorDa
     }
 }
 
+isolated function externInitBackendLoad(Client 'client) = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternLoadBalancer",
+    name: "initBackendLoad"
+} external;
+
+isolated function externStartRequest(Client 'client) returns int = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternLoadBalancer",
+    name: "startRequest"
+} external;
+
+isolated function externEndRequest(Client 'client, int startTime, boolean failed) = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternLoadBalancer",
+    name: "endRequest"
+} external;
 
 # The configurations related to the load balancing client endpoint. The following fields are inherited from the other
 # configuration records in addition to the load balancing client specific configs.
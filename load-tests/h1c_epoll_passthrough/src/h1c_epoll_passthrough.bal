@@ -0,0 +1,31 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/http;
+
+// Same scenario as h1c_h1c_passthrough, running on the epoll transport to compare it with NIO
+final http:Client nettyEP = check new("http://netty:8688", httpVersion = "1.1",
+    socketConfig = {transport: http:TRANSPORT_EPOLL, tcpQuickAck: true}
+);
+
+service /passthrough on new http:Listener(9090, httpVersion = "1.1",
+    socketConfig = {transport: http:TRANSPORT_EPOLL, reusePort: true, tcpQuickAck: true}
+) {
+    resource function post .(http:Request clientRequest) returns http:Response|error {
+        http:Response response = check nettyEP->forward("/service/EchoService", clientRequest);
+        return response;
+    }
+}
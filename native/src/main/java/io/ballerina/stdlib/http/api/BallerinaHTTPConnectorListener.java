@@ -20,18 +20,15 @@ package io.ballerina.stdlib.http.api;
 import io.ballerina.runtime.api.Runtime;
 import io.ballerina.runtime.api.async.Callback;
 import io.ballerina.runtime.api.constants.RuntimeConstants;
-import io.ballerina.runtime.api.types.ObjectType;
-import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
-import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.observability.ObservabilityConstants;
 import io.ballerina.runtime.observability.ObserveUtils;
 import io.ballerina.runtime.observability.ObserverContext;
-import io.ballerina.stdlib.http.api.nativeimpl.ModuleUtils;
 import io.ballerina.stdlib.http.transport.contract.HttpConnectorListener;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+import io.ballerina.stdlib.http.transport.message.MessageProperties;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -46,7 +43,7 @@ import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_
 import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_HTTP_URL;
 import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_PROTOCOL;
 import static io.ballerina.stdlib.http.api.HttpConstants.INTERCEPTORS;
-import static io.ballerina.stdlib.http.api.HttpConstants.INTERCEPTOR_SERVICES_REGISTRIES;
+import static io.ballerina.stdlib.http.api.HttpConstants.INTERCEPTOR_CHAIN;
 
 /**
  * HTTP connector listener for Ballerina.
@@ -58,6 +55,7 @@ public class BallerinaHTTPConnectorListener implements HttpConnectorListener {
 
     protected final HTTPServicesRegistry httpServicesRegistry;
     protected final List<HTTPInterceptorServicesRegistry> httpInterceptorServicesRegistries;
+    protected final InterceptorChain listenerLevelInterceptorChain;
 
     protected final BMap endpointConfig;
     protected final Object listenerLevelInterceptors;
@@ -66,6 +64,7 @@ public class BallerinaHTTPConnectorListener implements HttpConnectorListener {
                                           List<HTTPInterceptorServicesRegistry> httpInterceptorServicesRegistries,
                                           BMap endpointConfig, Object interceptors) {
         this.httpInterceptorServicesRegistries = httpInterceptorServicesRegistries;
+        this.listenerLevelInterceptorChain = new InterceptorChain(httpInterceptorServicesRegistries);
         this.httpServicesRegistry = httpServicesRegistry;
         this.endpointConfig = endpointConfig;
         this.listenerLevelInterceptors = interceptors;
@@ -73,15 +72,14 @@ public class BallerinaHTTPConnectorListener implements HttpConnectorListener {
 
     @Override
     public void onMessage(HttpCarbonMessage inboundMessage) {
-        if (Objects.isNull(inboundMessage.getProperty(INTERCEPTOR_SERVICES_REGISTRIES))) {
+        if (Objects.isNull(inboundMessage.getProperty(INTERCEPTOR_CHAIN))) {
             setTargetServiceToInboundMsg(inboundMessage);
         }
 
-        List<HTTPInterceptorServicesRegistry> interceptorServicesRegistries =
-                (List<HTTPInterceptorServicesRegistry>) inboundMessage.getProperty(INTERCEPTOR_SERVICES_REGISTRIES);
+        InterceptorChain interceptorChain = (InterceptorChain) inboundMessage.getProperty(INTERCEPTOR_CHAIN);
 
         try {
-            if (executeInterceptorServices(interceptorServicesRegistries, inboundMessage)) {
+            if (executeInterceptorServices(interceptorChain, inboundMessage)) {
                 return;
             }
         } catch (Exception ex) {
@@ -106,24 +104,22 @@ public class BallerinaHTTPConnectorListener implements HttpConnectorListener {
         }
     }
 
-    private boolean executeInterceptorServices(List<HTTPInterceptorServicesRegistry> interceptorServicesRegistries,
-                                               HttpCarbonMessage inboundMessage) {
-        int interceptorServiceIndex = inboundMessage.getProperty(HttpConstants.REQUEST_INTERCEPTOR_INDEX)
-                == null ? 0 : (int)  inboundMessage.getProperty(HttpConstants.REQUEST_INTERCEPTOR_INDEX);
-        while (interceptorServiceIndex < interceptorServicesRegistries.size()) {
+    private boolean executeInterceptorServices(InterceptorChain interceptorChain, HttpCarbonMessage inboundMessage) {
+        int interceptorServiceIndex = inboundMessage.getProperty(MessageProperties.REQUEST_INTERCEPTOR_INDEX_SLOT)
+                == null ? 0 : (int)  inboundMessage.getProperty(MessageProperties.REQUEST_INTERCEPTOR_INDEX_SLOT);
+        while (interceptorServiceIndex < interceptorChain.size()) {
             InterceptorResource interceptorResource;
-            HTTPInterceptorServicesRegistry interceptorServicesRegistry = interceptorServicesRegistries.
-                    get(interceptorServiceIndex);
+            InterceptorChain.Interceptor interceptor = interceptorChain.get(interceptorServiceIndex);
 
-            if (!interceptorServicesRegistry.getServicesType().
-                                        equals(inboundMessage.getRequestInterceptorServiceState())) {
+            if (!interceptor.getServicesType().equals(inboundMessage.getRequestInterceptorServiceState())) {
                 interceptorServiceIndex += 1;
                 continue;
             }
 
-            interceptorResource = findInterceptorResource(interceptorServicesRegistry, inboundMessage);
+            interceptorResource = findInterceptorResource(interceptor, inboundMessage);
 
-            if (checkForInterceptorDataBinding(inboundMessage, interceptorServiceIndex, interceptorResource)) {
+            if (interceptorResource != null && interceptor.isPayloadBindingRequired() &&
+                    checkForInterceptorDataBinding(inboundMessage, interceptorServiceIndex)) {
                 return true;
             }
 
@@ -131,24 +127,22 @@ public class BallerinaHTTPConnectorListener implements HttpConnectorListener {
 
             if (interceptorResource != null) {
                 inboundMessage.removeProperty(HttpConstants.WAIT_FOR_FULL_REQUEST);
-                inboundMessage.setProperty(HttpConstants.REQUEST_INTERCEPTOR_INDEX, interceptorServiceIndex);
+                inboundMessage.setProperty(MessageProperties.REQUEST_INTERCEPTOR_INDEX_SLOT, interceptorServiceIndex);
                 inboundMessage.setProperty(HttpConstants.INTERCEPTOR_SERVICE, true);
                 extractPropertiesAndStartInterceptorResourceExecution(inboundMessage, interceptorResource,
-                        interceptorServicesRegistry);
+                        interceptor.getRegistry());
                 return true;
             }
         }
-        inboundMessage.removeProperty(HttpConstants.REQUEST_INTERCEPTOR_INDEX);
+        inboundMessage.setProperty(MessageProperties.REQUEST_INTERCEPTOR_INDEX_SLOT, null);
         return false;
     }
 
-    private boolean checkForInterceptorDataBinding(HttpCarbonMessage inboundMessage, int interceptorServiceIndex,
-                                                   InterceptorResource interceptorResource) {
-        if (!inboundMessage.isLastHttpContentArrived() && HttpDispatcher.shouldDiffer(interceptorResource) &&
-                inboundMessage.isAccessedInNonInterceptorService()) {
+    private boolean checkForInterceptorDataBinding(HttpCarbonMessage inboundMessage, int interceptorServiceIndex) {
+        if (!inboundMessage.isLastHttpContentArrived() && inboundMessage.isAccessedInNonInterceptorService()) {
             inboundMessage.setProperty(HttpConstants.WAIT_FOR_FULL_REQUEST, true);
             inboundMessage.setProperty(HttpConstants.INTERCEPTOR_SERVICE, true);
-            inboundMessage.setProperty(HttpConstants.REQUEST_INTERCEPTOR_INDEX, interceptorServiceIndex);
+            inboundMessage.setProperty(MessageProperties.REQUEST_INTERCEPTOR_INDEX_SLOT, interceptorServiceIndex);
             inboundMessage.removeInboundContentListener();
             return true;
         }
@@ -163,8 +157,9 @@ public class BallerinaHTTPConnectorListener implements HttpConnectorListener {
     @SuppressWarnings("unchecked")
     protected void extractPropertiesAndStartResourceExecution(HttpCarbonMessage inboundMessage,
                                                               HttpResource httpResource) {
-        boolean isTransactionInfectable = httpResource.isTransactionInfectable();
-        Map<String, Object> properties = collectRequestProperties(inboundMessage, isTransactionInfectable);
+        InvocationDescriptor invocationDescriptor = httpResource.getInvocationDescriptor();
+        Map<String, Object> properties = collectRequestProperties(inboundMessage,
+                                                                  invocationDescriptor.isTransactionInfectable());
 
         Object[] signatureParams = HttpDispatcher.getSignatureParameters(httpResource, inboundMessage, endpointConfig,
                 httpServicesRegistry.getRuntime());
@@ -185,43 +180,36 @@ public class BallerinaHTTPConnectorListener implements HttpConnectorListener {
         Runtime runtime = httpServicesRegistry.getRuntime();
         Callback callback = new HttpCallableUnitCallback(inboundMessage, runtime, httpResource,
                 httpServicesRegistry.isPossibleLastService());
-        BObject service = httpResource.getParentService().getBalService();
-        String resourceName = httpResource.getName();
-        ObjectType serviceType = (ObjectType) TypeUtils.getReferredType(TypeUtils.getType(service));
-        if (serviceType.isIsolated() && serviceType.isIsolated(resourceName)) {
-            runtime.invokeMethodAsyncConcurrently(service, resourceName, null,
-                                                  ModuleUtils.getOnMessageMetaData(), callback, properties,
-                                                  httpResource.getBalResource().getReturnType(), signatureParams);
-        } else {
-            runtime.invokeMethodAsyncSequentially(service, resourceName, null,
-                                                  ModuleUtils.getOnMessageMetaData(), callback, properties,
-                                                  httpResource.getBalResource().getReturnType(), signatureParams);
-        }
+        invocationDescriptor.invoke(runtime, callback, properties, signatureParams);
     }
 
     protected boolean accessed(HttpCarbonMessage inboundMessage) {
         return inboundMessage.getProperty(HTTP_RESOURCE) != null;
     }
 
+    // The map becomes the global properties of the strand, which keeps and updates it, so it cannot be shared
+    // between requests
     private Map<String, Object> collectRequestProperties(HttpCarbonMessage inboundMessage, boolean isInfectable) {
         Map<String, Object> properties = new HashMap<>();
-        if (inboundMessage.getProperty(HttpConstants.SRC_HANDLER) != null) {
-            Object srcHandler = inboundMessage.getProperty(HttpConstants.SRC_HANDLER);
+        Object srcHandler = inboundMessage.getProperty(HttpConstants.SRC_HANDLER);
+        if (srcHandler != null) {
             properties.put(HttpConstants.SRC_HANDLER, srcHandler);
         }
         String txnId = inboundMessage.getHeader(HttpConstants.HEADER_X_XID);
-        String registerAtUrl = inboundMessage.getHeader(HttpConstants.HEADER_X_REGISTER_AT_URL);
-        String trxInfo = inboundMessage.getHeader(HttpConstants.HEADER_X_INFO_RECORD);
-        //Return 500 if txn context is received when transactionInfectable=false
-        if (!isInfectable && txnId != null) {
-            log.error("Infection attempt on resource with transactionInfectable=false, txnId:" + txnId);
-            throw new BallerinaConnectorException("Cannot create transaction context: " +
-                                                          "resource is not transactionInfectable");
-        }
-        if (isInfectable && txnId != null && registerAtUrl != null && trxInfo != null) {
-            properties.put(RuntimeConstants.GLOBAL_TRANSACTION_ID, txnId);
-            properties.put(RuntimeConstants.TRANSACTION_URL, registerAtUrl);
-            properties.put(RuntimeConstants.TRANSACTION_INFO, trxInfo);
+        if (txnId != null) {
+            //Return 500 if txn context is received when transactionInfectable=false
+            if (!isInfectable) {
+                log.error("Infection attempt on resource with transactionInfectable=false, txnId:" + txnId);
+                throw new BallerinaConnectorException("Cannot create transaction context: " +
+                                                              "resource is not transactionInfectable");
+            }
+            String registerAtUrl = inboundMessage.getHeader(HttpConstants.HEADER_X_REGISTER_AT_URL);
+            String trxInfo = inboundMessage.getHeader(HttpConstants.HEADER_X_INFO_RECORD);
+            if (registerAtUrl != null && trxInfo != null) {
+                properties.put(RuntimeConstants.GLOBAL_TRANSACTION_ID, txnId);
+                properties.put(RuntimeConstants.TRANSACTION_URL, registerAtUrl);
+                properties.put(RuntimeConstants.TRANSACTION_INFO, trxInfo);
+            }
         }
         properties.put(HttpConstants.REMOTE_ADDRESS, inboundMessage.getProperty(HttpConstants.REMOTE_ADDRESS));
         properties.put(HttpConstants.ORIGIN_HOST, inboundMessage.getHeader(HttpConstants.ORIGIN_HOST));
@@ -234,27 +222,17 @@ public class BallerinaHTTPConnectorListener implements HttpConnectorListener {
     protected void extractPropertiesAndStartInterceptorResourceExecution(HttpCarbonMessage inboundMessage,
                                                                          InterceptorResource resource,
                                                                          HTTPInterceptorServicesRegistry registry) {
-        Map<String, Object> properties = collectRequestProperties(inboundMessage, true);
+        Map<String, Object> properties = collectRequestProperties(inboundMessage,
+                resource.getInvocationDescriptor().isTransactionInfectable());
         Runtime runtime = registry.getRuntime();
         Object[] signatureParams = HttpDispatcher.getSignatureParameters(resource, inboundMessage, endpointConfig,
                 registry.getRuntime());
         Callback callback = new HttpRequestInterceptorUnitCallback(
                 inboundMessage, runtime, this);
-        BObject service = resource.getParentService().getBalService();
-        String resourceName = resource.getName();
 
         inboundMessage.removeProperty(HttpConstants.INTERCEPTOR_SERVICE_ERROR);
 
-        ObjectType serviceType = (ObjectType) TypeUtils.getReferredType(TypeUtils.getType(service));
-        if (serviceType.isIsolated() && serviceType.isIsolated(resourceName)) {
-            runtime.invokeMethodAsyncConcurrently(service, resourceName, null,
-                                                  ModuleUtils.getOnMessageMetaData(), callback, properties,
-                                                  resource.getBalResource().getReturnType(), signatureParams);
-        } else {
-            runtime.invokeMethodAsyncSequentially(service, resourceName, null,
-                                                  ModuleUtils.getOnMessageMetaData(), callback, properties,
-                                                  resource.getBalResource().getReturnType(), signatureParams);
-        }
+        resource.getInvocationDescriptor().invoke(runtime, callback, properties, signatureParams);
     }
 
     protected void executeMainResourceOnMessage(HttpCarbonMessage inboundMessage) {
@@ -289,15 +267,14 @@ public class BallerinaHTTPConnectorListener implements HttpConnectorListener {
         }
     }
 
-    private InterceptorResource findInterceptorResource(HTTPInterceptorServicesRegistry interceptorServicesRegistry,
-                                                                HttpCarbonMessage inboundMessage) {
+    private InterceptorResource findInterceptorResource(InterceptorChain.Interceptor interceptor,
+                                                        HttpCarbonMessage inboundMessage) {
         try {
-            return HttpDispatcher.findInterceptorResource(interceptorServicesRegistry, inboundMessage);
+            return HttpDispatcher.findInterceptorResource(interceptor, inboundMessage);
         } catch (Exception e) {
-            // Return null to continue interception when there is no matching service, resource or resource method found
+            // Return null to continue interception when there is no matching resource or resource method found
             if (e.getMessage().startsWith("no matching resource found for path")
-                    || e.getMessage().startsWith("Method not allowed") ||
-                    e.getMessage().startsWith("no matching service found for path")) {
+                    || e.getMessage().startsWith("Method not allowed")) {
                 return null;
             } else {
                 throw e;
@@ -306,15 +283,14 @@ public class BallerinaHTTPConnectorListener implements HttpConnectorListener {
     }
 
     private void setTargetServiceToInboundMsg(HttpCarbonMessage inboundMessage) {
-        inboundMessage.setProperty(INTERCEPTOR_SERVICES_REGISTRIES, httpInterceptorServicesRegistries);
+        inboundMessage.setProperty(INTERCEPTOR_CHAIN, listenerLevelInterceptorChain);
         inboundMessage.setProperty(INTERCEPTORS, listenerLevelInterceptors);
         try {
             HttpService targetService = HttpDispatcher.findService(httpServicesRegistry, inboundMessage, true);
             inboundMessage.setProperty(HttpConstants.TARGET_SERVICE, targetService.getBalService());
             if (targetService.hasInterceptors()) {
                 inboundMessage.setProperty(INTERCEPTORS, targetService.getBalInterceptorServicesArray());
-                inboundMessage.setProperty(INTERCEPTOR_SERVICES_REGISTRIES,
-                                           targetService.getInterceptorServicesRegistries());
+                inboundMessage.setProperty(INTERCEPTOR_CHAIN, targetService.getInterceptorChain());
             }
         } catch (Exception e) {
             if (((BArray) listenerLevelInterceptors).size() == 1 &&
@@ -323,8 +299,7 @@ public class BallerinaHTTPConnectorListener implements HttpConnectorListener {
                 HttpService singleService = HttpDispatcher.findSingleService(httpServicesRegistry);
                 if (singleService != null && singleService.hasInterceptors()) {
                     inboundMessage.setProperty(INTERCEPTORS, singleService.getBalInterceptorServicesArray());
-                    inboundMessage.setProperty(INTERCEPTOR_SERVICES_REGISTRIES,
-                            singleService.getInterceptorServicesRegistries());
+                    inboundMessage.setProperty(INTERCEPTOR_CHAIN, singleService.getInterceptorChain());
                 }
             }
             inboundMessage.setProperty(HttpConstants.TARGET_SERVICE, HttpUtil.createError(e));
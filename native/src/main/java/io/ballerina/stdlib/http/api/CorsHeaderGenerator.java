@@ -25,83 +25,47 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Arrays;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
-import java.util.TreeSet;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 /**
- * CorsHeaderGenerator provides both input and output filter for CORS following http://www.w3.org/TR/cors/.
+ * CorsHeaderGenerator provides both input and output filter for CORS following http://www.w3.org/TR/cors/. The
+ * requests are evaluated against the {@link CorsPolicy} compiled for the resource.
  *
  * @since 0.93
  */
 public class CorsHeaderGenerator {
-    private static final Pattern spacePattern = Pattern.compile(" ");
-    private static final Pattern fieldCommaPattern = Pattern.compile(",");
     private static final Logger log = LoggerFactory.getLogger(CorsHeaderGenerator.class);
     private static final String ACTION = "Failed to process CORS :";
 
     public static void process(HttpCarbonMessage requestMsg, HttpCarbonMessage responseMsg, boolean isSimpleRequest) {
-
-        boolean isCorsResponseHeadersAvailable = false;
-        Map<String, String> responseHeaders;
-        CorsHeaders resourceCors;
+        String origin = requestMsg.getHeader(HttpHeaderNames.ORIGIN.toString());
+        if (origin == null) {
+            return;
+        }
         if (isSimpleRequest) {
-            resourceCors = (CorsHeaders) requestMsg.getProperty(HttpConstants.RESOURCES_CORS);
-            String origin = requestMsg.getHeader(HttpHeaderNames.ORIGIN.toString());
+            CorsHeaders resourceCors = (CorsHeaders) requestMsg.getProperty(HttpConstants.RESOURCES_CORS);
             //resourceCors cannot be null here
-            if (origin == null || resourceCors == null || !resourceCors.isAvailable()) {
+            if (resourceCors == null || !resourceCors.isAvailable()) {
                 return;
             }
-            if ((responseHeaders = processSimpleRequest(origin, resourceCors)) != null) {
-                isCorsResponseHeadersAvailable = true;
-            }
-        } else {
-            String origin = requestMsg.getHeader(HttpHeaderNames.ORIGIN.toString());
-            if (origin == null) {
+            CorsPolicy.ResponseHeaders responseHeaders = resourceCors.getPolicy().processSimpleRequest(origin);
+            if (responseHeaders == null) {
                 return;
             }
-            if ((responseHeaders = processPreflightRequest(origin, requestMsg)) != null) {
-                isCorsResponseHeadersAvailable = true;
-            }
-        }
-        if (isCorsResponseHeadersAvailable) {
-            responseHeaders.forEach(responseMsg::setHeader);
-            responseMsg.removeHeader(HttpHeaderNames.ALLOW.toString());
-        }
-    }
-
-    private static Map<String, String> processSimpleRequest(String origin, CorsHeaders resourceCors) {
-        Map<String, String> responseHeaders = new HashMap<>();
-        //6.1.1 - There should be an origin
-        List<String> requestOrigins = getOriginValues(origin);
-        if (requestOrigins == null || requestOrigins.isEmpty()) {
-            log.warn("{} origin header field parsing failed", ACTION);
-            return null;
-        }
-        //6.1.2 - check all the origins
-        if (!isEffectiveOrigin(requestOrigins, resourceCors.getAllowOrigins())) {
-            log.warn("{} not allowed origin", ACTION);
-            return null;
+            responseHeaders.applyTo(responseMsg.getHeaders());
+        } else if (!processPreflightRequest(origin, requestMsg, responseMsg)) {
+            return;
         }
-        //6.1.3 - set origin and credentials
-        setAllowOriginAndCredentials(requestOrigins, resourceCors, responseHeaders);
-        //6.1.4 - set exposed headers
-        setExposedAllowedHeaders(resourceCors, responseHeaders);
-        return responseHeaders;
+        responseMsg.removeHeader(HttpHeaderNames.ALLOW.toString());
     }
 
-    private static Map<String, String> processPreflightRequest(String originValue, HttpCarbonMessage cMsg) {
-        Map<String, String> responseHeaders = new HashMap<>();
+    private static boolean processPreflightRequest(String originValue, HttpCarbonMessage cMsg,
+                                                   HttpCarbonMessage responseMsg) {
         //6.2.1 - request must have origin, must have one origin.
-        List<String> requestOrigins = getOriginValues(originValue);
-        if (requestOrigins == null || requestOrigins.size() != 1) {
+        List<String> requestOrigins = CorsPolicy.getOriginValues(originValue);
+        if (requestOrigins.size() != 1) {
             log.warn("{} origin header field parsing failed", ACTION);
-            return null;
+            return false;
         }
         String origin = requestOrigins.get(0);
         //6.2.3 - request must have access-control-request-method, must be single-valued
@@ -110,7 +74,7 @@ public class CorsHeaderGenerator {
             String error = requestMethods == null ? "Access-Control-Request-Method header is unavailable" :
                     "Access-Control-Request-Method header value must be single-valued";
             log.warn("{} {}", ACTION, error);
-            return null;
+            return false;
         }
         String requestMethod = requestMethods.get(0);
         CorsHeaders resourceCors = getResourceCors(cMsg, requestMethod);
@@ -118,63 +82,22 @@ public class CorsHeaderGenerator {
             String error = resourceCors == null ? "access control request method not allowed" :
                     "CORS headers not declared properly";
             log.warn("{} {}", ACTION, error);
-            return null;
-        }
-        if (!isEffectiveMethod(requestMethod, resourceCors.getAllowMethods())) {
-            log.warn("{} access control request method not allowed", ACTION);
-            return null;
-        }
-        //6.2.2 - request origin must be on the list or match with *.
-        if (!isEffectiveOrigin(Collections.singletonList(origin), resourceCors.getAllowOrigins())) {
-            log.warn("{} origin not allowed", ACTION);
-            return null;
+            return false;
         }
         //6.2.4 - get list of request headers.
         List<String> requestHeaders = getHeaderValues(HttpHeaderNames.ACCESS_CONTROL_REQUEST_HEADERS.toString(), cMsg);
-        if (!isEffectiveHeader(requestHeaders, resourceCors.getAllowHeaders())) {
-            log.warn("{} header field parsing failed", ACTION);
-            return null;
+        CorsPolicy.ResponseHeaders responseHeaders = resourceCors.getPolicy().processPreflightRequest(
+                origin, requestMethod, requestHeaders);
+        if (responseHeaders == null) {
+            return false;
         }
-        //6.2.7 - set origin and credentials
-        setAllowOriginAndCredentials(Collections.singletonList(origin), resourceCors, responseHeaders);
-        //6.2.9 - set allow-methods
-        responseHeaders.put(HttpHeaderNames.ACCESS_CONTROL_ALLOW_METHODS.toString(), requestMethod);
+        responseHeaders.applyTo(responseMsg.getHeaders());
         //6.2.10 - set allow-headers
         if (requestHeaders != null) {
-            responseHeaders.put(HttpHeaderNames.ACCESS_CONTROL_ALLOW_HEADERS.toString(),
+            responseMsg.setHeader(HttpHeaderNames.ACCESS_CONTROL_ALLOW_HEADERS.toString(),
                     DispatcherUtil.concatValues(requestHeaders, false));
         }
-        //6.2.8 - set max-age
-        responseHeaders.put(HttpHeaderNames.ACCESS_CONTROL_MAX_AGE.toString(),
-                String.valueOf(resourceCors.getMaxAge()));
-        return responseHeaders;
-    }
-
-    private static boolean isEffectiveOrigin(List<String> requestOrigins, List<String> resourceOrigins) {
-        return resourceOrigins.size() == 1 && resourceOrigins.get(0).equals("*") ||
-                resourceOrigins.containsAll(requestOrigins);
-    }
-
-    private static boolean isEffectiveHeader(List<String> requestHeaders, List<String> resourceHeaders) {
-        if (resourceHeaders == null || requestHeaders == null) {
-            return true;
-        } else {
-            Set<String> headersSet = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
-            headersSet.addAll(resourceHeaders);
-            return headersSet.containsAll(requestHeaders);
-        }
-    }
-
-    private static boolean isEffectiveMethod(String requestMethod, List<String> resourceMethods) {
-        if (resourceMethods.size() == 1 && resourceMethods.get(0).equals("*")) {
-            return true;
-        }
-        for (String method : resourceMethods) {
-            if (requestMethod.equals(method)) {
-                return true;
-            }
-        }
-        return false;
+        return true;
     }
 
     @SuppressWarnings("unchecked")
@@ -202,39 +125,11 @@ public class CorsHeaderGenerator {
     private static List<String> getHeaderValues(String key, HttpCarbonMessage cMsg) {
         String value = cMsg.getHeader(key);
         if (value != null) {
-            String[] values = fieldCommaPattern.split(value);
-            return Arrays.stream(values).collect(Collectors.toList());
+            return Arrays.asList(value.split(","));
         }
         return null;
     }
 
-    private static void setExposedAllowedHeaders(CorsHeaders resCors, Map<String, String> respHeaders) {
-        //TODO can cache concatenated expose headers in the resource.
-        List<String> exposeHeaders = resCors.getExposeHeaders();
-        if (exposeHeaders == null) {
-            return;
-        }
-        String exposeHeaderResponse = DispatcherUtil.concatValues(exposeHeaders, false);
-        if (!exposeHeaderResponse.isEmpty()) {
-            respHeaders.put(HttpHeaderNames.ACCESS_CONTROL_EXPOSE_HEADERS.toString(), exposeHeaderResponse);
-        }
-    }
-
-    private static void setAllowOriginAndCredentials(List<String> effectiveOrigins, CorsHeaders resCors
-            , Map<String, String> responseHeaders) {
-        int allowCreds = resCors.getAllowCredentials();
-        if (allowCreds == 1) {
-            responseHeaders.put(HttpHeaderNames.ACCESS_CONTROL_ALLOW_CREDENTIALS.toString(), String.valueOf(true));
-        }
-        responseHeaders.put(HttpHeaderNames.ACCESS_CONTROL_ALLOW_ORIGIN.toString(),
-                DispatcherUtil.concatValues(effectiveOrigins, true));
-    }
-
-    private static List<String> getOriginValues(String originValue) {
-        String[] origins = spacePattern.split(originValue);
-        return Arrays.stream(origins).filter(value -> (value.contains("://"))).collect(Collectors.toList());
-    }
-
     private CorsHeaderGenerator() {
     }
 }
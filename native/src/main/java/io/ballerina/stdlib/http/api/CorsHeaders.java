@@ -46,6 +46,7 @@ public class CorsHeaders {
     private List<String> allowHeaders;
     private long maxAge;
     private List<String> exposeHeaders;
+    private volatile CorsPolicy policy;
 
     private CorsHeaders() {
         available = false;
@@ -66,6 +67,7 @@ public class CorsHeaders {
             available = true;
         }
         this.allowOrigins = allowOrigins;
+        this.policy = null;
     }
 
     public int getAllowCredentials() {
@@ -77,6 +79,7 @@ public class CorsHeaders {
             available = true;
         }
         this.allowCredentials = allowCredentials;
+        this.policy = null;
     }
 
     List<String> getAllowMethods() {
@@ -88,6 +91,7 @@ public class CorsHeaders {
             available = true;
         }
         this.allowMethods = allowMethods;
+        this.policy = null;
     }
 
     public List<String> getAllowHeaders() {
@@ -99,6 +103,7 @@ public class CorsHeaders {
             available = true;
         }
         this.allowHeaders = allowHeaders;
+        this.policy = null;
     }
 
     public long getMaxAge() {
@@ -110,6 +115,7 @@ public class CorsHeaders {
             available = true;
         }
         this.maxAge = maxAge;
+        this.policy = null;
     }
 
     public List<String> getExposeHeaders() {
@@ -121,6 +127,21 @@ public class CorsHeaders {
             available = true;
         }
         this.exposeHeaders = exposeHeaders;
+        this.policy = null;
+    }
+
+    /**
+     * Gets the policy compiled from these headers. The policy is compiled on the first call after the headers change.
+     *
+     * @return the CORS policy
+     */
+    public CorsPolicy getPolicy() {
+        CorsPolicy corsPolicy = policy;
+        if (corsPolicy == null) {
+            corsPolicy = CorsPolicy.of(this);
+            policy = corsPolicy;
+        }
+        return corsPolicy;
     }
 
     static CorsHeaders buildCorsHeaders(BMap corsConfig) {
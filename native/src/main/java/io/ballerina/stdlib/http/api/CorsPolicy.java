@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.api;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.util.AsciiString;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The CORS policy of a resource, compiled once from its {@link CorsHeaders}. The allowed origins, methods and headers
+ * are kept in hash sets and the constant header values are joined up front. The response headers of the allowed
+ * simple requests and preflight requests are cached per origin and per origin and method, up to a bounded number of
+ * entries, so a repeated request is answered with a single lookup.
+ */
+public class CorsPolicy {
+
+    private static final Logger log = LoggerFactory.getLogger(CorsPolicy.class);
+    private static final String ACTION = "Failed to process CORS :";
+    private static final String WILDCARD = "*";
+    private static final AsciiString TRUE = AsciiString.cached(String.valueOf(true));
+    static final int MAX_CACHED_RESPONSES = 256;
+
+    private final boolean anyOrigin;
+    private final Set<String> allowOrigins;
+    private final boolean anyMethod;
+    private final Set<String> allowMethods;
+    private final Set<String> allowHeaders;
+    private final boolean allowCredentials;
+    private final AsciiString exposeHeaders;
+    private final AsciiString maxAge;
+    private final Map<String, ResponseHeaders> simpleResponses = new ConcurrentHashMap<>();
+    private final Map<String, ResponseHeaders> preflightResponses = new ConcurrentHashMap<>();
+
+    CorsPolicy(List<String> allowOrigins, int allowCredentials, List<String> allowMethods, List<String> allowHeaders,
+               long maxAge, List<String> exposeHeaders) {
+        this.anyOrigin = isWildcard(allowOrigins);
+        this.allowOrigins = allowOrigins != null ? new HashSet<>(allowOrigins) : Set.of();
+        this.anyMethod = isWildcard(allowMethods);
+        this.allowMethods = allowMethods != null ? new HashSet<>(allowMethods) : Set.of();
+        if (allowHeaders != null) {
+            this.allowHeaders = new HashSet<>();
+            for (String header : allowHeaders) {
+                this.allowHeaders.add(header.toLowerCase(Locale.ROOT));
+            }
+        } else {
+            this.allowHeaders = null;
+        }
+        this.allowCredentials = allowCredentials == 1;
+        String exposeHeaderValue = exposeHeaders != null ? String.join(", ", exposeHeaders) : "";
+        this.exposeHeaders = !exposeHeaderValue.isEmpty() ? new AsciiString(exposeHeaderValue) : null;
+        this.maxAge = new AsciiString(String.valueOf(maxAge));
+    }
+
+    static CorsPolicy of(CorsHeaders corsHeaders) {
+        return new CorsPolicy(corsHeaders.getAllowOrigins(), corsHeaders.getAllowCredentials(),
+                              corsHeaders.getAllowMethods(), corsHeaders.getAllowHeaders(), corsHeaders.getMaxAge(),
+                              corsHeaders.getExposeHeaders());
+    }
+
+    /**
+     * Gets the CORS headers of the response to a simple request, following
+     * https://www.w3.org/TR/cors/#resource-requests.
+     *
+     * @param origin the value of the origin header
+     * @return the response headers, or null if the request is not allowed
+     */
+    ResponseHeaders processSimpleRequest(String origin) {
+        ResponseHeaders responseHeaders = simpleResponses.get(origin);
+        if (responseHeaders != null) {
+            return responseHeaders;
+        }
+        //6.1.1 - There should be an origin
+        List<String> requestOrigins = getOriginValues(origin);
+        if (requestOrigins.isEmpty()) {
+            log.warn("{} origin header field parsing failed", ACTION);
+            return null;
+        }
+        //6.1.2 - check all the origins
+        if (!isEffectiveOrigin(requestOrigins)) {
+            log.warn("{} not allowed origin", ACTION);
+            return null;
+        }
+        //6.1.3 - set origin and credentials
+        ResponseHeaders.Builder builder = allowOriginAndCredentials(String.join(" ", requestOrigins));
+        //6.1.4 - set exposed headers
+        if (exposeHeaders != null) {
+            builder.add(HttpHeaderNames.ACCESS_CONTROL_EXPOSE_HEADERS, exposeHeaders);
+        }
+        return cache(simpleResponses, origin, builder.build());
+    }
+
+    /**
+     * Gets the CORS headers of the response to a preflight request, following
+     * https://www.w3.org/TR/cors/#resource-preflight-requests. The allow headers header, which echoes the request
+     * headers, is not included.
+     *
+     * @param origin         the single origin of the request
+     * @param requestMethod  the value of the access control request method header
+     * @param requestHeaders the values of the access control request headers header, or null if it is not present
+     * @return the response headers, or null if the request is not allowed
+     */
+    ResponseHeaders processPreflightRequest(String origin, String requestMethod, List<String> requestHeaders) {
+        String key = origin + ' ' + requestMethod;
+        ResponseHeaders responseHeaders = preflightResponses.get(key);
+        if (responseHeaders == null) {
+            if (!anyMethod && !allowMethods.contains(requestMethod)) {
+                log.warn("{} access control request method not allowed", ACTION);
+                return null;
+            }
+            //6.2.2 - request origin must be on the list or match with *.
+            if (!anyOrigin && !allowOrigins.contains(origin)) {
+                log.warn("{} origin not allowed", ACTION);
+                return null;
+            }
+        }
+        //6.2.4 - check the list of request headers.
+        if (!isEffectiveHeader(requestHeaders)) {
+            log.warn("{} header field parsing failed", ACTION);
+            return null;
+        }
+        if (responseHeaders != null) {
+            return responseHeaders;
+        }
+        //6.2.7 - set origin and credentials
+        ResponseHeaders.Builder builder = allowOriginAndCredentials(origin);
+        //6.2.9 - set allow-methods
+        builder.add(HttpHeaderNames.ACCESS_CONTROL_ALLOW_METHODS, new AsciiString(requestMethod));
+        //6.2.8 - set max-age
+        builder.add(HttpHeaderNames.ACCESS_CONTROL_MAX_AGE, maxAge);
+        return cache(preflightResponses, key, builder.build());
+    }
+
+    private boolean isEffectiveOrigin(List<String> requestOrigins) {
+        return anyOrigin || allowOrigins.containsAll(requestOrigins);
+    }
+
+    private boolean isEffectiveHeader(List<String> requestHeaders) {
+        if (allowHeaders == null || requestHeaders == null) {
+            return true;
+        }
+        for (String header : requestHeaders) {
+            if (!allowHeaders.contains(header.toLowerCase(Locale.ROOT))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private ResponseHeaders.Builder allowOriginAndCredentials(String origin) {
+        ResponseHeaders.Builder builder = new ResponseHeaders.Builder();
+        if (allowCredentials) {
+            builder.add(HttpHeaderNames.ACCESS_CONTROL_ALLOW_CREDENTIALS, TRUE);
+        }
+        return builder.add(HttpHeaderNames.ACCESS_CONTROL_ALLOW_ORIGIN, new AsciiString(origin));
+    }
+
+    // Gets the origins in the value of an origin header, which is a space separated list
+    static List<String> getOriginValues(String originValue) {
+        if (originValue.indexOf(' ') < 0) {
+            return originValue.contains("://") ? Collections.singletonList(originValue) : Collections.emptyList();
+        }
+        List<String> origins = new ArrayList<>();
+        for (String value : originValue.split(" ")) {
+            if (value.contains("://")) {
+                origins.add(value);
+            }
+        }
+        return origins;
+    }
+
+    private static ResponseHeaders cache(Map<String, ResponseHeaders> responses, String key,
+                                         ResponseHeaders responseHeaders) {
+        // The keys come from the requests, so the number of cached entries is bounded
+        if (responses.size() < MAX_CACHED_RESPONSES) {
+            responses.putIfAbsent(key, responseHeaders);
+        }
+        return responseHeaders;
+    }
+
+    private static boolean isWildcard(List<String> values) {
+        return values != null && values.size() == 1 && values.get(0).equals(WILDCARD);
+    }
+
+    /**
+     * The precomputed CORS headers of a response.
+     */
+    static class ResponseHeaders {
+
+        private final AsciiString[] names;
+        private final AsciiString[] values;
+
+        private ResponseHeaders(AsciiString[] names, AsciiString[] values) {
+            this.names = names;
+            this.values = values;
+        }
+
+        void applyTo(HttpHeaders headers) {
+            for (int i = 0; i < names.length; i++) {
+                headers.set(names[i], values[i]);
+            }
+        }
+
+        String get(AsciiString name) {
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].contentEqualsIgnoreCase(name)) {
+                    return values[i].toString();
+                }
+            }
+            return null;
+        }
+
+        private static class Builder {
+
+            private final AsciiString[] names = new AsciiString[4];
+            private final AsciiString[] values = new AsciiString[4];
+            private int size;
+
+            Builder add(AsciiString name, AsciiString value) {
+                names[size] = name;
+                values[size++] = value;
+                return this;
+            }
+
+            ResponseHeaders build() {
+                AsciiString[] builtNames = new AsciiString[size];
+                AsciiString[] builtValues = new AsciiString[size];
+                System.arraycopy(names, 0, builtNames, 0, size);
+                System.arraycopy(values, 0, builtValues, 0, size);
+                return new ResponseHeaders(builtNames, builtValues);
+            }
+        }
+    }
+}
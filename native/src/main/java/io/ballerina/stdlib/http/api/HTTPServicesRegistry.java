@@ -24,11 +24,11 @@ import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.http.uri.BasePathIndex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -125,23 +125,22 @@ public class HTTPServicesRegistry {
         //basePath will get cached after registering service
         sortedServiceURIs.add(basePath);
         sortedServiceURIs.sort((basePath1, basePath2) -> basePath2.length() - basePath1.length());
+        servicesMapByHost.get(hostName).updateBasePathIndex();
     }
 
-    public String findTheMostSpecificBasePath(String requestURIPath, Map<String, HttpService> services,
-                                              List<String> sortedServiceURIs) {
-        for (Object key : sortedServiceURIs) {
-            if (!requestURIPath.toLowerCase(Locale.getDefault()).contains(
-                    key.toString().toLowerCase(Locale.getDefault()))) {
-                continue;
-            }
-            if (requestURIPath.length() <= key.toString().length()) {
-                return key.toString();
-            }
-            if (requestURIPath.startsWith(key.toString().concat("/"))) {
-                return key.toString();
-            }
+    /**
+     * Find the most specific base path for the given request path among the services of a host.
+     *
+     * @param requestURIPath    raw request path without the query
+     * @param servicesMapHolder services of the host
+     * @return the matching base path if exists else null
+     */
+    public String findTheMostSpecificBasePath(String requestURIPath, ServicesMapHolder servicesMapHolder) {
+        String basePath = servicesMapHolder.basePathIndex.findTheMostSpecificBasePath(requestURIPath);
+        if (basePath != null) {
+            return basePath;
         }
-        if (services.containsKey(HttpConstants.DEFAULT_BASE_PATH)) {
+        if (servicesMapHolder.servicesByBasePath.containsKey(HttpConstants.DEFAULT_BASE_PATH)) {
             return HttpConstants.DEFAULT_BASE_PATH;
         }
         return null;
@@ -173,6 +172,7 @@ public class HTTPServicesRegistry {
     protected static class ServicesMapHolder {
         private Map<String, HttpService> servicesByBasePath;
         private List<String> sortedServiceURIs;
+        private volatile BasePathIndex basePathIndex = BasePathIndex.EMPTY;
 
         public ServicesMapHolder(Map<String, HttpService> servicesByBasePath, List<String> sortedServiceURIs) {
             this.servicesByBasePath = servicesByBasePath;
@@ -182,6 +182,10 @@ public class HTTPServicesRegistry {
         public Map<String, HttpService> getServicesByBasePath() {
             return this.servicesByBasePath;
         }
+
+        private void updateBasePathIndex() {
+            this.basePathIndex = new BasePathIndex(sortedServiceURIs);
+        }
     }
 
     /**
@@ -216,5 +220,6 @@ public class HTTPServicesRegistry {
                     basePath));
         }
         sortedServiceURIs.sort((basePath1, basePath2) -> basePath2.length() - basePath1.length());
+        servicesMapHolder.updateBasePathIndex();
     }
 }
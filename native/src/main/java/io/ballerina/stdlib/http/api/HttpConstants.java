@@ -43,13 +43,12 @@ public final class HttpConstants {
 
     public static final String BASE_PATH = "BASE_PATH";
     public static final String SUB_PATH = "SUB_PATH";
-    public static final String EXTRA_PATH_INFO = "EXTRA_PATH_INFO";
-    public static final Integer EXTRA_PATH_INDEX = 0;
     public static final String RAW_URI = "RAW_URI";
     public static final String RESOURCE_ARGS = "RESOURCE_ARGS";
     public static final String MATRIX_PARAMS = "MATRIX_PARAMS";
     public static final String QUERY_STR = "QUERY_STR";
     public static final String RAW_QUERY_STR = "RAW_QUERY_STR";
+    public static final String QUERY_PARAM_VIEW = "QUERY_PARAM_VIEW";
 
     public static final String DEFAULT_INTERFACE = "0.0.0.0:8080";
     public static final String DEFAULT_BASE_PATH = "/";
@@ -291,6 +290,8 @@ public final class HttpConstants {
     public static final BString RESOLVED_REQUESTED_URI_FIELD = StringUtils.fromString("resolvedRequestedURI");
     public static final BString RESPONSE_CACHE_CONTROL_FIELD = StringUtils.fromString("cacheControl");
     public static final String IN_RESPONSE_RECEIVED_TIME_FIELD = "receivedTime";
+    public static final BString RESPONSE_RECEIVED_TIME_FIELD = StringUtils.fromString("receivedTime");
+    public static final BString RESPONSE_REQUEST_TIME_FIELD = StringUtils.fromString("requestTime");
 
     //StatusCodeResponse struct field names
     public static final String STATUS_CODE_RESPONSE_BODY_FIELD = "body";
@@ -322,10 +323,12 @@ public final class HttpConstants {
     public static final String HTTP_TRACE_LOG_ENABLED = "http.tracelog.enabled";
     public static final String HTTP_ACCESS_LOG = "http.accesslog";
     public static final String HTTP_ACCESS_LOG_ENABLED = "http.accesslog.enabled";
+    public static final String HTTP_ACCESS_LOG_FORMAT = "http.accesslog.format";
 
     // TraceLog and AccessLog configs
     public static final BString HTTP_LOG_CONSOLE = StringUtils.fromString("console");
     public static final BString HTTP_LOG_FILE_PATH = StringUtils.fromString("path");
+    public static final BString HTTP_LOG_FORMAT = StringUtils.fromString("format");
     public static final BString HTTP_TRACE_LOG_HOST = StringUtils.fromString("host");
     public static final BString HTTP_TRACE_LOG_PORT = StringUtils.fromString("port");
     public static final BString HTTP_LOGGING_PROTOCOL = StringUtils.fromString("HTTP");
@@ -374,6 +377,8 @@ public final class HttpConstants {
     public static final BString ANN_INTERCEPTORS = StringUtils.fromString("interceptors");
     public static final String INTERCEPTORS = "INTERCEPTORS";
     public static final String INTERCEPTOR_SERVICES_REGISTRIES = "INTERCEPTOR_SERVICES_REGISTRIES";
+    public static final String INTERCEPTOR_CHAIN = "INTERCEPTOR_CHAIN";
+    public static final String INTERCEPTOR_REQUEST_PATH = "INTERCEPTOR_REQUEST_PATH";
     public static final String REQUEST_CONTEXT_NEXT = "REQUEST_CONTEXT_NEXT";
     public static final String REQUEST_CONTEXT = "RequestContext";
     public static final String ENTITY_OBJ = "EntityObj";
@@ -418,6 +423,15 @@ public final class HttpConstants {
     public static final BString ENDPOINT_CONFIG_GRACEFUL_STOP_TIMEOUT = StringUtils.fromString("gracefulStopTimeout");
     public static final BString ENDPOINT_CONFIG_HTTP2_INITIAL_WINDOW_SIZE = StringUtils
             .fromString("http2InitialWindowSize");
+    public static final BString ENDPOINT_CONFIG_COMPRESSION = StringUtils.fromString("compression");
+
+    public static final BString COMPRESSION_ENCODINGS = StringUtils.fromString("encodings");
+    public static final BString COMPRESSION_LEVEL = StringUtils.fromString("level");
+    public static final BString COMPRESSION_MIN_SIZE = StringUtils.fromString("minSize");
+    public static final BString COMPRESSION_CONTENT_TYPES = StringUtils.fromString("contentTypes");
+    public static final BString COMPRESSION_CONTENT_TYPE = StringUtils.fromString("contentType");
+    public static final BString COMPRESSION_ENABLED = StringUtils.fromString("enabled");
+    public static final BString COMPRESSION_CACHE_SIZE = StringUtils.fromString("cacheSize");
 
     public static final BString MAX_URI_LENGTH = StringUtils.fromString("maxUriLength");
     public static final BString MAX_STATUS_LINE_LENGTH = StringUtils.fromString("maxStatusLineLength");
@@ -453,6 +467,10 @@ public final class HttpConstants {
     public static final BString SECURESOCKET_CONFIG_SHARE_SESSION = StringUtils.fromString("shareSession");
     public static final BString SECURESOCKET_CONFIG_HANDSHAKE_TIMEOUT = StringUtils.fromString("handshakeTimeout");
     public static final BString SECURESOCKET_CONFIG_SESSION_TIMEOUT = StringUtils.fromString("sessionTimeout");
+    public static final BString SECURESOCKET_CONFIG_SESSION_CACHE_SIZE = StringUtils.fromString("sessionCacheSize");
+    public static final BString SECURESOCKET_CONFIG_SESSION_TICKET_KEY_ROTATION_INTERVAL =
+            StringUtils.fromString("sessionTicketKeyRotationInterval");
+    public static final BString SECURESOCKET_CONFIG_PREFER_OPENSSL = StringUtils.fromString("preferOpenSsl");
     public static final BString SECURESOCKET_CONFIG_MUTUAL_SSL = StringUtils.fromString("mutualSsl");
     public static final BString SECURESOCKET_CONFIG_VERIFY_CLIENT = StringUtils.fromString("verifyClient");
     public static final BString SECURESOCKET_CONFIG_CERT_VALIDATION_TYPE_OCSP_STAPLING =
@@ -467,6 +485,10 @@ public final class HttpConstants {
     public static final BString SOCKET_CONFIG_TCP_NO_DELAY = StringUtils.fromString("tcpNoDelay");
     public static final BString SOCKET_CONFIG_SOCKET_REUSE = StringUtils.fromString("socketReuse");
     public static final BString SOCKET_CONFIG_KEEP_ALIVE = StringUtils.fromString("keepAlive");
+    public static final BString SOCKET_CONFIG_TRANSPORT = StringUtils.fromString("transport");
+    public static final BString SOCKET_CONFIG_TCP_FAST_OPEN = StringUtils.fromString("tcpFastOpen");
+    public static final BString SOCKET_CONFIG_TCP_QUICK_ACK = StringUtils.fromString("tcpQuickAck");
+    public static final BString SOCKET_CONFIG_REUSE_PORT = StringUtils.fromString("reusePort");
 
     //Client Endpoint (CallerActions)
     public static final String CLIENT_ENDPOINT_SERVICE_URI = "url";
@@ -506,6 +528,8 @@ public final class HttpConstants {
     public static final BString CONNECTION_POOLING_WAIT_TIME = StringUtils.fromString("waitTime");
     public static final BString CONNECTION_POOLING_MAX_ACTIVE_STREAMS_PER_CONNECTION = StringUtils.fromString(
             "maxActiveStreamsPerConnection");
+    public static final BString CONNECTION_POOLING_MIN_CONNECTIONS_PER_ROUTE = StringUtils.fromString(
+            "minConnectionsPerRoute");
     public static final String HTTP_CLIENT_CONNECTION_POOL = "PoolConfiguration";
     public static final String CONNECTION_MANAGER = "ConnectionManager";
     public static final int POOL_CONFIG_INDEX = 1;
@@ -572,7 +596,7 @@ public final class HttpConstants {
     public static final String DOLLAR = "$";
     public static final String SINGLE_SLASH = "/";
     public static final String QUESTION_MARK = "?";
-    public static final String PLUS_SIGN = "\\+";
+    public static final String PLUS_SIGN = "+";
     public static final String PLUS_SIGN_ENCODED = "%2B";
     public static final String PERCENTAGE = "%";
     public static final String PERCENTAGE_ENCODED = "%25";
@@ -23,7 +23,6 @@ import io.ballerina.runtime.api.Runtime;
 import io.ballerina.runtime.api.async.Callback;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
-import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
@@ -40,6 +39,8 @@ import io.ballerina.stdlib.http.api.service.signature.Parameter;
 import io.ballerina.stdlib.http.api.service.signature.PayloadParam;
 import io.ballerina.stdlib.http.api.service.signature.RemoteMethodParamHandler;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+import io.ballerina.stdlib.http.transport.message.MessageProperties;
+import io.ballerina.stdlib.http.uri.QueryParamView;
 import io.ballerina.stdlib.http.uri.URIUtil;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import org.slf4j.Logger;
@@ -47,7 +48,6 @@ import org.slf4j.LoggerFactory;
 
 import java.net.URI;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
@@ -63,7 +63,6 @@ import static io.ballerina.stdlib.http.api.HttpConstants.QUERY_STRING_SEPARATOR;
 import static io.ballerina.stdlib.http.api.HttpConstants.REQUEST_CTX_MEMBERS;
 import static io.ballerina.stdlib.http.api.HttpConstants.WHITESPACE;
 import static io.ballerina.stdlib.http.api.HttpErrorType.SERVICE_NOT_FOUND_ERROR;
-import static io.ballerina.stdlib.http.api.HttpUtil.getParameterTypes;
 
 /**
  * {@code HttpDispatcher} is responsible for dispatching incoming http requests to the correct resource.
@@ -77,30 +76,26 @@ public class HttpDispatcher {
     public static HttpService findService(HTTPServicesRegistry servicesRegistry, HttpCarbonMessage inboundReqMsg,
                                           boolean forInterceptors) {
         try {
-            Map<String, HttpService> servicesOnInterface;
-            List<String> sortedServiceURIs;
             String hostName = inboundReqMsg.getHeader(HttpHeaderNames.HOST.toString());
-
-            if (hostName != null && servicesRegistry.getServicesMapHolder(hostName) != null) {
-                servicesOnInterface = servicesRegistry.getServicesByHost(hostName);
-                sortedServiceURIs = servicesRegistry.getSortedServiceURIsByHost(hostName);
-            } else if (servicesRegistry.getServicesMapHolder(DEFAULT_HOST) != null) {
-                servicesOnInterface = servicesRegistry.getServicesByHost(DEFAULT_HOST);
-                sortedServiceURIs = servicesRegistry.getSortedServiceURIsByHost(DEFAULT_HOST);
-            } else {
+            HTTPServicesRegistry.ServicesMapHolder servicesMapHolder = hostName != null ?
+                    servicesRegistry.getServicesMapHolder(hostName) : null;
+            if (servicesMapHolder == null) {
+                servicesMapHolder = servicesRegistry.getServicesMapHolder(DEFAULT_HOST);
+            }
+            if (servicesMapHolder == null) {
                 String localAddress = inboundReqMsg.getProperty(HttpConstants.LOCAL_ADDRESS).toString();
                 String message = "no service has registered for listener : " + localAddress;
                 throw HttpUtil.createHttpStatusCodeError(SERVICE_NOT_FOUND_ERROR, message);
             }
+            Map<String, HttpService> servicesOnInterface = servicesMapHolder.getServicesByBasePath();
 
-            String rawUri = (String) inboundReqMsg.getProperty(HttpConstants.TO);
+            String rawUri = (String) inboundReqMsg.getProperty(MessageProperties.TO_SLOT);
             Map<String, Map<String, String>> matrixParams = new HashMap<>();
             String uriWithoutMatrixParams = URIUtil.extractMatrixParams(rawUri, matrixParams, inboundReqMsg);
 
             String[] rawPathAndQuery = extractRawPathAndQuery(uriWithoutMatrixParams);
 
-            String basePath = servicesRegistry.findTheMostSpecificBasePath(rawPathAndQuery[0],
-                                                                           servicesOnInterface, sortedServiceURIs);
+            String basePath = servicesRegistry.findTheMostSpecificBasePath(rawPathAndQuery[0], servicesMapHolder);
 
             if (basePath == null) {
                 String message = "no matching service found for path";
@@ -110,9 +105,9 @@ public class HttpDispatcher {
             HttpService service = servicesOnInterface.get(basePath);
             if (!forInterceptors) {
                 setInboundReqProperties(inboundReqMsg, rawPathAndQuery[0], basePath, rawPathAndQuery[1]);
-                inboundReqMsg.setProperty(HttpConstants.RAW_URI, rawUri);
-                inboundReqMsg.setProperty(HttpConstants.TO, uriWithoutMatrixParams);
-                inboundReqMsg.setProperty(HttpConstants.MATRIX_PARAMS, matrixParams);
+                inboundReqMsg.setProperty(MessageProperties.RAW_URI_SLOT, rawUri);
+                inboundReqMsg.setProperty(MessageProperties.TO_SLOT, uriWithoutMatrixParams);
+                inboundReqMsg.setProperty(MessageProperties.MATRIX_PARAMS_SLOT, matrixParams);
             }
             return service;
         } catch (Exception e) {
@@ -136,54 +131,32 @@ public class HttpDispatcher {
         return service;
     }
 
-    // TODO : Refactor finding interceptor service logic and the usage of HTTPInterceptorServicesRegistry
-    public static InterceptorService findInterceptorService(HTTPInterceptorServicesRegistry servicesRegistry,
-                                                            HttpCarbonMessage inboundReqMsg,
-                                                            boolean isResponsePath) {
+    /**
+     * Parses the request path for the interceptors of the request. The matrix parameters and the query are extracted
+     * once, when the request is dispatched to the first interceptor, and the path is kept on the message for the
+     * following ones.
+     *
+     * @param inboundReqMsg incoming message
+     * @return the raw request path without the matrix parameters and the query
+     */
+    private static String getInterceptorRequestPath(HttpCarbonMessage inboundReqMsg) {
+        String rawPath = (String) inboundReqMsg.getProperty(HttpConstants.INTERCEPTOR_REQUEST_PATH);
+        if (rawPath != null) {
+            return rawPath;
+        }
         try {
-            Map<String, InterceptorService> servicesOnInterface;
-            List<String> sortedServiceURIs;
-            String hostName = inboundReqMsg.getHeader(HttpHeaderNames.HOST.toString());
-
-            if (hostName != null && servicesRegistry.getServicesMapHolder(hostName) != null) {
-                servicesOnInterface = servicesRegistry.getServicesByHost(hostName);
-                sortedServiceURIs = servicesRegistry.getSortedServiceURIsByHost(hostName);
-            } else if (servicesRegistry.getServicesMapHolder(DEFAULT_HOST) != null) {
-                servicesOnInterface = servicesRegistry.getServicesByHost(DEFAULT_HOST);
-                sortedServiceURIs = servicesRegistry.getSortedServiceURIsByHost(DEFAULT_HOST);
-            } else {
-                String localAddress = inboundReqMsg.getProperty(HttpConstants.LOCAL_ADDRESS).toString();
-                String message = "no service has registered for listener : " + localAddress;
-                throw HttpUtil.createHttpStatusCodeError(SERVICE_NOT_FOUND_ERROR, message);
-            }
-
-            if (isResponsePath) {
-                // There is only one service registered on the interceptor registry
-                InterceptorService[] services = servicesOnInterface.values().toArray(new InterceptorService[0]);
-                return services[0];
-            }
-
-            String rawUri = (String) inboundReqMsg.getProperty(HttpConstants.TO);
-            inboundReqMsg.setProperty(HttpConstants.RAW_URI, rawUri);
+            String rawUri = (String) inboundReqMsg.getProperty(MessageProperties.TO_SLOT);
+            inboundReqMsg.setProperty(MessageProperties.RAW_URI_SLOT, rawUri);
             Map<String, Map<String, String>> matrixParams = new HashMap<>();
             String uriWithoutMatrixParams = URIUtil.extractMatrixParams(rawUri, matrixParams, inboundReqMsg);
 
-            inboundReqMsg.setProperty(HttpConstants.TO, uriWithoutMatrixParams);
-            inboundReqMsg.setProperty(HttpConstants.MATRIX_PARAMS, matrixParams);
+            inboundReqMsg.setProperty(MessageProperties.TO_SLOT, uriWithoutMatrixParams);
+            inboundReqMsg.setProperty(MessageProperties.MATRIX_PARAMS_SLOT, matrixParams);
 
             String[] rawPathAndQuery = extractRawPathAndQuery(uriWithoutMatrixParams);
-
-            String basePath = servicesRegistry.findTheMostSpecificBasePath(rawPathAndQuery[0],
-                                                                           servicesOnInterface, sortedServiceURIs);
-
-            if (basePath == null) {
-                String message = "no matching service found for path";
-                throw HttpUtil.createHttpStatusCodeError(SERVICE_NOT_FOUND_ERROR, message);
-            }
-
-            InterceptorService service = servicesOnInterface.get(basePath);
-            setInboundReqProperties(inboundReqMsg, rawPathAndQuery[0], basePath, rawPathAndQuery[1]);
-            return service;
+            setQueryProperties(inboundReqMsg, rawPathAndQuery[1]);
+            inboundReqMsg.setProperty(HttpConstants.INTERCEPTOR_REQUEST_PATH, rawPathAndQuery[0]);
+            return rawPathAndQuery[0];
         } catch (Exception e) {
             if (!(e instanceof BError)) {
                 throw HttpUtil.createHttpStatusCodeError(SERVICE_NOT_FOUND_ERROR, e.getMessage());
@@ -205,9 +178,14 @@ public class HttpDispatcher {
         String subPath = URIUtil.getSubPath(rawPath, basePath);
         inboundReqMsg.setProperty(HttpConstants.BASE_PATH, basePath);
         inboundReqMsg.setProperty(HttpConstants.SUB_PATH, subPath);
+        setQueryProperties(inboundReqMsg, rawQuery);
+    }
+
+    private static void setQueryProperties(HttpCarbonMessage inboundReqMsg, String rawQuery) {
         inboundReqMsg.setProperty(HttpConstants.QUERY_STR, rawQuery);
         //store query params comes with request as it is
         inboundReqMsg.setProperty(HttpConstants.RAW_QUERY_STR, rawQuery);
+        inboundReqMsg.setProperty(HttpConstants.QUERY_PARAM_VIEW, new QueryParamView(rawQuery));
     }
 
     public static URI getValidatedURI(String uriStr) {
@@ -246,21 +224,34 @@ public class HttpDispatcher {
         return (HttpResource) ResourceDispatcher.findResource(service, inboundMessage);
     }
 
-    public static InterceptorResource findInterceptorResource(HTTPInterceptorServicesRegistry servicesRegistry,
+    /**
+     * This method finds the matching resource of an interceptor for the incoming request.
+     *
+     * @param interceptor    interceptor of the interceptor chain of the request
+     * @param inboundMessage incoming message
+     * @return matching resource, or null if the interceptor does not apply to the request path
+     */
+    public static InterceptorResource findInterceptorResource(InterceptorChain.Interceptor interceptor,
                                                               HttpCarbonMessage inboundMessage) {
         String protocol = (String) inboundMessage.getProperty(HttpConstants.PROTOCOL);
         if (protocol == null) {
             throw HttpUtil.createHttpError("protocol not defined in the incoming request",
                                            HttpErrorType.REQ_DISPATCHING_ERROR);
         }
-
-        // Find the Service TODO can be improved
-        InterceptorService service = HttpDispatcher.findInterceptorService(servicesRegistry, inboundMessage, false);
+        InterceptorService service = interceptor.getService();
         if (service == null) {
-            throw HttpUtil.createHttpError("no Service found to handle the service request",
-                                           HttpErrorType.REQ_DISPATCHING_ERROR);
-            // Finer details of the errors are thrown from the dispatcher itself, Ideally we shouldn't get here.
+            String localAddress = inboundMessage.getProperty(HttpConstants.LOCAL_ADDRESS).toString();
+            String message = "no service has registered for listener : " + localAddress;
+            throw HttpUtil.createHttpStatusCodeError(SERVICE_NOT_FOUND_ERROR, message);
+        }
+
+        String rawPath = getInterceptorRequestPath(inboundMessage);
+        String basePath = interceptor.findBasePath(rawPath);
+        if (basePath == null) {
+            return null;
         }
+        inboundMessage.setProperty(HttpConstants.BASE_PATH, basePath);
+        inboundMessage.setProperty(HttpConstants.SUB_PATH, URIUtil.getSubPath(rawPath, basePath));
 
         // Find the Resource
         return (InterceptorResource) ResourceDispatcher.findResource(service, inboundMessage);
@@ -337,9 +328,7 @@ public class HttpDispatcher {
         BError error = (BError) httpCarbonMessage.getProperty(HttpConstants.INTERCEPTOR_SERVICE_ERROR);
         BObject httpCaller = getCaller(resource, httpCarbonMessage, endpointConfig);
         ParamHandler paramHandler = resource.getParamHandler();
-        Type[] parameterTypes = getParameterTypes(resource.getBalResource());
-        int sigParamCount = parameterTypes.length;
-        Object[] paramFeed = new Object[sigParamCount * 2];
+        Object[] paramFeed = new Object[paramHandler.getParamCount() * 2];
         boolean treatNilableAsOptional = resource.isTreatNilableAsOptional();
         // Following was written assuming that they are validated
         for (Parameter param : paramHandler.getParamList()) {
@@ -415,8 +404,8 @@ public class HttpDispatcher {
         } else {
             requestCtx.addNativeData(HttpConstants.INTERCEPTOR_SERVICE, false);
         }
-        int interceptorId = httpCarbonMessage.getProperty(HttpConstants.REQUEST_INTERCEPTOR_INDEX) == null
-                ? 0 : (int) httpCarbonMessage.getProperty(HttpConstants.REQUEST_INTERCEPTOR_INDEX) - 1;
+        int interceptorId = httpCarbonMessage.getProperty(MessageProperties.REQUEST_INTERCEPTOR_INDEX_SLOT) == null
+                ? 0 : (int) httpCarbonMessage.getProperty(MessageProperties.REQUEST_INTERCEPTOR_INDEX_SLOT) - 1;
         requestCtx.addNativeData(HttpConstants.REQUEST_INTERCEPTOR_INDEX, interceptorId);
         requestCtx.addNativeData(HttpConstants.REQUEST_CONTEXT_NEXT, false);
         requestCtx.addNativeData(HttpConstants.INTERCEPTOR_SERVICE_TYPE,
@@ -28,6 +28,7 @@ import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.stdlib.http.api.nativeimpl.ModuleUtils;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+import io.ballerina.stdlib.http.transport.message.MessageProperties;
 
 import static io.ballerina.stdlib.http.api.HttpErrorType.INTERCEPTOR_RETURN_ERROR;
 
@@ -113,7 +114,7 @@ public class HttpRequestInterceptorUnitCallback extends HttpCallableUnitCallback
 
     private void validateResponseAndProceed(Object result) {
         int interceptorId = getRequestInterceptorId();
-        requestMessage.setProperty(HttpConstants.REQUEST_INTERCEPTOR_INDEX, interceptorId);
+        requestMessage.setProperty(MessageProperties.REQUEST_INTERCEPTOR_INDEX_SLOT, interceptorId);
         BArray interceptors = (BArray) requestCtx.getNativeData(HttpConstants.INTERCEPTORS);
         boolean nextCalled = (boolean) requestCtx.getNativeData(HttpConstants.REQUEST_CONTEXT_NEXT);
 
@@ -202,6 +203,6 @@ public class HttpRequestInterceptorUnitCallback extends HttpCallableUnitCallback
 
     private int getRequestInterceptorId() {
         return Math.max((int) requestCtx.getNativeData(HttpConstants.REQUEST_INTERCEPTOR_INDEX),
-                (int) requestMessage.getProperty(HttpConstants.REQUEST_INTERCEPTOR_INDEX));
+                (int) requestMessage.getProperty(MessageProperties.REQUEST_INTERCEPTOR_INDEX_SLOT));
     }
 }
@@ -107,6 +107,7 @@ public class HttpResource implements Resource {
     private BMap cacheConfig;
     private boolean treatNilableAsOptional;
     private boolean constraintValidation;
+    private InvocationDescriptor invocationDescriptor;
 
     protected HttpResource(MethodType resource, HttpService parentService) {
         this.balResource = resource;
@@ -305,6 +306,7 @@ public class HttpResource implements Resource {
                     .setTransactionInfectable(resourceConfigAnnotation.getBooleanValue(TRANSACTION_INFECTABLE_FIELD));
         }
         processResourceCors(httpResource, httpService);
+        compileResourceCors(httpResource);
         httpResource.setConstraintValidation(httpService.getConstraintValidation());
         httpResource.prepareAndValidateSignatureParams();
         if (Objects.nonNull(httpResource.getResourceLinkName()) && httpResource.linkReturnMediaTypes.isEmpty()) {
@@ -316,9 +318,20 @@ public class HttpResource implements Resource {
             }
             httpResource.updateLinkReturnMediaTypesFromReturnType(resourceReturnType);
         }
+        httpResource.invocationDescriptor = new InvocationDescriptor(httpService.getBalService(),
+                httpResource.getBalResource(), httpResource.isTransactionInfectable());
         return httpResource;
     }
 
+    /**
+     * Gets the invocation details of the resource, which are resolved when the resource is built.
+     *
+     * @return the invocation descriptor
+     */
+    public InvocationDescriptor getInvocationDescriptor() {
+        return invocationDescriptor;
+    }
+
     private void setConstraintValidation(boolean constraintValidation) {
         this.constraintValidation = constraintValidation;
     }
@@ -382,6 +395,14 @@ public class HttpResource implements Resource {
         corsHeaders.setAllowMethods(DispatcherUtil.addAllMethods());
     }
 
+    // Compiles the CORS policy at registration, so it is not compiled while serving the first request
+    private static void compileResourceCors(HttpResource resource) {
+        CorsHeaders corsHeaders = resource.getCorsHeaders();
+        if (corsHeaders != null && corsHeaders.isAvailable()) {
+            corsHeaders.getPolicy();
+        }
+    }
+
     private void prepareAndValidateSignatureParams() {
         paramHandler = new ParamHandler(getBalResource(), this.pathParamCount, this.getConstraintValidation());
     }
@@ -18,37 +18,57 @@
 
 package io.ballerina.stdlib.http.api;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 
 /**
- * This class holds the resource signature path parameters. Each path template has an associated map which keeps
- * URI segment value against the expression position index(initialized during the load time).
+ * This class holds the resource signature path parameters. The URI segment values are kept against the expression
+ * position index of the path template (initialized during the load time), which is the same as the position of the
+ * path param in the resource signature.
  * Eg :
  * resource function get [string aaa]/go/[string bbb]() {}
  * resource function get [string bbb]/go/[string aaa]/[string ccc]() {}
  *
  * URL - bal/go/java/c
- * aaa:
  *   0: bal
  *   1: java
- * bbb:
- *   0: bal
- *   1: java
- * ccc:
  *   2: c
  *
+ * While matching, a segment value is overwritten whenever another branch of the template is tried at the same
+ * position. The branch which finally matches is always the last one to set the values up to its own depth, so the
+ * values at the positions of the matched resource are always its own.
+ *
  * @since 0.995.0
  */
 public class HttpResourceArguments {
 
-    private Map<String, Map<Integer, String>> resourceArgumentValues = new HashMap<>();
+    private static final int INITIAL_CAPACITY = 4;
+
+    private String[] values = new String[INITIAL_CAPACITY];
+    private String extraPathInfo;
+
+    public void setValue(int expressionIndex, String value) {
+        if (expressionIndex >= values.length) {
+            values = Arrays.copyOf(values, Math.max(values.length * 2, expressionIndex + 1));
+        }
+        values[expressionIndex] = value;
+    }
+
+    public String getValue(int expressionIndex) {
+        return expressionIndex < values.length ? values[expressionIndex] : null;
+    }
 
-    public HttpResourceArguments() {
-        resourceArgumentValues = new HashMap<>();
+    /**
+     * Sets the remainder of the path matched by a rest param, unless it is already set by a deeper match.
+     *
+     * @param extraPathInfo the matched remainder which starts with a '/'
+     */
+    public void setExtraPathInfoIfAbsent(String extraPathInfo) {
+        if (this.extraPathInfo == null) {
+            this.extraPathInfo = extraPathInfo;
+        }
     }
 
-    public Map<String, Map<Integer, String>> getMap() {
-        return resourceArgumentValues;
+    public String getExtraPathInfo() {
+        return extraPathInfo;
     }
 }
@@ -93,6 +93,7 @@ public class HttpService implements Service {
     private String introspectionResourcePath;
     private boolean treatNilableAsOptional = true;
     private List<HTTPInterceptorServicesRegistry> interceptorServicesRegistries;
+    private InterceptorChain interceptorChain;
     private BArray balInterceptorServicesArray;
     private byte[] introspectionPayload = new byte[0];
     private Boolean constraintValidation = true;
@@ -278,6 +279,15 @@ public class HttpService implements Service {
         }
         processLinks(httpService, httpResources);
         httpService.setResources(httpResources);
+        compileResourceTree(httpService);
+    }
+
+    private static void compileResourceTree(HttpService httpService) {
+        try {
+            httpService.getUriTemplate().compile();
+        } catch (URITemplateException e) {
+            throw new BallerinaConnectorException(e.getMessage());
+        }
     }
 
     private static void processLinks(HttpService httpService, List<HttpResource> httpResources) {
@@ -416,12 +426,17 @@ public class HttpService implements Service {
 
     public void setInterceptorServicesRegistries(List<HTTPInterceptorServicesRegistry> interceptorServicesRegistries) {
         this.interceptorServicesRegistries = interceptorServicesRegistries;
+        this.interceptorChain = new InterceptorChain(interceptorServicesRegistries);
     }
 
     public List<HTTPInterceptorServicesRegistry> getInterceptorServicesRegistries() {
         return this.interceptorServicesRegistries;
     }
 
+    public InterceptorChain getInterceptorChain() {
+        return this.interceptorChain;
+    }
+
     public void setBalInterceptorServicesArray(BArray interceptorServicesArray) {
         this.balInterceptorServicesArray = interceptorServicesArray;
     }
@@ -65,7 +65,9 @@ import io.ballerina.stdlib.http.transport.contract.config.KeepAliveConfig;
 import io.ballerina.stdlib.http.transport.contract.config.ListenerConfiguration;
 import io.ballerina.stdlib.http.transport.contract.config.Parameter;
 import io.ballerina.stdlib.http.transport.contract.config.ProxyServerConfiguration;
+import io.ballerina.stdlib.http.transport.contract.config.ResponseCompressionConfig;
 import io.ballerina.stdlib.http.transport.contract.config.SenderConfiguration;
+import io.ballerina.stdlib.http.transport.contract.config.SocketTransport;
 import io.ballerina.stdlib.http.transport.contract.config.SslConfiguration;
 import io.ballerina.stdlib.http.transport.contract.exceptions.ClientConnectorException;
 import io.ballerina.stdlib.http.transport.contract.exceptions.ConnectionTimedOutException;
@@ -78,6 +80,7 @@ import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.pool.PoolC
 import io.ballerina.stdlib.http.transport.message.Http2PushPromise;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
 import io.ballerina.stdlib.http.transport.message.HttpMessageDataStreamer;
+import io.ballerina.stdlib.http.transport.message.MessageProperties;
 import io.ballerina.stdlib.io.utils.IOConstants;
 import io.ballerina.stdlib.io.utils.IOUtils;
 import io.ballerina.stdlib.mime.util.EntityBodyChannel;
@@ -151,10 +154,14 @@ import static io.ballerina.stdlib.http.api.HttpConstants.SINGLE_SLASH;
 import static io.ballerina.stdlib.http.api.HttpConstants.SOCKET_CONFIG_CONNECT_TIMEOUT;
 import static io.ballerina.stdlib.http.api.HttpConstants.SOCKET_CONFIG_KEEP_ALIVE;
 import static io.ballerina.stdlib.http.api.HttpConstants.SOCKET_CONFIG_RECEIVE_BUFFER_SIZE;
+import static io.ballerina.stdlib.http.api.HttpConstants.SOCKET_CONFIG_REUSE_PORT;
 import static io.ballerina.stdlib.http.api.HttpConstants.SOCKET_CONFIG_SEND_BUFFER_SIZE;
 import static io.ballerina.stdlib.http.api.HttpConstants.SOCKET_CONFIG_SOCKET_REUSE;
 import static io.ballerina.stdlib.http.api.HttpConstants.SOCKET_CONFIG_SO_BACKLOG;
+import static io.ballerina.stdlib.http.api.HttpConstants.SOCKET_CONFIG_TCP_FAST_OPEN;
 import static io.ballerina.stdlib.http.api.HttpConstants.SOCKET_CONFIG_TCP_NO_DELAY;
+import static io.ballerina.stdlib.http.api.HttpConstants.SOCKET_CONFIG_TCP_QUICK_ACK;
+import static io.ballerina.stdlib.http.api.HttpConstants.SOCKET_CONFIG_TRANSPORT;
 import static io.ballerina.stdlib.http.api.HttpConstants.STATUS_CODE_RESPONSE_BODY_FIELD;
 import static io.ballerina.stdlib.http.api.HttpConstants.STATUS_CODE_RESPONSE_STATUS_FIELD;
 import static io.ballerina.stdlib.http.api.HttpErrorType.CLIENT_CONNECTOR_ERROR;
@@ -778,10 +785,10 @@ public class HttpUtil {
         inboundRequestObj.set(HttpConstants.REQUEST_VERSION_FIELD,
                               fromString(inboundRequestMsg.getHttpVersion()));
         HttpResourceArguments resourceArgValues = (HttpResourceArguments) inboundRequestMsg.getProperty(
-                HttpConstants.RESOURCE_ARGS);
-        if (resourceArgValues != null && resourceArgValues.getMap().get(HttpConstants.EXTRA_PATH_INFO) != null) {
-            Map<Integer, String> extraPath = resourceArgValues.getMap().get(HttpConstants.EXTRA_PATH_INFO);
-            inboundRequestObj.set(HttpConstants.REQUEST_EXTRA_PATH_INFO_FIELD, fromString(extraPath.get(0)));
+                MessageProperties.RESOURCE_ARGS_SLOT);
+        if (resourceArgValues != null && resourceArgValues.getExtraPathInfo() != null) {
+            inboundRequestObj.set(HttpConstants.REQUEST_EXTRA_PATH_INFO_FIELD,
+                                  fromString(resourceArgValues.getExtraPathInfo()));
         }
     }
 
@@ -830,6 +837,11 @@ public class HttpUtil {
      */
     public static void populateInboundResponse(BObject inboundResponse, BObject entity,
                                                HttpCarbonMessage inboundResponseMsg) {
+        populateInboundResponse(inboundResponse, entity, inboundResponseMsg, null);
+    }
+
+    private static void populateInboundResponse(BObject inboundResponse, BObject entity,
+                                                HttpCarbonMessage inboundResponseMsg, Object cacheControl) {
         inboundResponse.addNativeData(HttpConstants.TRANSPORT_MESSAGE, inboundResponseMsg);
         int statusCode = inboundResponseMsg.getHttpStatusCode();
         inboundResponse.set(HttpConstants.RESPONSE_STATUS_CODE_FIELD, (long) statusCode);
@@ -847,7 +859,9 @@ public class HttpUtil {
         }
 
         String cacheControlHeader = inboundResponseMsg.getHeader(CACHE_CONTROL.toString());
-        if (cacheControlHeader != null) {
+        if (cacheControl != null) {
+            inboundResponse.set(HttpConstants.RESPONSE_CACHE_CONTROL_FIELD, cacheControl);
+        } else if (cacheControlHeader != null) {
             ResponseCacheControlObj responseCacheControl = new ResponseCacheControlObj(ModuleUtils.getHttpPackage(),
                                                                                        RESPONSE_CACHE_CONTROL);
             responseCacheControl.populateStruct(cacheControlHeader);
@@ -1221,7 +1235,7 @@ public class HttpUtil {
             // Check tracing is enabled
             if (observerContext.getSpan() != null) {
                 observerContext.getSpan().addTag(TAG_KEY_HTTP_URL,
-                        String.valueOf(message.getProperty(HttpConstants.TO)));
+                        String.valueOf(message.getProperty(MessageProperties.TO_SLOT)));
             }
             observerContext.addTag(TAG_KEY_PEER_ADDRESS,
                        message.getProperty(PROPERTY_HTTP_HOST) + ":" + message.getProperty(PROPERTY_HTTP_PORT));
@@ -1254,10 +1268,22 @@ public class HttpUtil {
      * @return the Response struct
      */
     public static BObject createResponseStruct(HttpCarbonMessage httpCarbonMessage) {
+        return createResponseStruct(httpCarbonMessage, null);
+    }
+
+    /**
+     * Creates InResponse using the native {@code HttpCarbonMessage} and the already parsed cache control directives
+     * of the message.
+     *
+     * @param httpCarbonMessage the HttpCarbonMessage
+     * @param cacheControl      the ResponseCacheControl object, or null to parse the cache-control header
+     * @return the Response struct
+     */
+    public static BObject createResponseStruct(HttpCarbonMessage httpCarbonMessage, Object cacheControl) {
         BObject responseObj = ValueCreatorUtils.createResponseObject();
         BObject entity = ValueCreatorUtils.createEntityObject();
 
-        HttpUtil.populateInboundResponse(responseObj, entity, httpCarbonMessage);
+        HttpUtil.populateInboundResponse(responseObj, entity, httpCarbonMessage, cacheControl);
         return responseObj;
     }
 
@@ -1352,6 +1378,12 @@ public class HttpUtil {
                 maxActiveStreamsPerConnection == -1 ? Integer.MAX_VALUE : validateConfig(
                         maxActiveStreamsPerConnection,
                         HttpConstants.CONNECTION_POOLING_MAX_ACTIVE_STREAMS_PER_CONNECTION.getValue()));
+
+        long minConnectionsPerRoute =
+                poolRecord.getIntValue(HttpConstants.CONNECTION_POOLING_MIN_CONNECTIONS_PER_ROUTE);
+        poolConfiguration.setHttp2MinConnectionsPerRoute(
+                validateConfig(minConnectionsPerRoute,
+                               HttpConstants.CONNECTION_POOLING_MIN_CONNECTIONS_PER_ROUTE.getValue()));
     }
 
     private static int validateConfig(long value, String configName) {
@@ -1556,6 +1588,11 @@ public class HttpUtil {
             setServerSocketConfig(serverSocketConfig, listenerConfiguration);
         }
 
+        BMap<BString, Object> compression = endpointConfig.getMapValue(HttpConstants.ENDPOINT_CONFIG_COMPRESSION);
+        if (compression != null) {
+            listenerConfiguration.setResponseCompressionConfig(getResponseCompressionConfig(compression));
+        }
+
         if (sslConfig != null) {
             return setSslConfig(sslConfig, listenerConfiguration);
         }
@@ -1582,6 +1619,52 @@ public class HttpUtil {
         listenerConfig.setSocketKeepAlive(keepAlive);
         int soBackLog = serverSocketConfig.getIntValue(SOCKET_CONFIG_SO_BACKLOG).intValue();
         listenerConfig.setSoBackLog(soBackLog);
+        String transport = serverSocketConfig.getStringValue(SOCKET_CONFIG_TRANSPORT).getValue();
+        listenerConfig.setSocketTransport(SocketTransport.valueOf(transport));
+        boolean reusePort = serverSocketConfig.getBooleanValue(SOCKET_CONFIG_REUSE_PORT);
+        listenerConfig.setReusePort(reusePort);
+        boolean tcpFastOpen = serverSocketConfig.getBooleanValue(SOCKET_CONFIG_TCP_FAST_OPEN);
+        listenerConfig.setTcpFastOpen(tcpFastOpen);
+        boolean tcpQuickAck = serverSocketConfig.getBooleanValue(SOCKET_CONFIG_TCP_QUICK_ACK);
+        listenerConfig.setTcpQuickAck(tcpQuickAck);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ResponseCompressionConfig getResponseCompressionConfig(BMap<BString, Object> compression) {
+        ResponseCompressionConfig compressionConfig = new ResponseCompressionConfig();
+        compressionConfig.setEncodings(
+                getAsStringList(compression.getArrayValue(HttpConstants.COMPRESSION_ENCODINGS).getStringArray()));
+        compressionConfig.setLevel(getCompressionLevel(compression.getIntValue(HttpConstants.COMPRESSION_LEVEL)));
+        compressionConfig.setMinSize(getNonNegativeSize(compression.getIntValue(HttpConstants.COMPRESSION_MIN_SIZE),
+                                                        "Compression minimum size"));
+        compressionConfig.setCacheSize(getNonNegativeSize(
+                compression.getIntValue(HttpConstants.COMPRESSION_CACHE_SIZE), "Compression cache size"));
+        BArray contentTypes = compression.getArrayValue(HttpConstants.COMPRESSION_CONTENT_TYPES);
+        for (int i = 0; i < contentTypes.size(); i++) {
+            BMap<BString, Object> contentType = (BMap<BString, Object>) contentTypes.get(i);
+            int level = contentType.containsKey(HttpConstants.COMPRESSION_LEVEL) ?
+                    getCompressionLevel(contentType.getIntValue(HttpConstants.COMPRESSION_LEVEL)) : -1;
+            long minSize = contentType.containsKey(HttpConstants.COMPRESSION_MIN_SIZE) ? getNonNegativeSize(
+                    contentType.getIntValue(HttpConstants.COMPRESSION_MIN_SIZE), "Compression minimum size") : -1;
+            compressionConfig.addContentType(new ResponseCompressionConfig.ContentTypeSettings(
+                    contentType.getStringValue(HttpConstants.COMPRESSION_CONTENT_TYPE).getValue(),
+                    contentType.getBooleanValue(HttpConstants.COMPRESSION_ENABLED), level, minSize));
+        }
+        return compressionConfig;
+    }
+
+    private static int getCompressionLevel(long level) {
+        if (level < 1 || level > 9) {
+            throw new BallerinaConnectorException("Compression level should be between 1 and 9");
+        }
+        return (int) level;
+    }
+
+    private static long getNonNegativeSize(long size, String name) {
+        if (size < 0) {
+            throw new BallerinaConnectorException(name + " cannot be negative");
+        }
+        return size;
     }
 
     // TODO : Move this to `register` after this issue is fixed
@@ -1729,6 +1812,7 @@ public class HttpUtil {
             evaluateCiphersField(ciphers, serverParamList);
         }
         evaluateCommonFields(secureSocket, listenerConfiguration, serverParamList);
+        evaluateServerSessionFields(secureSocket, listenerConfiguration);
 
         listenerConfiguration.setTLSStoreType(HttpConstants.PKCS_STORE_TYPE);
         if (!serverParamList.isEmpty()) {
@@ -1874,6 +1958,26 @@ public class HttpUtil {
         paramList.add(enableSessionCreationParam);
     }
 
+    private static void evaluateServerSessionFields(BMap<BString, Object> secureSocket,
+                                                    ListenerConfiguration listenerConfiguration) {
+        if (secureSocket.containsKey(HttpConstants.SECURESOCKET_CONFIG_SESSION_CACHE_SIZE)) {
+            long sessionCacheSize = secureSocket.getIntValue(HttpConstants.SECURESOCKET_CONFIG_SESSION_CACHE_SIZE);
+            if (sessionCacheSize < 0) {
+                throw createHttpError("Session cache size must not be negative", HttpErrorType.SSL_ERROR);
+            }
+            listenerConfiguration.setSslSessionCacheSize(Math.toIntExact(sessionCacheSize));
+        }
+        long rotationInterval = getLongValueOrDefault(secureSocket,
+                HttpConstants.SECURESOCKET_CONFIG_SESSION_TICKET_KEY_ROTATION_INTERVAL);
+        if (rotationInterval < 0) {
+            throw createHttpError("Session ticket key rotation interval must not be negative",
+                                  HttpErrorType.SSL_ERROR);
+        }
+        listenerConfiguration.setSslSessionTicketKeyRotationInterval(rotationInterval);
+        listenerConfiguration.setPreferOpenSsl(
+                secureSocket.getBooleanValue(HttpConstants.SECURESOCKET_CONFIG_PREFER_OPENSSL));
+    }
+
     private static BMap<BString, Object> getBMapValueIfPresent(BMap<BString, Object> map, BString key) {
         return map.containsKey(key) ? (BMap<BString, Object>) map.getMapValue(key) : null;
     }
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.api;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * The interceptors which apply to the requests of a service, resolved once when the listener starts. Each interceptor
+ * keeps the service of its registry, the type of the service and whether its resource binds the request payload, so
+ * dispatching a request to an interceptor is a match of its base path and resource against the request path, which
+ * {@link HttpDispatcher} parses once for all the interceptors of the request.
+ */
+public class InterceptorChain {
+
+    private final Interceptor[] interceptors;
+
+    public InterceptorChain(List<HTTPInterceptorServicesRegistry> registries) {
+        this.interceptors = new Interceptor[registries.size()];
+        for (int i = 0; i < interceptors.length; i++) {
+            interceptors[i] = new Interceptor(registries.get(i));
+        }
+    }
+
+    public int size() {
+        return interceptors.length;
+    }
+
+    public Interceptor get(int index) {
+        return interceptors[index];
+    }
+
+    /**
+     * An interceptor of the chain.
+     */
+    public static class Interceptor {
+
+        private final HTTPInterceptorServicesRegistry registry;
+        private final HTTPInterceptorServicesRegistry.ServicesMapHolder servicesMapHolder;
+        private final InterceptorService service;
+        private final String servicesType;
+        private final boolean payloadBindingRequired;
+
+        Interceptor(HTTPInterceptorServicesRegistry registry) {
+            this.registry = registry;
+            // Interceptor services are always registered under the default host
+            this.servicesMapHolder = registry.getServicesMapHolder(HttpConstants.DEFAULT_HOST);
+            this.service = servicesMapHolder != null ? getService(servicesMapHolder) : null;
+            this.servicesType = registry.getServicesType();
+            this.payloadBindingRequired = service != null && HttpDispatcher.shouldDiffer(service.getResource());
+        }
+
+        private static InterceptorService getService(HTTPInterceptorServicesRegistry.ServicesMapHolder holder) {
+            // There is only one service registered on the registry of an interceptor
+            Collection<InterceptorService> services = holder.getServicesByBasePath().values();
+            return services.isEmpty() ? null : services.iterator().next();
+        }
+
+        /**
+         * Finds the base path of the interceptor service which matches the request path.
+         *
+         * @param rawPath raw request path without the matrix parameters and the query
+         * @return the base path, or null if the interceptor does not apply to the path
+         */
+        String findBasePath(String rawPath) {
+            return registry.findTheMostSpecificBasePath(rawPath, servicesMapHolder);
+        }
+
+        public HTTPInterceptorServicesRegistry getRegistry() {
+            return registry;
+        }
+
+        /**
+         * Gets the interceptor service.
+         *
+         * @return the service, or null if no service is registered on the registry of the interceptor
+         */
+        public InterceptorService getService() {
+            return service;
+        }
+
+        public String getServicesType() {
+            return servicesType;
+        }
+
+        /**
+         * Checks whether the resource of the interceptor binds the request payload, in which case the request is
+         * dispatched to it only after the full payload is received.
+         *
+         * @return true if the resource needs the full request payload
+         */
+        public boolean isPayloadBindingRequired() {
+            return payloadBindingRequired;
+        }
+    }
+}
@@ -42,6 +42,7 @@ public class InterceptorResource implements Resource {
     private String wildcardToken;
     private int pathParamCount;
     private boolean treatNilableAsOptional = true;
+    private InvocationDescriptor invocationDescriptor;
 
     protected InterceptorResource(MethodType resource, InterceptorService parentService, boolean fromListener) {
         this.balResource = resource;
@@ -149,9 +150,21 @@ public class InterceptorResource implements Resource {
             interceptorService, boolean fromListener) {
         InterceptorResource interceptorResource = new InterceptorResource(resource, interceptorService, fromListener);
         interceptorResource.prepareAndValidateSignatureParams();
+        // Interceptors accept the transaction context of the request like resources do by default
+        interceptorResource.invocationDescriptor = new InvocationDescriptor(interceptorService.getBalService(),
+                interceptorResource.getBalResource(), true);
         return interceptorResource;
     }
 
+    /**
+     * Gets the invocation details of the resource, which are resolved when the resource is built.
+     *
+     * @return the invocation descriptor
+     */
+    public InvocationDescriptor getInvocationDescriptor() {
+        return invocationDescriptor;
+    }
+
     private void prepareAndValidateSignatureParams() {
         paramHandler = new ParamHandler(getBalResource(), this.pathParamCount, false);
     }
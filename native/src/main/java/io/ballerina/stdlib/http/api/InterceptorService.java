@@ -182,6 +182,7 @@ public class InterceptorService implements Service {
         try {
             httpService.getUriTemplate().parse(httpInterceptorResource.getPath(), httpInterceptorResource,
                     new ResourceElementFactory());
+            httpService.getUriTemplate().compile();
         } catch (URITemplateException | UnsupportedEncodingException e) {
             throw new BallerinaConnectorException(e.getMessage());
         }
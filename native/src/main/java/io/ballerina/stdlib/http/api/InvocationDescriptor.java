@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.api;
+
+import io.ballerina.runtime.api.Runtime;
+import io.ballerina.runtime.api.async.Callback;
+import io.ballerina.runtime.api.async.StrandMetadata;
+import io.ballerina.runtime.api.types.ObjectType;
+import io.ballerina.runtime.api.types.ResourceMethodType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.http.api.nativeimpl.ModuleUtils;
+
+import java.util.Map;
+
+/**
+ * What it takes to invoke a resource, resolved once when the resource is registered instead of on each request: the
+ * service object, whether the service and the resource are isolated and can run concurrently, the return type and the
+ * strand metadata.
+ */
+public class InvocationDescriptor {
+
+    private final BObject service;
+    private final String resourceName;
+    private final boolean isolated;
+    private final Type returnType;
+    private final StrandMetadata strandMetadata;
+    private final boolean transactionInfectable;
+
+    InvocationDescriptor(BObject service, ResourceMethodType resource, boolean transactionInfectable) {
+        this.service = service;
+        this.resourceName = resource.getName();
+        ObjectType serviceType = (ObjectType) TypeUtils.getReferredType(TypeUtils.getType(service));
+        this.isolated = serviceType.isIsolated() && serviceType.isIsolated(resourceName);
+        this.returnType = resource.getReturnType();
+        this.strandMetadata = ModuleUtils.getOnMessageMetaData();
+        this.transactionInfectable = transactionInfectable;
+    }
+
+    /**
+     * Invokes the resource on a new strand. A resource of an isolated service which is itself isolated runs
+     * concurrently with the other requests, while others run sequentially.
+     *
+     * @param runtime    the Ballerina runtime
+     * @param callback   the callback notified when the resource returns
+     * @param properties the properties of the strand
+     * @param args       the arguments of the resource
+     */
+    public void invoke(Runtime runtime, Callback callback, Map<String, Object> properties, Object[] args) {
+        if (isolated) {
+            runtime.invokeMethodAsyncConcurrently(service, resourceName, null, strandMetadata, callback, properties,
+                                                  returnType, args);
+        } else {
+            runtime.invokeMethodAsyncSequentially(service, resourceName, null, strandMetadata, callback, properties,
+                                                  returnType, args);
+        }
+    }
+
+    public boolean isIsolated() {
+        return isolated;
+    }
+
+    public boolean isTransactionInfectable() {
+        return transactionInfectable;
+    }
+}
@@ -20,6 +20,7 @@ package io.ballerina.stdlib.http.api;
 
 import io.ballerina.stdlib.http.api.nativeimpl.pipelining.PipeliningHandler;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+import io.ballerina.stdlib.http.transport.message.MessageProperties;
 import io.ballerina.stdlib.http.uri.DispatcherUtil;
 import io.ballerina.stdlib.http.uri.URITemplateException;
 import io.netty.buffer.Unpooled;
@@ -48,7 +49,7 @@ public class ResourceDispatcher {
                 return null;
             }
             if (resource != null) {
-                inboundRequest.setProperty(HttpConstants.RESOURCE_ARGS, resourceArgumentValues);
+                inboundRequest.setProperty(MessageProperties.RESOURCE_ARGS_SLOT, resourceArgumentValues);
                 inboundRequest.setProperty(HttpConstants.RESOURCES_CORS, resource.getCorsHeaders());
                 return resource;
             } else {
@@ -80,7 +81,7 @@ public class ResourceDispatcher {
         HttpCarbonMessage response = HttpUtil.createHttpCarbonMessage(false);
         if (cMsg.getHeader(HttpHeaderNames.ALLOW.toString()) != null) {
             response.setHeader(HttpHeaderNames.ALLOW.toString(), cMsg.getHeader(HttpHeaderNames.ALLOW.toString()));
-        } else if (service.getBasePath().equals(cMsg.getProperty(HttpConstants.TO))
+        } else if (service.getBasePath().equals(cMsg.getProperty(MessageProperties.TO_SLOT))
                 && !service.getAllAllowedMethods().isEmpty()) {
             response.setHeader(HttpHeaderNames.ALLOW.toString(),
                                DispatcherUtil.concatValues(service.getAllAllowedMethods(), false));
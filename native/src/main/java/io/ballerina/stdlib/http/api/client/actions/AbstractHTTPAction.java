@@ -49,6 +49,7 @@ import io.ballerina.stdlib.http.transport.contract.HttpResponseFuture;
 import io.ballerina.stdlib.http.transport.contract.exceptions.ClientConnectorException;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
 import io.ballerina.stdlib.http.transport.message.HttpMessageDataStreamer;
+import io.ballerina.stdlib.http.transport.message.MessageProperties;
 import io.ballerina.stdlib.http.transport.message.PooledDataStreamerFactory;
 import io.ballerina.stdlib.http.transport.message.ResponseHandle;
 import io.ballerina.stdlib.mime.util.EntityBodyHandler;
@@ -171,7 +172,7 @@ public abstract class AbstractHTTPAction {
         outboundRequest.setProperty(Constants.HTTP_PORT, port);
 
         String outboundReqPath = getOutboundReqPath(url);
-        outboundRequest.setProperty(HttpConstants.TO, outboundReqPath);
+        outboundRequest.setProperty(MessageProperties.TO_SLOT, outboundReqPath);
 
         outboundRequest.setProperty(HttpConstants.PROTOCOL, url.getProtocol());
         outboundRequest.setProperty(HttpConstants.NO_ENTITY_BODY, nonEntityBodyReq);
@@ -362,8 +363,6 @@ public abstract class AbstractHTTPAction {
                 new ObservableHttpClientConnectorListener(dataContext) :
                 new HTTPClientConnectorListener(dataContext);
 
-        final HttpMessageDataStreamer outboundMsgDataStreamer = getHttpMessageDataStreamer(outboundRequestMsg);
-        final OutputStream messageOutputStream = outboundMsgDataStreamer.getOutputStream();
         BObject requestObj = dataContext.getRequestObj();
         BObject entityObj = null;
         if (requestObj != null) {
@@ -385,6 +384,9 @@ public abstract class AbstractHTTPAction {
         }
         try {
             if (entityObj != null) {
+                // The data streamer is only needed when the body is built, the passthrough content is written by the
+                // transport as it arrives
+                OutputStream messageOutputStream = getHttpMessageDataStreamer(outboundRequestMsg).getOutputStream();
                 if (boundaryString != null) {
                     serializeMultiparts(dataContext.getEnvironment(), entityObj, messageOutputStream, boundaryString);
                 } else {
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.api.client.caching;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * A response stored in the {@link HttpResponseStore}. The headers are kept as a transport header map and the payload as
+ * a byte array, so a stored response holds no Ballerina values other than the already parsed cache control directives
+ * and the timestamps, which are reused as they are when the response is served. The payload is wrapped, not copied, for
+ * each response served from it, and it is reclaimed by the garbage collector once the stored response and all the
+ * responses served from it are gone, so nothing needs to be released.
+ */
+public class CachedResponse {
+
+    private static final int ENTRY_OVERHEAD = 64;
+    private static final String[] NO_VARY_HEADERS = new String[0];
+    private static final String[] VARY_ALL = {"*"};
+
+    private final int statusCode;
+    private final String reasonPhrase;
+    private final byte[] content;
+    private final Object cacheControl;
+    private final Object requestTime;
+    private final Object receivedTime;
+    private final String resolvedRequestedUri;
+    private final String[] varyHeaderNames;
+    private final String[] varyHeaderValues;
+    private final int weight;
+    private volatile HttpHeaders headers;
+
+    public CachedResponse(int statusCode, String reasonPhrase, HttpHeaders headers, byte[] content,
+                          HttpHeaders requestHeaders, Object cacheControl, Object requestTime, Object receivedTime,
+                          String resolvedRequestedUri) {
+        this.statusCode = statusCode;
+        this.reasonPhrase = reasonPhrase;
+        this.headers = headers;
+        this.content = content;
+        this.cacheControl = cacheControl;
+        this.requestTime = requestTime;
+        this.receivedTime = receivedTime;
+        this.resolvedRequestedUri = resolvedRequestedUri;
+        this.varyHeaderNames = parseVaryHeader(headers);
+        this.varyHeaderValues = getHeaderValues(varyHeaderNames, requestHeaders);
+        this.weight = ENTRY_OVERHEAD + content.length + headersSize(headers);
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public String getReasonPhrase() {
+        return reasonPhrase;
+    }
+
+    public HttpHeaders getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Replaces the stored headers, e.g. with the headers updated using a validation response.
+     *
+     * @param headers the new headers
+     */
+    public void setHeaders(HttpHeaders headers) {
+        this.headers = headers;
+    }
+
+    public Object getCacheControl() {
+        return cacheControl;
+    }
+
+    public Object getRequestTime() {
+        return requestTime;
+    }
+
+    public Object getReceivedTime() {
+        return receivedTime;
+    }
+
+    public String getResolvedRequestedUri() {
+        return resolvedRequestedUri;
+    }
+
+    public String getETag() {
+        return headers.get(HttpHeaderNames.ETAG);
+    }
+
+    int getWeight() {
+        return weight;
+    }
+
+    boolean isVaryAll() {
+        return varyHeaderNames == VARY_ALL;
+    }
+
+    /**
+     * Checks whether this response can be used for a request with the given headers, following
+     * https://tools.ietf.org/html/rfc7234#section-4.1.
+     *
+     * @param requestHeaders the headers of the new request, or null if it has none
+     * @return true if the values of the headers listed in the vary header match the original request
+     */
+    boolean matches(HttpHeaders requestHeaders) {
+        if (isVaryAll()) {
+            return false;
+        }
+        return Arrays.equals(varyHeaderValues, getHeaderValues(varyHeaderNames, requestHeaders));
+    }
+
+    /**
+     * Checks whether this response and the given one were selected by the same request header values, in which case
+     * the newer one replaces this.
+     *
+     * @param other the other response stored under the same key
+     * @return true if both have the same secondary key
+     */
+    boolean hasSameSecondaryKey(CachedResponse other) {
+        return Arrays.equals(varyHeaderNames, other.varyHeaderNames)
+                && Arrays.equals(varyHeaderValues, other.varyHeaderValues);
+    }
+
+    /**
+     * Gets the stored payload, wrapped in a new buffer which shares its bytes. The readers of the buffer only read it,
+     * and it need not be released.
+     *
+     * @return the payload
+     */
+    public ByteBuf getContent() {
+        return Unpooled.wrappedBuffer(content);
+    }
+
+    private static String[] parseVaryHeader(HttpHeaders headers) {
+        if (!headers.contains(HttpHeaderNames.VARY)) {
+            return NO_VARY_HEADERS;
+        }
+        Set<String> names = new TreeSet<>();
+        for (String value : headers.getAll(HttpHeaderNames.VARY)) {
+            for (String name : value.split(",")) {
+                name = name.trim().toLowerCase(Locale.ROOT);
+                if (VARY_ALL[0].equals(name)) {
+                    return VARY_ALL;
+                }
+                if (!name.isEmpty()) {
+                    names.add(name);
+                }
+            }
+        }
+        return names.toArray(NO_VARY_HEADERS);
+    }
+
+    private static String[] getHeaderValues(String[] names, HttpHeaders requestHeaders) {
+        if (names.length == 0 || names == VARY_ALL) {
+            return NO_VARY_HEADERS;
+        }
+        String[] values = new String[names.length];
+        for (int i = 0; i < names.length; i++) {
+            values[i] = requestHeaders != null ? String.join(",", requestHeaders.getAll(names[i])) : "";
+        }
+        return values;
+    }
+
+    private static int headersSize(HttpHeaders headers) {
+        int size = 0;
+        Iterator<Map.Entry<CharSequence, CharSequence>> iterator = headers.iteratorCharSequence();
+        while (iterator.hasNext()) {
+            Map.Entry<CharSequence, CharSequence> header = iterator.next();
+            size += header.getKey().length() + Objects.toString(header.getValue(), "").length() + 4;
+        }
+        return size;
+    }
+}
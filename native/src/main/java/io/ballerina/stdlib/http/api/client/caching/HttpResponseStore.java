@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.api.client.caching;
+
+import io.netty.handler.codec.http.HttpHeaders;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * The storage of the HTTP caching client. The responses of a cache key are kept together, one per secondary key as
+ * selected by their vary header. The number of keys and the total size of the responses are bounded.
+ * <p>
+ * Eviction follows W-TinyLFU. A new key first enters a small LRU admission window. A key pushed out of the window
+ * replaces the least recently used key of the main area only if it was accessed more often recently, as estimated by
+ * a {@link FrequencySketch}, so a burst of one-off requests cannot flush the popular responses.
+ */
+public class HttpResponseStore {
+
+    private static final float WINDOW_RATIO = 0.01f;
+
+    private final int maxWindowEntries;
+    private final int maxMainEntries;
+    private final long maxWeight;
+    private final LinkedHashMap<String, List<CachedResponse>> window = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<String, List<CachedResponse>> main = new LinkedHashMap<>(16, 0.75f, true);
+    private final FrequencySketch sketch;
+    private long weight;
+
+    /**
+     * Creates a response store.
+     *
+     * @param maxEntries the maximum number of cache keys
+     * @param maxWeight  the maximum total size of the stored responses in bytes, or a non-positive value for no limit
+     */
+    public HttpResponseStore(int maxEntries, long maxWeight) {
+        int capacity = Math.max(1, maxEntries);
+        this.maxWindowEntries = capacity > 1 ? Math.max(1, (int) (capacity * WINDOW_RATIO)) : 0;
+        this.maxMainEntries = capacity - maxWindowEntries;
+        this.maxWeight = maxWeight;
+        this.sketch = new FrequencySketch(capacity);
+    }
+
+    /**
+     * Stores a response, replacing the response stored for the same key and secondary key.
+     *
+     * @param key      the cache key
+     * @param response the response to be stored
+     * @return false if the response cannot be stored
+     */
+    public synchronized boolean put(String key, CachedResponse response) {
+        if (response.isVaryAll() || (maxWeight > 0 && response.getWeight() > maxWeight)) {
+            return false;
+        }
+        sketch.increment(key);
+        List<CachedResponse> variants = lookup(key);
+        if (variants == null) {
+            variants = new ArrayList<>(1);
+            window.put(key, variants);
+        }
+        Iterator<CachedResponse> iterator = variants.iterator();
+        while (iterator.hasNext()) {
+            CachedResponse existing = iterator.next();
+            if (existing.hasSameSecondaryKey(response)) {
+                iterator.remove();
+                discard(existing);
+            }
+        }
+        variants.add(response);
+        weight += response.getWeight();
+        evict();
+        return true;
+    }
+
+    /**
+     * Gets the most recently stored response of the key which can be used for a request with the given headers.
+     *
+     * @param key            the cache key
+     * @param requestHeaders the headers of the request
+     * @return the matching response, or null if there is none
+     */
+    public synchronized CachedResponse get(String key, HttpHeaders requestHeaders) {
+        sketch.increment(key);
+        List<CachedResponse> variants = lookup(key);
+        if (variants == null) {
+            return null;
+        }
+        for (int i = variants.size() - 1; i >= 0; i--) {
+            CachedResponse response = variants.get(i);
+            if (response.matches(requestHeaders)) {
+                return response;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets all the responses stored for the key which satisfy the given condition.
+     *
+     * @param key    the cache key
+     * @param filter the condition the responses should satisfy
+     * @return the matching responses, in the order they were stored
+     */
+    public synchronized List<CachedResponse> getAll(String key, Predicate<CachedResponse> filter) {
+        List<CachedResponse> variants = lookup(key);
+        if (variants == null) {
+            return Collections.emptyList();
+        }
+        List<CachedResponse> matches = new ArrayList<>(variants.size());
+        for (CachedResponse response : variants) {
+            if (filter.test(response)) {
+                matches.add(response);
+            }
+        }
+        return matches;
+    }
+
+    public synchronized boolean containsKey(String key) {
+        return window.containsKey(key) || main.containsKey(key);
+    }
+
+    public synchronized void remove(String key) {
+        List<CachedResponse> variants = window.remove(key);
+        if (variants == null) {
+            variants = main.remove(key);
+        }
+        discard(variants);
+    }
+
+    public synchronized int size() {
+        return window.size() + main.size();
+    }
+
+    /**
+     * Gets the total size of the stored responses.
+     *
+     * @return the size in bytes
+     */
+    public synchronized long weight() {
+        return weight;
+    }
+
+    private List<CachedResponse> lookup(String key) {
+        List<CachedResponse> variants = window.get(key);
+        return variants != null ? variants : main.get(key);
+    }
+
+    private void evict() {
+        while (window.size() > maxWindowEntries) {
+            Map.Entry<String, List<CachedResponse>> candidate = window.entrySet().iterator().next();
+            window.remove(candidate.getKey());
+            admit(candidate.getKey(), candidate.getValue());
+        }
+        while (maxWeight > 0 && weight > maxWeight) {
+            LinkedHashMap<String, List<CachedResponse>> area = main.isEmpty() ? window : main;
+            Iterator<List<CachedResponse>> eldest = area.values().iterator();
+            discard(eldest.next());
+            eldest.remove();
+        }
+    }
+
+    private void admit(String key, List<CachedResponse> variants) {
+        if (main.size() < maxMainEntries) {
+            main.put(key, variants);
+            return;
+        }
+        String victim = main.keySet().iterator().next();
+        if (sketch.frequency(key) > sketch.frequency(victim)) {
+            discard(main.remove(victim));
+            main.put(key, variants);
+        } else {
+            discard(variants);
+        }
+    }
+
+    private void discard(List<CachedResponse> variants) {
+        if (variants == null) {
+            return;
+        }
+        for (CachedResponse response : variants) {
+            discard(response);
+        }
+    }
+
+    private void discard(CachedResponse response) {
+        weight -= response.getWeight();
+    }
+}
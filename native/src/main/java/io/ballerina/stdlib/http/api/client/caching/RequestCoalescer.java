@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.api.client.caching;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps track of the requests the caching client has in flight to the origin server, one per cache key. A caller
+ * which finds a request already in flight for its key waits for it to finish and then looks the key up in the cache
+ * again, instead of sending the same request to the origin server.
+ */
+public class RequestCoalescer {
+
+    private static final CompletableFuture<Boolean> NOT_IN_FLIGHT = CompletableFuture.completedFuture(true);
+
+    private final ConcurrentHashMap<String, CompletableFuture<Void>> flights = new ConcurrentHashMap<>();
+
+    /**
+     * Marks a request as in flight for the key, unless there is one already.
+     *
+     * @param key the cache key
+     * @return true if the caller owns the flight and has to end it
+     */
+    public boolean start(String key) {
+        return flights.putIfAbsent(key, new CompletableFuture<>()) == null;
+    }
+
+    /**
+     * Ends the flight of the key and releases the callers waiting on it.
+     *
+     * @param key the cache key
+     */
+    public void end(String key) {
+        CompletableFuture<Void> flight = flights.remove(key);
+        if (flight != null) {
+            flight.complete(null);
+        }
+    }
+
+    /**
+     * Waits for the flight of the key to end.
+     *
+     * @param key           the cache key
+     * @param maxWaitMillis the maximum time to wait
+     * @return a future completed with true when the flight ends or if there is none, or with false when the maximum
+     * wait time elapses first
+     */
+    public CompletableFuture<Boolean> await(String key, long maxWaitMillis) {
+        CompletableFuture<Void> flight = flights.get(key);
+        if (flight == null) {
+            return NOT_IN_FLIGHT;
+        }
+        return flight.thenApply(ignored -> true).completeOnTimeout(false, maxWaitMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public boolean isInFlight(String key) {
+        return flights.containsKey(key);
+    }
+}
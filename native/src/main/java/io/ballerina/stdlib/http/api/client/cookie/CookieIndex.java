@@ -0,0 +1,276 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.api.client.cookie;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The cookies of a cookie store, indexed by their domain. The cookies matching a request are found by looking up the
+ * request host and each of its parent domains, so the cost of a lookup depends on the number of matching cookies
+ * rather than on the size of the store.
+ * <p>
+ * The cookies of a domain are kept in an immutable list which is replaced on each change, so the lookups do not take
+ * a lock. The cookies are returned in the order they were stored, the session cookies first, as the cookie store used
+ * to return them.
+ *
+ * @param <T> the type of the stored cookie values
+ */
+public class CookieIndex<T> {
+
+    private static final Comparator<Entry<?>> STORE_ORDER =
+            Comparator.<Entry<?>>comparingInt(entry -> entry.persistent ? 1 : 0).thenComparingLong(
+                    entry -> entry.sequence);
+
+    private final Map<String, List<Entry<T>>> domains = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private volatile int size;
+    private volatile boolean persistentCookiesLoaded;
+
+    /**
+     * Adds a cookie, replacing the cookie with the same name, domain and path.
+     *
+     * @param cookie     the cookie value
+     * @param name       the name of the cookie
+     * @param domain     the domain of the cookie
+     * @param path       the path of the cookie
+     * @param hostOnly   whether the cookie is only sent to its domain
+     * @param secure     whether the cookie is only sent over secure channels
+     * @param httpOnly   whether the cookie is only sent with HTTP requests
+     * @param persistent whether the cookie is kept by the persistent cookie handler
+     */
+    public synchronized void add(T cookie, String name, String domain, String path, boolean hostOnly, boolean secure,
+                                 boolean httpOnly, boolean persistent) {
+        String domainKey = domain != null ? domain : "";
+        List<Entry<T>> current = domains.getOrDefault(domainKey, Collections.emptyList());
+        List<Entry<T>> updated = new ArrayList<>(current.size() + 1);
+        for (Entry<T> entry : current) {
+            if (!entry.isIdentical(name, path)) {
+                updated.add(entry);
+            }
+        }
+        updated.add(new Entry<>(cookie, name, domain, path, hostOnly, secure, httpOnly, persistent,
+                                sequence.incrementAndGet()));
+        domains.put(domainKey, Collections.unmodifiableList(updated));
+        size += updated.size() - current.size();
+    }
+
+    /**
+     * Removes the cookie with the given name, domain and path.
+     *
+     * @param name   the name of the cookie
+     * @param domain the domain of the cookie
+     * @param path   the path of the cookie
+     * @return the removed entry, or null if there is no such cookie
+     */
+    public synchronized Entry<T> remove(String name, String domain, String path) {
+        String domainKey = domain != null ? domain : "";
+        List<Entry<T>> current = domains.get(domainKey);
+        if (current == null) {
+            return null;
+        }
+        Entry<T> removed = null;
+        List<Entry<T>> updated = new ArrayList<>(current.size());
+        for (Entry<T> entry : current) {
+            if (removed == null && entry.isIdentical(name, path)) {
+                removed = entry;
+            } else {
+                updated.add(entry);
+            }
+        }
+        if (removed != null) {
+            if (updated.isEmpty()) {
+                domains.remove(domainKey);
+            } else {
+                domains.put(domainKey, Collections.unmodifiableList(updated));
+            }
+            size--;
+        }
+        return removed;
+    }
+
+    public synchronized void clear() {
+        domains.clear();
+        size = 0;
+    }
+
+    /**
+     * Gets the cookie with the given name, domain and path.
+     *
+     * @param name   the name of the cookie
+     * @param domain the domain of the cookie
+     * @param path   the path of the cookie
+     * @return the cookie, or null if there is no such cookie
+     */
+    public T get(String name, String domain, String path) {
+        for (Entry<T> entry : domains.getOrDefault(domain != null ? domain : "", Collections.emptyList())) {
+            if (entry.isIdentical(name, path)) {
+                return entry.cookie;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets the cookies to be sent with a request, following https://tools.ietf.org/html/rfc6265#section-5.4. Whether
+     * the cookies are expired is not checked.
+     *
+     * @param host       the host of the request
+     * @param path       the path of the request
+     * @param secure     whether the request is sent over a secure channel
+     * @param httpOnly   whether the request is an HTTP request
+     * @return the matching cookies
+     */
+    public List<T> match(String host, String path, boolean secure, boolean httpOnly) {
+        List<Entry<T>> matches = new ArrayList<>();
+        collectMatches(domains.get(host), true, path, secure, httpOnly, matches);
+        // A cookie which is not host-only also matches the subdomains of its domain
+        for (int i = host.indexOf('.'); i >= 0; i = host.indexOf('.', i + 1)) {
+            collectMatches(domains.get(host.substring(i + 1)), false, path, secure, httpOnly, matches);
+        }
+        return toCookies(matches);
+    }
+
+    public List<T> getAll() {
+        List<Entry<T>> entries = new ArrayList<>(size);
+        for (List<Entry<T>> domainEntries : domains.values()) {
+            entries.addAll(domainEntries);
+        }
+        return toCookies(entries);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int countByDomain(String domain) {
+        return domains.getOrDefault(domain, Collections.emptyList()).size();
+    }
+
+    /**
+     * Checks whether there is a session cookie for the given domain, one of its parent domains or one of its
+     * subdomains.
+     *
+     * @param domain the domain
+     * @return true if such a session cookie exists
+     */
+    public boolean hasSessionCookieRelatedTo(String domain) {
+        for (List<Entry<T>> entries : domains.values()) {
+            for (Entry<T> entry : entries) {
+                String cookieDomain = entry.domain;
+                if (!entry.persistent && cookieDomain != null && (cookieDomain.equals(domain)
+                        || domain.endsWith("." + cookieDomain) || cookieDomain.endsWith("." + domain))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    public boolean isPersistentCookiesLoaded() {
+        return persistentCookiesLoaded;
+    }
+
+    public void setPersistentCookiesLoaded() {
+        this.persistentCookiesLoaded = true;
+    }
+
+    private static <T> void collectMatches(List<Entry<T>> entries, boolean exactDomain, String path, boolean secure,
+                                           boolean httpOnly, List<Entry<T>> matches) {
+        if (entries == null) {
+            return;
+        }
+        for (Entry<T> entry : entries) {
+            if ((exactDomain || !entry.hostOnly) && (secure || !entry.secure) && (httpOnly || !entry.httpOnly)
+                    && matchesPath(path, entry.path)) {
+                matches.add(entry);
+            }
+        }
+    }
+
+    // Based on https://tools.ietf.org/html/rfc6265#section-5.1.4
+    static boolean matchesPath(String requestPath, String cookiePath) {
+        if (cookiePath == null) {
+            return false;
+        }
+        if (cookiePath.equals(requestPath)) {
+            return true;
+        }
+        return requestPath.startsWith(cookiePath) && (cookiePath.endsWith("/")
+                || requestPath.charAt(cookiePath.length()) == '/');
+    }
+
+    private static <T> List<T> toCookies(List<Entry<T>> entries) {
+        entries.sort(STORE_ORDER);
+        List<T> cookies = new ArrayList<>(entries.size());
+        for (Entry<T> entry : entries) {
+            cookies.add(entry.cookie);
+        }
+        return cookies;
+    }
+
+    /**
+     * A cookie stored in the index together with the attributes used to match it.
+     *
+     * @param <T> the type of the cookie value
+     */
+    public static class Entry<T> {
+
+        private final T cookie;
+        private final String name;
+        private final String domain;
+        private final String path;
+        private final boolean hostOnly;
+        private final boolean secure;
+        private final boolean httpOnly;
+        private final boolean persistent;
+        private final long sequence;
+
+        Entry(T cookie, String name, String domain, String path, boolean hostOnly, boolean secure, boolean httpOnly,
+              boolean persistent, long sequence) {
+            this.cookie = cookie;
+            this.name = name;
+            this.domain = domain;
+            this.path = path;
+            this.hostOnly = hostOnly;
+            this.secure = secure;
+            this.httpOnly = httpOnly;
+            this.persistent = persistent;
+            this.sequence = sequence;
+        }
+
+        public T getCookie() {
+            return cookie;
+        }
+
+        public boolean isPersistent() {
+            return persistent;
+        }
+
+        private boolean isIdentical(String name, String path) {
+            return this.name.equals(name) && Objects.equals(this.path, path);
+        }
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.api.client.cookie;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The CSV file of a persistent cookie handler, kept as an append-only journal. Storing a cookie appends its record,
+ * and removing a cookie appends a tombstone record holding only the name, the domain and the path of the cookie. The
+ * file is replayed once into memory, and it is rewritten with only the live records when it has grown to twice their
+ * number.
+ */
+public class CookieJournal {
+
+    static final int RECORD_LENGTH = 11;
+    static final int TOMBSTONE_LENGTH = 3;
+    private static final int MIN_COMPACTION_LINES = 64;
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private final Path file;
+    private final Map<List<String>, String[]> records = new LinkedHashMap<>();
+    private boolean loaded;
+    private int lines;
+
+    public CookieJournal(String fileName) {
+        this.file = Paths.get(fileName);
+    }
+
+    public synchronized boolean exists() {
+        return Files.exists(file);
+    }
+
+    /**
+     * Stores a cookie record, replacing the record with the same name, domain and path.
+     *
+     * @param record the name, value, domain, path, expires, maxAge, httpOnly, secure, createdTime, lastAccessedTime
+     *               and hostOnly attributes of the cookie
+     * @throws IOException if the file cannot be read or written
+     */
+    public synchronized void store(String[] record) throws IOException {
+        if (record.length != RECORD_LENGTH) {
+            throw new IllegalArgumentException("Invalid cookie record length: " + record.length);
+        }
+        load();
+        List<String> key = keyOf(record);
+        records.remove(key);
+        records.put(key, record);
+        append(record);
+    }
+
+    /**
+     * Removes the cookie record with the given name, domain and path.
+     *
+     * @param name   the name of the cookie
+     * @param domain the domain of the cookie
+     * @param path   the path of the cookie
+     * @return false if there is no such record
+     * @throws IOException if the file cannot be read or written
+     */
+    public synchronized boolean remove(String name, String domain, String path) throws IOException {
+        load();
+        if (records.remove(Arrays.asList(name, domain, path)) == null) {
+            return false;
+        }
+        append(new String[]{name, domain, path});
+        return true;
+    }
+
+    /**
+     * Gets the live cookie records, in the order they were stored.
+     *
+     * @return the cookie records
+     * @throws IOException if the file cannot be read
+     */
+    public synchronized List<String[]> getAll() throws IOException {
+        load();
+        return new ArrayList<>(records.values());
+    }
+
+    public synchronized void clear() {
+        records.clear();
+        lines = 0;
+        loaded = false;
+    }
+
+    synchronized int getLines() {
+        return lines;
+    }
+
+    private void load() throws IOException {
+        if (!Files.exists(file)) {
+            // The file is the source of truth, so the records are dropped with it
+            records.clear();
+            lines = 0;
+            loaded = true;
+            return;
+        }
+        if (loaded) {
+            return;
+        }
+        records.clear();
+        lines = 0;
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            if (line.isEmpty()) {
+                continue;
+            }
+            String[] record = parse(line);
+            if (record.length == RECORD_LENGTH) {
+                List<String> key = keyOf(record);
+                records.remove(key);
+                records.put(key, record);
+            } else if (record.length == TOMBSTONE_LENGTH) {
+                records.remove(keyOf(record));
+            } else {
+                throw new IOException("Invalid cookie record at line " + (lines + 1) + " of " + file);
+            }
+            lines++;
+        }
+        loaded = true;
+    }
+
+    private void append(String[] record) throws IOException {
+        if (!Files.exists(file) || (lines >= MIN_COMPACTION_LINES && lines >= 2 * records.size())) {
+            compact();
+            return;
+        }
+        Files.write(file, format(record).getBytes(StandardCharsets.UTF_8), StandardOpenOption.CREATE,
+                    StandardOpenOption.APPEND);
+        lines++;
+    }
+
+    private void compact() throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (String[] record : records.values()) {
+            content.append(format(record));
+        }
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+        Files.write(tempFile, content.toString().getBytes(StandardCharsets.UTF_8));
+        try {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+        lines = records.size();
+    }
+
+    private static List<String> keyOf(String[] record) {
+        return record.length == TOMBSTONE_LENGTH ? Arrays.asList(record) :
+                Arrays.asList(record[0], record[2], record[3]);
+    }
+
+    static String format(String[] record) {
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < record.length; i++) {
+            if (i > 0) {
+                line.append(',');
+            }
+            String field = record[i];
+            if (field.indexOf(',') >= 0 || field.indexOf('"') >= 0 || field.indexOf('\n') >= 0
+                    || field.indexOf('\r') >= 0) {
+                line.append('"').append(field.replace("\"", "\"\"")).append('"');
+            } else {
+                line.append(field);
+            }
+        }
+        return line.append('\n').toString();
+    }
+
+    static String[] parse(String line) {
+        List<String> fields = new ArrayList<>(RECORD_LENGTH);
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields.toArray(new String[0]);
+    }
+}
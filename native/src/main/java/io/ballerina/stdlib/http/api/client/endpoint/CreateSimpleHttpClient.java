@@ -28,6 +28,7 @@ import io.ballerina.stdlib.http.api.HttpErrorType;
 import io.ballerina.stdlib.http.api.HttpUtil;
 import io.ballerina.stdlib.http.transport.contract.HttpClientConnector;
 import io.ballerina.stdlib.http.transport.contract.config.SenderConfiguration;
+import io.ballerina.stdlib.http.transport.contract.config.SocketTransport;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.pool.ConnectionManager;
 import io.ballerina.stdlib.http.transport.message.HttpConnectorUtil;
 
@@ -42,7 +43,10 @@ import static io.ballerina.stdlib.http.api.HttpConstants.SOCKET_CONFIG_KEEP_ALIV
 import static io.ballerina.stdlib.http.api.HttpConstants.SOCKET_CONFIG_RECEIVE_BUFFER_SIZE;
 import static io.ballerina.stdlib.http.api.HttpConstants.SOCKET_CONFIG_SEND_BUFFER_SIZE;
 import static io.ballerina.stdlib.http.api.HttpConstants.SOCKET_CONFIG_SOCKET_REUSE;
+import static io.ballerina.stdlib.http.api.HttpConstants.SOCKET_CONFIG_TCP_FAST_OPEN;
 import static io.ballerina.stdlib.http.api.HttpConstants.SOCKET_CONFIG_TCP_NO_DELAY;
+import static io.ballerina.stdlib.http.api.HttpConstants.SOCKET_CONFIG_TCP_QUICK_ACK;
+import static io.ballerina.stdlib.http.api.HttpConstants.SOCKET_CONFIG_TRANSPORT;
 import static io.ballerina.stdlib.http.api.HttpUtil.getConnectionManager;
 import static io.ballerina.stdlib.http.api.HttpUtil.populateSenderConfigurations;
 import static io.ballerina.stdlib.http.transport.contract.Constants.HTTP_2_0_VERSION;
@@ -170,6 +174,12 @@ public class CreateSimpleHttpClient {
         senderConfig.setSocketReuse(socketReuse);
         boolean keepAlive = clientSocketConfig.getBooleanValue(SOCKET_CONFIG_KEEP_ALIVE);
         senderConfig.setSocketKeepAlive(keepAlive);
+        String transport = clientSocketConfig.getStringValue(SOCKET_CONFIG_TRANSPORT).getValue();
+        senderConfig.setSocketTransport(SocketTransport.valueOf(transport));
+        boolean tcpFastOpen = clientSocketConfig.getBooleanValue(SOCKET_CONFIG_TCP_FAST_OPEN);
+        senderConfig.setTcpFastOpen(tcpFastOpen);
+        boolean tcpQuickAck = clientSocketConfig.getBooleanValue(SOCKET_CONFIG_TCP_QUICK_ACK);
+        senderConfig.setTcpQuickAck(tcpQuickAck);
     }
 
     private CreateSimpleHttpClient() {
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.api.client.resiliency;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The load of one backend of a load balance client: the number of requests in progress, a peak-sensitive
+ * exponentially weighted moving average of the latency and a decaying count of the failed requests.
+ * <p>
+ * A latency higher than the current average replaces it right away, while a lower one is blended in with a weight
+ * which grows with the time passed since the last sample. The average and the failure count also decay towards zero
+ * while no request completes, so a backend which was slow or failing is tried again after a while. The samples are
+ * applied with a compare and set, so recording a request never takes a lock.
+ */
+public class BackendLoad {
+
+    static final long DECAY_TIME_NANOS = 10_000_000_000L;
+    // A failed request is accounted as at least this slow, so a backend which fails fast does not attract the traffic
+    static final long FAILURE_PENALTY_NANOS = 1_000_000_000L;
+    // A recent failure counts as this many requests in progress for the least outstanding requests selection
+    static final int FAILURE_PENALTY_REQUESTS = 5;
+
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private final AtomicReference<Ewma> ewma = new AtomicReference<>(new Ewma(0, 0, 0));
+
+    /**
+     * Records a request sent to the backend.
+     *
+     * @param now the current time in nanoseconds
+     * @return the start time of the request, to be passed to {@link #end(long, long, boolean)}
+     */
+    public long start(long now) {
+        outstanding.incrementAndGet();
+        return now;
+    }
+
+    /**
+     * Records the completion of a request sent to the backend.
+     *
+     * @param startTime the start time returned by {@link #start(long)}
+     * @param now       the current time in nanoseconds
+     * @param failed    whether the request failed
+     */
+    public void end(long startTime, long now, boolean failed) {
+        outstanding.decrementAndGet();
+        long latency = Math.max(0, now - startTime);
+        if (failed) {
+            latency = Math.max(latency, FAILURE_PENALTY_NANOS);
+        }
+        for (;;) {
+            Ewma current = ewma.get();
+            double average = current.valueAt(now);
+            double failures = current.failuresAt(now) + (failed ? 1 : 0);
+            Ewma next;
+            if (latency > average) {
+                next = new Ewma(latency, failures, now);
+            } else {
+                double weight = Math.exp(-(double) (now - current.timestamp) / DECAY_TIME_NANOS);
+                next = new Ewma(current.value * weight + latency * (1 - weight), failures, now);
+            }
+            if (ewma.compareAndSet(current, next)) {
+                return;
+            }
+        }
+    }
+
+    public int getOutstanding() {
+        return outstanding.get();
+    }
+
+    /**
+     * Gets the cost of sending a new request to the backend for the least outstanding requests selection, which is
+     * the number of requests in progress increased by a penalty for the recent failures.
+     *
+     * @param now the current time in nanoseconds
+     * @return the outstanding requests cost of the backend
+     */
+    public double getOutstandingCost(long now) {
+        return outstanding.get() + ewma.get().failuresAt(now) * FAILURE_PENALTY_REQUESTS;
+    }
+
+    /**
+     * Gets the cost of sending a new request to the backend, which is the average latency scaled by the number of
+     * requests in progress.
+     *
+     * @param now the current time in nanoseconds
+     * @return the cost of the backend
+     */
+    public double getCost(long now) {
+        return ewma.get().valueAt(now) * (outstanding.get() + 1);
+    }
+
+    private static class Ewma {
+
+        private final double value;
+        private final double failures;
+        private final long timestamp;
+
+        Ewma(double value, double failures, long timestamp) {
+            this.value = value;
+            this.failures = failures;
+            this.timestamp = timestamp;
+        }
+
+        double valueAt(long now) {
+            return decay(value, now);
+        }
+
+        double failuresAt(long now) {
+            return decay(failures, now);
+        }
+
+        private double decay(double sample, long now) {
+            long idle = now - timestamp;
+            return idle > 0 ? sample * Math.exp(-(double) idle / DECAY_TIME_NANOS) : sample;
+        }
+    }
+}
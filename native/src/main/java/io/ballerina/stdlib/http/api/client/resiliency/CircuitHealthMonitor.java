@@ -0,0 +1,299 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.api.client.resiliency;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Tracks the health of the upstream service of a circuit breaker and the state of its circuit, without locking.
+ * <p>
+ * The rolling window is a ring of buckets, each covering one bucket size worth of time. The slot of a bucket is found
+ * from the time elapsed since the monitor was created, and a bucket left over from an earlier round of the ring is
+ * replaced by a new one through a compare-and-set, so no request is counted in a bucket which is later cleared. The
+ * counters of a bucket are {@link LongAdder}s, which spread the updates of concurrent requests over separate cells.
+ * The state of the circuit is changed through a compare-and-set as well, so only one of the requests which see the
+ * same condition performs the transition.
+ */
+public class CircuitHealthMonitor {
+
+    public static final int CLOSED = 0;
+    public static final int OPEN = 1;
+    public static final int HALF_OPEN = 2;
+
+    public static final int NO_TRANSITION = 0;
+    public static final int TRIPPED = 1;
+    public static final int RESET_TIMEOUT_REACHED = 2;
+    public static final int TRIAL_FAILED = 3;
+    public static final int TRIAL_SUCCEEDED = 4;
+
+    private static final int TRANSITION_SHIFT = 2;
+    private static final int STATE_MASK = (1 << TRANSITION_SHIFT) - 1;
+
+    private final AtomicReferenceArray<Bucket> buckets;
+    private final long bucketSizeNanos;
+    private final long resetTimeNanos;
+    private final long requestVolumeThreshold;
+    private final double failureThreshold;
+    private final LongSupplier clock;
+    private final long startTime;
+    private final AtomicInteger state = new AtomicInteger(CLOSED);
+    private volatile boolean lastRequestSuccess;
+    private volatile long lastErrorTime;
+    private volatile long lastForcedOpenTime;
+
+    public CircuitHealthMonitor(int noOfBuckets, double bucketSizeInSeconds, double resetTimeInSeconds,
+                                long requestVolumeThreshold, double failureThreshold) {
+        this(noOfBuckets, bucketSizeInSeconds, resetTimeInSeconds, requestVolumeThreshold, failureThreshold,
+             System::nanoTime);
+    }
+
+    CircuitHealthMonitor(int noOfBuckets, double bucketSizeInSeconds, double resetTimeInSeconds,
+                         long requestVolumeThreshold, double failureThreshold, LongSupplier clock) {
+        this.buckets = new AtomicReferenceArray<>(Math.max(1, noOfBuckets));
+        this.bucketSizeNanos = Math.max(1, (long) (bucketSizeInSeconds * 1_000_000_000L));
+        this.resetTimeNanos = (long) (resetTimeInSeconds * 1_000_000_000L);
+        this.requestVolumeThreshold = requestVolumeThreshold;
+        this.failureThreshold = failureThreshold;
+        this.clock = clock;
+        this.startTime = clock.getAsLong();
+        this.lastErrorTime = startTime;
+        this.lastForcedOpenTime = startTime;
+        clearBuckets();
+    }
+
+    /**
+     * Updates the state of the circuit for a new request and counts the request in the current bucket. The request
+     * itself is not taken into account when deciding the state.
+     * <p>
+     * The state the request should see is returned together with the transition, as reading the state again after
+     * this call could see the transition of a concurrent request instead. The request which switches the circuit to
+     * the half-open state is the trial request, so it must not see the circuit opened again by a request which
+     * follows it before the outcome of the trial is known.
+     *
+     * @return the state of the circuit for this request and the transition made by this call, packed into one value
+     * which is unpacked with {@link #stateOf(int)} and {@link #transitionOf(int)}
+     */
+    public int onRequest() {
+        long now = clock.getAsLong();
+        long epoch = epochOf(now);
+        int currentState = state.get();
+        int transition = NO_TRANSITION;
+        boolean attempted = true;
+        if (getTotalCount(epoch) >= requestVolumeThreshold) {
+            if (currentState == OPEN) {
+                transition = switchOpenToHalfOpenOnResetTime(now);
+            } else if (currentState == HALF_OPEN) {
+                if (!lastRequestSuccess) {
+                    // If the trial run has failed, trip the circuit again
+                    transition = state.compareAndSet(HALF_OPEN, OPEN) ? TRIAL_FAILED : NO_TRANSITION;
+                } else {
+                    // If the trial run was successful reset the circuit
+                    transition = state.compareAndSet(HALF_OPEN, CLOSED) ? TRIAL_SUCCEEDED : NO_TRANSITION;
+                }
+            } else if (getFailureRatio(epoch) > failureThreshold) {
+                transition = state.compareAndSet(CLOSED, OPEN) ? TRIPPED : NO_TRANSITION;
+            } else {
+                attempted = false;
+            }
+        } else if (currentState == OPEN) {
+            transition = switchOpenToHalfOpenOnResetTime(now);
+        } else {
+            attempted = false;
+        }
+        bucketOf(epoch).totalCount.increment();
+        int resultingState;
+        if (transition != NO_TRANSITION) {
+            resultingState = targetStateOf(transition);
+        } else if (attempted) {
+            // Either the condition did not hold or a concurrent request changed the state first
+            resultingState = state.get();
+        } else {
+            resultingState = currentState;
+        }
+        return transition << TRANSITION_SHIFT | resultingState;
+    }
+
+    /**
+     * Gets the state of the circuit for a request from the value returned by {@link #onRequest()}.
+     *
+     * @param result the value returned by {@link #onRequest()}
+     * @return {@link #CLOSED}, {@link #OPEN} or {@link #HALF_OPEN}
+     */
+    public static int stateOf(int result) {
+        return result & STATE_MASK;
+    }
+
+    /**
+     * Gets the transition made for a request from the value returned by {@link #onRequest()}.
+     *
+     * @param result the value returned by {@link #onRequest()}
+     * @return the transition, or {@link #NO_TRANSITION}
+     */
+    public static int transitionOf(int result) {
+        return result >> TRANSITION_SHIFT;
+    }
+
+    public void onSuccess() {
+        lastRequestSuccess = true;
+    }
+
+    public void onFailure() {
+        long now = clock.getAsLong();
+        bucketOf(epochOf(now)).failureCount.increment();
+        lastRequestSuccess = false;
+        lastErrorTime = now;
+    }
+
+    public void onRejection() {
+        bucketOf(epochOf(clock.getAsLong())).rejectedCount.increment();
+    }
+
+    /**
+     * Forces the circuit into the closed state, clearing the statistics of the rolling window.
+     */
+    public void forceClose() {
+        state.set(CLOSED);
+        clearBuckets();
+    }
+
+    /**
+     * Forces the circuit into the open state until the reset time elapses.
+     */
+    public void forceOpen() {
+        lastForcedOpenTime = clock.getAsLong();
+        state.set(OPEN);
+    }
+
+    public int getState() {
+        return state.get();
+    }
+
+    /**
+     * Gets the time left until the circuit is allowed to switch from the open state to the half-open state.
+     *
+     * @return the remaining time in seconds, rounded to the nearest second
+     */
+    public long getRemainingResetTime() {
+        long elapsed = clock.getAsLong() - getEffectiveErrorTime();
+        return Math.round((resetTimeNanos - elapsed) / 1_000_000_000d);
+    }
+
+    long getTotalCount() {
+        return getTotalCount(epochOf(clock.getAsLong()));
+    }
+
+    double getFailureRatio() {
+        return getFailureRatio(epochOf(clock.getAsLong()));
+    }
+
+    private static int targetStateOf(int transition) {
+        switch (transition) {
+            case TRIPPED:
+            case TRIAL_FAILED:
+                return OPEN;
+            case RESET_TIMEOUT_REACHED:
+                return HALF_OPEN;
+            default:
+                return CLOSED;
+        }
+    }
+
+    private int switchOpenToHalfOpenOnResetTime(long now) {
+        if (now - getEffectiveErrorTime() > resetTimeNanos && state.compareAndSet(OPEN, HALF_OPEN)) {
+            return RESET_TIMEOUT_REACHED;
+        }
+        return NO_TRANSITION;
+    }
+
+    private long getEffectiveErrorTime() {
+        return Math.max(lastErrorTime, lastForcedOpenTime);
+    }
+
+    private long getTotalCount(long epoch) {
+        long totalCount = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            Bucket bucket = buckets.get(i);
+            if (isInWindow(bucket, epoch)) {
+                totalCount += bucket.totalCount.sum();
+            }
+        }
+        return totalCount;
+    }
+
+    private double getFailureRatio(long epoch) {
+        long totalCount = 0;
+        long totalFailures = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            Bucket bucket = buckets.get(i);
+            if (isInWindow(bucket, epoch)) {
+                // The rejected requests are not sent to the upstream service, so they are not counted
+                totalCount += bucket.totalCount.sum() - bucket.rejectedCount.sum();
+                totalFailures += bucket.failureCount.sum();
+            }
+        }
+        return totalCount > 0 ? (double) totalFailures / totalCount : 0.0;
+    }
+
+    private boolean isInWindow(Bucket bucket, long epoch) {
+        return bucket.epoch <= epoch && bucket.epoch > epoch - buckets.length();
+    }
+
+    private long epochOf(long time) {
+        return (time - startTime) / bucketSizeNanos;
+    }
+
+    private Bucket bucketOf(long epoch) {
+        int index = (int) (epoch % buckets.length());
+        Bucket bucket = buckets.get(index);
+        while (bucket.epoch < epoch) {
+            Bucket newBucket = new Bucket(epoch);
+            if (buckets.compareAndSet(index, bucket, newBucket)) {
+                return newBucket;
+            }
+            bucket = buckets.get(index);
+        }
+        // A bucket of a later epoch means the slot moved on while this request was in progress, in which case the
+        // request is counted in the newer bucket
+        return bucket;
+    }
+
+    private void clearBuckets() {
+        for (int i = 0; i < buckets.length(); i++) {
+            buckets.set(i, new Bucket(-1));
+        }
+    }
+
+    /**
+     * A discrete sub-part of the rolling window.
+     */
+    private static class Bucket {
+
+        private final long epoch;
+        private final LongAdder totalCount = new LongAdder();
+        private final LongAdder failureCount = new LongAdder();
+        private final LongAdder rejectedCount = new LongAdder();
+
+        Bucket(long epoch) {
+            this.epoch = epoch;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.api.client.resiliency;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntFunction;
+
+/**
+ * The selection algorithms of the built-in load balancer rules. The backends are given by their index in the array of
+ * clients, and neither the algorithms nor the {@link BackendLoad} updates take a lock. An empty slot of the array has
+ * no load and is never preferred.
+ */
+public class LoadBalancerSelector {
+
+    /**
+     * Selects the backend with the least requests in progress, where each recent failure of a backend counts as
+     * several requests in progress. The scan starts at a random backend, so the ties do not always go to the first one.
+     *
+     * @param size  the number of backends
+     * @param loads the load of each backend
+     * @param now   the current time in nanoseconds
+     * @return the index of the selected backend
+     */
+    public static int selectLeastOutstanding(int size, IntFunction<BackendLoad> loads, long now) {
+        int start = size > 1 ? ThreadLocalRandom.current().nextInt(size) : 0;
+        int selected = start;
+        double leastOutstanding = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < size; i++) {
+            int index = (start + i) % size;
+            BackendLoad load = loads.apply(index);
+            double outstanding = load != null ? load.getOutstandingCost(now) : Double.POSITIVE_INFINITY;
+            if (outstanding < leastOutstanding) {
+                leastOutstanding = outstanding;
+                selected = index;
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * Selects the cheaper one of two backends picked at random, where the cost is the peak EWMA latency scaled by the
+     * requests in progress. Comparing only two backends keeps a backend which just became cheap from being flooded by
+     * all the concurrent selections. If both picks are empty slots, the least outstanding backend is selected instead.
+     *
+     * @param size  the number of backends
+     * @param loads the load of each backend
+     * @param now   the current time in nanoseconds
+     * @return the index of the selected backend
+     */
+    public static int selectPeakEwma(int size, IntFunction<BackendLoad> loads, long now) {
+        if (size < 2) {
+            return 0;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(size);
+        int second = random.nextInt(size - 1);
+        if (second >= first) {
+            second++;
+        }
+        BackendLoad firstLoad = loads.apply(first);
+        BackendLoad secondLoad = loads.apply(second);
+        if (firstLoad == null && secondLoad == null) {
+            return selectLeastOutstanding(size, loads, now);
+        }
+        return getCost(firstLoad, now) <= getCost(secondLoad, now) ? first : second;
+    }
+
+    private static double getCost(BackendLoad load, long now) {
+        return load != null ? load.getCost(now) : Double.POSITIVE_INFINITY;
+    }
+
+    private LoadBalancerSelector() {}
+}
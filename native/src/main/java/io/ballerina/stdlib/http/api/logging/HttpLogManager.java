@@ -36,8 +36,10 @@ import java.util.logging.SocketHandler;
 
 import static io.ballerina.stdlib.http.api.HttpConstants.HTTP_ACCESS_LOG;
 import static io.ballerina.stdlib.http.api.HttpConstants.HTTP_ACCESS_LOG_ENABLED;
+import static io.ballerina.stdlib.http.api.HttpConstants.HTTP_ACCESS_LOG_FORMAT;
 import static io.ballerina.stdlib.http.api.HttpConstants.HTTP_LOG_CONSOLE;
 import static io.ballerina.stdlib.http.api.HttpConstants.HTTP_LOG_FILE_PATH;
+import static io.ballerina.stdlib.http.api.HttpConstants.HTTP_LOG_FORMAT;
 import static io.ballerina.stdlib.http.api.HttpConstants.HTTP_TRACE_LOG;
 import static io.ballerina.stdlib.http.api.HttpConstants.HTTP_TRACE_LOG_ENABLED;
 import static io.ballerina.stdlib.http.api.HttpConstants.HTTP_TRACE_LOG_HOST;
@@ -162,6 +164,10 @@ public class HttpLogManager extends LogManager {
         }
 
         if (accessLogsEnabled) {
+            BString format = accessLogConfig.getStringValue(HTTP_LOG_FORMAT);
+            if (format != null) {
+                System.setProperty(HTTP_ACCESS_LOG_FORMAT, format.getValue());
+            }
             System.setProperty(HTTP_ACCESS_LOG_ENABLED, "true");
             stdErr.println("ballerina: " + protocol + " access log enabled");
         }
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.api.nativeimpl;
+
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.http.api.client.resiliency.CircuitHealthMonitor;
+
+/**
+ * Utilities related to the circuit breaker client. The health of the circuit is tracked by a
+ * {@link CircuitHealthMonitor} attached to the Ballerina CircuitBreakerClient object.
+ *
+ * @since 2.10.4
+ */
+public class ExternCircuitBreaker {
+
+    private static final String CIRCUIT_HEALTH_MONITOR = "CIRCUIT_HEALTH_MONITOR";
+
+    public static void initCircuitHealth(BObject circuitBreaker, long noOfBuckets, BDecimal bucketSize,
+                                         BDecimal resetTime, long requestVolumeThreshold, double failureThreshold) {
+        circuitBreaker.addNativeData(CIRCUIT_HEALTH_MONITOR, new CircuitHealthMonitor(
+                (int) noOfBuckets, bucketSize.floatValue(), resetTime.floatValue(), requestVolumeThreshold,
+                failureThreshold));
+    }
+
+    public static long onRequest(BObject circuitBreaker) {
+        return getMonitor(circuitBreaker).onRequest();
+    }
+
+    public static void onSuccess(BObject circuitBreaker) {
+        getMonitor(circuitBreaker).onSuccess();
+    }
+
+    public static void onFailure(BObject circuitBreaker) {
+        getMonitor(circuitBreaker).onFailure();
+    }
+
+    public static void onRejection(BObject circuitBreaker) {
+        getMonitor(circuitBreaker).onRejection();
+    }
+
+    public static void forceClose(BObject circuitBreaker) {
+        getMonitor(circuitBreaker).forceClose();
+    }
+
+    public static void forceOpen(BObject circuitBreaker) {
+        getMonitor(circuitBreaker).forceOpen();
+    }
+
+    public static long getState(BObject circuitBreaker) {
+        return getMonitor(circuitBreaker).getState();
+    }
+
+    public static long getRemainingResetTime(BObject circuitBreaker) {
+        return getMonitor(circuitBreaker).getRemainingResetTime();
+    }
+
+    private static CircuitHealthMonitor getMonitor(BObject circuitBreaker) {
+        return (CircuitHealthMonitor) circuitBreaker.getNativeData(CIRCUIT_HEALTH_MONITOR);
+    }
+
+    private ExternCircuitBreaker() {}
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.api.nativeimpl;
+
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.http.api.client.cookie.CookieIndex;
+import io.ballerina.stdlib.http.api.client.cookie.CookieJournal;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Utilities related to the cookie store and the CSV persistent cookie handler. The cookies of a cookie store are kept
+ * in a {@link CookieIndex} attached to the Ballerina CookieStore object, and the file of a CSV persistent cookie
+ * handler is managed by a {@link CookieJournal} attached to the handler object.
+ *
+ * @since 2.10.4
+ */
+public class ExternCookieStore {
+
+    private static final String COOKIE_INDEX = "COOKIE_INDEX";
+    private static final String COOKIE_JOURNAL = "COOKIE_JOURNAL";
+    private static final BString NAME = StringUtils.fromString("name");
+    private static final BString DOMAIN = StringUtils.fromString("domain");
+    private static final BString PATH = StringUtils.fromString("path");
+    private static final BString HOST_ONLY = StringUtils.fromString("hostOnly");
+    private static final BString SECURE = StringUtils.fromString("secure");
+    private static final BString HTTP_ONLY = StringUtils.fromString("httpOnly");
+    private static final int NOT_FOUND = 0;
+    private static final int SESSION_COOKIE_REMOVED = 1;
+    private static final int PERSISTENT_COOKIE_REMOVED = 2;
+
+    public static void initCookieIndex(BObject cookieStore) {
+        cookieStore.addNativeData(COOKIE_INDEX, new CookieIndex<BObject>());
+    }
+
+    public static void addCookie(BObject cookieStore, BObject cookie, boolean persistent) {
+        getCookieIndex(cookieStore).add(cookie, cookie.getStringValue(NAME).getValue(), getString(cookie, DOMAIN),
+                                        getString(cookie, PATH), cookie.getBooleanValue(HOST_ONLY),
+                                        cookie.getBooleanValue(SECURE), cookie.getBooleanValue(HTTP_ONLY), persistent);
+    }
+
+    public static long removeCookie(BObject cookieStore, BString name, BString domain, BString path) {
+        CookieIndex.Entry<BObject> removed = getCookieIndex(cookieStore).remove(name.getValue(), domain.getValue(),
+                                                                               path.getValue());
+        if (removed == null) {
+            return NOT_FOUND;
+        }
+        return removed.isPersistent() ? PERSISTENT_COOKIE_REMOVED : SESSION_COOKIE_REMOVED;
+    }
+
+    public static void removeAllCookies(BObject cookieStore) {
+        getCookieIndex(cookieStore).clear();
+    }
+
+    public static Object getIdenticalCookie(BObject cookieStore, BObject cookie) {
+        return getCookieIndex(cookieStore).get(cookie.getStringValue(NAME).getValue(), getString(cookie, DOMAIN),
+                                               getString(cookie, PATH));
+    }
+
+    public static void getCookies(BObject cookieStore, BString domain, BString path, boolean secure,
+                                  boolean httpOnly, BArray cookies) {
+        appendAll(getCookieIndex(cookieStore).match(domain.getValue(), path.getValue(), secure, httpOnly), cookies);
+    }
+
+    public static void getAllCookies(BObject cookieStore, BArray cookies) {
+        appendAll(getCookieIndex(cookieStore).getAll(), cookies);
+    }
+
+    public static long getCookieCount(BObject cookieStore) {
+        return getCookieIndex(cookieStore).size();
+    }
+
+    public static long getCookieCountByDomain(BObject cookieStore, BString domain) {
+        return getCookieIndex(cookieStore).countByDomain(domain.getValue());
+    }
+
+    public static boolean hasSessionCookieRelatedTo(BObject cookieStore, BString domain) {
+        return getCookieIndex(cookieStore).hasSessionCookieRelatedTo(domain.getValue());
+    }
+
+    public static boolean isPersistentCookiesLoaded(BObject cookieStore) {
+        return getCookieIndex(cookieStore).isPersistentCookiesLoaded();
+    }
+
+    public static void setPersistentCookiesLoaded(BObject cookieStore) {
+        getCookieIndex(cookieStore).setPersistentCookiesLoaded();
+    }
+
+    public static void initCookieJournal(BObject cookieHandler, BString fileName) {
+        cookieHandler.addNativeData(COOKIE_JOURNAL, new CookieJournal(fileName.getValue()));
+    }
+
+    public static Object storeCookieRecord(BObject cookieHandler, BArray cookieRecord) {
+        try {
+            getCookieJournal(cookieHandler).store(cookieRecord.getStringArray());
+            return null;
+        } catch (IOException | IllegalArgumentException e) {
+            return ErrorCreator.createError(StringUtils.fromString(e.getMessage()));
+        }
+    }
+
+    public static Object removeCookieRecord(BObject cookieHandler, BString name, BString domain, BString path) {
+        try {
+            return getCookieJournal(cookieHandler).remove(name.getValue(), domain.getValue(), path.getValue());
+        } catch (IOException e) {
+            return ErrorCreator.createError(StringUtils.fromString(e.getMessage()));
+        }
+    }
+
+    public static Object getAllCookieRecords(BObject cookieHandler, BArray cookieRecords) {
+        try {
+            for (String[] cookieRecord : getCookieJournal(cookieHandler).getAll()) {
+                cookieRecords.append(ValueCreator.createArrayValue(StringUtils.fromStringArray(cookieRecord)));
+            }
+            return null;
+        } catch (IOException e) {
+            return ErrorCreator.createError(StringUtils.fromString(e.getMessage()));
+        }
+    }
+
+    public static void clearCookieRecords(BObject cookieHandler) {
+        getCookieJournal(cookieHandler).clear();
+    }
+
+    private static void appendAll(List<BObject> source, BArray cookies) {
+        for (BObject cookie : source) {
+            cookies.append(cookie);
+        }
+    }
+
+    private static String getString(BObject cookie, BString field) {
+        Object value = cookie.get(field);
+        return value != null ? value.toString() : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static CookieIndex<BObject> getCookieIndex(BObject cookieStore) {
+        return (CookieIndex<BObject>) cookieStore.getNativeData(COOKIE_INDEX);
+    }
+
+    private static CookieJournal getCookieJournal(BObject cookieHandler) {
+        return (CookieJournal) cookieHandler.getNativeData(COOKIE_JOURNAL);
+    }
+
+    private ExternCookieStore() {}
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.api.nativeimpl;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.Future;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.http.api.HttpConstants;
+import io.ballerina.stdlib.http.api.HttpUtil;
+import io.ballerina.stdlib.http.api.client.caching.CachedResponse;
+import io.ballerina.stdlib.http.api.client.caching.HttpResponseStore;
+import io.ballerina.stdlib.http.api.client.caching.RequestCoalescer;
+import io.ballerina.stdlib.http.transport.message.HttpCarbonResponse;
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
+
+import static io.ballerina.stdlib.http.api.HttpConstants.HTTP_HEADERS;
+
+/**
+ * Utilities related to the storage of the HTTP caching client. The responses are kept in a {@link HttpResponseStore}
+ * attached to the Ballerina HttpCache object, and a new response object is created from the stored response on each
+ * lookup.
+ *
+ * @since 2.10.4
+ */
+public class ExternHttpCache {
+
+    private static final String RESPONSE_STORE = "RESPONSE_STORE";
+    private static final String REQUEST_COALESCER = "REQUEST_COALESCER";
+    private static final String CACHED_RESPONSE = "CACHED_RESPONSE";
+    private static final String WEAK_VALIDATOR_TAG = "W/";
+
+    public static void initResponseStore(BObject cache, long capacity, long maxSizeInBytes) {
+        cache.addNativeData(RESPONSE_STORE,
+                            new HttpResponseStore((int) Math.min(capacity, Integer.MAX_VALUE), maxSizeInBytes));
+        cache.addNativeData(REQUEST_COALESCER, new RequestCoalescer());
+    }
+
+    public static void put(BObject cache, BString key, BObject request, BObject response, BArray payload) {
+        HttpHeaders headers = (HttpHeaders) response.getNativeData(HTTP_HEADERS);
+        HttpHeaders storedHeaders = headers != null ? headers.copy() : new DefaultHttpHeaders();
+        byte[] bytes = payload.getBytes();
+        if (storedHeaders.contains(HttpHeaderNames.TRANSFER_ENCODING)) {
+            // The payload is already aggregated, so it is served with its length
+            storedHeaders.remove(HttpHeaderNames.TRANSFER_ENCODING);
+            storedHeaders.set(HttpHeaderNames.CONTENT_LENGTH, bytes.length);
+        }
+        Object resolvedRequestedUri = response.get(HttpConstants.RESOLVED_REQUESTED_URI_FIELD);
+        CachedResponse cachedResponse = new CachedResponse(
+                (int) response.getIntValue(HttpConstants.RESPONSE_STATUS_CODE_FIELD),
+                response.getStringValue(HttpConstants.RESPONSE_REASON_PHRASE_FIELD).getValue(), storedHeaders,
+                bytes, (HttpHeaders) request.getNativeData(HTTP_HEADERS),
+                response.get(HttpConstants.RESPONSE_CACHE_CONTROL_FIELD),
+                response.get(HttpConstants.RESPONSE_REQUEST_TIME_FIELD),
+                response.get(HttpConstants.RESPONSE_RECEIVED_TIME_FIELD),
+                resolvedRequestedUri != null ? resolvedRequestedUri.toString() : null);
+        getResponseStore(cache).put(key.getValue(), cachedResponse);
+    }
+
+    public static Object get(BObject cache, BString key, BObject request) {
+        CachedResponse cachedResponse = getResponseStore(cache).get(key.getValue(),
+                                                                    (HttpHeaders) request.getNativeData(HTTP_HEADERS));
+        return cachedResponse != null ? createResponse(cachedResponse) : null;
+    }
+
+    public static Object getAll(BObject cache, BString key) {
+        return createResponses(getResponseStore(cache).getAll(key.getValue(), response -> true));
+    }
+
+    public static Object getAllByETag(BObject cache, BString key, BString etag, boolean weak) {
+        String validator = etag.getValue();
+        Predicate<CachedResponse> filter;
+        if (weak) {
+            filter = response -> response.getETag() != null && weakValidatorEquals(validator, response.getETag());
+        } else {
+            filter = response -> validator.equals(response.getETag()) && !validator.startsWith(WEAK_VALIDATOR_TAG);
+        }
+        return createResponses(getResponseStore(cache).getAll(key.getValue(), filter));
+    }
+
+    public static boolean hasKey(BObject cache, BString key) {
+        return getResponseStore(cache).containsKey(key.getValue());
+    }
+
+    public static void remove(BObject cache, BString key) {
+        getResponseStore(cache).remove(key.getValue());
+    }
+
+    public static boolean startFlight(BObject cache, BString key) {
+        return getRequestCoalescer(cache).start(key.getValue());
+    }
+
+    public static void endFlight(BObject cache, BString key) {
+        getRequestCoalescer(cache).end(key.getValue());
+    }
+
+    public static Object awaitFlight(Environment env, BObject cache, BString key, BDecimal maxWait) {
+        long maxWaitMillis = Math.max(1, (long) (maxWait.floatValue() * 1000));
+        CompletableFuture<Boolean> flight = getRequestCoalescer(cache).await(key.getValue(), maxWaitMillis);
+        if (flight.isDone()) {
+            return flight.join();
+        }
+        Future balFuture = env.markAsync();
+        flight.thenAccept(balFuture::complete);
+        return null;
+    }
+
+    public static void update(BObject response) {
+        CachedResponse cachedResponse = (CachedResponse) response.getNativeData(CACHED_RESPONSE);
+        HttpHeaders headers = (HttpHeaders) response.getNativeData(HTTP_HEADERS);
+        if (cachedResponse != null && headers != null) {
+            cachedResponse.setHeaders(headers.copy());
+        }
+    }
+
+    public static boolean isSameEntry(BObject response, BObject other) {
+        Object cachedResponse = response.getNativeData(CACHED_RESPONSE);
+        return cachedResponse != null && cachedResponse == other.getNativeData(CACHED_RESPONSE);
+    }
+
+    private static HttpResponseStore getResponseStore(BObject cache) {
+        return (HttpResponseStore) cache.getNativeData(RESPONSE_STORE);
+    }
+
+    private static RequestCoalescer getRequestCoalescer(BObject cache) {
+        return (RequestCoalescer) cache.getNativeData(REQUEST_COALESCER);
+    }
+
+    private static BObject createResponse(CachedResponse cachedResponse) {
+        int statusCode = cachedResponse.getStatusCode();
+        HttpCarbonResponse responseMsg = new HttpCarbonResponse(new DefaultHttpResponse(
+                HttpVersion.HTTP_1_1, new HttpResponseStatus(statusCode, cachedResponse.getReasonPhrase()),
+                cachedResponse.getHeaders().copy()));
+        responseMsg.setHttpStatusCode(statusCode);
+        if (cachedResponse.getResolvedRequestedUri() != null) {
+            responseMsg.setProperty(HttpConstants.RESOLVED_REQUESTED_URI, cachedResponse.getResolvedRequestedUri());
+        }
+        // The payload wraps the stored bytes without copying them. Nothing needs to be released, so the responses
+        // which are dropped without reading the body, such as the ones looked up to be validated, do not leak
+        responseMsg.addHttpContent(new DefaultLastHttpContent(cachedResponse.getContent()));
+
+        BObject response = HttpUtil.createResponseStruct(responseMsg, cachedResponse.getCacheControl());
+        if (cachedResponse.getRequestTime() != null) {
+            response.set(HttpConstants.RESPONSE_REQUEST_TIME_FIELD, cachedResponse.getRequestTime());
+        }
+        if (cachedResponse.getReceivedTime() != null) {
+            response.set(HttpConstants.RESPONSE_RECEIVED_TIME_FIELD, cachedResponse.getReceivedTime());
+        }
+        response.addNativeData(CACHED_RESPONSE, cachedResponse);
+        return response;
+    }
+
+    private static BArray createResponses(List<CachedResponse> cachedResponses) {
+        if (cachedResponses.isEmpty()) {
+            return null;
+        }
+        BObject[] responses = new BObject[cachedResponses.size()];
+        for (int i = 0; i < responses.length; i++) {
+            responses[i] = createResponse(cachedResponses.get(i));
+        }
+        return ValueCreator.createArrayValue(responses, TypeCreator.createArrayType(responses[0].getOriginalType()));
+    }
+
+    private static boolean weakValidatorEquals(String etag1, String etag2) {
+        String validatorPortion1 = etag1.startsWith(WEAK_VALIDATOR_TAG) ? etag1.substring(2) : etag1;
+        String validatorPortion2 = etag2.startsWith(WEAK_VALIDATOR_TAG) ? etag2.substring(2) : etag2;
+        return validatorPortion1.equals(validatorPortion2);
+    }
+
+    private ExternHttpCache() {}
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.api.nativeimpl;
+
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.http.api.client.resiliency.BackendLoad;
+import io.ballerina.stdlib.http.api.client.resiliency.LoadBalancerSelector;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Utilities related to the load balance client and its built-in rules. The load of a backend is tracked by a
+ * {@link BackendLoad} attached to its Ballerina client object.
+ *
+ * @since 2.10.4
+ */
+public class ExternLoadBalancer {
+
+    private static final String BACKEND_LOAD = "BACKEND_LOAD";
+    private static final String ROUND_ROBIN_COUNTER = "ROUND_ROBIN_COUNTER";
+
+    public static void initBackendLoad(BObject client) {
+        client.addNativeData(BACKEND_LOAD, new BackendLoad());
+    }
+
+    public static long startRequest(BObject client) {
+        return getBackendLoad(client).start(System.nanoTime());
+    }
+
+    public static void endRequest(BObject client, long startTime, boolean failed) {
+        getBackendLoad(client).end(startTime, System.nanoTime(), failed);
+    }
+
+    public static void initRoundRobinCounter(BObject rule) {
+        rule.addNativeData(ROUND_ROBIN_COUNTER, new AtomicLong());
+    }
+
+    public static long nextRoundRobinIndex(BObject rule, long size) {
+        AtomicLong counter = (AtomicLong) rule.getNativeData(ROUND_ROBIN_COUNTER);
+        return size > 0 ? Math.floorMod(counter.getAndIncrement(), size) : 0;
+    }
+
+    public static long selectLeastOutstanding(BArray clients) {
+        return LoadBalancerSelector.selectLeastOutstanding(clients.size(), index -> getBackendLoad(clients, index),
+                                                           System.nanoTime());
+    }
+
+    public static long selectPeakEwma(BArray clients) {
+        return LoadBalancerSelector.selectPeakEwma(clients.size(), index -> getBackendLoad(clients, index),
+                                                   System.nanoTime());
+    }
+
+    private static BackendLoad getBackendLoad(BArray clients, int index) {
+        BObject client = (BObject) clients.getRefValue(index);
+        return client != null ? getBackendLoad(client) : null;
+    }
+
+    private static BackendLoad getBackendLoad(BObject client) {
+        BackendLoad load = (BackendLoad) client.getNativeData(BACKEND_LOAD);
+        if (load == null) {
+            // Clients which were not created by a load balance client are tracked from their first selection
+            synchronized (client) {
+                load = (BackendLoad) client.getNativeData(BACKEND_LOAD);
+                if (load == null) {
+                    load = new BackendLoad();
+                    client.addNativeData(BACKEND_LOAD, load);
+                }
+            }
+        }
+        return load;
+    }
+
+    private ExternLoadBalancer() {}
+}
@@ -29,6 +29,7 @@ import io.ballerina.stdlib.http.api.HttpConstants;
 import io.ballerina.stdlib.http.api.HttpErrorType;
 import io.ballerina.stdlib.http.api.HttpUtil;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+import io.ballerina.stdlib.http.uri.QueryParamView;
 import io.ballerina.stdlib.http.uri.URIUtil;
 import io.ballerina.stdlib.mime.util.EntityBodyHandler;
 
@@ -71,10 +72,7 @@ public class ExternRequest {
             HttpCarbonMessage httpCarbonMessage = (HttpCarbonMessage) requestObj
                     .getNativeData(HttpConstants.TRANSPORT_MESSAGE);
             BMap<BString, Object> params = ValueCreator.createMapValue(mapType);
-            Object rawQueryString = httpCarbonMessage.getProperty(HttpConstants.RAW_QUERY_STR);
-            if (rawQueryString != null) {
-                URIUtil.populateQueryParamMap((String) rawQueryString, params);
-            }
+            QueryParamView.fromMessage(httpCarbonMessage).populate(params);
             requestObj.addNativeData(QUERY_PARAM_MAP, params);
             return params;
         } catch (Exception e) {
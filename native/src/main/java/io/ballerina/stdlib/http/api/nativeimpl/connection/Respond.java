@@ -35,20 +35,20 @@ import io.ballerina.stdlib.http.api.HttpDispatcher;
 import io.ballerina.stdlib.http.api.HttpErrorType;
 import io.ballerina.stdlib.http.api.HttpResponseInterceptorUnitCallback;
 import io.ballerina.stdlib.http.api.HttpUtil;
+import io.ballerina.stdlib.http.api.InterceptorChain;
 import io.ballerina.stdlib.http.api.InterceptorService;
 import io.ballerina.stdlib.http.api.client.caching.ResponseCacheControlObj;
 import io.ballerina.stdlib.http.api.nativeimpl.pipelining.PipelinedResponse;
 import io.ballerina.stdlib.http.api.util.CacheUtils;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+import io.ballerina.stdlib.http.transport.message.MessageProperties;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.List;
-
 import static io.ballerina.runtime.observability.ObservabilityConstants.PROPERTY_KEY_HTTP_STATUS_CODE;
-import static io.ballerina.stdlib.http.api.HttpConstants.INTERCEPTOR_SERVICES_REGISTRIES;
+import static io.ballerina.stdlib.http.api.HttpConstants.INTERCEPTOR_CHAIN;
 import static io.ballerina.stdlib.http.api.HttpConstants.OBSERVABILITY_CONTEXT_PROPERTY;
 import static io.ballerina.stdlib.http.api.HttpConstants.RESPONSE_CACHE_CONTROL_FIELD;
 import static io.ballerina.stdlib.http.api.HttpConstants.RESPONSE_STATUS_CODE_FIELD;
@@ -182,26 +182,22 @@ public class Respond extends ConnectionAction {
     public static boolean invokeResponseInterceptor(Environment env, HttpCarbonMessage inboundMessage,
                                                     BObject outboundResponseObj, BObject callerObj,
                                                     DataContext dataContext) {
-        List<HTTPInterceptorServicesRegistry> interceptorServicesRegistries =
-                (List<HTTPInterceptorServicesRegistry>) inboundMessage.getProperty(INTERCEPTOR_SERVICES_REGISTRIES);
-        if (interceptorServicesRegistries.isEmpty()) {
+        InterceptorChain interceptorChain = (InterceptorChain) inboundMessage.getProperty(INTERCEPTOR_CHAIN);
+        if (interceptorChain.size() == 0) {
             return false;
         }
-        int interceptorServiceIndex = getResponseInterceptorIndex(inboundMessage, interceptorServicesRegistries.size());
+        int interceptorServiceIndex = getResponseInterceptorIndex(inboundMessage, interceptorChain.size());
         while (interceptorServiceIndex >= 0) {
-            HTTPInterceptorServicesRegistry interceptorServicesRegistry = interceptorServicesRegistries.
-                    get(interceptorServiceIndex);
+            InterceptorChain.Interceptor interceptor = interceptorChain.get(interceptorServiceIndex);
 
-            if (!interceptorServicesRegistry.getServicesType().equals(
-                    inboundMessage.getResponseInterceptorServiceState())) {
+            if (!interceptor.getServicesType().equals(inboundMessage.getResponseInterceptorServiceState())) {
                 interceptorServiceIndex -= 1;
                 inboundMessage.setProperty(HttpConstants.RESPONSE_INTERCEPTOR_INDEX, interceptorServiceIndex);
                 continue;
             }
 
             try {
-                InterceptorService service = HttpDispatcher.findInterceptorService(interceptorServicesRegistry,
-                                             inboundMessage, true);
+                InterceptorService service = interceptor.getService();
                 if (service == null) {
                     throw new BallerinaConnectorException("no Interceptor Service found to handle the response");
                 }
@@ -209,7 +205,7 @@ public class Respond extends ConnectionAction {
                 interceptorServiceIndex -= 1;
                 inboundMessage.setProperty(HttpConstants.RESPONSE_INTERCEPTOR_INDEX, interceptorServiceIndex);
                 startInterceptResponseMethod(inboundMessage, outboundResponseObj, callerObj, service, env,
-                        interceptorServicesRegistry, dataContext);
+                        interceptor.getRegistry(), dataContext);
                 return true;
             } catch (Exception e) {
                 throw HttpUtil.createHttpError(e.getMessage(), HttpErrorType.GENERIC_LISTENER_ERROR);
@@ -226,8 +222,8 @@ public class Respond extends ConnectionAction {
     private static int getResponseInterceptorIndex(HttpCarbonMessage inboundMessage, int interceptorsCount) {
         if (inboundMessage.getProperty(HttpConstants.RESPONSE_INTERCEPTOR_INDEX) != null) {
             return (int) inboundMessage.getProperty(HttpConstants.RESPONSE_INTERCEPTOR_INDEX);
-        } else if (inboundMessage.getProperty(HttpConstants.REQUEST_INTERCEPTOR_INDEX) != null) {
-            return (int) inboundMessage.getProperty(HttpConstants.REQUEST_INTERCEPTOR_INDEX) - 1;
+        } else if (inboundMessage.getProperty(MessageProperties.REQUEST_INTERCEPTOR_INDEX_SLOT) != null) {
+            return (int) inboundMessage.getProperty(MessageProperties.REQUEST_INTERCEPTOR_INDEX_SLOT) - 1;
         } else {
             return interceptorsCount - 1;
         }
@@ -26,15 +26,13 @@ import io.ballerina.stdlib.http.api.HttpResourceArguments;
 import io.ballerina.stdlib.http.api.HttpUtil;
 import io.ballerina.stdlib.http.api.Resource;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+import io.ballerina.stdlib.http.transport.message.MessageProperties;
 
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 
-import static io.ballerina.stdlib.http.api.HttpConstants.EXTRA_PATH_INDEX;
 import static io.ballerina.stdlib.http.api.HttpConstants.PERCENTAGE;
 import static io.ballerina.stdlib.http.api.HttpConstants.PERCENTAGE_ENCODED;
 import static io.ballerina.stdlib.http.api.HttpConstants.PLUS_SIGN;
@@ -68,18 +66,20 @@ public class AllPathParams implements Parameter {
             return;
         }
         HttpResourceArguments resourceArgumentValues =
-                (HttpResourceArguments) httpCarbonMessage.getProperty(HttpConstants.RESOURCE_ARGS);
-        updateWildcardToken(resource.getWildcardToken(), allPathParams.size() - 1, resourceArgumentValues.getMap());
+                (HttpResourceArguments) httpCarbonMessage.getProperty(MessageProperties.RESOURCE_ARGS_SLOT);
+        int restParamPosition = resource.getWildcardToken() != null ? allPathParams.size() - 1 : -1;
         for (PathParam pathParam : allPathParams) {
             String paramToken = pathParam.getToken();
             Type paramType = pathParam.getOriginalType();
             int paramTypeTag = pathParam.getEffectiveTypeTag();
             int index = pathParam.getIndex();
-            String argumentValue = resourceArgumentValues.getMap().get(paramToken).get(index / 2);
+            int position = index / 2;
+            String argumentValue = position == restParamPosition ? resourceArgumentValues.getExtraPathInfo() :
+                    resourceArgumentValues.getValue(position);
             if (argumentValue.endsWith(PERCENTAGE)) {
-                argumentValue = argumentValue.replaceAll(PERCENTAGE, PERCENTAGE_ENCODED);
+                argumentValue = argumentValue.replace(PERCENTAGE, PERCENTAGE_ENCODED);
             }
-            argumentValue = URLDecoder.decode(argumentValue.replaceAll(PLUS_SIGN, PLUS_SIGN_ENCODED),
+            argumentValue = URLDecoder.decode(argumentValue.replace(PLUS_SIGN, PLUS_SIGN_ENCODED),
                     StandardCharsets.UTF_8);
 
             Object castedPathValue;
@@ -107,18 +107,4 @@ public class AllPathParams implements Parameter {
             paramFeed[index] = true;
         }
     }
-
-    private static void updateWildcardToken(String wildcardToken, int wildCardIndex,
-                                            Map<String, Map<Integer, String>> arguments) {
-        if (wildcardToken == null) {
-            return;
-        }
-        String wildcardPathSegment = arguments.get(HttpConstants.EXTRA_PATH_INFO).get(EXTRA_PATH_INDEX);
-        if (arguments.containsKey(wildcardToken)) {
-            Map<Integer, String> indexValueMap = arguments.get(wildcardToken);
-            indexValueMap.put(wildCardIndex, wildcardPathSegment);
-        } else {
-            arguments.put(wildcardToken, Collections.singletonMap(wildCardIndex, wildcardPathSegment));
-        }
-    }
 }
@@ -18,14 +18,12 @@
 
 package io.ballerina.stdlib.http.api.service.signature;
 
-import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.utils.ValueUtils;
 import io.ballerina.runtime.api.values.BArray;
-import io.ballerina.runtime.api.values.BMap;
-import io.ballerina.runtime.api.values.BString;
 import io.ballerina.stdlib.http.api.HttpConstants;
 import io.ballerina.stdlib.http.api.HttpUtil;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+import io.ballerina.stdlib.http.uri.QueryParamView;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -58,14 +56,13 @@ public class AllQueryParams implements Parameter {
 
     public void populateFeed(HttpCarbonMessage httpCarbonMessage, ParamHandler paramHandler, Object[] paramFeed,
                              boolean treatNilableAsOptional) {
-        BMap<BString, Object> urlQueryParams = paramHandler
-                .getQueryParams(httpCarbonMessage.getProperty(HttpConstants.RAW_QUERY_STR));
+        QueryParamView urlQueryParams = QueryParamView.fromMessage(httpCarbonMessage);
         for (QueryParam queryParam : allQueryParams) {
             String token = queryParam.getToken();
             int index = queryParam.getIndex();
-            boolean queryExist = urlQueryParams.containsKey(StringUtils.fromString(token));
-            Object queryValue = urlQueryParams.get(StringUtils.fromString(token));
-            if (queryValue == null) {
+            BArray queryValueArr = urlQueryParams.get(token);
+            if (queryValueArr == null) {
+                boolean queryExist = urlQueryParams.containsKey(token);
                 if (queryParam.isDefaultable()) {
                     paramFeed[index++] = queryParam.validateConstraints(queryParam.getOriginalType().getZeroValue());
                     paramFeed[index] = false;
@@ -81,7 +78,6 @@ public class AllQueryParams implements Parameter {
             }
             Object castedQueryValue;
             try {
-                BArray queryValueArr = (BArray) queryValue;
                 Object parsedQueryValue;
                 if (queryParam.isArray()) {
                     parsedQueryValue = castParamArray(queryParam.getEffectiveTypeTag(),
@@ -18,10 +18,6 @@
 
 package io.ballerina.stdlib.http.api.service.signature;
 
-import io.ballerina.runtime.api.PredefinedTypes;
-import io.ballerina.runtime.api.creators.TypeCreator;
-import io.ballerina.runtime.api.creators.ValueCreator;
-import io.ballerina.runtime.api.types.MapType;
 import io.ballerina.runtime.api.types.ResourceMethodType;
 import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.utils.IdentifierUtils;
@@ -32,12 +28,9 @@ import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTypedesc;
 import io.ballerina.stdlib.http.api.HttpConstants;
-import io.ballerina.stdlib.http.api.HttpErrorType;
 import io.ballerina.stdlib.http.api.HttpUtil;
 import io.ballerina.stdlib.http.api.nativeimpl.ModuleUtils;
-import io.ballerina.stdlib.http.uri.URIUtil;
 
-import java.io.UnsupportedEncodingException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -75,8 +68,6 @@ public class ParamHandler {
     private final boolean constraintValidation;
 
     private static final String PARAM_ANNOT_PREFIX = "$param$.";
-    private static final MapType MAP_TYPE = TypeCreator.createMapType(
-            TypeCreator.createArrayType(PredefinedTypes.TYPE_STRING));
     private static final String CALLER_TYPE = PROTOCOL_HTTP + COLON + HttpConstants.CALLER;
     private static final String REQ_TYPE = PROTOCOL_HTTP + COLON + HttpConstants.REQUEST;
     private static final String HEADERS_TYPE = PROTOCOL_HTTP + COLON + HttpConstants.HEADERS;
@@ -281,27 +272,12 @@ public class ParamHandler {
         return payloadParam != null;
     }
 
-    public List<Parameter> getParamList() {
-        return this.paramList;
+    public int getParamCount() {
+        return this.paramTypes.length;
     }
 
-    /**
-     * Gets the map of query params for given raw query string.
-     *
-     * @return a map of query params
-     */
-    public BMap<BString, Object> getQueryParams(Object rawQueryString) {
-        BMap<BString, Object> queryParams = ValueCreator.createMapValue(MAP_TYPE);
-
-        if (rawQueryString != null) {
-            try {
-                URIUtil.populateQueryParamMap((String) rawQueryString, queryParams);
-            } catch (UnsupportedEncodingException e) {
-                throw HttpUtil.createHttpError("error while retrieving query param from message: " + e.getMessage(),
-                        HttpErrorType.GENERIC_LISTENER_ERROR);
-            }
-        }
-        return queryParams;
+    public List<Parameter> getParamList() {
+        return this.paramList;
     }
 
     public Type getCallerInfoType() {
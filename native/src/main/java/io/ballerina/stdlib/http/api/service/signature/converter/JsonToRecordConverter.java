@@ -24,7 +24,25 @@ import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BRefValue;
 import io.ballerina.stdlib.http.api.BallerinaConnectorException;
+import io.ballerina.stdlib.http.api.HttpErrorType;
+import io.ballerina.stdlib.http.api.HttpUtil;
+import io.ballerina.stdlib.io.channels.base.Channel;
+import io.ballerina.stdlib.mime.util.EntityBodyChannel;
 import io.ballerina.stdlib.mime.util.EntityBodyHandler;
+import io.ballerina.stdlib.mime.util.EntityWrapper;
+import io.ballerina.stdlib.mime.util.MimeUtil;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+import static io.ballerina.stdlib.mime.util.MimeConstants.ENTITY_BYTE_CHANNEL;
 
 /**
  * The converter binds the JSON payload to a record.
@@ -33,6 +51,8 @@ import io.ballerina.stdlib.mime.util.EntityBodyHandler;
  */
 public class JsonToRecordConverter {
 
+    private static final String CHARSET_PARAM = "charset=";
+
     public static Object convert(Type type, BObject entity, boolean readonly) {
         Object recordEntity = getRecordEntity(entity, type);
         if (readonly && recordEntity instanceof BRefValue) {
@@ -42,8 +62,16 @@ public class JsonToRecordConverter {
     }
 
     private static Object getRecordEntity(BObject entity, Type entityBodyType) {
-        Object bjson = EntityBodyHandler.getMessageDataSource(entity) == null ? getBJsonValue(entity)
-                : EntityBodyHandler.getMessageDataSource(entity);
+        Object dataSource = EntityBodyHandler.getMessageDataSource(entity);
+        if (dataSource == null && StreamingJsonToRecordConverter.isSupported(entityBodyType) &&
+                EntityBodyHandler.getByteChannel(entity) != null && isUtf8Encoded(entity)) {
+            Object record = getStreamedRecord(entity, entityBodyType);
+            if (record != StreamingJsonToRecordConverter.MISMATCH) {
+                return record;
+            }
+            dataSource = EntityBodyHandler.getMessageDataSource(entity);
+        }
+        Object bjson = dataSource == null ? getBJsonValue(entity) : dataSource;
         Object result = getRecord(entityBodyType, bjson);
         if (result instanceof BError) {
             throw (BError) result;
@@ -67,6 +95,56 @@ public class JsonToRecordConverter {
         }
     }
 
+    /**
+     * Bind the payload to the record while reading it from the entity body, without constructing the ballerina
+     * json. The bytes are recorded as they are read, and are put back as the entity body once the record is bound,
+     * so that a later read of the payload sees the same content. On a mismatch, the json is constructed from the
+     * recorded bytes followed by the unread rest of the body and set as the message data source, so that the
+     * fallback conversion does not read the entity again.
+     *
+     * @param entity         Represents inbound request entity
+     * @param entityBodyType Represents entity body type
+     * @return the relevant ballerina record or {@link StreamingJsonToRecordConverter#MISMATCH}
+     */
+    private static Object getStreamedRecord(BObject entity, Type entityBodyType) {
+        Channel byteChannel = EntityBodyHandler.getByteChannel(entity);
+        try {
+            PayloadRecorder payload = new PayloadRecorder(byteChannel.getInputStream());
+            Object record = StreamingJsonToRecordConverter.convert(entityBodyType, new InputStreamReader(
+                    payload, StandardCharsets.UTF_8));
+            if (record != StreamingJsonToRecordConverter.MISMATCH) {
+                entity.addNativeData(ENTITY_BYTE_CHANNEL, new EntityWrapper(
+                        new EntityBodyChannel(payload.getRecordedBytes())));
+                return record;
+            }
+            Object bjson = EntityBodyHandler.constructJsonDataSource(entity, new SequenceInputStream(
+                    payload.getRecordedBytes(), payload.getUnreadBytes()));
+            EntityBodyHandler.addJsonMessageDataSource(entity, bjson);
+            return StreamingJsonToRecordConverter.MISMATCH;
+        } catch (IOException e) {
+            throw HttpUtil.createHttpError(e.getMessage(), HttpErrorType.CLIENT_ERROR);
+        } finally {
+            try {
+                byteChannel.close();
+            } catch (IOException e) {
+                // The body has been read to the end or recorded, hence the channel is not used anymore
+            }
+        }
+    }
+
+    private static boolean isUtf8Encoded(BObject entity) {
+        String contentType = MimeUtil.getContentTypeWithParameters(entity);
+        if (contentType == null) {
+            return true;
+        }
+        int index = contentType.toLowerCase(Locale.ROOT).indexOf(CHARSET_PARAM);
+        if (index < 0) {
+            return true;
+        }
+        String charset = contentType.substring(index + CHARSET_PARAM.length()).split(";", 2)[0].trim();
+        return StandardCharsets.UTF_8.name().equalsIgnoreCase(charset.replace("\"", ""));
+    }
+
     /**
      * Given an inbound request entity construct the ballerina json.
      *
@@ -82,4 +160,69 @@ public class JsonToRecordConverter {
     private JsonToRecordConverter() {
 
     }
+
+    /**
+     * Records the bytes read from the entity body, without closing the body when the reader is closed.
+     */
+    private static final class PayloadRecorder extends FilterInputStream {
+
+        private static final int SKIP_BUFFER_SIZE = 512;
+
+        private final RecordedBytes recordedBytes = new RecordedBytes();
+
+        PayloadRecorder(InputStream body) {
+            super(body);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+            if (value >= 0) {
+                recordedBytes.write(value);
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            int count = super.read(bytes, offset, length);
+            if (count > 0) {
+                recordedBytes.write(bytes, offset, count);
+            }
+            return count;
+        }
+
+        @Override
+        public long skip(long count) throws IOException {
+            byte[] skipped = new byte[(int) Math.min(count, SKIP_BUFFER_SIZE)];
+            return Math.max(read(skipped, 0, skipped.length), 0);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        InputStream getRecordedBytes() {
+            return recordedBytes.toInputStream();
+        }
+
+        InputStream getUnreadBytes() {
+            return in;
+        }
+    }
+
+    /**
+     * Byte buffer which is read back without copying its content.
+     */
+    private static final class RecordedBytes extends ByteArrayOutputStream {
+
+        InputStream toInputStream() {
+            return new ByteArrayInputStream(buf, 0, count);
+        }
+    }
 }
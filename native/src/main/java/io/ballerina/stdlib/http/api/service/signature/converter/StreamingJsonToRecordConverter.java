@@ -0,0 +1,345 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.api.service.signature.converter;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.UnionType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Binds a JSON payload to a record type while reading the tokens, without building the intermediate JSON value.
+ * A binder is compiled once per target type and supports named records whose fields are strings, ints, floats,
+ * decimals, booleans, nilable types, open arrays and other such records. Any other type is reported as
+ * unsupported, and a payload which does not exactly fit the type (unknown or missing fields, mismatched tokens,
+ * malformed JSON) is reported as a mismatch. In both cases the caller falls back to the JSON value based
+ * conversion, which remains the reference for the binding semantics and the error messages.
+ */
+public final class StreamingJsonToRecordConverter {
+
+    static final Object MISMATCH = new Object();
+
+    private static final Binder UNSUPPORTED = reader -> {
+        throw Mismatch.INSTANCE;
+    };
+    private static final Map<Type, Binder> BINDERS = new ConcurrentHashMap<>();
+
+    private static final Binder STRING_BINDER = reader -> {
+        expect(reader, JsonToken.STRING);
+        return StringUtils.fromString(reader.nextString());
+    };
+    private static final Binder INT_BINDER = reader -> {
+        expect(reader, JsonToken.NUMBER);
+        return Long.parseLong(reader.nextString());
+    };
+    private static final Binder FLOAT_BINDER = reader -> {
+        expect(reader, JsonToken.NUMBER);
+        double value = Double.parseDouble(reader.nextString());
+        if (Double.isInfinite(value)) {
+            throw Mismatch.INSTANCE;
+        }
+        return value;
+    };
+    private static final Binder DECIMAL_BINDER = reader -> {
+        expect(reader, JsonToken.NUMBER);
+        return ValueCreator.createDecimalValue(new BigDecimal(reader.nextString()));
+    };
+    private static final Binder BOOLEAN_BINDER = reader -> {
+        expect(reader, JsonToken.BOOLEAN);
+        return reader.nextBoolean();
+    };
+
+    /**
+     * Returns whether payloads of the given type can be bound by this converter.
+     *
+     * @param type target type
+     * @return true if a binder can be compiled for the type
+     */
+    static boolean isSupported(Type type) {
+        return getBinder(type) != UNSUPPORTED;
+    }
+
+    /**
+     * Binds the JSON document read from the source to the given type.
+     *
+     * @param type   target type
+     * @param source JSON document
+     * @return the bound value or {@link #MISMATCH} if the type is unsupported or the document does not fit the type
+     */
+    static Object convert(Type type, Reader source) {
+        Binder binder = getBinder(type);
+        if (binder == UNSUPPORTED) {
+            return MISMATCH;
+        }
+        try (JsonReader reader = new JsonReader(source)) {
+            Object value = binder.read(reader);
+            if (reader.peek() != JsonToken.END_DOCUMENT) {
+                return MISMATCH;
+            }
+            return value;
+        } catch (IOException | RuntimeException e) {
+            return MISMATCH;
+        }
+    }
+
+    private static Binder getBinder(Type type) {
+        return BINDERS.computeIfAbsent(type, key -> {
+            Binder binder = compile(key, new HashMap<>());
+            return binder != null ? binder : UNSUPPORTED;
+        });
+    }
+
+    private static Binder compile(Type type, Map<Type, RecordBinder> recordsInProgress) {
+        Type referredType = TypeUtils.getReferredType(type);
+        switch (referredType.getTag()) {
+            case TypeTags.STRING_TAG:
+                return STRING_BINDER;
+            case TypeTags.INT_TAG:
+                return INT_BINDER;
+            case TypeTags.FLOAT_TAG:
+                return FLOAT_BINDER;
+            case TypeTags.DECIMAL_TAG:
+                return DECIMAL_BINDER;
+            case TypeTags.BOOLEAN_TAG:
+                return BOOLEAN_BINDER;
+            case TypeTags.UNION_TAG:
+                return compileNilable((UnionType) referredType, recordsInProgress);
+            case TypeTags.ARRAY_TAG:
+                return compileArray((ArrayType) referredType, recordsInProgress);
+            case TypeTags.RECORD_TYPE_TAG:
+                return compileRecord((RecordType) referredType, recordsInProgress);
+            default:
+                return null;
+        }
+    }
+
+    private static Binder compileNilable(UnionType unionType, Map<Type, RecordBinder> recordsInProgress) {
+        List<Type> memberTypes = unionType.getMemberTypes();
+        if (memberTypes.size() != 2) {
+            return null;
+        }
+        Type nonNilType;
+        if (TypeUtils.getReferredType(memberTypes.get(0)).getTag() == TypeTags.NULL_TAG) {
+            nonNilType = memberTypes.get(1);
+        } else if (TypeUtils.getReferredType(memberTypes.get(1)).getTag() == TypeTags.NULL_TAG) {
+            nonNilType = memberTypes.get(0);
+        } else {
+            return null;
+        }
+        Binder binder = compile(nonNilType, recordsInProgress);
+        if (binder == null) {
+            return null;
+        }
+        return reader -> {
+            if (reader.peek() == JsonToken.NULL) {
+                reader.nextNull();
+                return null;
+            }
+            return binder.read(reader);
+        };
+    }
+
+    private static Binder compileArray(ArrayType arrayType, Map<Type, RecordBinder> recordsInProgress) {
+        if (arrayType.getState() != ArrayType.ArrayState.OPEN) {
+            return null;
+        }
+        Binder elementBinder = compile(arrayType.getElementType(), recordsInProgress);
+        if (elementBinder == null) {
+            return null;
+        }
+        int elementTag = TypeUtils.getReferredType(arrayType.getElementType()).getTag();
+        return reader -> {
+            expect(reader, JsonToken.BEGIN_ARRAY);
+            BArray array = ValueCreator.createArrayValue(arrayType);
+            reader.beginArray();
+            while (reader.hasNext()) {
+                append(array, elementTag, elementBinder.read(reader));
+            }
+            reader.endArray();
+            return array;
+        };
+    }
+
+    private static void append(BArray array, int elementTag, Object element) {
+        long index = array.size();
+        switch (elementTag) {
+            case TypeTags.STRING_TAG:
+                array.add(index, (BString) element);
+                break;
+            case TypeTags.INT_TAG:
+                array.add(index, (long) element);
+                break;
+            case TypeTags.FLOAT_TAG:
+                array.add(index, (double) element);
+                break;
+            case TypeTags.BOOLEAN_TAG:
+                array.add(index, (boolean) element);
+                break;
+            default:
+                array.add(index, element);
+        }
+    }
+
+    private static Binder compileRecord(RecordType recordType, Map<Type, RecordBinder> recordsInProgress) {
+        RecordBinder inProgress = recordsInProgress.get(recordType);
+        if (inProgress != null) {
+            return inProgress;
+        }
+        // Anonymous records cannot be created with their default values through the module
+        if (recordType.getName().startsWith("$") || recordType.getPackage() == null) {
+            return null;
+        }
+        Map<String, Field> fields = recordType.getFields();
+        RecordBinder recordBinder = new RecordBinder(recordType);
+        recordsInProgress.put(recordType, recordBinder);
+        Map<String, FieldSlot> slots = new HashMap<>();
+        long requiredMask = 0;
+        int requiredCount = 0;
+        for (Map.Entry<String, Field> entry : fields.entrySet()) {
+            Field field = entry.getValue();
+            long flags = field.getFlags();
+            if (SymbolFlags.isFlagOn(flags, SymbolFlags.READONLY)) {
+                return null;
+            }
+            Binder binder = compile(field.getFieldType(), recordsInProgress);
+            if (binder == null) {
+                return null;
+            }
+            long requiredBit = 0;
+            if (SymbolFlags.isFlagOn(flags, SymbolFlags.REQUIRED)) {
+                if (requiredCount == Long.SIZE) {
+                    return null;
+                }
+                requiredBit = 1L << requiredCount++;
+                requiredMask |= requiredBit;
+            }
+            slots.put(entry.getKey(), new FieldSlot(StringUtils.fromString(entry.getKey()), binder, requiredBit));
+        }
+        recordBinder.fields = slots;
+        recordBinder.requiredMask = requiredMask;
+        return recordBinder;
+    }
+
+    private static void expect(JsonReader reader, JsonToken token) throws IOException {
+        if (reader.peek() != token) {
+            throw Mismatch.INSTANCE;
+        }
+    }
+
+    private StreamingJsonToRecordConverter() {
+    }
+
+    /**
+     * Reads a value of the compiled type from the current position of the reader.
+     */
+    private interface Binder {
+
+        Object read(JsonReader reader) throws IOException;
+    }
+
+    /**
+     * Binder of a record type. The fields are assigned after the binder is registered, so that the record can
+     * refer to itself through its fields.
+     */
+    private static final class RecordBinder implements Binder {
+
+        private final RecordType recordType;
+        private Map<String, FieldSlot> fields;
+        private long requiredMask;
+
+        RecordBinder(RecordType recordType) {
+            this.recordType = recordType;
+        }
+
+        @Override
+        public Object read(JsonReader reader) throws IOException {
+            expect(reader, JsonToken.BEGIN_OBJECT);
+            BMap<BString, Object> record = ValueCreator.createRecordValue(recordType.getPackage(),
+                                                                          recordType.getName());
+            long presentFields = 0;
+            reader.beginObject();
+            while (reader.hasNext()) {
+                FieldSlot slot = fields.get(reader.nextName());
+                if (slot == null) {
+                    throw Mismatch.INSTANCE;
+                }
+                record.put(slot.key, slot.binder.read(reader));
+                presentFields |= slot.requiredBit;
+            }
+            reader.endObject();
+            if ((presentFields & requiredMask) != requiredMask) {
+                throw Mismatch.INSTANCE;
+            }
+            return record;
+        }
+    }
+
+    /**
+     * Binder and the required field bit of a record field.
+     */
+    private static final class FieldSlot {
+
+        private final BString key;
+        private final Binder binder;
+        private final long requiredBit;
+
+        FieldSlot(BString key, Binder binder, long requiredBit) {
+            this.key = key;
+            this.binder = binder;
+            this.requiredBit = requiredBit;
+        }
+    }
+
+    /**
+     * Signals that the payload does not fit the type. A single instance without a stack trace is thrown, since the
+     * mismatch only triggers the fallback conversion.
+     */
+    private static final class Mismatch extends IOException {
+
+        private static final Mismatch INSTANCE = new Mismatch();
+
+        private Mismatch() {
+            super("payload does not fit the target type");
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
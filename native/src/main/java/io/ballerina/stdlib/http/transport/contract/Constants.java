@@ -37,6 +37,9 @@ public final class Constants {
     public static final String CLIENT_BOOTSTRAP_SO_REUSE = "client.bootstrap.socket.reuse";
     public static final String CLIENT_BOOTSTRAP_SO_TIMEOUT = "client.bootstrap.socket.timeout";
     public static final String CLIENT_BOOTSTRAP_WORKER_GROUP_SIZE = "client.bootstrap.worker.group.size";
+    public static final String CLIENT_BOOTSTRAP_TRANSPORT = "client.bootstrap.transport";
+    public static final String CLIENT_BOOTSTRAP_TCP_FASTOPEN = "client.bootstrap.tcp.fastopen";
+    public static final String CLIENT_BOOTSTRAP_TCP_QUICKACK = "client.bootstrap.tcp.quickack";
 
     //Server side SSL Parameters
     public static final String SSL_HANDLER = "ssl";
@@ -59,6 +62,10 @@ public final class Constants {
     public static final String SERVER_BOOTSTRAP_SO_REUSE = "server.bootstrap.socket.reuse";
     public static final String SERVER_BOOTSTRAP_SO_BACKLOG = "server.bootstrap.socket.backlog";
     public static final String SERVER_BOOTSTRAP_SO_TIMEOUT = "server.bootstrap.socket.timeout";
+    public static final String SERVER_BOOTSTRAP_TRANSPORT = "server.bootstrap.transport";
+    public static final String SERVER_BOOTSTRAP_SO_REUSEPORT = "server.bootstrap.socket.reuseport";
+    public static final String SERVER_BOOTSTRAP_TCP_FASTOPEN = "server.bootstrap.tcp.fastopen";
+    public static final String SERVER_BOOTSTRAP_TCP_QUICKACK = "server.bootstrap.tcp.quickack";
     // Boss group size of the server bootstrap
     public static final String SERVER_BOOTSTRAP_BOSS_GROUP_SIZE = "server.bootstrap.boss.group.size";
     //Worker group size of the server bootstrap
@@ -315,8 +322,7 @@ public final class Constants {
 
     // Access Logger related parameters
     public static final String ACCESS_LOG = "http.accesslog";
-    public static final String ACCESS_LOG_FORMAT =
-            "%1$s - - [%2$td/%2$tb/%2$tY:%2$tT %2$tz] \"%3$s %4$s %5$s\" %6$d %7$d \"%8$s\" \"%9$s\"";
+    public static final String ACCESS_LOG_FORMAT_PROPERTY = "http.accesslog.format";
 
     public static final String LISTENER_PORT = "LISTENER_PORT";
 
@@ -419,7 +425,8 @@ public final class Constants {
 
     public static final String SSL_CONNECTION_ERROR = "SSL connection failed";
 
-    public static final int HTTP_CARBON_MESSAGE_PROPERTIES_MAP_DEFAULT_SIZE = 64;
+    // System property to select the lock-free entity collector for the carbon messages
+    public static final String LOCK_FREE_ENTITY_COLLECTOR_ENABLED = "http.lockfree.entitycollector.enabled";
 
     public static final String INBOUND_REQUEST = "INBOUND_REQUEST";
     public static final String INBOUND_RESPONSE = "INBOUND_RESPONSE";
@@ -63,7 +63,12 @@ public class ListenerConfiguration extends SslConfiguration {
     private boolean tcpNoDelay;
     private boolean socketReuse;
     private boolean socketKeepAlive;
+    private SocketTransport socketTransport = SocketTransport.NIO;
+    private boolean reusePort;
+    private boolean tcpFastOpen;
+    private boolean tcpQuickAck;
     private int http2InitialWindowSize = 65535;
+    private ResponseCompressionConfig responseCompressionConfig = new ResponseCompressionConfig();
 
     public ListenerConfiguration() {
     }
@@ -275,6 +280,38 @@ public class ListenerConfiguration extends SslConfiguration {
         this.socketKeepAlive = keepAlive;
     }
 
+    public SocketTransport getSocketTransport() {
+        return socketTransport;
+    }
+
+    public void setSocketTransport(SocketTransport socketTransport) {
+        this.socketTransport = socketTransport;
+    }
+
+    public boolean isReusePort() {
+        return reusePort;
+    }
+
+    public void setReusePort(boolean reusePort) {
+        this.reusePort = reusePort;
+    }
+
+    public boolean isTcpFastOpen() {
+        return tcpFastOpen;
+    }
+
+    public void setTcpFastOpen(boolean tcpFastOpen) {
+        this.tcpFastOpen = tcpFastOpen;
+    }
+
+    public boolean isTcpQuickAck() {
+        return tcpQuickAck;
+    }
+
+    public void setTcpQuickAck(boolean tcpQuickAck) {
+        this.tcpQuickAck = tcpQuickAck;
+    }
+
     public int getHttp2InitialWindowSize() {
         return http2InitialWindowSize;
     }
@@ -282,4 +319,12 @@ public class ListenerConfiguration extends SslConfiguration {
     public void setHttp2InitialWindowSize(int http2InitialWindowSize) {
         this.http2InitialWindowSize = http2InitialWindowSize;
     }
+
+    public ResponseCompressionConfig getResponseCompressionConfig() {
+        return responseCompressionConfig;
+    }
+
+    public void setResponseCompressionConfig(ResponseCompressionConfig responseCompressionConfig) {
+        this.responseCompressionConfig = responseCompressionConfig;
+    }
 }
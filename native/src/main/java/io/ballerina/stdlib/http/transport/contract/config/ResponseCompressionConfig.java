@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contract.config;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Configuration for the compression of the response payloads sent by a listener.
+ */
+public class ResponseCompressionConfig {
+
+    public static final int DEFAULT_LEVEL = 6;
+
+    private List<String> encodings = new ArrayList<>(Arrays.asList("gzip", "deflate"));
+    private int level = DEFAULT_LEVEL;
+    private long minSize = 0;
+    private List<ContentTypeSettings> contentTypes = new ArrayList<>();
+    private long cacheSize = 0;
+
+    /**
+     * The content codings which may be applied, in the order of preference among the codings accepted by the client
+     * with the same quality.
+     */
+    public List<String> getEncodings() {
+        return encodings;
+    }
+
+    public void setEncodings(List<String> encodings) {
+        this.encodings = encodings;
+    }
+
+    /**
+     * The compression level on the gzip scale of 1 to 9.
+     */
+    public int getLevel() {
+        return level;
+    }
+
+    public void setLevel(int level) {
+        this.level = level;
+    }
+
+    /**
+     * The minimum size in bytes of a payload with a known length to be compressed.
+     */
+    public long getMinSize() {
+        return minSize;
+    }
+
+    public void setMinSize(long minSize) {
+        this.minSize = minSize;
+    }
+
+    public List<ContentTypeSettings> getContentTypes() {
+        return contentTypes;
+    }
+
+    public void addContentType(ContentTypeSettings contentTypeSettings) {
+        this.contentTypes.add(contentTypeSettings);
+    }
+
+    /**
+     * The maximum total size in bytes of the compressed payloads kept for reuse, or 0 if they are not kept.
+     */
+    public long getCacheSize() {
+        return cacheSize;
+    }
+
+    public void setCacheSize(long cacheSize) {
+        this.cacheSize = cacheSize;
+    }
+
+    /**
+     * Compression settings which override the listener wide ones for a media type or a media range such as
+     * {@code text/*}. A negative level or minimum size means the listener wide value applies.
+     */
+    public static class ContentTypeSettings {
+
+        private final String contentType;
+        private final boolean enabled;
+        private final int level;
+        private final long minSize;
+
+        public ContentTypeSettings(String contentType, boolean enabled, int level, long minSize) {
+            this.contentType = contentType;
+            this.enabled = enabled;
+            this.level = level;
+            this.minSize = minSize;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public int getLevel() {
+            return level;
+        }
+
+        public long getMinSize() {
+            return minSize;
+        }
+    }
+}
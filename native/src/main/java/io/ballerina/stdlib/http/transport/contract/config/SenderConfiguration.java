@@ -55,6 +55,9 @@ public class SenderConfiguration extends SslConfiguration {
     private boolean tcpNoDelay = true;
     private boolean socketReuse = false;
     private boolean socketKeepAlive = true;
+    private SocketTransport socketTransport = SocketTransport.NIO;
+    private boolean tcpFastOpen = false;
+    private boolean tcpQuickAck = false;
     private int http2InitialWindowSize = 65535;
 
     public SenderConfiguration() {
@@ -207,6 +210,30 @@ public class SenderConfiguration extends SslConfiguration {
         this.socketKeepAlive = socketKeepAlive;
     }
 
+    public SocketTransport getSocketTransport() {
+        return socketTransport;
+    }
+
+    public void setSocketTransport(SocketTransport socketTransport) {
+        this.socketTransport = socketTransport;
+    }
+
+    public boolean isTcpFastOpen() {
+        return tcpFastOpen;
+    }
+
+    public void setTcpFastOpen(boolean tcpFastOpen) {
+        this.tcpFastOpen = tcpFastOpen;
+    }
+
+    public boolean isTcpQuickAck() {
+        return tcpQuickAck;
+    }
+
+    public void setTcpQuickAck(boolean tcpQuickAck) {
+        this.tcpQuickAck = tcpQuickAck;
+    }
+
     public int getHttp2InitialWindowSize() {
         return http2InitialWindowSize;
     }
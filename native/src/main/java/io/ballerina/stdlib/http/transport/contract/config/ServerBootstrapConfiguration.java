@@ -32,6 +32,10 @@ public class ServerBootstrapConfiguration {
     private final int receiveBufferSize;
     private final int sendBufferSize;
     private final int soBackLog;
+    private final SocketTransport socketTransport;
+    private final boolean reusePort;
+    private final boolean tcpFastOpen;
+    private final boolean tcpQuickAck;
 
     public ServerBootstrapConfiguration(ListenerConfiguration listenerConfiguration) {
         this.connectTimeOut = listenerConfiguration.getConnectTimeOut();
@@ -41,6 +45,10 @@ public class ServerBootstrapConfiguration {
         this.socketReuse = listenerConfiguration.isSocketReuse();
         this.keepAlive = listenerConfiguration.isSocketKeepAlive();
         this.soBackLog = listenerConfiguration.getSoBackLog();
+        this.socketTransport = listenerConfiguration.getSocketTransport();
+        this.reusePort = listenerConfiguration.isReusePort();
+        this.tcpFastOpen = listenerConfiguration.isTcpFastOpen();
+        this.tcpQuickAck = listenerConfiguration.isTcpQuickAck();
     }
 
     public ServerBootstrapConfiguration(Map<String, Object> properties) {
@@ -64,6 +72,15 @@ public class ServerBootstrapConfiguration {
                 properties, Constants.SERVER_BOOTSTRAP_SO_REUSE, true);
 
         soBackLog = Util.getIntProperty(properties, Constants.SERVER_BOOTSTRAP_SO_BACKLOG, 100);
+
+        socketTransport = SocketTransport.valueOf(Util.getStringProperty(
+                properties, Constants.SERVER_BOOTSTRAP_TRANSPORT, SocketTransport.NIO.name()));
+
+        reusePort = Util.getBooleanProperty(properties, Constants.SERVER_BOOTSTRAP_SO_REUSEPORT, false);
+
+        tcpFastOpen = Util.getBooleanProperty(properties, Constants.SERVER_BOOTSTRAP_TCP_FASTOPEN, false);
+
+        tcpQuickAck = Util.getBooleanProperty(properties, Constants.SERVER_BOOTSTRAP_TCP_QUICKACK, false);
     }
 
     public boolean isTcpNoDelay() {
@@ -93,4 +110,20 @@ public class ServerBootstrapConfiguration {
     public int getSoBackLog() {
         return soBackLog;
     }
+
+    public SocketTransport getSocketTransport() {
+        return socketTransport;
+    }
+
+    public boolean isReusePort() {
+        return reusePort;
+    }
+
+    public boolean isTcpFastOpen() {
+        return tcpFastOpen;
+    }
+
+    public boolean isTcpQuickAck() {
+        return tcpQuickAck;
+    }
 }
@@ -165,6 +165,18 @@ public class SslConfiguration {
         sslConfig.setSessionTimeOut(sessionTimeOut);
     }
 
+    public void setSslSessionCacheSize(int sessionCacheSize) {
+        sslConfig.setSessionCacheSize(sessionCacheSize);
+    }
+
+    public void setSslSessionTicketKeyRotationInterval(long rotationInterval) {
+        sslConfig.setSessionTicketKeyRotationInterval(rotationInterval);
+    }
+
+    public void setPreferOpenSsl(boolean preferOpenSsl) {
+        sslConfig.setPreferOpenSsl(preferOpenSsl);
+    }
+
     public void setSslHandshakeTimeOut(long handshakeTimeOut) {
         sslConfig.setHandshakeTimeOut(handshakeTimeOut);
     }
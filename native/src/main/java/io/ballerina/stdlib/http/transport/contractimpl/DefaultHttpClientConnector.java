@@ -57,7 +57,7 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.net.InetSocketAddress;
-import java.util.NoSuchElementException;
+import java.util.concurrent.CompletionException;
 
 import static io.ballerina.stdlib.http.transport.contract.Constants.REMOTE_SERVER_CLOSED_BEFORE_INITIATING_OUTBOUND_REQUEST;
 
@@ -181,153 +181,183 @@ public class DefaultHttpClientConnector implements HttpClientConnector {
              */
             final HttpRoute route = getTargetRoute(senderConfiguration.getScheme(), httpOutboundRequest,
                                                    this.configHashCode);
+            httpResponseFuture = outboundMsgHolder.getResponseFuture();
             if (http2) {
-                // See whether an already upgraded HTTP/2 connection is available
-                Http2ClientChannel activeHttp2ClientChannel = http2ConnectionManager.borrowChannel(route);
-
-                if (activeHttp2ClientChannel != null) {
-                    outboundMsgHolder.setHttp2ClientChannel(activeHttp2ClientChannel);
-                    setHttp2ForwardedExtension(outboundMsgHolder);
-                    new RequestWriteStarter(outboundMsgHolder, activeHttp2ClientChannel).startWritingContent();
-                    httpResponseFuture = outboundMsgHolder.getResponseFuture();
-                    httpResponseFuture.notifyResponseHandle(new ResponseHandle(outboundMsgHolder));
-                    return httpResponseFuture;
-                }
+                // See whether an already upgraded HTTP/2 connection is available. The acquisition waits without
+                // blocking the caller while another request is opening a new connection to the route.
+                http2ConnectionManager.acquireChannel(route).whenComplete((activeHttp2ClientChannel, failedCause) -> {
+                    try {
+                        if (activeHttp2ClientChannel != null) {
+                            outboundMsgHolder.setHttp2ClientChannel(activeHttp2ClientChannel);
+                            setHttp2ForwardedExtension(outboundMsgHolder);
+                            new RequestWriteStarter(outboundMsgHolder, activeHttp2ClientChannel).startWritingContent();
+                            httpResponseFuture.notifyResponseHandle(new ResponseHandle(outboundMsgHolder));
+                        } else {
+                            borrowTargetChannel(route, outboundMsgHolder, httpOutboundRequest, http1xSrcHandler,
+                                                http2SrcHandler);
+                        }
+                    } catch (Exception exception) {
+                        httpResponseFuture.notifyHttpListener(exception);
+                    }
+                });
+                return httpResponseFuture;
             }
+            borrowTargetChannel(route, outboundMsgHolder, httpOutboundRequest, http1xSrcHandler, http2SrcHandler);
+        } catch (Exception failedCause) {
+            return notifyListenerAndGetErrorResponseFuture(failedCause);
+        }
+        return httpResponseFuture;
+    }
 
-            // Look for the connection from http connection manager
-            TargetChannel targetChannel = connectionManager.borrowTargetChannel(route, srcHandler, http2SourceHandler,
-                                                                                senderConfiguration,
-                                                                                bootstrapConfig, clientEventGroup);
-            Http2ClientChannel freshHttp2ClientChannel = targetChannel.getHttp2ClientChannel();
-            outboundMsgHolder.setHttp2ClientChannel(freshHttp2ClientChannel);
-            httpResponseFuture = outboundMsgHolder.getResponseFuture();
-
-            targetChannel.getConnectionReadyFuture().setListener(new ConnectionAvailabilityListener() {
-                @Override
-                public void onSuccess(String protocol, ChannelFuture channelFuture) {
-                    if (LOG.isDebugEnabled()) {
-                        LOG.debug("Created the connection to address: {}",
-                                  route + " Original Channel ID is : " + channelFuture.channel().id());
+    private void borrowTargetChannel(HttpRoute route, OutboundMsgHolder outboundMsgHolder,
+                                     HttpCarbonMessage httpOutboundRequest, SourceHandler http1xSrcHandler,
+                                     Http2SourceHandler http2SrcHandler) {
+        // Look for the connection from http connection manager. The request waits without blocking the caller
+        // if the pool is exhausted.
+        HttpResponseFuture httpResponseFuture = outboundMsgHolder.getResponseFuture();
+        connectionManager.borrowTargetChannel(route, http1xSrcHandler, http2SrcHandler, senderConfiguration,
+                                              bootstrapConfig, clientEventGroup)
+                .whenComplete((targetChannel, failedCause) -> {
+                    if (failedCause != null) {
+                        if (http2) {
+                            http2ConnectionManager.releasePendingAcquisitions(route);
+                        }
+                        httpResponseFuture.notifyHttpListener(failedCause instanceof CompletionException ?
+                                                                      failedCause.getCause() : failedCause);
+                        return;
                     }
-
-                    if (isH1c(protocol)) {
-                        switchEventLoopForH1c(channelFuture).addListener(future ->
-                                        startExecutingOutboundRequest(protocol, channelFuture));
-
-                    } else if (isH2c(protocol)) {
-                        switchEventLoopForH2c(channelFuture).addListener(future ->
-                                        startExecutingOutboundRequest(protocol, channelFuture));
-                    } else {
-                        startExecutingOutboundRequest(protocol, channelFuture);
+                    try {
+                        executeOnTargetChannel(targetChannel, route, outboundMsgHolder, httpOutboundRequest,
+                                               http1xSrcHandler, http2SrcHandler);
+                    } catch (Exception exception) {
+                        httpResponseFuture.notifyHttpListener(exception);
                     }
-                }
+                });
+    }
 
-                private void startExecutingOutboundRequest(String protocol, ChannelFuture channelFuture) {
-                    if (protocol.equalsIgnoreCase(Constants.HTTP2_CLEARTEXT_PROTOCOL)
-                            || protocol.equalsIgnoreCase(Constants.HTTP2_TLS_PROTOCOL)) {
-                        prepareTargetChannelForHttp2();
-                    } else {
-                        // Response for the upgrade request will arrive in stream 1,
-                        // so use 1 as the stream id.
-                        if (protocol.equalsIgnoreCase(Constants.HTTP1_TLS_PROTOCOL)) {
-                            connectionManager.getHttp2ConnectionManager().releasePerRoutePoolLatch(targetChannel
-                                    .getHttpRoute());
-                            http2 = false;
-                        }
-                        prepareTargetChannelForHttp(channelFuture);
-                        if ((protocol.equalsIgnoreCase(Constants.HTTP1_CLEARTEXT_PROTOCOL) ||
-                                protocol.equalsIgnoreCase(Constants.HTTP1_TLS_PROTOCOL)) &&
-                                senderConfiguration.getProxyServerConfiguration() != null) {
-                            httpOutboundRequest.setProperty(Constants.IS_PROXY_ENABLED, true);
-                        }
-                        targetChannel.writeContent(httpOutboundRequest);
-                    }
+    private void executeOnTargetChannel(TargetChannel targetChannel, HttpRoute route,
+                                        OutboundMsgHolder outboundMsgHolder, HttpCarbonMessage httpOutboundRequest,
+                                        SourceHandler http1xSrcHandler, Http2SourceHandler http2SrcHandler) {
+        Http2ClientChannel freshHttp2ClientChannel = targetChannel.getHttp2ClientChannel();
+        outboundMsgHolder.setHttp2ClientChannel(freshHttp2ClientChannel);
+        HttpResponseFuture httpResponseFuture = outboundMsgHolder.getResponseFuture();
+
+        targetChannel.getConnectionReadyFuture().setListener(new ConnectionAvailabilityListener() {
+            @Override
+            public void onSuccess(String protocol, ChannelFuture channelFuture) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Created the connection to address: {}",
+                              route + " Original Channel ID is : " + channelFuture.channel().id());
                 }
 
-                private void prepareTargetChannelForHttp2() {
-                    freshHttp2ClientChannel.setSocketIdleTimeout(socketIdleTimeout);
-                    connectionManager.getHttp2ConnectionManager().addHttp2ClientChannel(route, freshHttp2ClientChannel);
-                    freshHttp2ClientChannel.getConnection().remote().flowController().listener(
-                            new ClientRemoteFlowControlListener(freshHttp2ClientChannel));
-                    freshHttp2ClientChannel.addDataEventListener(
-                            Constants.IDLE_STATE_HANDLER,
-                            new Http2ClientTimeoutHandler(socketIdleTimeout, freshHttp2ClientChannel));
-                    setHttp2ForwardedExtension(outboundMsgHolder);
-                    new RequestWriteStarter(outboundMsgHolder, freshHttp2ClientChannel).startWritingContent();
-                    httpResponseFuture.notifyResponseHandle(new ResponseHandle(outboundMsgHolder));
+                if (isH1c(protocol)) {
+                    switchEventLoopForH1c(channelFuture).addListener(future ->
+                                    startExecutingOutboundRequest(protocol, channelFuture));
+
+                } else if (isH2c(protocol)) {
+                    switchEventLoopForH2c(channelFuture).addListener(future ->
+                                    startExecutingOutboundRequest(protocol, channelFuture));
+                } else {
+                    startExecutingOutboundRequest(protocol, channelFuture);
                 }
+            }
 
-                private void prepareTargetChannelForHttp(ChannelFuture channelFuture) {
+            private void startExecutingOutboundRequest(String protocol, ChannelFuture channelFuture) {
+                if (protocol.equalsIgnoreCase(Constants.HTTP2_CLEARTEXT_PROTOCOL)
+                        || protocol.equalsIgnoreCase(Constants.HTTP2_TLS_PROTOCOL)) {
+                    prepareTargetChannelForHttp2();
+                } else {
                     // Response for the upgrade request will arrive in stream 1,
                     // so use 1 as the stream id.
-                    freshHttp2ClientChannel.putInFlightMessage(Http2CodecUtil.HTTP_UPGRADE_STREAM_ID,
-                            outboundMsgHolder);
-                    httpResponseFuture.notifyResponseHandle(new ResponseHandle(outboundMsgHolder));
-                    targetChannel.getHttp2ClientChannel().setSocketIdleTimeout(socketIdleTimeout);
+                    if (protocol.equalsIgnoreCase(Constants.HTTP1_TLS_PROTOCOL)) {
+                        connectionManager.getHttp2ConnectionManager().releasePendingAcquisitions(targetChannel
+                                .getHttpRoute());
+                        http2 = false;
+                    }
+                    prepareTargetChannelForHttp(channelFuture);
+                    if ((protocol.equalsIgnoreCase(Constants.HTTP1_CLEARTEXT_PROTOCOL) ||
+                            protocol.equalsIgnoreCase(Constants.HTTP1_TLS_PROTOCOL)) &&
+                            senderConfiguration.getProxyServerConfiguration() != null) {
+                        httpOutboundRequest.setProperty(Constants.IS_PROXY_ENABLED, true);
+                    }
+                    targetChannel.writeContent(httpOutboundRequest);
+                }
+            }
 
-                    Channel targetNettyChannel = channelFuture.channel();
+            private void prepareTargetChannelForHttp2() {
+                freshHttp2ClientChannel.setSocketIdleTimeout(socketIdleTimeout);
+                connectionManager.getHttp2ConnectionManager().addHttp2ClientChannel(route, freshHttp2ClientChannel);
+                freshHttp2ClientChannel.getConnection().remote().flowController().listener(
+                        new ClientRemoteFlowControlListener(freshHttp2ClientChannel));
+                freshHttp2ClientChannel.addDataEventListener(
+                        Constants.IDLE_STATE_HANDLER,
+                        new Http2ClientTimeoutHandler(socketIdleTimeout, freshHttp2ClientChannel));
+                setHttp2ForwardedExtension(outboundMsgHolder);
+                new RequestWriteStarter(outboundMsgHolder, freshHttp2ClientChannel).startWritingContent();
+                httpResponseFuture.notifyResponseHandle(new ResponseHandle(outboundMsgHolder));
+            }
 
-                    initializeSenderReqRespStateMgr(targetNettyChannel);
+            private void prepareTargetChannelForHttp(ChannelFuture channelFuture) {
+                // Response for the upgrade request will arrive in stream 1,
+                // so use 1 as the stream id.
+                freshHttp2ClientChannel.putInFlightMessage(Http2CodecUtil.HTTP_UPGRADE_STREAM_ID,
+                        outboundMsgHolder);
+                httpResponseFuture.notifyResponseHandle(new ResponseHandle(outboundMsgHolder));
+                targetChannel.getHttp2ClientChannel().setSocketIdleTimeout(socketIdleTimeout);
 
-                    targetChannel.setChannel(targetNettyChannel);
-                    targetChannel.configTargetHandler(httpOutboundRequest, httpResponseFuture);
-                    httpResponseFuture.setBackPressureObservable(targetChannel.getBackPressureObservable());
-                    Util.setCorrelationIdForLogging(targetNettyChannel.pipeline(), targetChannel.getCorrelatedSource());
+                Channel targetNettyChannel = channelFuture.channel();
 
-                    Util.handleOutboundConnectionHeader(senderConfiguration, httpOutboundRequest);
-                    String localAddress =
-                            ((InetSocketAddress) targetNettyChannel.localAddress()).getAddress().getHostAddress();
-                    Util.setForwardedExtension(forwardedExtensionConfig, localAddress, httpOutboundRequest);
-                }
+                initializeSenderReqRespStateMgr(targetNettyChannel);
 
-                private void initializeSenderReqRespStateMgr(Channel targetNettyChannel) {
-                    SenderReqRespStateManager senderReqRespStateManager =
-                            new SenderReqRespStateManager(targetNettyChannel, socketIdleTimeout);
-                    senderReqRespStateManager.state =
-                            new SendingHeaders(senderReqRespStateManager, targetChannel, httpVersion,
-                                               chunkConfig, httpResponseFuture);
-                    targetChannel.senderReqRespStateManager = senderReqRespStateManager;
-                }
+                targetChannel.setChannel(targetNettyChannel);
+                targetChannel.configTargetHandler(httpOutboundRequest, httpResponseFuture);
+                httpResponseFuture.setBackPressureObservable(targetChannel.getBackPressureObservable());
+                Util.setCorrelationIdForLogging(targetNettyChannel.pipeline(), targetChannel.getCorrelatedSource());
 
-                // Switching is done to make sure, inbound request/response and the outbound request/response
-                // are handle on the same thread and thereby avoid the need for locks
-                private ChannelFuture switchEventLoopForH1c(ChannelFuture channelFuture) {
-                    return channelFuture.channel().deregister()
-                            .addListener(future -> http1xSrcHandler.getEventLoop().register(channelFuture.channel()));
-                }
+                Util.handleOutboundConnectionHeader(senderConfiguration, httpOutboundRequest);
+                String localAddress =
+                        ((InetSocketAddress) targetNettyChannel.localAddress()).getAddress().getHostAddress();
+                Util.setForwardedExtension(forwardedExtensionConfig, localAddress, httpOutboundRequest);
+            }
 
-                private ChannelFuture switchEventLoopForH2c(ChannelFuture channelFuture) {
-                    return channelFuture.channel().deregister().addListener(future ->
-                            http2SrcHandler.getChannelHandlerContext().channel().eventLoop()
-                                    .register(channelFuture.channel()));
-                }
+            private void initializeSenderReqRespStateMgr(Channel targetNettyChannel) {
+                SenderReqRespStateManager senderReqRespStateManager =
+                        new SenderReqRespStateManager(targetNettyChannel, socketIdleTimeout);
+                senderReqRespStateManager.state =
+                        new SendingHeaders(senderReqRespStateManager, targetChannel, httpVersion,
+                                           chunkConfig, httpResponseFuture);
+                targetChannel.senderReqRespStateManager = senderReqRespStateManager;
+            }
 
-                private boolean isH1c(String protocol) {
-                    return Constants.HTTP_SCHEME.equalsIgnoreCase(protocol) && http1xSrcHandler != null;
-                }
+            // Switching is done to make sure, inbound request/response and the outbound request/response
+            // are handle on the same thread and thereby avoid the need for locks
+            private ChannelFuture switchEventLoopForH1c(ChannelFuture channelFuture) {
+                return channelFuture.channel().deregister()
+                        .addListener(future -> http1xSrcHandler.getEventLoop().register(channelFuture.channel()));
+            }
 
-                private boolean isH2c(String protocol) {
-                    return Constants.HTTP_SCHEME.equalsIgnoreCase(protocol) && http2SrcHandler != null;
-                }
+            private ChannelFuture switchEventLoopForH2c(ChannelFuture channelFuture) {
+                return channelFuture.channel().deregister().addListener(future ->
+                        http2SrcHandler.getChannelHandlerContext().channel().eventLoop()
+                                .register(channelFuture.channel()));
+            }
 
-                @Override
-                public void onFailure(ClientConnectorException cause) {
-                    httpResponseFuture.notifyHttpListener(cause);
-                    httpOutboundRequest
-                            .setIoException(new IOException(REMOTE_SERVER_CLOSED_BEFORE_INITIATING_OUTBOUND_REQUEST));
-                    connectionManager.getHttp2ConnectionManager().releasePerRoutePoolLatch(route);
-                }
-            });
-        } catch (NoSuchElementException failedCause) {
-            if ("Timeout waiting for idle object".equals(failedCause.getMessage())) {
-                failedCause = new NoSuchElementException(Constants.MAXIMUM_WAIT_TIME_EXCEED);
+            private boolean isH1c(String protocol) {
+                return Constants.HTTP_SCHEME.equalsIgnoreCase(protocol) && http1xSrcHandler != null;
             }
-            return notifyListenerAndGetErrorResponseFuture(failedCause);
-        } catch (Exception failedCause) {
-            return notifyListenerAndGetErrorResponseFuture(failedCause);
-        }
-        return httpResponseFuture;
+
+            private boolean isH2c(String protocol) {
+                return Constants.HTTP_SCHEME.equalsIgnoreCase(protocol) && http2SrcHandler != null;
+            }
+
+            @Override
+            public void onFailure(ClientConnectorException cause) {
+                httpResponseFuture.notifyHttpListener(cause);
+                httpOutboundRequest
+                        .setIoException(new IOException(REMOTE_SERVER_CLOSED_BEFORE_INITIATING_OUTBOUND_REQUEST));
+                connectionManager.getHttp2ConnectionManager().releasePendingAcquisitions(route);
+            }
+        });
     }
 
     private void setHttp2ForwardedExtension(OutboundMsgHolder outboundMsgHolder) {
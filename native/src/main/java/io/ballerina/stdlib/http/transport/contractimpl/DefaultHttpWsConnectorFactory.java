@@ -27,9 +27,12 @@ import io.ballerina.stdlib.http.transport.contract.ServerConnector;
 import io.ballerina.stdlib.http.transport.contract.config.ListenerConfiguration;
 import io.ballerina.stdlib.http.transport.contract.config.SenderConfiguration;
 import io.ballerina.stdlib.http.transport.contract.config.ServerBootstrapConfiguration;
+import io.ballerina.stdlib.http.transport.contract.config.SocketTransport;
 import io.ballerina.stdlib.http.transport.contract.websocket.WebSocketClientConnector;
 import io.ballerina.stdlib.http.transport.contract.websocket.WebSocketClientConnectorConfig;
+import io.ballerina.stdlib.http.transport.contractimpl.common.SocketTransportProvider;
 import io.ballerina.stdlib.http.transport.contractimpl.common.Util;
+import io.ballerina.stdlib.http.transport.contractimpl.common.ssl.HandshakeMetrics;
 import io.ballerina.stdlib.http.transport.contractimpl.common.ssl.SSLConfig;
 import io.ballerina.stdlib.http.transport.contractimpl.common.ssl.SSLHandlerFactory;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.ServerConnectorBootstrap;
@@ -46,6 +49,7 @@ import io.netty.util.concurrent.EventExecutorGroup;
 import io.netty.util.concurrent.GlobalEventExecutor;
 
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.net.ssl.SSLException;
 
@@ -60,21 +64,28 @@ public class DefaultHttpWsConnectorFactory implements HttpWsConnectorFactory {
     private final EventLoopGroup bossGroup;
     private final EventLoopGroup workerGroup;
     private final EventLoopGroup clientGroup;
+    private final int serverSocketThreads;
+    private final int childSocketThreads;
+    private final int clientThreads;
+    private final EventLoopGroups nioEventLoopGroups;
+    private final Map<SocketTransport, EventLoopGroups> nativeEventLoopGroups = new ConcurrentHashMap<>();
     private EventExecutorGroup pipeliningGroup;
 
     private final ChannelGroup allChannels = new DefaultChannelGroup(GlobalEventExecutor.INSTANCE);
 
     public DefaultHttpWsConnectorFactory() {
-        int availableProcessors = Runtime.getRuntime().availableProcessors();
-        bossGroup = new NioEventLoopGroup(availableProcessors);
-        workerGroup = new NioEventLoopGroup(availableProcessors * 2);
-        clientGroup = new NioEventLoopGroup(availableProcessors * 2);
+        this(Runtime.getRuntime().availableProcessors(), Runtime.getRuntime().availableProcessors() * 2,
+             Runtime.getRuntime().availableProcessors() * 2);
     }
 
     public DefaultHttpWsConnectorFactory(int serverSocketThreads, int childSocketThreads, int clientThreads) {
+        this.serverSocketThreads = serverSocketThreads;
+        this.childSocketThreads = childSocketThreads;
+        this.clientThreads = clientThreads;
         bossGroup = new NioEventLoopGroup(serverSocketThreads);
         workerGroup = new NioEventLoopGroup(childSocketThreads);
         clientGroup = new NioEventLoopGroup(clientThreads);
+        nioEventLoopGroups = new EventLoopGroups(bossGroup, workerGroup, clientGroup);
     }
 
     @Override
@@ -94,12 +105,14 @@ public class DefaultHttpWsConnectorFactory implements HttpWsConnectorFactory {
         }
         serverConnectorBootstrap.addHttpTraceLogHandler(listenerConfig.isHttpTraceLogEnabled());
         serverConnectorBootstrap.addHttpAccessLogHandler(listenerConfig.isHttpAccessLogEnabled());
-        serverConnectorBootstrap.addThreadPools(bossGroup, workerGroup);
+        EventLoopGroups eventLoopGroups = getEventLoopGroups(serverConnectorBootstrap.getTransportProvider());
+        serverConnectorBootstrap.addThreadPools(eventLoopGroups.bossGroup, eventLoopGroups.workerGroup);
         serverConnectorBootstrap.addHeaderAndEntitySizeValidation(listenerConfig.getMsgSizeValidationConfig());
         serverConnectorBootstrap.addChunkingBehaviour(listenerConfig.getChunkConfig());
         serverConnectorBootstrap.addKeepAliveBehaviour(listenerConfig.getKeepAliveConfig());
         serverConnectorBootstrap.addServerHeader(listenerConfig.getServerHeader());
         serverConnectorBootstrap.setGracefulStopTimeout(listenerConfig.getGracefulStopTimeout());
+        serverConnectorBootstrap.setResponseCompressionConfig(listenerConfig.getResponseCompressionConfig());
 
         serverConnectorBootstrap.setPipeliningEnabled(listenerConfig.isPipeliningEnabled());
         serverConnectorBootstrap.setWebSocketCompressionEnabled(listenerConfig.isWebSocketCompressionEnabled());
@@ -123,21 +136,23 @@ public class DefaultHttpWsConnectorFactory implements HttpWsConnectorFactory {
             serverConnectorBootstrap.addCacheSize(sslConfig.getCacheSize());
             serverConnectorBootstrap.addOcspStapling(sslConfig.isOcspStaplingEnabled());
             serverConnectorBootstrap.addSslHandlerFactory(sslHandlerFactory);
-            if (sslConfig.getKeyStore() != null) {
-                if (Constants.HTTP_2_0.equals(listenerConfig.getVersion())) {
-                    serverConnectorBootstrap
-                            .addHttp2SslContext(sslHandlerFactory.createHttp2TLSContextForServer(sslConfig));
-                } else {
-                    serverConnectorBootstrap
-                            .addKeystoreSslContext(sslHandlerFactory.createSSLContextFromKeystores(true));
-                }
+            serverConnectorBootstrap.addHandshakeMetrics(
+                    new HandshakeMetrics(listenerConfig.getHost() + ":" + listenerConfig.getPort()));
+            if (Constants.HTTP_2_0.equals(listenerConfig.getVersion())) {
+                serverConnectorBootstrap
+                        .addHttp2SslContext(sslHandlerFactory.createHttp2TLSContextForServer(sslConfig));
+            } else if (sslConfig.getKeyStore() != null && !sslConfig.isOcspStaplingEnabled()
+                    && !sslHandlerFactory.isOpenSslPreferred()) {
+                serverConnectorBootstrap
+                        .addKeystoreSslContext(sslHandlerFactory.createSSLContextFromKeystores(true));
             } else {
-                if (Constants.HTTP_2_0.equals(listenerConfig.getVersion())) {
-                    serverConnectorBootstrap
-                            .addHttp2SslContext(sslHandlerFactory.createHttp2TLSContextForServer(sslConfig));
-                } else {
-                    serverConnectorBootstrap.addCertAndKeySslContext(sslHandlerFactory.createHttpTLSContextForServer());
+                if (sslConfig.getKeyStore() != null) {
+                    sslHandlerFactory.createSSLContextFromKeystores(true);
                 }
+                // The context is created once for the listener so that its connections share its session cache
+                serverConnectorBootstrap.addCertAndKeySslContext(sslConfig.isOcspStaplingEnabled() ?
+                        sslHandlerFactory.getServerReferenceCountedOpenSslContext(true) :
+                        sslHandlerFactory.createHttpTLSContextForServer());
             }
         } catch (SSLException e) {
             throw new RuntimeException("Failed to create ssl context from given certs and key", e);
@@ -150,8 +165,8 @@ public class DefaultHttpWsConnectorFactory implements HttpWsConnectorFactory {
         BootstrapConfiguration bootstrapConfig = new BootstrapConfiguration(senderConfiguration);
         ConnectionManager connectionManager = new ConnectionManager(senderConfiguration.getPoolConfiguration());
         int configHashCode = Util.getIntProperty(transportProperties, HttpConstants.CLIENT_CONFIG_HASH_CODE, 0);
-        return new DefaultHttpClientConnector(connectionManager, senderConfiguration, bootstrapConfig, clientGroup,
-                                              configHashCode);
+        return new DefaultHttpClientConnector(connectionManager, senderConfiguration, bootstrapConfig,
+                                              getClientGroup(senderConfiguration), configHashCode);
     }
 
     @Override
@@ -160,8 +175,26 @@ public class DefaultHttpWsConnectorFactory implements HttpWsConnectorFactory {
                                                          ConnectionManager connectionManager) {
         BootstrapConfiguration bootstrapConfig = new BootstrapConfiguration(senderConfiguration);
         int configHashCode = Util.getIntProperty(transportProperties, HttpConstants.CLIENT_CONFIG_HASH_CODE, 0);
-        return new DefaultHttpClientConnector(connectionManager, senderConfiguration, bootstrapConfig, clientGroup,
-                                              configHashCode);
+        return new DefaultHttpClientConnector(connectionManager, senderConfiguration, bootstrapConfig,
+                                              getClientGroup(senderConfiguration), configHashCode);
+    }
+
+    private EventLoopGroup getClientGroup(SenderConfiguration senderConfiguration) {
+        return getEventLoopGroups(SocketTransportProvider.get(senderConfiguration.getSocketTransport())).clientGroup;
+    }
+
+    /**
+     * Returns the event loop groups of the given transport. The groups of a native transport are created when it is
+     * first used, with the same number of threads as the NIO groups.
+     */
+    private EventLoopGroups getEventLoopGroups(SocketTransportProvider transportProvider) {
+        if (transportProvider.getSocketTransport() == SocketTransport.NIO) {
+            return nioEventLoopGroups;
+        }
+        return nativeEventLoopGroups.computeIfAbsent(transportProvider.getSocketTransport(), transport ->
+                new EventLoopGroups(transportProvider.createEventLoopGroup(serverSocketThreads),
+                                    transportProvider.createEventLoopGroup(childSocketThreads),
+                                    transportProvider.createEventLoopGroup(clientThreads)));
     }
 
     @Override
@@ -175,6 +208,11 @@ public class DefaultHttpWsConnectorFactory implements HttpWsConnectorFactory {
         workerGroup.shutdownGracefully().sync();
         bossGroup.shutdownGracefully().sync();
         clientGroup.shutdownGracefully().sync();
+        for (EventLoopGroups eventLoopGroups : nativeEventLoopGroups.values()) {
+            eventLoopGroups.workerGroup.shutdownGracefully().sync();
+            eventLoopGroups.bossGroup.shutdownGracefully().sync();
+            eventLoopGroups.clientGroup.shutdownGracefully().sync();
+        }
         if (pipeliningGroup != null) {
             pipeliningGroup.shutdownGracefully().sync();
         }
@@ -188,8 +226,29 @@ public class DefaultHttpWsConnectorFactory implements HttpWsConnectorFactory {
         workerGroup.shutdownGracefully();
         bossGroup.shutdownGracefully();
         clientGroup.shutdownGracefully();
+        for (EventLoopGroups eventLoopGroups : nativeEventLoopGroups.values()) {
+            eventLoopGroups.workerGroup.shutdownGracefully();
+            eventLoopGroups.bossGroup.shutdownGracefully();
+            eventLoopGroups.clientGroup.shutdownGracefully();
+        }
         if (pipeliningGroup != null) {
             pipeliningGroup.shutdownGracefully();
         }
     }
+
+    /**
+     * The event loop groups of a socket transport.
+     */
+    private static class EventLoopGroups {
+
+        private final EventLoopGroup bossGroup;
+        private final EventLoopGroup workerGroup;
+        private final EventLoopGroup clientGroup;
+
+        EventLoopGroups(EventLoopGroup bossGroup, EventLoopGroup workerGroup, EventLoopGroup clientGroup) {
+            this.bossGroup = bossGroup;
+            this.workerGroup = workerGroup;
+            this.clientGroup = clientGroup;
+        }
+    }
 }
@@ -16,24 +16,46 @@
 package io.ballerina.stdlib.http.transport.contractimpl.common;
 
 /**
- * Class encapsulates the Endpoint address.
+ * Class encapsulates the Endpoint address. The route key and the hash code are computed once, so a route can be used
+ * as a map key on every outbound request without building a string.
  */
 public class HttpRoute {
-    private String scheme;
-    private String host;
-    private int port;
-    private int configHashCode;
+    private final String scheme;
+    private final String host;
+    private final int port;
+    private final int configHashCode;
+    private final String routeKey;
+    private final int hashCode;
 
     public HttpRoute(String scheme, String host, int port, int configHashCode) {
         this.scheme = scheme;
         this.host = host;
         this.port = port;
         this.configHashCode = configHashCode;
+        this.routeKey = scheme + "-" + host + "-" + port + "-" + configHashCode;
+        this.hashCode = routeKey.hashCode();
     }
 
     @Override
     public String toString() {
-        return scheme + "-" + host + "-" + port + "-" + configHashCode;
+        return routeKey;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof HttpRoute)) {
+            return false;
+        }
+        HttpRoute route = (HttpRoute) obj;
+        return hashCode == route.hashCode && routeKey.equals(route.routeKey);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
     }
 
     public String getHost() {
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.common;
+
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.timeout.IdleStateEvent;
+import io.netty.util.Timeout;
+
+import java.util.concurrent.TimeUnit;
+
+import static io.ballerina.stdlib.http.transport.contractimpl.common.Util.ticksInNanos;
+
+/**
+ * Triggers an {@link IdleStateEvent} when a channel has neither read nor written anything for the given time, the
+ * same way an all idle {@link io.netty.handler.timeout.IdleStateHandler} does. The timeout is kept on the shared
+ * {@link TimeoutWheel} instead of the scheduled task queue of the event loop, as a handler is added for every outbound
+ * request.
+ */
+public class IdleTimeoutHandler extends ChannelDuplexHandler {
+
+    private static final long MIN_TIMEOUT_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final long idleTimeNanos;
+    private final ChannelFutureListener writeListener = future -> lastActivityTime = ticksInNanos();
+    private long lastActivityTime;
+    private boolean firstEvent = true;
+    private boolean destroyed;
+    private Timeout timeout;
+
+    public IdleTimeoutHandler(long idleTimeMillis) {
+        this.idleTimeNanos = idleTimeMillis > 0 ?
+                Math.max(TimeUnit.MILLISECONDS.toNanos(idleTimeMillis), MIN_TIMEOUT_NANOS) : 0;
+    }
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) {
+        if (ctx.channel().isActive() && ctx.channel().isRegistered()) {
+            initialize(ctx);
+        }
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) {
+        destroy();
+    }
+
+    @Override
+    public void channelRegistered(ChannelHandlerContext ctx) throws Exception {
+        if (ctx.channel().isActive()) {
+            initialize(ctx);
+        }
+        super.channelRegistered(ctx);
+    }
+
+    @Override
+    public void channelActive(ChannelHandlerContext ctx) throws Exception {
+        initialize(ctx);
+        super.channelActive(ctx);
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        destroy();
+        super.channelInactive(ctx);
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+        lastActivityTime = ticksInNanos();
+        ctx.fireChannelRead(msg);
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+        if (timeout != null) {
+            ctx.write(msg, promise.unvoid()).addListener(writeListener);
+        } else {
+            ctx.write(msg, promise);
+        }
+    }
+
+    private void initialize(ChannelHandlerContext ctx) {
+        if (destroyed || timeout != null || idleTimeNanos == 0) {
+            return;
+        }
+        lastActivityTime = ticksInNanos();
+        schedule(ctx, idleTimeNanos);
+    }
+
+    private void destroy() {
+        destroyed = true;
+        if (timeout != null) {
+            timeout.cancel();
+            timeout = null;
+        }
+    }
+
+    private void schedule(ChannelHandlerContext ctx, long delayNanos) {
+        timeout = TimeoutWheel.schedule(ctx.executor(), () -> onTimeout(ctx), delayNanos);
+    }
+
+    private void onTimeout(ChannelHandlerContext ctx) {
+        if (destroyed || !ctx.channel().isOpen()) {
+            return;
+        }
+        long nextDelay = idleTimeNanos - (ticksInNanos() - lastActivityTime);
+        if (nextDelay > 0) {
+            // Read or write occurred before the timeout - set a new timeout with shorter delay.
+            schedule(ctx, nextDelay);
+            return;
+        }
+        schedule(ctx, idleTimeNanos);
+        IdleStateEvent event = firstEvent ? IdleStateEvent.FIRST_ALL_IDLE_STATE_EVENT :
+                IdleStateEvent.ALL_IDLE_STATE_EVENT;
+        firstEvent = false;
+        ctx.fireUserEventTriggered(event);
+    }
+}
@@ -0,0 +1,338 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.common;
+
+import io.ballerina.stdlib.http.transport.contract.config.ServerBootstrapConfiguration;
+import io.ballerina.stdlib.http.transport.contract.config.SocketTransport;
+import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.BootstrapConfiguration;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.ServerChannel;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollChannelOption;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Constructor;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Provides the event loop groups, channel classes and native socket options of a {@link SocketTransport}. The
+ * availability of the native transports is checked once, and a transport which is not available on the running
+ * platform resolves to the next available one.
+ */
+public abstract class SocketTransportProvider {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SocketTransportProvider.class);
+
+    private static final SocketTransportProvider NIO_PROVIDER = new NioTransportProvider();
+    private static final SocketTransportProvider EPOLL_PROVIDER = loadEpoll();
+    private static final SocketTransportProvider IO_URING_PROVIDER = loadIoUring();
+    private static final Set<SocketTransport> REPORTED_FALLBACKS = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Resolves the provider of the given transport, falling back from io_uring to epoll and from epoll to NIO when
+     * the requested transport is not available.
+     *
+     * @param socketTransport the requested transport
+     * @return the provider of the requested transport or of the one it falls back to
+     */
+    public static SocketTransportProvider get(SocketTransport socketTransport) {
+        switch (socketTransport) {
+            case AUTO:
+                return EPOLL_PROVIDER != null ? EPOLL_PROVIDER : NIO_PROVIDER;
+            case IO_URING:
+                if (IO_URING_PROVIDER != null) {
+                    return IO_URING_PROVIDER;
+                }
+                return fallback(socketTransport, EPOLL_PROVIDER != null ? EPOLL_PROVIDER : NIO_PROVIDER);
+            case EPOLL:
+                if (EPOLL_PROVIDER != null) {
+                    return EPOLL_PROVIDER;
+                }
+                return fallback(socketTransport, NIO_PROVIDER);
+            default:
+                return NIO_PROVIDER;
+        }
+    }
+
+    /**
+     * Finds the provider whose socket channels are of the given class, which is how the transport of an inbound
+     * channel is followed by the outbound channels created on its event loop.
+     *
+     * @param channelClass the socket channel class
+     * @return the provider of the channel class, or the NIO provider if none of the native providers match
+     */
+    public static SocketTransportProvider forChannelClass(Class<?> channelClass) {
+        if (EPOLL_PROVIDER != null && EPOLL_PROVIDER.getSocketChannelClass() == channelClass) {
+            return EPOLL_PROVIDER;
+        }
+        if (IO_URING_PROVIDER != null && IO_URING_PROVIDER.getSocketChannelClass() == channelClass) {
+            return IO_URING_PROVIDER;
+        }
+        return NIO_PROVIDER;
+    }
+
+    public abstract SocketTransport getSocketTransport();
+
+    public abstract EventLoopGroup createEventLoopGroup(int threads);
+
+    public abstract Class<? extends ServerChannel> getServerChannelClass();
+
+    public abstract Class<? extends Channel> getSocketChannelClass();
+
+    /**
+     * Whether several server channels can be bound to the same address so that each of them accepts on its own
+     * event loop.
+     *
+     * @return true if SO_REUSEPORT is supported
+     */
+    public boolean isReusePortSupported() {
+        return false;
+    }
+
+    /**
+     * Sets the transport specific options of a server bootstrap.
+     *
+     * @param serverBootstrap the server bootstrap
+     * @param configuration   the server bootstrap configuration
+     */
+    public void configure(ServerBootstrap serverBootstrap, ServerBootstrapConfiguration configuration) {
+        if (configuration.isReusePort() || configuration.isTcpFastOpen() || configuration.isTcpQuickAck()) {
+            LOG.debug("SO_REUSEPORT, TCP_FASTOPEN and TCP_QUICKACK are ignored with the {} transport",
+                      getSocketTransport());
+        }
+    }
+
+    /**
+     * Sets the transport specific options of a client bootstrap.
+     *
+     * @param bootstrap     the client bootstrap
+     * @param configuration the client bootstrap configuration
+     */
+    public void configure(Bootstrap bootstrap, BootstrapConfiguration configuration) {
+        if (configuration.isTcpFastOpen() || configuration.isTcpQuickAck()) {
+            LOG.debug("TCP_FASTOPEN and TCP_QUICKACK are ignored with the {} transport", getSocketTransport());
+        }
+    }
+
+    private static SocketTransportProvider fallback(SocketTransport requested, SocketTransportProvider provider) {
+        if (REPORTED_FALLBACKS.add(requested)) {
+            LOG.warn("{} transport is not available on this platform, hence using the {} transport", requested,
+                     provider.getSocketTransport());
+        }
+        return provider;
+    }
+
+    private static SocketTransportProvider loadEpoll() {
+        try {
+            if (Epoll.isAvailable()) {
+                return new EpollTransportProvider();
+            }
+            LOG.debug("Epoll transport is not available", Epoll.unavailabilityCause());
+        } catch (LinkageError e) {
+            LOG.debug("Epoll transport is not available", e);
+        }
+        return null;
+    }
+
+    private static SocketTransportProvider loadIoUring() {
+        try {
+            return IoUringTransportProvider.load();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            LOG.debug("io_uring transport is not available", e);
+            return null;
+        }
+    }
+
+    /**
+     * The JDK NIO transport, which is available on every platform.
+     */
+    private static final class NioTransportProvider extends SocketTransportProvider {
+
+        @Override
+        public SocketTransport getSocketTransport() {
+            return SocketTransport.NIO;
+        }
+
+        @Override
+        public EventLoopGroup createEventLoopGroup(int threads) {
+            return new NioEventLoopGroup(threads);
+        }
+
+        @Override
+        public Class<? extends ServerChannel> getServerChannelClass() {
+            return NioServerSocketChannel.class;
+        }
+
+        @Override
+        public Class<? extends Channel> getSocketChannelClass() {
+            return NioSocketChannel.class;
+        }
+    }
+
+    /**
+     * Base of the Linux native transports, which share the same set of TCP options.
+     */
+    private abstract static class NativeTransportProvider extends SocketTransportProvider {
+
+        private final ChannelOption<Boolean> reusePortOption;
+        private final ChannelOption<Boolean> quickAckOption;
+
+        NativeTransportProvider(ChannelOption<Boolean> reusePortOption, ChannelOption<Boolean> quickAckOption) {
+            this.reusePortOption = reusePortOption;
+            this.quickAckOption = quickAckOption;
+        }
+
+        @Override
+        public boolean isReusePortSupported() {
+            return true;
+        }
+
+        @Override
+        public void configure(ServerBootstrap serverBootstrap, ServerBootstrapConfiguration configuration) {
+            if (configuration.isReusePort()) {
+                serverBootstrap.option(reusePortOption, true);
+            }
+            if (configuration.isTcpFastOpen()) {
+                // The option value is the length of the queue of pending fast open requests
+                serverBootstrap.option(ChannelOption.TCP_FASTOPEN, configuration.getSoBackLog());
+            }
+            if (configuration.isTcpQuickAck()) {
+                serverBootstrap.childOption(quickAckOption, true);
+            }
+        }
+
+        @Override
+        public void configure(Bootstrap bootstrap, BootstrapConfiguration configuration) {
+            if (configuration.isTcpFastOpen()) {
+                bootstrap.option(ChannelOption.TCP_FASTOPEN_CONNECT, true);
+            }
+            if (configuration.isTcpQuickAck()) {
+                bootstrap.option(quickAckOption, true);
+            }
+        }
+    }
+
+    /**
+     * The epoll transport of Linux.
+     */
+    private static final class EpollTransportProvider extends NativeTransportProvider {
+
+        EpollTransportProvider() {
+            super(EpollChannelOption.SO_REUSEPORT, EpollChannelOption.TCP_QUICKACK);
+        }
+
+        @Override
+        public SocketTransport getSocketTransport() {
+            return SocketTransport.EPOLL;
+        }
+
+        @Override
+        public EventLoopGroup createEventLoopGroup(int threads) {
+            return new EpollEventLoopGroup(threads);
+        }
+
+        @Override
+        public Class<? extends ServerChannel> getServerChannelClass() {
+            return EpollServerSocketChannel.class;
+        }
+
+        @Override
+        public Class<? extends Channel> getSocketChannelClass() {
+            return EpollSocketChannel.class;
+        }
+    }
+
+    /**
+     * The io_uring transport of Linux. The incubator artifact of the transport is not shipped with the module, so
+     * it is looked up reflectively and is used only if it has been added to the classpath.
+     */
+    private static final class IoUringTransportProvider extends NativeTransportProvider {
+
+        private static final String IO_URING_PACKAGE = "io.netty.incubator.channel.uring.";
+
+        private final Constructor<? extends EventLoopGroup> eventLoopGroupConstructor;
+        private final Class<? extends ServerChannel> serverChannelClass;
+        private final Class<? extends Channel> socketChannelClass;
+
+        private IoUringTransportProvider(Constructor<? extends EventLoopGroup> eventLoopGroupConstructor,
+                                         Class<? extends ServerChannel> serverChannelClass,
+                                         Class<? extends Channel> socketChannelClass,
+                                         ChannelOption<Boolean> reusePortOption,
+                                         ChannelOption<Boolean> quickAckOption) {
+            super(reusePortOption, quickAckOption);
+            this.eventLoopGroupConstructor = eventLoopGroupConstructor;
+            this.serverChannelClass = serverChannelClass;
+            this.socketChannelClass = socketChannelClass;
+        }
+
+        @SuppressWarnings("unchecked")
+        static SocketTransportProvider load() throws ReflectiveOperationException {
+            Class<?> ioUring = Class.forName(IO_URING_PACKAGE + "IOUring");
+            if (!(Boolean) ioUring.getMethod("isAvailable").invoke(null)) {
+                LOG.debug("io_uring transport is not available",
+                          (Throwable) ioUring.getMethod("unavailabilityCause").invoke(null));
+                return null;
+            }
+            Class<?> channelOption = Class.forName(IO_URING_PACKAGE + "IOUringChannelOption");
+            return new IoUringTransportProvider(
+                    Class.forName(IO_URING_PACKAGE + "IOUringEventLoopGroup").asSubclass(EventLoopGroup.class)
+                            .getConstructor(int.class),
+                    Class.forName(IO_URING_PACKAGE + "IOUringServerSocketChannel").asSubclass(ServerChannel.class),
+                    Class.forName(IO_URING_PACKAGE + "IOUringSocketChannel").asSubclass(Channel.class),
+                    (ChannelOption<Boolean>) channelOption.getField("SO_REUSEPORT").get(null),
+                    (ChannelOption<Boolean>) channelOption.getField("TCP_QUICKACK").get(null));
+        }
+
+        @Override
+        public SocketTransport getSocketTransport() {
+            return SocketTransport.IO_URING;
+        }
+
+        @Override
+        public EventLoopGroup createEventLoopGroup(int threads) {
+            try {
+                return eventLoopGroupConstructor.newInstance(threads);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Failed to create the io_uring event loop group", e);
+            }
+        }
+
+        @Override
+        public Class<? extends ServerChannel> getServerChannelClass() {
+            return serverChannelClass;
+        }
+
+        @Override
+        public Class<? extends Channel> getSocketChannelClass() {
+            return socketChannelClass;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.common;
+
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import io.netty.util.concurrent.EventExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A hashed timing wheel shared by the idle timeouts of all outbound requests and streams. Scheduling on the event
+ * loop adds an entry to the scheduled task queue of the loop for every timeout, and cancelling it is not cheap either,
+ * which adds up with thousands of concurrent streams whose timeouts are rescheduled on every expiry. The wheel only
+ * appends the timeout to a bucket, and its precision of a tick is plenty for idle timeouts which are in the order of
+ * seconds. An expired timeout runs its task on the given executor, so the task still runs on the event loop of the
+ * channel it belongs to.
+ */
+public final class TimeoutWheel {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TimeoutWheel.class);
+    private static final long TICK_DURATION_MILLIS = 10;
+    private static final int TICKS_PER_WHEEL = 1024;
+    private static final HashedWheelTimer TIMER = new HashedWheelTimer(
+            new DefaultThreadFactory("http-timeout-wheel", true), TICK_DURATION_MILLIS, TimeUnit.MILLISECONDS,
+            TICKS_PER_WHEEL);
+
+    private TimeoutWheel() {
+    }
+
+    /**
+     * Schedules a task to run on an executor once the delay elapses.
+     *
+     * @param executor   the executor which runs the task
+     * @param task       the task to be run
+     * @param delayNanos the delay in nanoseconds
+     * @return the timeout which can be used to cancel the task
+     */
+    public static Timeout schedule(EventExecutor executor, Runnable task, long delayNanos) {
+        return TIMER.newTimeout(timeout -> {
+            if (executor.isShuttingDown()) {
+                return;
+            }
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException e) {
+                LOG.debug("Timeout task is not run as the executor is shut down");
+            }
+        }, delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Gets the number of timeouts which are scheduled and not expired or cancelled yet.
+     *
+     * @return the number of pending timeouts
+     */
+    public static long pendingTimeouts() {
+        return TIMER.pendingTimeouts();
+    }
+}
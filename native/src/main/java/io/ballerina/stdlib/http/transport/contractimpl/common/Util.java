@@ -24,6 +24,7 @@ import io.ballerina.stdlib.http.transport.contract.config.ProxyServerConfigurati
 import io.ballerina.stdlib.http.transport.contract.config.SenderConfiguration;
 import io.ballerina.stdlib.http.transport.contract.exceptions.ConfigurationException;
 import io.ballerina.stdlib.http.transport.contractimpl.Http2OutboundRespListener;
+import io.ballerina.stdlib.http.transport.contractimpl.common.ssl.ClientSslContexts;
 import io.ballerina.stdlib.http.transport.contractimpl.common.ssl.SSLConfig;
 import io.ballerina.stdlib.http.transport.contractimpl.common.ssl.SSLHandlerFactory;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.HttpTraceLoggingHandler;
@@ -40,6 +41,7 @@ import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonRequest;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonResponse;
 import io.ballerina.stdlib.http.transport.message.Listener;
+import io.ballerina.stdlib.http.transport.message.MessageProperties;
 import io.ballerina.stdlib.http.transport.message.PassthroughBackPressureListener;
 import io.ballerina.stdlib.http.transport.message.PooledDataStreamerFactory;
 import io.netty.buffer.ByteBuf;
@@ -124,7 +126,6 @@ import static io.ballerina.stdlib.http.transport.contract.Constants.MUTUAL_SSL_P
 import static io.ballerina.stdlib.http.transport.contract.Constants.OK_200;
 import static io.ballerina.stdlib.http.transport.contract.Constants.PROTOCOL;
 import static io.ballerina.stdlib.http.transport.contract.Constants.REMOTE_CLIENT_CLOSED_WHILE_WRITING_OUTBOUND_RESPONSE_HEADERS;
-import static io.ballerina.stdlib.http.transport.contract.Constants.TO;
 import static io.ballerina.stdlib.http.transport.contract.Constants.URL_AUTHORITY;
 import static io.ballerina.stdlib.http.transport.contract.config.KeepAliveConfig.ALWAYS;
 import static io.ballerina.stdlib.http.transport.contract.config.KeepAliveConfig.AUTO;
@@ -223,7 +224,7 @@ public class Util {
         HttpVersion httpVersion = getHttpVersion(outboundRequestMsg);
         String requestPath = getRequestPath(outboundRequestMsg);
         HttpRequest outboundNettyRequest = new DefaultHttpRequest(httpVersion, httpMethod,
-                (String) outboundRequestMsg.getProperty(TO));
+                (String) outboundRequestMsg.getProperty(MessageProperties.TO_SLOT));
         outboundNettyRequest.setMethod(httpMethod);
         outboundNettyRequest.setProtocolVersion(httpVersion);
         outboundNettyRequest.setUri(requestPath);
@@ -233,8 +234,8 @@ public class Util {
     }
 
     private static String getRequestPath(HttpCarbonMessage outboundRequestMsg) {
-        if (outboundRequestMsg.getProperty(TO) == null) {
-            outboundRequestMsg.setProperty(TO, "");
+        if (outboundRequestMsg.getProperty(MessageProperties.TO_SLOT) == null) {
+            outboundRequestMsg.setProperty(MessageProperties.TO_SLOT, "");
         }
         // Return absolute url if proxy is enabled
         if (outboundRequestMsg.getProperty(IS_PROXY_ENABLED) != null && (boolean) outboundRequestMsg
@@ -242,9 +243,9 @@ public class Util {
             return outboundRequestMsg.getProperty(PROTOCOL) + URL_AUTHORITY
                     + outboundRequestMsg.getProperty(HTTP_HOST) + COLON
                     + outboundRequestMsg.getProperty(HTTP_PORT)
-                    + outboundRequestMsg.getProperty(TO);
+                    + outboundRequestMsg.getProperty(MessageProperties.TO_SLOT);
         }
-        return (String) outboundRequestMsg.getProperty(TO);
+        return (String) outboundRequestMsg.getProperty(MessageProperties.TO_SLOT);
     }
 
     private static HttpVersion getHttpVersion(HttpCarbonMessage outboundRequestMsg) {
@@ -369,33 +370,39 @@ public class Util {
         SSLEngine sslEngine = null;
         SslHandler sslHandler;
         ChannelPipeline pipeline = socketChannel.pipeline();
-        SSLHandlerFactory sslHandlerFactory = new SSLHandlerFactory(sslConfig);
+        // The contexts are shared by all the connections of the client, so that their sessions can be resumed
+        ClientSslContexts clientSslContexts = ClientSslContexts.of(sslConfig);
         if (sslConfig.isOcspStaplingEnabled()) {
-            sslHandlerFactory.createSSLContextFromKeystores(false);
-            ReferenceCountedOpenSslContext referenceCountedOpenSslContext = sslHandlerFactory
-                    .buildClientReferenceCountedOpenSslContext();
+            SSLHandlerFactory sslHandlerFactory = clientSslContexts.getSslHandlerFactory(true);
+            ReferenceCountedOpenSslContext referenceCountedOpenSslContext =
+                    (ReferenceCountedOpenSslContext) clientSslContexts.getSslContext(ClientSslContexts.HTTP,
+                            sslHandlerFactory::buildClientReferenceCountedOpenSslContext);
 
             if (referenceCountedOpenSslContext != null) {
-                sslHandler = referenceCountedOpenSslContext.newHandler(socketChannel.alloc());
+                sslHandler = referenceCountedOpenSslContext.newHandler(socketChannel.alloc(), host, port);
                 sslEngine = sslHandler.engine();
                 setSslHandshakeTimeOut(sslConfig, sslHandler);
+                clientSslContexts.getHandshakeMetrics().track(sslHandler);
                 socketChannel.pipeline().addLast(sslHandler);
                 socketChannel.pipeline().addLast(new OCSPStaplingHandler((ReferenceCountedOpenSslEngine) sslEngine));
             }
         } else {
             if (sslConfig.isDisableSsl()) {
-                sslEngine = createInsecureSslEngine(socketChannel, sslConfig, host, port);
+                SslContext sslContext = clientSslContexts.getSslContext(ClientSslContexts.HTTP,
+                        () -> createInsecureSslContext(sslConfig));
+                sslEngine = sslContext.newHandler(socketChannel.alloc(), host, port).engine();
             } else {
                 if (sslConfig.getTrustStore() != null) {
-                    sslHandlerFactory.createSSLContextFromKeystores(false);
+                    SSLHandlerFactory sslHandlerFactory = clientSslContexts.getSslHandlerFactory(true);
                     sslEngine = instantiateAndConfigSSL(sslConfig, host, port,
                             sslConfig.isHostNameVerificationEnabled(), sslHandlerFactory);
                 } else {
-                    sslEngine = getSslEngineForCerts(socketChannel, host, port, sslConfig, sslHandlerFactory);
+                    sslEngine = getSslEngineForCerts(socketChannel, host, port, sslConfig, clientSslContexts);
                 }
             }
             sslHandler = new SslHandler(sslEngine);
             setSslHandshakeTimeOut(sslConfig, sslHandler);
+            clientSslContexts.getHandshakeMetrics().track(sslHandler);
             pipeline.addLast(Constants.SSL_HANDLER, sslHandler);
             if (sslConfig.isValidateCertEnabled()) {
                 pipeline.addLast(Constants.HTTP_CERT_VALIDATION_HANDLER, new CertificateValidationHandler(
@@ -406,8 +413,10 @@ public class Util {
     }
 
     private static SSLEngine getSslEngineForCerts(SocketChannel socketChannel, String host, int port,
-            SSLConfig sslConfig, SSLHandlerFactory sslHandlerFactory) throws SSLException {
-        SslContext sslContext = sslHandlerFactory.createHttpTLSContextForClient();
+            SSLConfig sslConfig, ClientSslContexts clientSslContexts) throws Exception {
+        SSLHandlerFactory sslHandlerFactory = clientSslContexts.getSslHandlerFactory(false);
+        SslContext sslContext = clientSslContexts.getSslContext(ClientSslContexts.HTTP,
+                sslHandlerFactory::createHttpTLSContextForClient);
         SslHandler sslHandler = sslContext.newHandler(socketChannel.alloc(), host, port);
         SSLEngine sslEngine = sslHandler.engine();
         sslHandlerFactory.addCommonConfigs(sslEngine);
@@ -418,8 +427,7 @@ public class Util {
         return sslEngine;
     }
 
-    private static SSLEngine createInsecureSslEngine(SocketChannel socketChannel, SSLConfig sslConfig, String host,
-                                                     int port) throws Exception {
+    private static SslContext createInsecureSslContext(SSLConfig sslConfig) throws Exception {
         SslContext sslContext;
         if (sslConfig.getKeyStore() != null && sslConfig.getKeyStorePass() != null) {
             KeyStore ks = getKeyStore(sslConfig);
@@ -440,8 +448,7 @@ public class Util {
             sslContext = SslContextBuilder.forClient().sslProvider(SslProvider.JDK)
                     .trustManager(InsecureTrustManagerFactory.INSTANCE).build();
         }
-        SslHandler sslHandler = sslContext.newHandler(socketChannel.alloc(), host, port);
-        return sslHandler.engine();
+        return sslContext;
     }
 
     /**
@@ -861,7 +868,7 @@ public class Util {
         inboundRequestMsg.setProperty(Constants.LOCAL_ADDRESS, ctx.channel().localAddress());
         inboundRequestMsg.setProperty(Constants.REMOTE_ADDRESS, sourceHandler.getRemoteAddress());
         inboundRequestMsg.setRequestUrl(httpRequestHeaders.uri());
-        inboundRequestMsg.setProperty(Constants.TO, httpRequestHeaders.uri());
+        inboundRequestMsg.setProperty(MessageProperties.TO_SLOT, httpRequestHeaders.uri());
         inboundRequestMsg.setProperty(MUTUAL_SSL_HANDSHAKE_RESULT,
                 ctx.channel().attr(Constants.MUTUAL_SSL_RESULT_ATTRIBUTE).get());
         inboundRequestMsg.setProperty(BASE_64_ENCODED_CERT,
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.ssl;
+
+import io.netty.handler.ssl.SslContext;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The SSL contexts of a client, created once from its {@link SSLConfig} and shared by all its outbound connections
+ * instead of being created for each connection. Besides sparing the key and trust material from being read and parsed
+ * on each connect, sharing the contexts shares their client session caches, which keep the sessions by the host and
+ * port of the peer, so a reconnect to the same backend resumes the previous session with an abbreviated handshake.
+ * <p>
+ * The contexts hold their initial reference for as long as the client is reachable, as a client is never closed
+ * explicitly. The OpenSSL contexts are built with {@code SslProvider.OPENSSL}, so Netty frees their native memory
+ * when they are garbage collected, and the engines created from them retain them until their connections close.
+ */
+public class ClientSslContexts {
+
+    public static final String HTTP = "http";
+    public static final String HTTP2 = "http2";
+
+    private final SSLConfig sslConfig;
+    private final Map<String, SslContext> sslContexts = new HashMap<>(2);
+    private SSLHandlerFactory sslHandlerFactory;
+    private boolean keystoresLoaded;
+    private final HandshakeMetrics handshakeMetrics = new HandshakeMetrics("client");
+
+    private ClientSslContexts(SSLConfig sslConfig) {
+        this.sslConfig = sslConfig;
+    }
+
+    /**
+     * Gets the SSL contexts of the client with the given SSL configuration.
+     *
+     * @param sslConfig the SSL configuration of the client
+     * @return the contexts shared by the connections of the client
+     */
+    public static ClientSslContexts of(SSLConfig sslConfig) {
+        synchronized (sslConfig) {
+            ClientSslContexts clientSslContexts = sslConfig.getClientSslContexts();
+            if (clientSslContexts == null) {
+                clientSslContexts = new ClientSslContexts(sslConfig);
+                sslConfig.setClientSslContexts(clientSslContexts);
+            }
+            return clientSslContexts;
+        }
+    }
+
+    /**
+     * Gets the SSL handler factory of the client.
+     *
+     * @param loadKeystores whether the key store and the trust store should be loaded into the factory
+     * @return the shared factory
+     */
+    public synchronized SSLHandlerFactory getSslHandlerFactory(boolean loadKeystores) {
+        if (sslHandlerFactory == null) {
+            sslHandlerFactory = new SSLHandlerFactory(sslConfig);
+        }
+        if (loadKeystores && !keystoresLoaded) {
+            sslHandlerFactory.createSSLContextFromKeystores(false);
+            keystoresLoaded = true;
+        }
+        return sslHandlerFactory;
+    }
+
+    /**
+     * Gets a context of the client, creating it on first use.
+     *
+     * @param protocol the application protocol the context is for, {@link #HTTP} or {@link #HTTP2}
+     * @param factory  creates the context
+     * @return the shared context
+     * @throws Exception if the context cannot be created
+     */
+    public synchronized SslContext getSslContext(String protocol, SslContextFactory factory) throws Exception {
+        SslContext sslContext = sslContexts.get(protocol);
+        if (sslContext == null) {
+            sslContext = factory.create();
+            sslContexts.put(protocol, sslContext);
+        }
+        return sslContext;
+    }
+
+    public HandshakeMetrics getHandshakeMetrics() {
+        return handshakeMetrics;
+    }
+
+    /**
+     * Creates an SSL context.
+     */
+    @FunctionalInterface
+    public interface SslContextFactory {
+
+        SslContext create() throws Exception;
+    }
+}
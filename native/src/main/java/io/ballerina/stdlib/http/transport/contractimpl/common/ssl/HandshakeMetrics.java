@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.ssl;
+
+import io.netty.handler.ssl.SslHandler;
+
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.net.ssl.SSLSession;
+
+/**
+ * Counters of the TLS handshakes of a client or a listener, telling the full handshakes apart from the ones which
+ * resumed a cached session. The counters are reported through JMX by the {@link HandshakeMetricsMonitor}.
+ * <p>
+ * A handshake resumed a session when it negotiated the ID of a session established by an earlier handshake, as a
+ * resumed session keeps its ID. The OpenSSL clients also derive the ID of a session from its ticket, so the
+ * sessions they resume with a ticket are told apart as well.
+ */
+public class HandshakeMetrics {
+
+    private static final int MAX_SESSION_IDS = 1024;
+
+    private final String name;
+    private final LongAdder fullHandshakes = new LongAdder();
+    private final LongAdder resumedHandshakes = new LongAdder();
+    private final LongAdder failedHandshakes = new LongAdder();
+    private final LongAdder handshakeNanos = new LongAdder();
+    private final Map<ByteBuffer, Boolean> sessionIds = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<ByteBuffer, Boolean> eldest) {
+            return size() > MAX_SESSION_IDS;
+        }
+    };
+
+    /**
+     * Creates the counters and reports them through JMX.
+     *
+     * @param name identifies the client or the listener in the report
+     */
+    public HandshakeMetrics(String name) {
+        this.name = name;
+        HandshakeMetricsMonitor.getInstance().register(this);
+    }
+
+    /**
+     * Counts the handshake of a connection once it completes. The handshake is timed from this call, so it should
+     * be called when the SSL handler is created.
+     *
+     * @param sslHandler the SSL handler of the connection
+     */
+    public void track(SslHandler sslHandler) {
+        long startTime = System.nanoTime();
+        sslHandler.handshakeFuture().addListener(future -> {
+            if (!future.isSuccess()) {
+                failedHandshakes.increment();
+                return;
+            }
+            SSLSession session = sslHandler.engine().getSession();
+            record(isResumed(session.getId()), System.nanoTime() - startTime);
+        });
+    }
+
+    /**
+     * Tells whether a session was established by an earlier handshake, remembering its ID for the handshakes to
+     * come. Only the IDs of the most recent sessions are kept, like in the session caches.
+     *
+     * @param sessionId the ID of the negotiated session
+     * @return whether the handshake resumed the session
+     */
+    boolean isResumed(byte[] sessionId) {
+        if (sessionId == null || sessionId.length == 0) {
+            return false;
+        }
+        synchronized (sessionIds) {
+            return sessionIds.put(ByteBuffer.wrap(sessionId.clone()), Boolean.TRUE) != null;
+        }
+    }
+
+    /**
+     * Records a completed handshake.
+     *
+     * @param resumed whether the handshake resumed a session
+     * @param nanos   the time the handshake took
+     */
+    void record(boolean resumed, long nanos) {
+        if (resumed) {
+            resumedHandshakes.increment();
+        } else {
+            fullHandshakes.increment();
+        }
+        handshakeNanos.add(nanos);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getFullHandshakes() {
+        return fullHandshakes.sum();
+    }
+
+    public long getResumedHandshakes() {
+        return resumedHandshakes.sum();
+    }
+
+    public long getFailedHandshakes() {
+        return failedHandshakes.sum();
+    }
+
+    /**
+     * Gets the total time taken by the completed handshakes, including the round trips to the peer.
+     *
+     * @return the time in nanoseconds
+     */
+    public long getHandshakeNanos() {
+        return handshakeNanos.sum();
+    }
+
+    @Override
+    public String toString() {
+        long completed = getFullHandshakes() + getResumedHandshakes();
+        return "full=" + getFullHandshakes() + ", resumed=" + getResumedHandshakes() + ", failed="
+                + getFailedHandshakes() + ", averageMillis="
+                + (completed > 0 ? TimeUnit.NANOSECONDS.toMillis(getHandshakeNanos() / completed) : 0);
+    }
+}
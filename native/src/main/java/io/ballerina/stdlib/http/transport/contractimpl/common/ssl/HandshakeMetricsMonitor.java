@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.ssl;
+
+import io.ballerina.stdlib.http.transport.contractimpl.common.MBeanRegistrar;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Reports the TLS handshakes of all the clients and the listeners through JMX. The metrics are held weakly, so that
+ * the ones of a client which is gone are dropped from the report.
+ */
+public class HandshakeMetricsMonitor implements HandshakeMetricsMonitorMBean {
+
+    private static final HandshakeMetricsMonitor INSTANCE = new HandshakeMetricsMonitor();
+
+    static {
+        MBeanRegistrar.getInstance().registerMBean(INSTANCE, "TLS", "HandshakeMetrics");
+    }
+
+    private final Set<HandshakeMetrics> handshakeMetrics =
+            Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+    public static HandshakeMetricsMonitor getInstance() {
+        return INSTANCE;
+    }
+
+    private HandshakeMetricsMonitor() {
+    }
+
+    void register(HandshakeMetrics metrics) {
+        handshakeMetrics.add(metrics);
+    }
+
+    @Override
+    public long getFullHandshakes() {
+        long fullHandshakes = 0;
+        for (HandshakeMetrics metrics : snapshot()) {
+            fullHandshakes += metrics.getFullHandshakes();
+        }
+        return fullHandshakes;
+    }
+
+    @Override
+    public long getResumedHandshakes() {
+        long resumedHandshakes = 0;
+        for (HandshakeMetrics metrics : snapshot()) {
+            resumedHandshakes += metrics.getResumedHandshakes();
+        }
+        return resumedHandshakes;
+    }
+
+    @Override
+    public long getFailedHandshakes() {
+        long failedHandshakes = 0;
+        for (HandshakeMetrics metrics : snapshot()) {
+            failedHandshakes += metrics.getFailedHandshakes();
+        }
+        return failedHandshakes;
+    }
+
+    /**
+     * Gets the handshake counts of every client and listener, one entry each in the form of {@code name: counts}.
+     *
+     * @return the handshake counts
+     */
+    @Override
+    public String[] getHandshakeStats() {
+        List<String> handshakeStats = new ArrayList<>();
+        for (HandshakeMetrics metrics : snapshot()) {
+            handshakeStats.add(metrics.getName() + ": " + metrics);
+        }
+        return handshakeStats.toArray(new String[0]);
+    }
+
+    private List<HandshakeMetrics> snapshot() {
+        synchronized (handshakeMetrics) {
+            return new ArrayList<>(handshakeMetrics);
+        }
+    }
+}
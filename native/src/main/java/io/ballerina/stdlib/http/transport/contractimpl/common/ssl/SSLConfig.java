@@ -61,9 +61,13 @@ public class SSLConfig {
     private String serverKeyPassword;
     private String clientKeyPassword;
     private int sessionTimeOut;
+    private int sessionCacheSize;
+    private long sessionTicketKeyRotationInterval;
+    private boolean preferOpenSsl = false;
     private long handshakeTimeOut;
     private boolean disableSsl = false;
     private boolean useJavaDefaults = false;
+    private ClientSslContexts clientSslContexts;
 
     public SSLConfig() {}
 
@@ -321,6 +325,30 @@ public class SSLConfig {
         this.sessionTimeOut = sessionTimeOut;
     }
 
+    public int getSessionCacheSize() {
+        return sessionCacheSize;
+    }
+
+    public void setSessionCacheSize(int sessionCacheSize) {
+        this.sessionCacheSize = sessionCacheSize;
+    }
+
+    public long getSessionTicketKeyRotationInterval() {
+        return sessionTicketKeyRotationInterval;
+    }
+
+    public void setSessionTicketKeyRotationInterval(long sessionTicketKeyRotationInterval) {
+        this.sessionTicketKeyRotationInterval = sessionTicketKeyRotationInterval;
+    }
+
+    public boolean isPreferOpenSsl() {
+        return preferOpenSsl;
+    }
+
+    public void setPreferOpenSsl(boolean preferOpenSsl) {
+        this.preferOpenSsl = preferOpenSsl;
+    }
+
     public long getHandshakeTimeOut() {
         return handshakeTimeOut;
     }
@@ -344,4 +372,12 @@ public class SSLConfig {
     public void setUseJavaDefaults() {
         this.useJavaDefaults = true;
     }
+
+    ClientSslContexts getClientSslContexts() {
+        return clientSslContexts;
+    }
+
+    void setClientSslContexts(ClientSslContexts clientSslContexts) {
+        this.clientSslContexts = clientSslContexts;
+    }
 }
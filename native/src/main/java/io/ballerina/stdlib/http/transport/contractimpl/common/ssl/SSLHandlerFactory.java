@@ -23,6 +23,7 @@ import io.netty.handler.codec.http2.Http2SecurityUtil;
 import io.netty.handler.ssl.ApplicationProtocolConfig;
 import io.netty.handler.ssl.ApplicationProtocolNames;
 import io.netty.handler.ssl.ClientAuth;
+import io.netty.handler.ssl.OpenSsl;
 import io.netty.handler.ssl.ReferenceCountedOpenSslContext;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslContextBuilder;
@@ -51,6 +52,7 @@ import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLEngine;
 import javax.net.ssl.SSLException;
 import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLSessionContext;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.TrustManagerFactory;
 
@@ -66,11 +68,15 @@ public class SSLHandlerFactory {
     private KeyManagerFactory kmf;
     private TrustManagerFactory tmf;
     private SslContextBuilder sslContextBuilder;
+    private SessionTicketKeys sessionTicketKeys;
 
     public SSLHandlerFactory(SSLConfig sslConfig) {
         this.sslConfig = sslConfig;
         needClientAuth = sslConfig.isNeedClientAuth();
         wantClientAuth = sslConfig.isWantClientAuth();
+        if (sslConfig.getSessionTicketKeyRotationInterval() > 0) {
+            sessionTicketKeys = new SessionTicketKeys(sslConfig.getSessionTicketKeyRotationInterval());
+        }
     }
 
     /**
@@ -108,9 +114,7 @@ public class SSLHandlerFactory {
             sslContext.init(keyManagers, trustManagers, null);
             int sessionTimeout = sslConfig.getSessionTimeOut();
             if (isServer) {
-                if (sessionTimeout > 0) {
-                    sslContext.getServerSessionContext().setSessionTimeout(sessionTimeout);
-                }
+                configureServerSessions(sslContext.getServerSessionContext());
             } else {
                 if (sessionTimeout > 0) {
                     sslContext.getClientSessionContext().setSessionTimeout(sessionTimeout);
@@ -177,10 +181,7 @@ public class SSLHandlerFactory {
         setSslProtocol(sslContextBuilder);
         ReferenceCountedOpenSslContext referenceCountedOpenSslCtx = (ReferenceCountedOpenSslContext) sslContextBuilder
                 .build();
-        int sessionTimeout = sslConfig.getSessionTimeOut();
-        if (sessionTimeout > 0) {
-            referenceCountedOpenSslCtx.sessionContext().setSessionTimeout(sessionTimeout);
-        }
+        configureServerSessions(referenceCountedOpenSslCtx.sessionContext());
         return referenceCountedOpenSslCtx;
     }
 
@@ -269,28 +270,67 @@ public class SSLHandlerFactory {
         setOcspStapling(sslContextBuilder, sslConfig.isOcspStaplingEnabled());
 
         SslContext sslCtx = sslContextBuilder.build();
-        int sessionTimeout = sslConfig.getSessionTimeOut();
-        if (sessionTimeout > 0) {
-            sslCtx.sessionContext().setSessionTimeout(sessionTimeout);
-        }
+        configureServerSessions(sslCtx.sessionContext());
 
         return sslCtx;
     }
 
     /**
-     * This method will provide netty ssl context which supports HTTP over TLS using.
+     * This method will provide netty ssl context which supports HTTP over TLS using. OpenSSL is used when it is
+     * preferred and available, otherwise the JDK provider, whose engines are expected to be configured with
+     * {@link #addCommonConfigs(SSLEngine)}. The key store must have been loaded with
+     * {@link #createSSLContextFromKeystores(boolean)} if the server key is in a key store.
      *
      * @return instance of {@link SslContext}
      * @throws SSLException if any error occurred during building SSL context.
      */
     public SslContext createHttpTLSContextForServer() throws SSLException {
-        SslProvider provider = SslProvider.JDK;
-        SslContext certsSslContext = serverContextBuilderWithCerts(provider).build();
+        SslProvider provider = isOpenSslPreferred() ? SslProvider.OPENSSL : SslProvider.JDK;
+        sslContextBuilder = sslConfig.getKeyStore() != null ? serverContextBuilderWithKs(provider) :
+                serverContextBuilderWithCerts(provider);
+        if (provider == SslProvider.OPENSSL) {
+            // The engines of OpenSSL always create sessions and do not take the common configs, so the ciphers and
+            // the protocols are set on the context instead
+            if (sslConfig.getCipherSuites() != null && sslConfig.getCipherSuites().length > 0) {
+                setCiphers(sslContextBuilder, Arrays.asList(sslConfig.getCipherSuites()));
+            }
+            setSslProtocol(sslContextBuilder);
+        }
+        SslContext serverSslContext = sslContextBuilder.build();
+        configureServerSessions(serverSslContext.sessionContext());
+        return serverSslContext;
+    }
+
+    /**
+     * Checks whether the HTTP/1.x server contexts are created with OpenSSL. HTTP/2 always uses OpenSSL.
+     *
+     * @return true if OpenSSL is preferred in the configuration and is available
+     */
+    public boolean isOpenSslPreferred() {
+        return sslConfig.isPreferOpenSsl() && OpenSsl.isAvailable();
+    }
+
+    /**
+     * Gets the keys of the session tickets issued by the server contexts.
+     *
+     * @return the keys, or null if they are managed by the TLS provider
+     */
+    public SessionTicketKeys getSessionTicketKeys() {
+        return sessionTicketKeys;
+    }
+
+    private void configureServerSessions(SSLSessionContext sessionContext) {
         int sessionTimeout = sslConfig.getSessionTimeOut();
         if (sessionTimeout > 0) {
-            certsSslContext.sessionContext().setSessionTimeout(sessionTimeout);
+            sessionContext.setSessionTimeout(sessionTimeout);
+        }
+        int sessionCacheSize = sslConfig.getSessionCacheSize();
+        if (sessionCacheSize > 0) {
+            sessionContext.setSessionCacheSize(sessionCacheSize);
+        }
+        if (sessionTicketKeys != null) {
+            sessionTicketKeys.register(sessionContext);
         }
-        return certsSslContext;
     }
 
     /**
@@ -365,7 +405,7 @@ public class SSLHandlerFactory {
         if (sessionTimeout > 0) {
             sslContext.sessionContext().setSessionTimeout(sessionTimeout);
         }
-        return sslContextBuilder.build();
+        return sslContext;
     }
 
     private void setCiphers(SslContextBuilder sslContextBuilder, List<String> ciphers) {
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.ssl;
+
+import io.netty.handler.ssl.OpenSslSessionContext;
+import io.netty.handler.ssl.OpenSslSessionTicketKey;
+
+import java.security.SecureRandom;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import javax.net.ssl.SSLSessionContext;
+
+/**
+ * The keys which encrypt the stateless session tickets issued by the OpenSSL contexts of a listener. A new key is
+ * generated once the rotation interval has passed, and the previous key is kept to decrypt the tickets issued with it
+ * for one more interval, so that clients can resume their sessions across a rotation. The keys never leave the process.
+ * <p>
+ * The rotation is checked when a connection is accepted, so an idle listener does not need a timer for it.
+ */
+public class SessionTicketKeys {
+
+    private static final int KEY_PART_SIZE = 16;
+
+    private final long rotationIntervalNanos;
+    private final SecureRandom random = new SecureRandom();
+    private final List<OpenSslSessionContext> sessionContexts = new CopyOnWriteArrayList<>();
+    private OpenSslSessionTicketKey[] keys;
+    private volatile long nextRotation;
+
+    /**
+     * Creates the keys.
+     *
+     * @param rotationInterval the interval in seconds after which a new key is used
+     */
+    public SessionTicketKeys(long rotationInterval) {
+        this.rotationIntervalNanos = TimeUnit.SECONDS.toNanos(rotationInterval);
+        this.keys = new OpenSslSessionTicketKey[]{newKey()};
+        this.nextRotation = System.nanoTime() + rotationIntervalNanos;
+    }
+
+    /**
+     * Makes a session context use the keys. Only OpenSSL session contexts accept ticket keys; the JDK provider
+     * manages the keys of its tickets itself.
+     *
+     * @param sessionContext the server session context of an SSL context of the listener
+     */
+    public synchronized void register(SSLSessionContext sessionContext) {
+        if (sessionContext instanceof OpenSslSessionContext) {
+            OpenSslSessionContext openSslSessionContext = (OpenSslSessionContext) sessionContext;
+            openSslSessionContext.setTicketKeys(keys);
+            sessionContexts.add(openSslSessionContext);
+        }
+    }
+
+    /**
+     * Rotates the keys if the rotation interval has passed since the last rotation.
+     */
+    public void rotateIfDue() {
+        if (System.nanoTime() - nextRotation < 0) {
+            return;
+        }
+        synchronized (this) {
+            if (System.nanoTime() - nextRotation >= 0) {
+                rotate();
+            }
+        }
+    }
+
+    /**
+     * Starts encrypting the tickets with a new key, while the current one is kept for decryption.
+     */
+    synchronized void rotate() {
+        keys = new OpenSslSessionTicketKey[]{newKey(), keys[0]};
+        for (OpenSslSessionContext sessionContext : sessionContexts) {
+            sessionContext.setTicketKeys(keys);
+        }
+        nextRotation = System.nanoTime() + rotationIntervalNanos;
+    }
+
+    /**
+     * Gets the keys in use. The first one encrypts the new tickets.
+     *
+     * @return the keys
+     */
+    synchronized OpenSslSessionTicketKey[] getKeys() {
+        return keys.clone();
+    }
+
+    private OpenSslSessionTicketKey newKey() {
+        byte[] name = new byte[KEY_PART_SIZE];
+        byte[] hmacKey = new byte[KEY_PART_SIZE];
+        byte[] aesKey = new byte[KEY_PART_SIZE];
+        random.nextBytes(name);
+        random.nextBytes(hmacKey);
+        random.nextBytes(aesKey);
+        return new OpenSslSessionTicketKey(name, hmacKey, aesKey);
+    }
+}
@@ -39,6 +39,7 @@ import io.ballerina.stdlib.http.transport.message.Http2PushPromise;
 import io.ballerina.stdlib.http.transport.message.Http2Reset;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonRequest;
+import io.ballerina.stdlib.http.transport.message.MessageProperties;
 import io.ballerina.stdlib.http.transport.message.PooledDataStreamerFactory;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelFuture;
@@ -77,7 +78,6 @@ import static io.ballerina.stdlib.http.transport.contract.Constants.MUTUAL_SSL_H
 import static io.ballerina.stdlib.http.transport.contract.Constants.POOLED_BYTE_BUFFER_FACTORY;
 import static io.ballerina.stdlib.http.transport.contract.Constants.PROMISED_STREAM_REJECTED_ERROR;
 import static io.ballerina.stdlib.http.transport.contract.Constants.PROTOCOL;
-import static io.ballerina.stdlib.http.transport.contract.Constants.TO;
 import static io.ballerina.stdlib.http.transport.contractimpl.common.states.StateUtil.handleIncompleteInboundMessage;
 
 /**
@@ -157,7 +157,7 @@ public final class Http2StateUtil {
                 ctx.channel().attr(Constants.BASE_64_ENCODED_CERT_ATTRIBUTE).get());
         String uri = httpRequest.uri();
         sourceReqCMsg.setRequestUrl(uri);
-        sourceReqCMsg.setProperty(TO, uri);
+        sourceReqCMsg.setProperty(MessageProperties.TO_SLOT, uri);
         return sourceReqCMsg;
     }
 
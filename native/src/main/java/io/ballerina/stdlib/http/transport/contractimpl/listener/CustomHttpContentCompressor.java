@@ -1,46 +1,227 @@
 package io.ballerina.stdlib.http.transport.contractimpl.listener;
 
+import io.ballerina.stdlib.http.transport.contractimpl.listener.compression.CompressedBodyCache;
+import io.ballerina.stdlib.http.transport.contractimpl.listener.compression.CompressionPolicy;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.HttpContent;
 import io.netty.handler.codec.http.HttpContentCompressor;
 import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpObject;
 import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.util.ReferenceCountUtil;
 
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayDeque;
 import java.util.List;
+import java.util.Queue;
 
 /**
- * Custom Http Content Compressor to handle the content-length and transfer encoding.
+ * Custom Http Content Compressor to handle the content-length and transfer encoding. The content coding, level and
+ * minimum size of each response are chosen by the {@link CompressionPolicy} of the listener, and the compressed
+ * payloads of cacheable responses are reused from its {@link CompressedBodyCache}.
  */
 public class CustomHttpContentCompressor extends HttpContentCompressor {
 
-    private HttpMethod method;
+    private final CompressionPolicy policy;
+    // The requests which are not responded yet, in the order they were received, like the accept-encoding values
+    // queued by the parent
+    private final Queue<RequestInfo> requests = new ArrayDeque<>();
+    private ChannelHandlerContext ctx;
+    private RequestInfo request;
 
-    public CustomHttpContentCompressor() {
+    // The state of the response which is being compressed
+    private boolean compressing;
+    private boolean fromCache;
+    private long inputBytes;
+    private long outputBytes;
+    private long compressionNanos;
+    private String cacheKey;
+    private ByteArrayOutputStream capturedBody;
+
+    public CustomHttpContentCompressor(CompressionPolicy policy) {
         super();
+        this.policy = policy;
+    }
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) throws Exception {
+        this.ctx = ctx;
+        super.handlerAdded(ctx);
+    }
+
+    @Override
+    protected void decode(ChannelHandlerContext ctx, HttpRequest msg, List<Object> out)
+            throws Exception {
+        requests.add(new RequestInfo(msg.method(), msg.headers().get(HttpHeaderNames.HOST), msg.uri()));
+        super.decode(ctx, msg, out);
+    }
+
+    @Override
+    protected void encode(ChannelHandlerContext ctx, HttpObject msg, List<Object> out) throws Exception {
+        if (msg instanceof HttpResponse && ((HttpResponse) msg).status().code() != HttpResponseStatus.CONTINUE.code()) {
+            // Another response follows a 100-continue response, so the request is not polled for it
+            request = requests.poll();
+        }
+        int inputSize = msg instanceof HttpContent ? ((HttpContent) msg).content().readableBytes() : 0;
+        int outputIndex = out.size();
+        long startTime = System.nanoTime();
+        super.encode(ctx, msg, out);
+        if (!compressing) {
+            return;
+        }
+        compressionNanos += System.nanoTime() - startTime;
+        inputBytes += inputSize;
+        for (int i = outputIndex; i < out.size(); i++) {
+            if (out.get(i) instanceof HttpContent) {
+                captureOutput(((HttpContent) out.get(i)).content());
+            }
+        }
+        if (msg instanceof LastHttpContent) {
+            endCompression();
+        }
     }
 
     @Override
-    protected Result beginEncode(HttpResponse headers, String acceptEncoding) throws Exception {
-        String allowHeader = headers.headers().get(HttpHeaderNames.ALLOW);
-        String contentLength = headers.headers().get(HttpHeaderNames.CONTENT_LENGTH);
-        if (method == HttpMethod.OPTIONS && allowHeader != null && contentLength.equals("0")) {
+    protected Result beginEncode(HttpResponse response, String acceptEncoding) throws Exception {
+        HttpHeaders headers = response.headers();
+        if (request != null && request.method == HttpMethod.OPTIONS && headers.contains(HttpHeaderNames.ALLOW)
+                && "0".equals(headers.get(HttpHeaderNames.CONTENT_LENGTH))) {
             return null;
         }
-        String contentEncoding = headers.headers().get(HttpHeaderNames.CONTENT_ENCODING);
+        CompressionPolicy.Settings settings = policy.getSettings(headers.get(HttpHeaderNames.CONTENT_TYPE));
+        String encoding;
+        String contentEncoding = headers.get(HttpHeaderNames.CONTENT_ENCODING);
         if (contentEncoding != null) {
             //When the response contains content-encoding header, override acceptEncoding value with it, which will
             //ultimately be used for compression and then remove the content-encoding header from response.
-            acceptEncoding = contentEncoding;
-            headers.headers().remove(HttpHeaderNames.CONTENT_ENCODING);
+            headers.remove(HttpHeaderNames.CONTENT_ENCODING);
+            encoding = policy.selectEncoding(contentEncoding);
+        } else if (settings.isEnabled() && !isSmallerThan(response, settings.getMinSize())) {
+            encoding = policy.selectEncoding(acceptEncoding);
+        } else {
+            encoding = null;
         }
-        return super.beginEncode(headers, acceptEncoding);
+        if (encoding == null) {
+            return null;
+        }
+
+        CompressedBodyCache cache = policy.getCache();
+        if (cache != null && request != null
+                && CompressionPolicy.isCacheable(response.status().code(), headers)) {
+            String key = CompressionPolicy.getCacheKey(encoding, request.host, request.uri,
+                                                       headers.get(HttpHeaderNames.ETAG));
+            byte[] body = cache.get(key);
+            if (body != null) {
+                startCompression(true);
+                return new Result(encoding, newEncoderChannel(new CachedBodyWriter(body)));
+            }
+            startCompression(false);
+            cacheKey = key;
+            capturedBody = new ByteArrayOutputStream();
+        } else {
+            startCompression(false);
+        }
+        return new Result(encoding, newEncoderChannel(policy.newEncoder(encoding, settings.getLevel())));
     }
 
-    @Override
-    protected void decode(ChannelHandlerContext ctx, HttpRequest msg, List<Object> out)
-            throws Exception {
-        this.method = msg.method();
-        super.decode(ctx, msg, out);
+    private static boolean isSmallerThan(HttpResponse response, long minSize) {
+        if (minSize <= 0) {
+            return false;
+        }
+        if (response instanceof HttpContent) {
+            return ((HttpContent) response).content().readableBytes() < minSize;
+        }
+        // The size of a chunked payload is not known in advance, so it is compressed
+        long contentLength = HttpUtil.getContentLength(response, -1L);
+        return contentLength >= 0 && contentLength < minSize;
+    }
+
+    private EmbeddedChannel newEncoderChannel(ChannelHandler encoder) {
+        return new EmbeddedChannel(ctx.channel().id(), ctx.channel().metadata().hasDisconnect(),
+                                   ctx.channel().config(), encoder);
+    }
+
+    private void startCompression(boolean cached) {
+        compressing = true;
+        fromCache = cached;
+        inputBytes = 0;
+        outputBytes = 0;
+        compressionNanos = 0;
+        cacheKey = null;
+        capturedBody = null;
+    }
+
+    private void captureOutput(ByteBuf content) throws Exception {
+        int size = content.readableBytes();
+        outputBytes += size;
+        if (capturedBody == null) {
+            return;
+        }
+        if (capturedBody.size() + size > policy.getCache().getMaxEntrySize()) {
+            capturedBody = null;
+            cacheKey = null;
+            return;
+        }
+        content.getBytes(content.readerIndex(), capturedBody, size);
+    }
+
+    private void endCompression() {
+        if (cacheKey != null) {
+            policy.getCache().put(cacheKey, capturedBody.toByteArray());
+        }
+        policy.getMetrics().record(inputBytes, outputBytes, fromCache ? 0 : compressionNanos, fromCache);
+        compressing = false;
+        cacheKey = null;
+        capturedBody = null;
+    }
+
+    private static class RequestInfo {
+
+        private final HttpMethod method;
+        private final String host;
+        private final String uri;
+
+        RequestInfo(HttpMethod method, String host, String uri) {
+            this.method = method;
+            this.host = host;
+            this.uri = uri;
+        }
+    }
+
+    /**
+     * Stands in for the encoder when the compressed payload is taken from the cache. The payload written by the
+     * service is discarded and the cached one is written when the encoder is finished.
+     */
+    private static class CachedBodyWriter extends ChannelOutboundHandlerAdapter {
+
+        private final byte[] body;
+
+        CachedBodyWriter(byte[] body) {
+            this.body = body;
+        }
+
+        @Override
+        public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+            ReferenceCountUtil.release(msg);
+            promise.trySuccess();
+        }
+
+        @Override
+        public void close(ChannelHandlerContext ctx, ChannelPromise promise) throws Exception {
+            ctx.writeAndFlush(Unpooled.wrappedBuffer(body));
+            ctx.close(promise);
+        }
     }
 }
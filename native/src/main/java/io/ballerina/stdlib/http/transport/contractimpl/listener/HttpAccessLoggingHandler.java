@@ -19,35 +19,37 @@
 package io.ballerina.stdlib.http.transport.contractimpl.listener;
 
 import io.ballerina.stdlib.http.transport.contract.Constants;
+import io.ballerina.stdlib.http.transport.contractimpl.listener.accesslog.AccessLogRecord;
+import io.ballerina.stdlib.http.transport.contractimpl.listener.accesslog.AccessLogWriter;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelPromise;
 import io.netty.handler.codec.http.HttpContent;
 import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpStatusClass;
 import io.netty.handler.codec.http.LastHttpContent;
 import io.netty.handler.logging.LogLevel;
 import io.netty.handler.logging.LoggingHandler;
 
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
-import java.util.Calendar;
+import java.util.ArrayDeque;
+import java.util.Queue;
 
 /**
- * Logging handler for HTTP access logs.
+ * Logging handler for HTTP access logs. A record is kept for every request read on the connection until its response
+ * is completely written, so that the responses of pipelined requests are logged against the right request. Completed
+ * records are handed to the {@link AccessLogWriter}, which formats and writes them off the event loop.
  */
 public class HttpAccessLoggingHandler extends LoggingHandler {
     private static final LogLevel LOG_LEVEL = LogLevel.INFO;
-    private static final String EVENT_WRITE = "WRITE";
-    private String inetAddress;
-    private String method;
-    private String uri;
-    private String protocol;
-    private String userAgent = "-";
-    private String referrer = "-";
-    private int status;
-    private Long contentLength = 0L;
-    private Calendar calendar;
+    private static final String NOT_AVAILABLE = "-";
+    private final Queue<AccessLogRecord> pendingRecords = new ArrayDeque<>(1);
+    private String inetAddress = NOT_AVAILABLE;
+    private boolean contentLengthFromHeader;
 
     public HttpAccessLoggingHandler(String name) {
         super(name, LOG_LEVEL);
@@ -56,11 +58,11 @@ public class HttpAccessLoggingHandler extends LoggingHandler {
     @Override
     public void channelActive(ChannelHandlerContext ctx) throws Exception {
         SocketAddress address = ctx.channel().remoteAddress();
-        if (address instanceof InetSocketAddress) {
+        if (address instanceof InetSocketAddress && ((InetSocketAddress) address).getAddress() != null) {
             inetAddress = ((InetSocketAddress) address).getAddress().toString();
-        }
-        if (inetAddress.startsWith("/")) {
-            inetAddress = inetAddress.substring(1);
+            if (inetAddress.startsWith("/")) {
+                inetAddress = inetAddress.substring(1);
+            }
         }
         ctx.fireChannelActive();
     }
@@ -68,35 +70,20 @@ public class HttpAccessLoggingHandler extends LoggingHandler {
     @Override
     public void channelInactive(ChannelHandlerContext ctx) throws Exception {
         ctx.fireChannelInactive();
-        inetAddress = "-";
+        inetAddress = NOT_AVAILABLE;
+        pendingRecords.clear();
     }
 
     @Override
     public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
         if (msg instanceof HttpRequest) {
             HttpRequest httpRequest = (HttpRequest) msg;
-            calendar = Calendar.getInstance();
-            // maybe this request was proxied or load balanced.
-            // try and get the real originating IP
-            if (httpRequest.headers().contains(Constants.HTTP_X_FORWARDED_FOR)) {
-                // can contain multiple IPs for proxy chains. the first ip is our client.
-                String proxyChain = httpRequest.headers().get(Constants.HTTP_X_FORWARDED_FOR);
-                int firstComma = proxyChain.indexOf(',');
-                if (firstComma != -1) {
-                    inetAddress = proxyChain.substring(0, proxyChain.indexOf(','));
-                } else {
-                    inetAddress = proxyChain;
-                }
-            }
-            if (httpRequest.headers().contains(HttpHeaderNames.USER_AGENT)) {
-                userAgent = httpRequest.headers().get(HttpHeaderNames.USER_AGENT);
-            }
-            if (httpRequest.headers().contains(HttpHeaderNames.REFERER)) {
-                referrer = httpRequest.headers().get(HttpHeaderNames.REFERER);
-            }
-            method = httpRequest.method().name();
-            uri = httpRequest.uri();
-            protocol = httpRequest.protocolVersion().toString();
+            HttpHeaders headers = httpRequest.headers();
+            pendingRecords.add(new AccessLogRecord(getClientAddress(headers), httpRequest.method().name(),
+                                                   httpRequest.uri(), httpRequest.protocolVersion().text(),
+                                                   getHeader(headers, HttpHeaderNames.REFERER),
+                                                   getHeader(headers, HttpHeaderNames.USER_AGENT),
+                                                   System.currentTimeMillis()));
         }
         ctx.fireChannelRead(msg);
     }
@@ -104,46 +91,61 @@ public class HttpAccessLoggingHandler extends LoggingHandler {
     @Override
     public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
         ctx.write(msg, promise);
+        AccessLogRecord record = pendingRecords.peek();
+        if (record == null) {
+            return;
+        }
         if (msg instanceof HttpResponse) {
             HttpResponse httpResponse = (HttpResponse) msg;
-            status = httpResponse.status().code();
-            if (httpResponse.headers().contains(HttpHeaderNames.CONTENT_LENGTH)) {
-                contentLength = Long.valueOf(httpResponse.headers().get(HttpHeaderNames.CONTENT_LENGTH));
-                if (logger.isEnabled(internalLevel)) {
-                    logger.log(internalLevel, format(ctx, EVENT_WRITE, msg));
+            HttpResponseStatus status = httpResponse.status();
+            if (status.codeClass() == HttpStatusClass.INFORMATIONAL) {
+                // Interim responses are not logged, unless the connection is switched to another protocol
+                if (status.code() == HttpResponseStatus.SWITCHING_PROTOCOLS.code()) {
+                    record.setStatus(status.code());
+                    publish();
                 }
-                clearState();
+                return;
+            }
+            record.setStatus(status.code());
+            String contentLength = httpResponse.headers().get(HttpHeaderNames.CONTENT_LENGTH);
+            contentLengthFromHeader = contentLength != null;
+            if (contentLengthFromHeader) {
+                record.setContentLength(Long.parseLong(contentLength));
+            }
+        }
+        if (msg instanceof HttpContent && record.getStatus() != -1) {
+            if (!contentLengthFromHeader) {
+                record.addContentLength(((HttpContent) msg).content().readableBytes());
             }
-        } else if (msg instanceof HttpContent) {
-            HttpContent httpContent = (HttpContent) msg;
-            contentLength += httpContent.content().readableBytes();
             if (msg instanceof LastHttpContent) {
-                if (logger.isEnabled(internalLevel)) {
-                    logger.log(internalLevel, format(ctx, EVENT_WRITE, msg));
-                }
-                clearState();
+                publish();
             }
         }
     }
 
-    @Override
-    protected String format(ChannelHandlerContext ctx, String eventName, Object arg) {
-        if (EVENT_WRITE.equals(eventName)) {
-            return String.format(Constants.ACCESS_LOG_FORMAT, inetAddress, calendar, method, uri, protocol, status,
-                                 contentLength, referrer, userAgent);
+    private void publish() {
+        AccessLogRecord record = pendingRecords.poll();
+        contentLengthFromHeader = false;
+        if (record != null) {
+            AccessLogWriter.getInstance().publish(record);
+        }
+    }
+
+    private String getClientAddress(HttpHeaders headers) {
+        // maybe this request was proxied or load balanced.
+        // try and get the real originating IP
+        String proxyChain = headers.get(Constants.HTTP_X_FORWARDED_FOR);
+        if (proxyChain == null) {
+            return inetAddress;
         }
-        return "";
-    }
-
-    private void clearState() {
-        method = null;
-        uri = null;
-        protocol = null;
-        status = -1;
-        contentLength = 0L;
-        calendar = null;
-        userAgent = "-";
-        referrer = "-";
+        // can contain multiple IPs for proxy chains. the first ip is our client.
+        int firstComma = proxyChain.indexOf(',');
+        return firstComma != -1 ? proxyChain.substring(0, firstComma) : proxyChain;
+    }
+
+    private static String getHeader(HttpHeaders headers, CharSequence name) {
+        String value = headers.get(name);
+        return value != null ? value : NOT_AVAILABLE;
     }
 
     @Override
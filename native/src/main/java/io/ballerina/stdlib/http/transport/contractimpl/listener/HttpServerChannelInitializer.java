@@ -20,12 +20,16 @@ import io.ballerina.stdlib.http.transport.contract.ServerConnectorFuture;
 import io.ballerina.stdlib.http.transport.contract.config.ChunkConfig;
 import io.ballerina.stdlib.http.transport.contract.config.InboundMsgSizeValidationConfig;
 import io.ballerina.stdlib.http.transport.contract.config.KeepAliveConfig;
+import io.ballerina.stdlib.http.transport.contract.config.ResponseCompressionConfig;
 import io.ballerina.stdlib.http.transport.contractimpl.common.BackPressureHandler;
 import io.ballerina.stdlib.http.transport.contractimpl.common.Util;
 import io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.CertificateVerificationException;
 import io.ballerina.stdlib.http.transport.contractimpl.common.http2.Http2ExceptionHandler;
+import io.ballerina.stdlib.http.transport.contractimpl.common.ssl.HandshakeMetrics;
 import io.ballerina.stdlib.http.transport.contractimpl.common.ssl.SSLConfig;
 import io.ballerina.stdlib.http.transport.contractimpl.common.ssl.SSLHandlerFactory;
+import io.ballerina.stdlib.http.transport.contractimpl.common.ssl.SessionTicketKeys;
+import io.ballerina.stdlib.http.transport.contractimpl.listener.compression.CompressionPolicy;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.http2.Http2SourceConnectionHandlerBuilder;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.http2.Http2ToHttpFallbackHandler;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.http2.Http2WithPriorKnowledgeHandler;
@@ -92,6 +96,7 @@ public class HttpServerChannelInitializer extends ChannelInitializer<SocketChann
     private String serverName;
     private SSLConfig sslConfig;
     private SSLHandlerFactory sslHandlerFactory;
+    private HandshakeMetrics handshakeMetrics;
     private SSLContext keystoreSslContext;
     private SslContext keystoreHttp2SslContext;
     private SslContext certAndKeySslContext;
@@ -109,6 +114,7 @@ public class HttpServerChannelInitializer extends ChannelInitializer<SocketChann
     private EventExecutorGroup pipeliningGroup;
     private boolean webSocketCompressionEnabled;
     private int http2InitialWindowSize;
+    private CompressionPolicy compressionPolicy = new CompressionPolicy(new ResponseCompressionConfig());
 
     @Override
     public void initChannel(SocketChannel ch) throws Exception {
@@ -128,11 +134,13 @@ public class HttpServerChannelInitializer extends ChannelInitializer<SocketChann
                     ReferenceCountedOpenSslEngine engine = (ReferenceCountedOpenSslEngine) sslHandler.engine();
                     engine.setOcspResponse(response.getEncoded());
                     setSslHandshakeTimeOut(sslConfig, sslHandler);
+                    trackHandshake(sslHandler);
                     ch.pipeline()
                             .addLast(sslHandler, new Http2PipelineConfiguratorForServer(this, sslHandler.engine()));
                 } else {
                     SslHandler sslHandler = keystoreHttp2SslContext.newHandler(ch.alloc());
                     setSslHandshakeTimeOut(sslConfig, sslHandler);
+                    trackHandshake(sslHandler);
                     serverPipeline
                             .addLast(sslHandler, new Http2PipelineConfiguratorForServer(this, sslHandler.engine()));
                     serverPipeline.addLast(Constants.HTTP2_EXCEPTION_HANDLER, new Http2ExceptionHandler());
@@ -168,8 +176,7 @@ public class HttpServerChannelInitializer extends ChannelInitializer<SocketChann
         if (ocspStaplingEnabled) {
             OCSPResp response = getOcspResponse();
 
-            ReferenceCountedOpenSslContext context = sslHandlerFactory
-                    .getServerReferenceCountedOpenSslContext(ocspStaplingEnabled);
+            ReferenceCountedOpenSslContext context = (ReferenceCountedOpenSslContext) certAndKeySslContext;
             sslHandler = context.newHandler(ch.alloc());
             sslEngine = sslHandler.engine();
             Util.setAlpnProtocols(sslEngine);
@@ -177,18 +184,22 @@ public class HttpServerChannelInitializer extends ChannelInitializer<SocketChann
             ReferenceCountedOpenSslEngine engine = (ReferenceCountedOpenSslEngine) sslEngine;
             engine.setOcspResponse(response.getEncoded());
             setSslHandshakeTimeOut(sslConfig, sslHandler);
+            trackHandshake(sslHandler);
             ch.pipeline().addLast(sslHandler);
         } else {
-            if (sslConfig.getServerKeyFile() != null) {
+            if (certAndKeySslContext != null) {
                 sslHandler = certAndKeySslContext.newHandler(ch.alloc());
                 sslEngine = sslHandler.engine();
-                sslHandlerFactory.addCommonConfigs(sslEngine);
+                if (!(certAndKeySslContext instanceof ReferenceCountedOpenSslContext)) {
+                    sslHandlerFactory.addCommonConfigs(sslEngine);
+                }
             } else {
                 sslEngine = sslHandlerFactory.buildServerSSLEngine(keystoreSslContext);
             }
             Util.setAlpnProtocols(sslEngine);
             sslHandler = new SslHandler(sslEngine);
             setSslHandshakeTimeOut(sslConfig, sslHandler);
+            trackHandshake(sslHandler);
             serverPipeline.addLast(Constants.SSL_HANDLER, sslHandler);
             if (validateCertEnabled) {
                 serverPipeline.addLast(Constants.HTTP_CERT_VALIDATION_HANDLER,
@@ -199,6 +210,16 @@ public class HttpServerChannelInitializer extends ChannelInitializer<SocketChann
                 new SslHandshakeCompletionHandlerForServer(this, serverPipeline, sslEngine));
     }
 
+    private void trackHandshake(SslHandler sslHandler) {
+        SessionTicketKeys sessionTicketKeys = sslHandlerFactory.getSessionTicketKeys();
+        if (sessionTicketKeys != null) {
+            sessionTicketKeys.rotateIfDue();
+        }
+        if (handshakeMetrics != null) {
+            handshakeMetrics.track(sslHandler);
+        }
+    }
+
     /**
      * Configures HTTP/1.x pipeline.
      *
@@ -214,7 +235,7 @@ public class HttpServerChannelInitializer extends ChannelInitializer<SocketChann
                                                           reqSizeValidationConfig.getMaxHeaderSize(),
                                                           reqSizeValidationConfig.getMaxChunkSize()));
 
-            serverPipeline.addLast(Constants.HTTP_COMPRESSOR, new CustomHttpContentCompressor());
+            serverPipeline.addLast(Constants.HTTP_COMPRESSOR, new CustomHttpContentCompressor(compressionPolicy));
             serverPipeline.addLast(Constants.HTTP_CHUNK_WRITER, new ChunkedWriteHandler());
 
             if (httpTraceLogEnabled) {
@@ -262,7 +283,7 @@ public class HttpServerChannelInitializer extends ChannelInitializer<SocketChann
                                                                 reqSizeValidationConfig.getMaxChunkSize());
 
         pipeline.addLast(Constants.HTTP_SERVER_CODEC, sourceCodec);
-        pipeline.addLast(Constants.HTTP_COMPRESSOR, new CustomHttpContentCompressor());
+        pipeline.addLast(Constants.HTTP_COMPRESSOR, new CustomHttpContentCompressor(compressionPolicy));
         if (httpTraceLogEnabled) {
             pipeline.addLast(HTTP_TRACE_LOG_HANDLER,
                              new HttpTraceLoggingHandler(TRACE_LOG_DOWNSTREAM));
@@ -332,6 +353,14 @@ public class HttpServerChannelInitializer extends ChannelInitializer<SocketChann
         this.sslHandlerFactory = sslHandlerFactory;
     }
 
+    void setHandshakeMetrics(HandshakeMetrics handshakeMetrics) {
+        this.handshakeMetrics = handshakeMetrics;
+    }
+
+    public HandshakeMetrics getHandshakeMetrics() {
+        return handshakeMetrics;
+    }
+
     void setKeystoreSslContext(SSLContext sslContext) {
         this.keystoreSslContext = sslContext;
     }
@@ -352,6 +381,10 @@ public class HttpServerChannelInitializer extends ChannelInitializer<SocketChann
         this.http2InitialWindowSize = http2InitialWindowSize;
     }
 
+    void setResponseCompressionConfig(ResponseCompressionConfig responseCompressionConfig) {
+        this.compressionPolicy = new CompressionPolicy(responseCompressionConfig);
+    }
+
     public void setChunkingConfig(ChunkConfig chunkConfig) {
         this.chunkConfig = chunkConfig;
     }
@@ -23,10 +23,14 @@ import io.ballerina.stdlib.http.transport.contract.ServerConnectorFuture;
 import io.ballerina.stdlib.http.transport.contract.config.ChunkConfig;
 import io.ballerina.stdlib.http.transport.contract.config.InboundMsgSizeValidationConfig;
 import io.ballerina.stdlib.http.transport.contract.config.KeepAliveConfig;
+import io.ballerina.stdlib.http.transport.contract.config.ResponseCompressionConfig;
 import io.ballerina.stdlib.http.transport.contract.config.ServerBootstrapConfiguration;
+import io.ballerina.stdlib.http.transport.contract.config.SocketTransport;
 import io.ballerina.stdlib.http.transport.contract.exceptions.ServerConnectorException;
 import io.ballerina.stdlib.http.transport.contractimpl.HttpWsServerConnectorFuture;
+import io.ballerina.stdlib.http.transport.contractimpl.common.SocketTransportProvider;
 import io.ballerina.stdlib.http.transport.contractimpl.common.Util;
+import io.ballerina.stdlib.http.transport.contractimpl.common.ssl.HandshakeMetrics;
 import io.ballerina.stdlib.http.transport.contractimpl.common.ssl.SSLConfig;
 import io.ballerina.stdlib.http.transport.contractimpl.common.ssl.SSLHandlerFactory;
 import io.ballerina.stdlib.http.transport.internal.HandlerExecutor;
@@ -34,18 +38,20 @@ import io.ballerina.stdlib.http.transport.internal.HttpTransportContextHolder;
 import io.netty.bootstrap.ServerBootstrap;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.group.ChannelGroup;
 import io.netty.channel.group.DefaultChannelGroup;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.netty.handler.ssl.SslContext;
 import io.netty.util.concurrent.EventExecutorGroup;
 import io.netty.util.concurrent.GlobalEventExecutor;
+import io.netty.util.concurrent.MultithreadEventExecutorGroup;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.net.InetSocketAddress;
+import java.net.SocketAddress;
 import java.util.Objects;
 
 import javax.net.ssl.SSLContext;
@@ -66,6 +72,9 @@ public class ServerConnectorBootstrap {
     private ChannelGroup allChannels;
     private final ChannelGroup listenerChannels = new DefaultChannelGroup(GlobalEventExecutor.INSTANCE);;
     private int gracefulStopTimeout = 0;
+    private SocketTransportProvider transportProvider = SocketTransportProvider.get(SocketTransport.NIO);
+    private boolean reusePort = false;
+    private int acceptorCount = 1;
 
     public ServerConnectorBootstrap(ChannelGroup allChannels) {
         serverBootstrap = new ServerBootstrap();
@@ -94,6 +103,10 @@ public class ServerConnectorBootstrap {
         serverBootstrap.childOption(ChannelOption.SO_KEEPALIVE, serverBootstrapConfiguration.isKeepAlive());
         serverBootstrap.childOption(ChannelOption.SO_REUSEADDR, serverBootstrapConfiguration.isSocketReuse());
 
+        transportProvider = SocketTransportProvider.get(serverBootstrapConfiguration.getSocketTransport());
+        transportProvider.configure(serverBootstrap, serverBootstrapConfiguration);
+        reusePort = serverBootstrapConfiguration.isReusePort() && transportProvider.isReusePortSupported();
+
         if (LOG.isDebugEnabled()) {
             LOG.debug(String.format("Netty Server Socket BACKLOG %d", serverBootstrapConfiguration.getSoBackLog()));
             LOG.debug(String.format("Netty Server Socket TCP_NODELAY %s", serverBootstrapConfiguration.isTcpNoDelay()));
@@ -103,6 +116,7 @@ public class ServerConnectorBootstrap {
                                     serverBootstrapConfiguration.getReceiveBufferSize()));
             LOG.debug(String.format("Netty Server Socket SO_SNDBUF %d",
                                     serverBootstrapConfiguration.getSendBufferSize()));
+            LOG.debug(String.format("Netty Server Socket transport %s", transportProvider.getSocketTransport()));
         }
     }
 
@@ -121,8 +135,17 @@ public class ServerConnectorBootstrap {
         httpServerChannelInitializer.setHttp2Enabled(isHttp2Enabled);
     }
 
+    public SocketTransportProvider getTransportProvider() {
+        return transportProvider;
+    }
+
     public void addThreadPools(EventLoopGroup bossGroup, EventLoopGroup workerGroup) {
-        serverBootstrap.group(bossGroup, workerGroup).channel(NioServerSocketChannel.class);
+        serverBootstrap.group(bossGroup, workerGroup).channel(transportProvider.getServerChannelClass());
+        // With SO_REUSEPORT, a server channel is bound on each boss event loop and the kernel spreads the incoming
+        // connections among them
+        if (reusePort && bossGroup instanceof MultithreadEventExecutorGroup) {
+            acceptorCount = ((MultithreadEventExecutorGroup) bossGroup).executorCount();
+        }
     }
 
     public void addHttpTraceLogHandler(Boolean isHttpTraceLogEnabled) {
@@ -137,6 +160,10 @@ public class ServerConnectorBootstrap {
         httpServerChannelInitializer.setSslHandlerFactory(sslHandlerFactory);
     }
 
+    public void addHandshakeMetrics(HandshakeMetrics handshakeMetrics) {
+        httpServerChannelInitializer.setHandshakeMetrics(handshakeMetrics);
+    }
+
     public void addKeystoreSslContext(SSLContext sslContext) {
         httpServerChannelInitializer.setKeystoreSslContext(sslContext);
     }
@@ -201,6 +228,10 @@ public class ServerConnectorBootstrap {
         httpServerChannelInitializer.setHttp2InitialWindowSize(http2InitialWindowSize);
     }
 
+    public void setResponseCompressionConfig(ResponseCompressionConfig responseCompressionConfig) {
+        httpServerChannelInitializer.setResponseCompressionConfig(responseCompressionConfig);
+    }
+
     public ChannelGroup getListenerChannels() {
         return listenerChannels;
     }
@@ -218,6 +249,7 @@ public class ServerConnectorBootstrap {
         private int port;
         private String connectorID;
         private Channel serverChannel;
+        private final ChannelGroup acceptorChannels = new DefaultChannelGroup(GlobalEventExecutor.INSTANCE);
 
         HttpServerConnector(String id, String host, int port) {
             this.host = host;
@@ -238,6 +270,7 @@ public class ServerConnectorBootstrap {
                     if (log.isDebugEnabled()) {
                         log.debug("HTTP(S) Interface starting on host {} and port {}", getHost(), getPort());
                     }
+                    bindAcceptors(channelFuture.channel().localAddress());
                     serverConnectorFuture.notifyPortBindingEvent(this.connectorID, isHttps);
                 } else {
                     serverConnectorFuture.notifyPortBindingError(future.cause());
@@ -302,6 +335,23 @@ public class ServerConnectorBootstrap {
             return serverBootstrap.bind(new InetSocketAddress(getHost(), getPort()));
         }
 
+        /**
+         * Binds the additional server channels of a SO_REUSEPORT listener to the address of the first one. A
+         * listener which fails to bind an additional channel keeps serving on the channels that were bound.
+         */
+        private void bindAcceptors(SocketAddress localAddress) {
+            for (int i = 1; i < acceptorCount; i++) {
+                serverBootstrap.bind(localAddress).addListener((ChannelFutureListener) future -> {
+                    if (future.isSuccess()) {
+                        acceptorChannels.add(future.channel());
+                        allChannels.add(future.channel());
+                    } else {
+                        log.warn("Couldn't bind an additional acceptor on {}", localAddress, future.cause());
+                    }
+                });
+            }
+        }
+
         private boolean unBindInterface() throws InterruptedException {
             if (!initialized) {
                 log.error("ServerConnectorBootstrap is not initialized");
@@ -314,6 +364,7 @@ public class ServerConnectorBootstrap {
                 try {
                     //Close will stop accepting new connections.
                     listenerChannel.close().sync();
+                    acceptorChannels.close().sync();
                     try {
                         Thread.sleep(gracefulStopTimeout);
                     } catch (InterruptedException e) {
@@ -42,7 +42,6 @@ import io.netty.handler.codec.http.HttpServerUpgradeHandler;
 import io.netty.handler.ssl.SslCloseCompletionEvent;
 import io.netty.handler.timeout.IdleStateEvent;
 import io.netty.util.concurrent.EventExecutorGroup;
-import org.apache.commons.pool.impl.GenericObjectPool;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -68,7 +67,6 @@ public class SourceHandler extends ChannelInboundHandlerAdapter {
     private HttpCarbonMessage inboundRequestMsg;
     private final Map<Integer, HttpCarbonMessage> requestSet = new ConcurrentHashMap<>();
     private HandlerExecutor handlerExecutor;
-    private Map<String, GenericObjectPool> targetChannelPool;
     private ChunkConfig chunkConfig;
 
     private KeepAliveConfig keepAliveConfig;
@@ -96,7 +94,6 @@ public class SourceHandler extends ChannelInboundHandlerAdapter {
         this.interfaceId = interfaceId;
         this.chunkConfig = chunkConfig;
         this.keepAliveConfig = keepAliveConfig;
-        this.targetChannelPool = new ConcurrentHashMap<>();
         this.idleTimeout = false;
         this.serverName = serverName;
         this.allChannels = allChannels;
@@ -169,8 +166,6 @@ public class SourceHandler extends ChannelInboundHandlerAdapter {
             }
         }
 
-        closeTargetChannels();
-
         if (handlerExecutor != null) {
             handlerExecutor.executeAtSourceConnectionTermination(Integer.toString(ctx.hashCode()));
             handlerExecutor = null;
@@ -183,16 +178,6 @@ public class SourceHandler extends ChannelInboundHandlerAdapter {
         LOG.warn("Exception occurred in SourceHandler : {}", cause.getMessage());
     }
 
-    private void closeTargetChannels() {
-        targetChannelPool.forEach((hostPortKey, genericObjectPool) -> {
-            try {
-                targetChannelPool.remove(hostPortKey).close();
-            } catch (Exception e) {
-                LOG.error("Couldn't close target channel socket connections", e);
-            }
-        });
-    }
-
     @Override
     public void userEventTriggered(ChannelHandlerContext ctx, Object evt) {
         if (evt instanceof IdleStateEvent) {
@@ -297,10 +282,6 @@ public class SourceHandler extends ChannelInboundHandlerAdapter {
         return this.ctx.channel().eventLoop();
     }
 
-    public Map<String, GenericObjectPool> getTargetChannelPool() {
-        return targetChannelPool;
-    }
-
     public ChannelHandlerContext getInboundChannelContext() {
         return ctx;
     }
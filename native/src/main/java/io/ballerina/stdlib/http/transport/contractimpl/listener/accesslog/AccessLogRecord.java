@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.listener.accesslog;
+
+/**
+ * The access log entry of a single request. The request side values are captured when the request is read, and the
+ * response side values are filled while the response is written. Formatting is left to the {@link AccessLogWriter},
+ * so nothing but this record is allocated on the event loop.
+ */
+public class AccessLogRecord {
+
+    private final String remoteAddress;
+    private final String method;
+    private final String uri;
+    private final String protocol;
+    private final String referrer;
+    private final String userAgent;
+    private final long requestTimeMillis;
+    private int status = -1;
+    private long contentLength;
+
+    public AccessLogRecord(String remoteAddress, String method, String uri, String protocol, String referrer,
+                           String userAgent, long requestTimeMillis) {
+        this.remoteAddress = remoteAddress;
+        this.method = method;
+        this.uri = uri;
+        this.protocol = protocol;
+        this.referrer = referrer;
+        this.userAgent = userAgent;
+        this.requestTimeMillis = requestTimeMillis;
+    }
+
+    public String getRemoteAddress() {
+        return remoteAddress;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getUri() {
+        return uri;
+    }
+
+    public String getProtocol() {
+        return protocol;
+    }
+
+    public String getReferrer() {
+        return referrer;
+    }
+
+    public String getUserAgent() {
+        return userAgent;
+    }
+
+    public long getRequestTimeMillis() {
+        return requestTimeMillis;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public void setStatus(int status) {
+        this.status = status;
+    }
+
+    public long getContentLength() {
+        return contentLength;
+    }
+
+    public void setContentLength(long contentLength) {
+        this.contentLength = contentLength;
+    }
+
+    public void addContentLength(long length) {
+        this.contentLength += length;
+    }
+}
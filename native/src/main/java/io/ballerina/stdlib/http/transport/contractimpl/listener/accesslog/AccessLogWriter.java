@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.listener.accesslog;
+
+import com.google.gson.stream.JsonWriter;
+import io.ballerina.stdlib.http.transport.contract.Constants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+
+/**
+ * Writes the access log off the event loops. The records are published to a bounded lock-free ring, and a single
+ * background thread drains them in batches, formats a batch into one string and hands it to the access logger, so
+ * the configured console and file handlers are written and flushed once per batch. When the ring fills up beyond its
+ * high water mark only a sample of the records is kept, and the records which do not fit are dropped. Both are
+ * counted and reported on the server log.
+ */
+public class AccessLogWriter implements Runnable {
+
+    public static final String FORMAT_FLAT = "flat";
+    public static final String FORMAT_JSON = "json";
+
+    private static final Logger LOG = LoggerFactory.getLogger(AccessLogWriter.class);
+    private static final int RING_CAPACITY = 8192;
+    private static final int MAX_BATCH_SIZE = 512;
+    private static final int OVERLOAD_SAMPLING_RATE = 10;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long OVERLOAD_REPORT_INTERVAL_MILLIS = TimeUnit.SECONDS.toMillis(10);
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+    private static final DateTimeFormatter TIMESTAMP_FORMATTER = DateTimeFormatter.ofPattern(
+            "dd/MMM/yyyy:HH:mm:ss Z", Locale.getDefault(Locale.Category.FORMAT)).withZone(ZoneId.systemDefault());
+
+    private final java.util.logging.Logger accessLogger;
+    private final AccessLogRing<AccessLogRecord> ring;
+    private final int highWaterMark;
+    private final boolean jsonFormat;
+    private final AtomicLong overloadSequence = new AtomicLong();
+    private final LongAdder publishedRecords = new LongAdder();
+    private final LongAdder writtenRecords = new LongAdder();
+    private final LongAdder droppedRecords = new LongAdder();
+    private final LongAdder sampledOutRecords = new LongAdder();
+    private final StringBuilder batch = new StringBuilder();
+    private long cachedSecond = Long.MIN_VALUE;
+    private String cachedTimestamp;
+    private long lastOverloadReport;
+    private long reportedDropped;
+    private long reportedSampledOut;
+
+    AccessLogWriter(java.util.logging.Logger accessLogger, int capacity, boolean jsonFormat) {
+        this.accessLogger = accessLogger;
+        this.ring = new AccessLogRing<>(capacity);
+        this.highWaterMark = capacity - capacity / 4;
+        this.jsonFormat = jsonFormat;
+    }
+
+    /**
+     * Gets the access log writer of the runtime. The writer thread is started, and the format is read from the
+     * {@code http.accesslog.format} system property, when the writer is first used.
+     *
+     * @return the access log writer
+     */
+    public static AccessLogWriter getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Publishes a completed record to be written. This never blocks.
+     *
+     * @param record the access log record
+     * @return false if the record is sampled out or dropped because the writer is overloaded
+     */
+    public boolean publish(AccessLogRecord record) {
+        if (ring.size() >= highWaterMark
+                && overloadSequence.getAndIncrement() % OVERLOAD_SAMPLING_RATE != 0) {
+            sampledOutRecords.increment();
+            return false;
+        }
+        if (!ring.offer(record)) {
+            droppedRecords.increment();
+            return false;
+        }
+        publishedRecords.increment();
+        return true;
+    }
+
+    public long getPublishedRecords() {
+        return publishedRecords.sum();
+    }
+
+    public long getWrittenRecords() {
+        return writtenRecords.sum();
+    }
+
+    public long getDroppedRecords() {
+        return droppedRecords.sum();
+    }
+
+    public long getSampledOutRecords() {
+        return sampledOutRecords.sum();
+    }
+
+    @Override
+    public void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            if (drain() == 0) {
+                reportOverload();
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+        }
+        drain();
+    }
+
+    /**
+     * Writes the records in the ring in batches until it is empty. Only called by the writer thread, or once the
+     * writer thread is stopped.
+     *
+     * @return the number of records written
+     */
+    int drain() {
+        int written = 0;
+        int batchSize;
+        do {
+            batchSize = 0;
+            AccessLogRecord record;
+            while (batchSize < MAX_BATCH_SIZE && (record = ring.poll()) != null) {
+                if (batchSize > 0) {
+                    batch.append(LINE_SEPARATOR);
+                }
+                if (jsonFormat) {
+                    appendJson(record);
+                } else {
+                    appendFlat(record);
+                }
+                batchSize++;
+            }
+            if (batchSize > 0) {
+                // The access log formatter ends the message with a new line
+                accessLogger.log(Level.INFO, batch.toString());
+                batch.setLength(0);
+                writtenRecords.add(batchSize);
+                written += batchSize;
+            }
+        } while (batchSize == MAX_BATCH_SIZE);
+        return written;
+    }
+
+    private void appendFlat(AccessLogRecord record) {
+        batch.append(record.getRemoteAddress()).append(" - - [").append(getTimestamp(record)).append("] \"")
+                .append(record.getMethod()).append(' ').append(record.getUri()).append(' ')
+                .append(record.getProtocol()).append("\" ").append(record.getStatus()).append(' ')
+                .append(record.getContentLength()).append(" \"").append(record.getReferrer()).append("\" \"")
+                .append(record.getUserAgent()).append('"');
+    }
+
+    private void appendJson(AccessLogRecord record) {
+        StringWriter stringWriter = new StringWriter();
+        try (JsonWriter jsonWriter = new JsonWriter(stringWriter)) {
+            jsonWriter.beginObject()
+                    .name("ip").value(record.getRemoteAddress())
+                    .name("date_time").value(getTimestamp(record))
+                    .name("http_method").value(record.getMethod())
+                    .name("resource_path").value(record.getUri())
+                    .name("http_version").value(record.getProtocol())
+                    .name("status").value(record.getStatus())
+                    .name("response_body_size").value(record.getContentLength())
+                    .name("http_referrer").value(record.getReferrer())
+                    .name("http_user_agent").value(record.getUserAgent())
+                    .endObject();
+        } catch (IOException e) {
+            // Writing to a StringWriter does not fail
+            throw new IllegalStateException(e);
+        }
+        batch.append(stringWriter);
+    }
+
+    private String getTimestamp(AccessLogRecord record) {
+        long second = record.getRequestTimeMillis() / 1000;
+        if (second != cachedSecond) {
+            cachedTimestamp = TIMESTAMP_FORMATTER.format(Instant.ofEpochSecond(second));
+            cachedSecond = second;
+        }
+        return cachedTimestamp;
+    }
+
+    private void reportOverload() {
+        long now = System.currentTimeMillis();
+        if (now - lastOverloadReport < OVERLOAD_REPORT_INTERVAL_MILLIS) {
+            return;
+        }
+        long dropped = droppedRecords.sum();
+        long sampledOut = sampledOutRecords.sum();
+        if (dropped != reportedDropped || sampledOut != reportedSampledOut) {
+            LOG.warn("Access log writer is overloaded: {} records sampled out and {} records dropped since {} " +
+                             "records were published", sampledOut - reportedSampledOut, dropped - reportedDropped,
+                     publishedRecords.sum());
+            reportedDropped = dropped;
+            reportedSampledOut = sampledOut;
+        }
+        lastOverloadReport = now;
+    }
+
+    private AccessLogWriter start() {
+        Thread writerThread = new Thread(this, "http-access-log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            // Let the writer drain the records which are already published
+            writerThread.interrupt();
+            try {
+                writerThread.join(TimeUnit.SECONDS.toMillis(1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, "http-access-log-shutdown"));
+        return this;
+    }
+
+    /**
+     * Lazily creates and starts the writer of the runtime.
+     */
+    private static class Holder {
+        private static final AccessLogWriter INSTANCE = new AccessLogWriter(
+                java.util.logging.Logger.getLogger(Constants.ACCESS_LOG), RING_CAPACITY,
+                FORMAT_JSON.equalsIgnoreCase(System.getProperty(Constants.ACCESS_LOG_FORMAT_PROPERTY))).start();
+    }
+}
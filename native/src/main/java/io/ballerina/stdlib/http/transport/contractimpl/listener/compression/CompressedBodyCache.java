@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.listener.compression;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * Keeps the compressed payloads of cacheable responses so that the same representation is compressed only once. The
+ * payloads are kept as byte arrays, which need no releasing, and the least recently used ones are evicted when the
+ * total size exceeds the limit.
+ */
+public class CompressedBodyCache {
+
+    private final long maxSize;
+    private final LinkedHashMap<String, byte[]> bodies = new LinkedHashMap<>(16, 0.75f, true);
+    private long size;
+
+    /**
+     * Creates a cache.
+     *
+     * @param maxSize the maximum total size of the payloads in bytes
+     */
+    public CompressedBodyCache(long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public synchronized byte[] get(String key) {
+        return bodies.get(key);
+    }
+
+    /**
+     * Stores a compressed payload, unless it alone exceeds the size of the cache.
+     *
+     * @param key  the key of the representation and the content coding
+     * @param body the compressed payload, which must not be modified afterwards
+     */
+    public synchronized void put(String key, byte[] body) {
+        if (body.length > maxSize) {
+            return;
+        }
+        byte[] previous = bodies.put(key, body);
+        if (previous != null) {
+            size -= previous.length;
+        }
+        size += body.length;
+        Iterator<byte[]> eldest = bodies.values().iterator();
+        while (size > maxSize) {
+            size -= eldest.next().length;
+            eldest.remove();
+        }
+    }
+
+    /**
+     * Gets the size a payload can reach and still be stored.
+     *
+     * @return the size in bytes
+     */
+    public long getMaxEntrySize() {
+        return maxSize;
+    }
+
+    public synchronized int size() {
+        return bodies.size();
+    }
+
+    public synchronized long weight() {
+        return size;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.listener.compression;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of the response compression of a listener. The totals are logged at debug level at most once a minute.
+ */
+public class CompressionMetrics {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CompressionMetrics.class);
+    private static final long REPORT_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final LongAdder compressedResponses = new LongAdder();
+    private final LongAdder cachedResponses = new LongAdder();
+    private final LongAdder inputBytes = new LongAdder();
+    private final LongAdder outputBytes = new LongAdder();
+    private final LongAdder compressionNanos = new LongAdder();
+    private volatile long lastReport = System.nanoTime();
+
+    /**
+     * Records a compressed response.
+     *
+     * @param input  the size of the payload before compression
+     * @param output the size of the payload after compression
+     * @param nanos  the time spent on compressing the payload
+     * @param cached whether the compressed payload was taken from the cache
+     */
+    public void record(long input, long output, long nanos, boolean cached) {
+        compressedResponses.increment();
+        if (cached) {
+            cachedResponses.increment();
+        }
+        inputBytes.add(input);
+        outputBytes.add(output);
+        compressionNanos.add(nanos);
+        report();
+    }
+
+    public long getCompressedResponses() {
+        return compressedResponses.sum();
+    }
+
+    public long getCachedResponses() {
+        return cachedResponses.sum();
+    }
+
+    public long getInputBytes() {
+        return inputBytes.sum();
+    }
+
+    public long getOutputBytes() {
+        return outputBytes.sum();
+    }
+
+    public long getBytesSaved() {
+        return inputBytes.sum() - outputBytes.sum();
+    }
+
+    /**
+     * Gets the total time spent on compressing payloads. The responses served from the cache take no time.
+     *
+     * @return the time in nanoseconds
+     */
+    public long getCompressionNanos() {
+        return compressionNanos.sum();
+    }
+
+    private void report() {
+        if (!LOG.isDebugEnabled()) {
+            return;
+        }
+        long now = System.nanoTime();
+        long last = lastReport;
+        if (now - last < REPORT_INTERVAL_NANOS) {
+            return;
+        }
+        lastReport = now;
+        LOG.debug("Compressed {} responses, {} of them from the cache: {} bytes saved out of {} in {} ms",
+                  getCompressedResponses(), getCachedResponses(), getBytesSaved(), getInputBytes(),
+                  TimeUnit.NANOSECONDS.toMillis(getCompressionNanos()));
+    }
+}
@@ -0,0 +1,328 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.listener.compression;
+
+import io.ballerina.stdlib.http.transport.contract.config.ResponseCompressionConfig;
+import io.ballerina.stdlib.http.transport.contract.config.ResponseCompressionConfig.ContentTypeSettings;
+import io.netty.channel.ChannelHandler;
+import io.netty.handler.codec.compression.Brotli;
+import io.netty.handler.codec.compression.BrotliEncoder;
+import io.netty.handler.codec.compression.ZlibCodecFactory;
+import io.netty.handler.codec.compression.ZlibWrapper;
+import io.netty.handler.codec.compression.Zstd;
+import io.netty.handler.codec.compression.ZstdEncoder;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpHeaders;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The response compression settings of a listener, resolved once from its {@link ResponseCompressionConfig} and
+ * shared by the compressors of all its connections together with the {@link CompressedBodyCache} and the
+ * {@link CompressionMetrics}.
+ */
+public class CompressionPolicy {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CompressionPolicy.class);
+
+    public static final String GZIP = "gzip";
+    public static final String DEFLATE = "deflate";
+    public static final String BROTLI = "br";
+    public static final String ZSTD = "zstd";
+
+    private static final int MIN_LEVEL = 1;
+    private static final int MAX_LEVEL = 9;
+    private static final int WINDOW_BITS = 15;
+    private static final int MEM_LEVEL = 8;
+    private static final String WILDCARD = "*";
+    private static final String MEDIA_RANGE_SUFFIX = "/*";
+    private static final String ANY_MEDIA_TYPE = "*/";
+    private static final String WEAK_VALIDATOR_TAG = "W/";
+
+    private final String[] encodings;
+    private final Settings defaultSettings;
+    private final Map<String, Settings> mediaTypeSettings = new HashMap<>();
+    private final Map<String, Settings> mediaRangeSettings = new HashMap<>();
+    private final CompressedBodyCache cache;
+    private final CompressionMetrics metrics = new CompressionMetrics();
+
+    public CompressionPolicy(ResponseCompressionConfig config) {
+        List<String> supported = new ArrayList<>();
+        for (String encoding : config.getEncodings()) {
+            encoding = encoding.trim().toLowerCase(Locale.ROOT);
+            if (supported.contains(encoding)) {
+                continue;
+            }
+            if (isAvailable(encoding)) {
+                supported.add(encoding);
+            } else {
+                LOG.warn("Response compression with '{}' is not available and is not used", encoding);
+            }
+        }
+        this.encodings = supported.toArray(new String[0]);
+        this.defaultSettings = new Settings(true, clampLevel(config.getLevel()), config.getMinSize());
+        for (ContentTypeSettings contentType : config.getContentTypes()) {
+            Settings settings = new Settings(contentType.isEnabled(), contentType.getLevel() < 0 ?
+                    defaultSettings.level : clampLevel(contentType.getLevel()), contentType.getMinSize() < 0 ?
+                    defaultSettings.minSize : contentType.getMinSize());
+            String mediaType = getMediaType(contentType.getContentType());
+            if (mediaType.endsWith(MEDIA_RANGE_SUFFIX)) {
+                mediaRangeSettings.put(mediaType.substring(0, mediaType.length() - 1), settings);
+            } else {
+                mediaTypeSettings.put(mediaType, settings);
+            }
+        }
+        this.cache = config.getCacheSize() > 0 ? new CompressedBodyCache(config.getCacheSize()) : null;
+    }
+
+    /**
+     * Selects the content coding of a response from the codings accepted by the client, following
+     * https://www.rfc-editor.org/rfc/rfc9110#section-12.5.3. The coding with the highest quality is selected, and
+     * among the ones with the same quality the one listed first in the configuration.
+     *
+     * @param acceptEncoding the value of the accept-encoding header of the request
+     * @return the selected content coding, or null if the response should not be compressed
+     */
+    public String selectEncoding(String acceptEncoding) {
+        if (acceptEncoding == null || encodings.length == 0) {
+            return null;
+        }
+        Map<String, Float> qualities = new LinkedHashMap<>();
+        for (String element : acceptEncoding.split(",")) {
+            String[] parts = element.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            if (coding.isEmpty()) {
+                continue;
+            }
+            float quality = 1.0f;
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.length() > 2 && (parameter.charAt(0) == 'q' || parameter.charAt(0) == 'Q')
+                        && parameter.charAt(1) == '=') {
+                    try {
+                        quality = Float.parseFloat(parameter.substring(2));
+                    } catch (NumberFormatException e) {
+                        quality = 0.0f;
+                    }
+                }
+            }
+            qualities.putIfAbsent(coding, quality);
+        }
+        Float anyQuality = qualities.get(WILDCARD);
+        String selected = null;
+        float selectedQuality = 0.0f;
+        for (String encoding : encodings) {
+            Float quality = qualities.get(encoding);
+            if (quality == null) {
+                quality = anyQuality;
+            }
+            if (quality != null && quality > selectedQuality) {
+                selected = encoding;
+                selectedQuality = quality;
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * Gets the settings which apply to a payload of the given content type. An exact media type takes precedence over
+     * a media range.
+     *
+     * @param contentType the value of the content-type header of the response, or null if there is none
+     * @return the settings of the content type
+     */
+    public Settings getSettings(String contentType) {
+        if (contentType == null || (mediaTypeSettings.isEmpty() && mediaRangeSettings.isEmpty())) {
+            return defaultSettings;
+        }
+        String mediaType = getMediaType(contentType);
+        Settings settings = mediaTypeSettings.get(mediaType);
+        if (settings != null) {
+            return settings;
+        }
+        int slash = mediaType.indexOf('/');
+        if (slash > 0) {
+            settings = mediaRangeSettings.get(mediaType.substring(0, slash + 1));
+            if (settings != null) {
+                return settings;
+            }
+        }
+        settings = mediaRangeSettings.get(ANY_MEDIA_TYPE);
+        return settings != null ? settings : defaultSettings;
+    }
+
+    /**
+     * Creates the encoder of a content coding. The level is given on the gzip scale and is mapped to the scale of the
+     * coding. Brotli is used with its default quality.
+     *
+     * @param encoding the content coding
+     * @param level    the compression level
+     * @return the encoder
+     */
+    public ChannelHandler newEncoder(String encoding, int level) {
+        switch (encoding) {
+            case GZIP:
+                return ZlibCodecFactory.newZlibEncoder(ZlibWrapper.GZIP, level, WINDOW_BITS, MEM_LEVEL);
+            case DEFLATE:
+                return ZlibCodecFactory.newZlibEncoder(ZlibWrapper.ZLIB, level, WINDOW_BITS, MEM_LEVEL);
+            case BROTLI:
+                return new BrotliEncoder();
+            case ZSTD:
+                // Level 6 maps to the default zstd level of 3
+                return new ZstdEncoder(Math.max(1, level - 3));
+            default:
+                throw new IllegalArgumentException("Unsupported content coding: " + encoding);
+        }
+    }
+
+    /**
+     * Checks whether the compressed payload of a response can be cached. Only publicly cacheable responses which
+     * carry a strong entity tag and do not vary on request headers other than accept-encoding are cached, so that the
+     * entity tag identifies the payload.
+     *
+     * @param statusCode the status code of the response
+     * @param headers    the headers of the response
+     * @return true if the compressed payload can be cached
+     */
+    public static boolean isCacheable(int statusCode, HttpHeaders headers) {
+        if (statusCode != 200) {
+            return false;
+        }
+        String etag = headers.get(HttpHeaderNames.ETAG);
+        if (etag == null || etag.startsWith(WEAK_VALIDATOR_TAG)) {
+            return false;
+        }
+        String vary = headers.get(HttpHeaderNames.VARY);
+        if (vary != null) {
+            for (String name : vary.split(",")) {
+                name = name.trim();
+                if (!name.isEmpty() && !HttpHeaderNames.ACCEPT_ENCODING.contentEqualsIgnoreCase(name)) {
+                    return false;
+                }
+            }
+        }
+        String cacheControl = headers.get(HttpHeaderNames.CACHE_CONTROL);
+        if (cacheControl == null) {
+            return false;
+        }
+        boolean cacheable = false;
+        for (String directive : cacheControl.split(",")) {
+            String name = directive.trim().toLowerCase(Locale.ROOT);
+            int equals = name.indexOf('=');
+            if (equals > 0) {
+                name = name.substring(0, equals).trim();
+            }
+            if (HttpHeaderValues.NO_STORE.contentEquals(name) || HttpHeaderValues.PRIVATE.contentEquals(name)
+                    || HttpHeaderValues.NO_CACHE.contentEquals(name)) {
+                return false;
+            }
+            if (HttpHeaderValues.PUBLIC.contentEquals(name) || HttpHeaderValues.MAX_AGE.contentEquals(name)
+                    || HttpHeaderValues.S_MAXAGE.contentEquals(name)) {
+                cacheable = true;
+            }
+        }
+        return cacheable;
+    }
+
+    /**
+     * Gets the key of a compressed payload in the cache.
+     *
+     * @param encoding the content coding
+     * @param host     the host the request was sent to, or null if unknown
+     * @param uri      the URI of the request
+     * @param etag     the entity tag of the response
+     * @return the cache key
+     */
+    public static String getCacheKey(String encoding, String host, String uri, String etag) {
+        return encoding + ' ' + (host != null ? host : "") + ' ' + uri + ' ' + etag;
+    }
+
+    /**
+     * Gets the cache of compressed payloads.
+     *
+     * @return the cache, or null if caching is disabled
+     */
+    public CompressedBodyCache getCache() {
+        return cache;
+    }
+
+    public CompressionMetrics getMetrics() {
+        return metrics;
+    }
+
+    private static boolean isAvailable(String encoding) {
+        switch (encoding) {
+            case GZIP:
+            case DEFLATE:
+                return true;
+            case BROTLI:
+                return Brotli.isAvailable();
+            case ZSTD:
+                return Zstd.isAvailable();
+            default:
+                return false;
+        }
+    }
+
+    private static int clampLevel(int level) {
+        return Math.max(MIN_LEVEL, Math.min(MAX_LEVEL, level));
+    }
+
+    private static String getMediaType(String contentType) {
+        int semicolon = contentType.indexOf(';');
+        String mediaType = semicolon >= 0 ? contentType.substring(0, semicolon) : contentType;
+        return mediaType.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * The compression settings of a content type.
+     */
+    public static class Settings {
+
+        private final boolean enabled;
+        private final int level;
+        private final long minSize;
+
+        Settings(boolean enabled, int level, long minSize) {
+            this.enabled = enabled;
+            this.level = level;
+            this.minSize = minSize;
+        }
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public int getLevel() {
+            return level;
+        }
+
+        public long getMinSize() {
+            return minSize;
+        }
+    }
+}
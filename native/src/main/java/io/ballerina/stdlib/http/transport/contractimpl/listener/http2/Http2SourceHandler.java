@@ -44,14 +44,12 @@ import io.netty.handler.codec.http2.Http2Connection;
 import io.netty.handler.codec.http2.Http2ConnectionEncoder;
 import io.netty.handler.codec.http2.Http2Exception;
 import io.netty.handler.codec.http2.Http2RemoteFlowController;
-import org.apache.commons.pool.impl.GenericObjectPool;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 import static io.ballerina.stdlib.http.transport.contract.Constants.ENDPOINT_TIMEOUT;
 import static io.ballerina.stdlib.http.transport.contract.Constants.STREAM_ID_ONE;
@@ -76,7 +74,6 @@ public final class Http2SourceHandler extends ChannelInboundHandlerAdapter {
     private String interfaceId;
     private String serverName;
     private String remoteHost;
-    private Map<String, GenericObjectPool> targetChannelPool; //Keeps only h1 target channels
     private ServerRemoteFlowControlListener serverRemoteFlowControlListener;
     private SocketAddress remoteAddress;
     private ChannelGroup allChannels;
@@ -91,7 +88,6 @@ public final class Http2SourceHandler extends ChannelInboundHandlerAdapter {
         this.serverConnectorFuture = serverConnectorFuture;
         this.conn = conn;
         this.serverName = serverName;
-        this.targetChannelPool = new ConcurrentHashMap<>();
         this.allChannels = allChannels;
         this.listenerChannels = listenerChannels;
         setRemoteFlowController();
@@ -201,7 +197,6 @@ public final class Http2SourceHandler extends ChannelInboundHandlerAdapter {
             LOG.debug("Channel inactive event received in HTTP2SourceHandler");
         }
         destroy();
-        closeTargetChannels();
         ctx.fireChannelInactive();
     }
 
@@ -227,16 +222,6 @@ public final class Http2SourceHandler extends ChannelInboundHandlerAdapter {
         http2ServerChannel.destroy();
     }
 
-    private void closeTargetChannels() {
-        targetChannelPool.forEach((hostPortKey, genericObjectPool) -> {
-            try {
-                targetChannelPool.remove(hostPortKey).close();
-            } catch (Exception e) {
-                LOG.error("Couldn't close target channel socket connections", e);
-            }
-        });
-    }
-
     public Map<Integer, InboundMessageHolder> getStreamIdRequestMap() {
         return http2ServerChannel.getStreamIdRequestMap();
     }
@@ -272,9 +257,6 @@ public final class Http2SourceHandler extends ChannelInboundHandlerAdapter {
     public String getRemoteHost() {
         return remoteHost;
     }
-    public Map<String, GenericObjectPool> getTargetChannelPool() {
-        return targetChannelPool;
-    }
 
     public ChannelHandlerContext getInboundChannelContext() {
         return ctx;
@@ -26,12 +26,15 @@ import io.ballerina.stdlib.http.transport.contractimpl.common.Util;
 import io.ballerina.stdlib.http.transport.contractimpl.common.states.Http2MessageStateContext;
 import io.ballerina.stdlib.http.transport.contractimpl.common.states.Http2StateUtil;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.HttpServerChannelInitializer;
+import io.ballerina.stdlib.http.transport.contractimpl.listener.accesslog.AccessLogRecord;
+import io.ballerina.stdlib.http.transport.contractimpl.listener.accesslog.AccessLogWriter;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.http2.Http2SourceHandler;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.http2.Http2DataEventListener;
 import io.ballerina.stdlib.http.transport.message.Http2DataFrame;
 import io.ballerina.stdlib.http.transport.message.Http2HeadersFrame;
 import io.ballerina.stdlib.http.transport.message.Http2PushPromise;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+import io.ballerina.stdlib.http.transport.message.MessageProperties;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelHandlerContext;
@@ -57,11 +60,9 @@ import java.io.IOException;
 import java.util.Calendar;
 
 import static io.ballerina.stdlib.http.transport.contract.Constants.ACCESS_LOG;
-import static io.ballerina.stdlib.http.transport.contract.Constants.ACCESS_LOG_FORMAT;
 import static io.ballerina.stdlib.http.transport.contract.Constants.HTTP_X_FORWARDED_FOR;
 import static io.ballerina.stdlib.http.transport.contract.Constants.IDLE_TIMEOUT_TRIGGERED_WHILE_WRITING_OUTBOUND_RESPONSE_BODY;
 import static io.ballerina.stdlib.http.transport.contract.Constants.REMOTE_CLIENT_CLOSED_WHILE_WRITING_OUTBOUND_RESPONSE_BODY;
-import static io.ballerina.stdlib.http.transport.contract.Constants.TO;
 import static io.ballerina.stdlib.http.transport.contractimpl.common.states.Http2StateUtil.validatePromisedStreamState;
 
 /**
@@ -240,7 +241,7 @@ public class SendingEntityBody implements ListenerState {
             referrer = headers.get(HttpHeaderNames.REFERER);
         }
         String method = inboundRequestMsg.getHttpMethod();
-        String uri = (String) inboundRequestMsg.getProperty(TO);
+        String uri = (String) inboundRequestMsg.getProperty(MessageProperties.TO_SLOT);
         HttpMessage request = inboundRequestMsg.getNettyHttpRequest();
         String protocol;
         if (request != null) {
@@ -250,10 +251,12 @@ public class SendingEntityBody implements ListenerState {
         }
 
         // Populate response parameters
-        int statusCode = Util.getHttpResponseStatus(outboundResponseMsg).code();
-
-        ACCESS_LOGGER.log(InternalLogLevel.INFO, String.format(
-                ACCESS_LOG_FORMAT, remoteAddress, inboundRequestArrivalTime, method, uri, protocol,
-                statusCode, contentLength, referrer, userAgent));
+        long requestTimeMillis = inboundRequestArrivalTime != null ? inboundRequestArrivalTime.getTimeInMillis() :
+                System.currentTimeMillis();
+        AccessLogRecord record = new AccessLogRecord(remoteAddress, method, uri, protocol, referrer, userAgent,
+                                                     requestTimeMillis);
+        record.setStatus(Util.getHttpResponseStatus(outboundResponseMsg).code());
+        record.setContentLength(contentLength);
+        AccessLogWriter.getInstance().publish(record);
     }
 }
@@ -26,6 +26,7 @@ import io.ballerina.stdlib.http.transport.contractimpl.common.FrameLogger;
 import io.ballerina.stdlib.http.transport.contractimpl.common.HttpRoute;
 import io.ballerina.stdlib.http.transport.contractimpl.common.Util;
 import io.ballerina.stdlib.http.transport.contractimpl.common.http2.Http2ExceptionHandler;
+import io.ballerina.stdlib.http.transport.contractimpl.common.ssl.ClientSslContexts;
 import io.ballerina.stdlib.http.transport.contractimpl.common.ssl.SSLConfig;
 import io.ballerina.stdlib.http.transport.contractimpl.common.ssl.SSLHandlerFactory;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.HttpExceptionHandler;
@@ -88,7 +89,6 @@ public class HttpClientChannelInitializer extends ChannelInitializer<SocketChann
     private HttpRoute httpRoute;
     private SenderConfiguration senderConfiguration;
     private ConnectionAvailabilityFuture connectionAvailabilityFuture;
-    private SSLHandlerFactory sslHandlerFactory;
     private final InboundMsgSizeValidationConfig responseSizeValidationConfig;
     private static final Logger LOG = LoggerFactory.getLogger(HttpClientChannelInitializer.class);
 
@@ -120,9 +120,6 @@ public class HttpClientChannelInitializer extends ChannelInitializer<SocketChann
         connectionHandlerBuilder.initialSettings().initialWindowSize(senderConfiguration.getHttp2InitialWindowSize());
         http2ConnectionHandler = connectionHandlerBuilder.connection(connection).frameListener(frameListener).build();
         http2TargetHandler = new Http2TargetHandler(connection, http2ConnectionHandler.encoder());
-        if (sslConfig != null) {
-            sslHandlerFactory = new SSLHandlerFactory(sslConfig);
-        }
     }
 
     @Override
@@ -187,24 +184,32 @@ public class HttpClientChannelInitializer extends ChannelInitializer<SocketChann
     private void configureSslForHttp2(SocketChannel ch, ChannelPipeline clientPipeline, SSLConfig sslConfig)
             throws Exception {
         connectionAvailabilityFuture.setSSLEnabled(true);
+        // The contexts are shared by all the connections of the client, so that their sessions can be resumed
+        ClientSslContexts clientSslContexts = ClientSslContexts.of(sslConfig);
         if (sslConfig.isOcspStaplingEnabled()) {
+            SSLHandlerFactory sslHandlerFactory = clientSslContexts.getSslHandlerFactory(false);
             ReferenceCountedOpenSslContext referenceCountedOpenSslContext =
-                    (ReferenceCountedOpenSslContext) sslHandlerFactory.
-                            createHttp2TLSContextForClient(sslConfig.isOcspStaplingEnabled());
+                    (ReferenceCountedOpenSslContext) clientSslContexts.getSslContext(ClientSslContexts.HTTP2,
+                            () -> sslHandlerFactory.createHttp2TLSContextForClient(true));
             if (referenceCountedOpenSslContext != null) {
-                SslHandler sslHandler = referenceCountedOpenSslContext.newHandler(ch.alloc());
+                SslHandler sslHandler = referenceCountedOpenSslContext.newHandler(ch.alloc(), httpRoute.getHost(),
+                                                                                  httpRoute.getPort());
                 ReferenceCountedOpenSslEngine engine = (ReferenceCountedOpenSslEngine) sslHandler.engine();
                 setSslHandshakeTimeOut(sslConfig, sslHandler);
+                clientSslContexts.getHandshakeMetrics().track(sslHandler);
                 ch.pipeline().addLast(sslHandler);
                 ch.pipeline().addLast(new OCSPStaplingHandler(engine));
             }
         } else if (sslConfig.isDisableSsl()) {
-            SslContext sslCtx = Util.createInsecureSslEngineForHttp2(sslConfig);
+            SslContext sslCtx = clientSslContexts.getSslContext(ClientSslContexts.HTTP2,
+                    () -> Util.createInsecureSslEngineForHttp2(sslConfig));
             SslHandler sslHandler = sslCtx.newHandler(ch.alloc(), httpRoute.getHost(), httpRoute.getPort());
+            clientSslContexts.getHandshakeMetrics().track(sslHandler);
             clientPipeline.addLast(sslHandler);
         } else {
-            sslHandlerFactory.createSSLContextFromKeystores(false);
-            SslContext sslCtx = sslHandlerFactory.createHttp2TLSContextForClient(false);
+            SSLHandlerFactory sslHandlerFactory = clientSslContexts.getSslHandlerFactory(true);
+            SslContext sslCtx = clientSslContexts.getSslContext(ClientSslContexts.HTTP2,
+                    () -> sslHandlerFactory.createHttp2TLSContextForClient(false));
             SslHandler sslHandler = sslCtx.newHandler(ch.alloc(), httpRoute.getHost(), httpRoute.getPort());
             SSLEngine sslEngine = sslHandler.engine();
             sslHandlerFactory.setSNIServerNames(sslEngine, httpRoute.getHost());
@@ -212,6 +217,7 @@ public class HttpClientChannelInitializer extends ChannelInitializer<SocketChann
                 setHostNameVerfication(sslEngine);
             }
             setSslHandshakeTimeOut(sslConfig, sslHandler);
+            clientSslContexts.getHandshakeMetrics().track(sslHandler);
             clientPipeline.addLast(sslHandler);
             if (sslConfig.isValidateCertEnabled()) {
                 clientPipeline.addLast(Constants.HTTP_CERT_VALIDATION_HANDLER,
@@ -146,7 +146,7 @@ public class TargetHandler extends ChannelInboundHandlerAdapter {
             if (HttpClientUpgradeHandler.UpgradeEvent.UPGRADE_SUCCESSFUL.name().equals(upgradeEvent.name())) {
                 executePostUpgradeActions(ctx);
             } else if (HttpClientUpgradeHandler.UpgradeEvent.UPGRADE_REJECTED.name().equals(upgradeEvent.name())) {
-                releasePerRoutePoolLatchOnFailure();
+                releasePendingAcquisitionsOnFailure();
             }
             ctx.fireUserEventTriggered(evt);
         } else {
@@ -169,7 +169,7 @@ public class TargetHandler extends ChannelInboundHandlerAdapter {
             // When closing the channel, if it is already closed it will trigger this event. So we can ignore this.
             LOG.debug("Input side of the connection is already shutdown");
         } else {
-            releasePerRoutePoolLatchOnFailure();
+            releasePendingAcquisitionsOnFailure();
             LOG.warn("Unexpected user event {} triggered", evt);
         }
     }
@@ -211,11 +211,11 @@ public class TargetHandler extends ChannelInboundHandlerAdapter {
         }
     }
 
-    private void releasePerRoutePoolLatchOnFailure() {
+    private void releasePendingAcquisitionsOnFailure() {
         // When SSL completion event is received via UserEventTriggered method, this method can be called before
         // assigning value to connectionManager. Hence the null check
         if (Objects.nonNull(connectionManager)) {
-            connectionManager.getHttp2ConnectionManager().releasePerRoutePoolLatch(targetChannel.getHttpRoute());
+            connectionManager.getHttp2ConnectionManager().releasePendingAcquisitions(targetChannel.getHttpRoute());
         }
     }
 
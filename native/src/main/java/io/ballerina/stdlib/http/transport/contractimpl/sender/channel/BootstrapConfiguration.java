@@ -17,6 +17,7 @@ package io.ballerina.stdlib.http.transport.contractimpl.sender.channel;
 
 import io.ballerina.stdlib.http.transport.contract.Constants;
 import io.ballerina.stdlib.http.transport.contract.config.SenderConfiguration;
+import io.ballerina.stdlib.http.transport.contract.config.SocketTransport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -33,6 +34,9 @@ public class BootstrapConfiguration {
     private final int connectTimeOut;
     private final int receiveBufferSize;
     private final int sendBufferSize;
+    private final SocketTransport socketTransport;
+    private final boolean tcpFastOpen;
+    private final boolean tcpQuickAck;
 
     public BootstrapConfiguration(SenderConfiguration senderConfiguration) {
         this.connectTimeOut = senderConfiguration.getConnectTimeOut();
@@ -41,6 +45,9 @@ public class BootstrapConfiguration {
         this.tcpNoDelay = senderConfiguration.isTcpNoDelay();
         this.socketReuse = senderConfiguration.isSocketReuse();
         this.keepAlive = senderConfiguration.isSocketKeepAlive();
+        this.socketTransport = senderConfiguration.getSocketTransport();
+        this.tcpFastOpen = senderConfiguration.isTcpFastOpen();
+        this.tcpQuickAck = senderConfiguration.isTcpQuickAck();
 
         String logValue = "{}:{}";
         LOG.debug(logValue, Constants.CLIENT_BOOTSTRAP_TCP_NO_DELY , tcpNoDelay);
@@ -49,6 +56,9 @@ public class BootstrapConfiguration {
         LOG.debug(logValue, Constants.CLIENT_BOOTSTRAP_SEND_BUFFER_SIZE, sendBufferSize);
         LOG.debug(logValue, Constants.CLIENT_BOOTSTRAP_KEEPALIVE, keepAlive);
         LOG.debug(logValue, Constants.CLIENT_BOOTSTRAP_SO_REUSE, socketReuse);
+        LOG.debug(logValue, Constants.CLIENT_BOOTSTRAP_TRANSPORT, socketTransport);
+        LOG.debug(logValue, Constants.CLIENT_BOOTSTRAP_TCP_FASTOPEN, tcpFastOpen);
+        LOG.debug(logValue, Constants.CLIENT_BOOTSTRAP_TCP_QUICKACK, tcpQuickAck);
     }
 
     public boolean isTcpNoDelay() {
@@ -74,4 +84,16 @@ public class BootstrapConfiguration {
     public boolean isSocketReuse() {
         return socketReuse;
     }
+
+    public SocketTransport getSocketTransport() {
+        return socketTransport;
+    }
+
+    public boolean isTcpFastOpen() {
+        return tcpFastOpen;
+    }
+
+    public boolean isTcpQuickAck() {
+        return tcpQuickAck;
+    }
 }
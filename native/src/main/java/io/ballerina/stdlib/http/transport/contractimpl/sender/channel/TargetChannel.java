@@ -24,6 +24,7 @@ import io.ballerina.stdlib.http.transport.contractimpl.sender.ConnectionAvailabi
 import io.ballerina.stdlib.http.transport.contractimpl.sender.HttpClientChannelInitializer;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.TargetHandler;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.pool.ConnectionManager;
+import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.pool.TargetChannelPool;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.http2.Http2ClientChannel;
 import io.ballerina.stdlib.http.transport.internal.HandlerExecutor;
 import io.ballerina.stdlib.http.transport.internal.HttpTransportContextHolder;
@@ -36,6 +37,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Locale;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * A class that encapsulate channel and state.
@@ -45,7 +47,6 @@ public class TargetChannel {
     private static final Logger LOG = LoggerFactory.getLogger(TargetChannel.class);
 
     public SenderReqRespStateManager senderReqRespStateManager;
-    public String trgHlrConnPoolId;
 
     private boolean requestHeaderWritten = false;
     private Channel channel;
@@ -59,6 +60,8 @@ public class TargetChannel {
     private final ChannelFuture channelFuture;
     private final HandlerExecutor handlerExecutor;
     private final ConnectionAvailabilityFuture connectionAvailabilityFuture;
+    private final AtomicBoolean destroyed = new AtomicBoolean(false);
+    private TargetChannelPool targetChannelPool;
 
     public TargetChannel(HttpClientChannelInitializer httpClientChannelInitializer, ChannelFuture channelFuture,
                          HttpRoute httpRoute, ConnectionAvailabilityFuture connectionAvailabilityFuture) {
@@ -165,4 +168,25 @@ public class TargetChannel {
     public HttpRoute getHttpRoute() {
         return httpRoute;
     }
+
+    public TargetChannelPool getTargetChannelPool() {
+        return targetChannelPool;
+    }
+
+    public void setTargetChannelPool(TargetChannelPool targetChannelPool) {
+        this.targetChannelPool = targetChannelPool;
+    }
+
+    /**
+     * Marks the target channel as removed from its pool.
+     *
+     * @return true only for the first invocation, so that the pool accounts the channel only once
+     */
+    public boolean markDestroyed() {
+        return destroyed.compareAndSet(false, true);
+    }
+
+    public boolean isDestroyed() {
+        return destroyed.get();
+    }
 }
@@ -15,8 +15,6 @@
 
 package io.ballerina.stdlib.http.transport.contractimpl.sender.channel.pool;
 
-import org.apache.commons.pool.impl.GenericObjectPool;
-
 /**
  * A class which represents connection pool specific parameters.
  */
@@ -29,12 +27,13 @@ public class PoolConfiguration {
     private boolean testWhileIdle = true;
     private long timeBetweenEvictionRuns = 30 * 1000L;
     private long minEvictableIdleTime = 5 * 60 * 1000L;
-    private byte exhaustedAction = GenericObjectPool.WHEN_EXHAUSTED_BLOCK;
+    private byte exhaustedAction = TargetChannelPool.WHEN_EXHAUSTED_BLOCK;
     private int numberOfPools = 0;
     private int executorServiceThreads = 20;
     private int eventGroupExecutorThreads = 15;
     private long maxWaitTime = 60000L;
     private int http2MaxActiveStreamsPerConnection = Integer.MAX_VALUE;
+    private int http2MinConnectionsPerRoute = 0;
 
     public PoolConfiguration() {
     }
@@ -142,4 +141,12 @@ public class PoolConfiguration {
     public void setHttp2MaxActiveStreamsPerConnection(int http2MaxActiveStreamsPerConnection) {
         this.http2MaxActiveStreamsPerConnection = http2MaxActiveStreamsPerConnection;
     }
+
+    public int getHttp2MinConnectionsPerRoute() {
+        return http2MinConnectionsPerRoute;
+    }
+
+    public void setHttp2MinConnectionsPerRoute(int http2MinConnectionsPerRoute) {
+        this.http2MinConnectionsPerRoute = http2MinConnectionsPerRoute;
+    }
 }
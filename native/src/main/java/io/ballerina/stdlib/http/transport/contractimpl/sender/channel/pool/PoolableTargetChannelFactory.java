@@ -17,16 +17,15 @@ package io.ballerina.stdlib.http.transport.contractimpl.sender.channel.pool;
 
 import io.ballerina.stdlib.http.transport.contract.config.SenderConfiguration;
 import io.ballerina.stdlib.http.transport.contractimpl.common.HttpRoute;
+import io.ballerina.stdlib.http.transport.contractimpl.common.SocketTransportProvider;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.ConnectionAvailabilityFuture;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.HttpClientChannelInitializer;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.BootstrapConfiguration;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.TargetChannel;
 import io.netty.bootstrap.Bootstrap;
-import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
-import org.apache.commons.pool.PoolableObjectFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -35,35 +34,34 @@ import java.net.InetSocketAddress;
 import static io.ballerina.stdlib.http.transport.contract.Constants.HTTP_SCHEME;
 
 /**
- * A class which creates a TargetChannel pool for each route.
+ * A class which creates the TargetChannels of a route.
  */
-public class PoolableTargetChannelFactory implements PoolableObjectFactory {
+public class PoolableTargetChannelFactory {
 
     private static final Logger LOG = LoggerFactory.getLogger(PoolableTargetChannelFactory.class);
 
-    private EventLoopGroup eventLoopGroup;
-    private Class eventLoopClass;
     private final HttpRoute httpRoute;
     private final SenderConfiguration senderConfiguration;
     private final BootstrapConfiguration bootstrapConfiguration;
     private final ConnectionManager connectionManager;
-    private String remoteAddress;
-
-    PoolableTargetChannelFactory(EventLoopGroup eventLoopGroup, Class eventLoopClass, HttpRoute httpRoute,
-                                        SenderConfiguration senderConfiguration,
-                                        BootstrapConfiguration bootstrapConfiguration,
-                                        ConnectionManager connectionManager) {
-        this.eventLoopGroup = eventLoopGroup;
-        this.eventLoopClass = eventLoopClass;
+
+    PoolableTargetChannelFactory(HttpRoute httpRoute, SenderConfiguration senderConfiguration,
+                                 BootstrapConfiguration bootstrapConfiguration, ConnectionManager connectionManager) {
         this.httpRoute = httpRoute;
         this.senderConfiguration = senderConfiguration;
         this.bootstrapConfiguration = bootstrapConfiguration;
         this.connectionManager = connectionManager;
     }
 
-
-    @Override
-    public Object makeObject() throws Exception {
+    /**
+     * Creates a new target channel and starts connecting it to the route.
+     *
+     * @param eventLoopGroup the event loop group that the channel should be bound to. With http/2, the event loop of
+     *                       the channel cannot be changed later
+     * @param eventLoopClass the channel class
+     * @return the target channel
+     */
+    TargetChannel makeObject(EventLoopGroup eventLoopGroup, Class eventLoopClass) {
         Bootstrap clientBootstrap = instantiateAndConfigBootStrap(eventLoopGroup,
                 eventLoopClass, bootstrapConfiguration);
         ConnectionAvailabilityFuture connectionAvailabilityFuture = new ConnectionAvailabilityFuture();
@@ -83,8 +81,9 @@ public class PoolableTargetChannelFactory implements PoolableObjectFactory {
                                                  ConnectionAvailabilityFuture connectionAvailabilityFuture,
                                                  HttpClientChannelInitializer httpClientChannelInitializer) {
 
-        ChannelFuture channelFuture = connectToRemoteEndpoint(clientBootstrap);
-        connectionAvailabilityFuture.setSocketAvailabilityFuture(channelFuture, remoteAddress);
+        InetSocketAddress socketAddress = getRemoteAddress();
+        ChannelFuture channelFuture = clientBootstrap.connect(socketAddress);
+        connectionAvailabilityFuture.setSocketAvailabilityFuture(channelFuture, socketAddress.toString());
         connectionAvailabilityFuture.setForceHttp2(senderConfiguration.isForceHttp2());
 
         TargetChannel targetChannel =
@@ -93,22 +92,16 @@ public class PoolableTargetChannelFactory implements PoolableObjectFactory {
         return targetChannel;
     }
 
-    private ChannelFuture connectToRemoteEndpoint(Bootstrap clientBootstrap) {
+    private InetSocketAddress getRemoteAddress() {
         // Connect to proxy server if proxy is enabled
-        ChannelFuture channelFuture;
-        InetSocketAddress socketAddress;
         if (senderConfiguration.getProxyServerConfiguration() != null && senderConfiguration.getScheme()
                 .equals(HTTP_SCHEME)) {
-            socketAddress = new InetSocketAddress(
+            return new InetSocketAddress(
                     senderConfiguration.getProxyServerConfiguration().getProxyHost(),
                     senderConfiguration.getProxyServerConfiguration().getProxyPort()
             );
-        } else {
-            socketAddress = new InetSocketAddress(httpRoute.getHost(), httpRoute.getPort());
         }
-        remoteAddress = socketAddress.toString();
-        channelFuture = clientBootstrap.connect(socketAddress);
-        return channelFuture;
+        return new InetSocketAddress(httpRoute.getHost(), httpRoute.getPort());
     }
 
     private Bootstrap instantiateAndConfigBootStrap(EventLoopGroup eventLoopGroup, Class eventLoopClass,
@@ -122,6 +115,7 @@ public class PoolableTargetChannelFactory implements PoolableObjectFactory {
         clientBootstrap.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, bootstrapConfiguration.getConnectTimeOut());
         clientBootstrap.option(ChannelOption.SO_RCVBUF, bootstrapConfiguration.getReceiveBufferSize());
         clientBootstrap.option(ChannelOption.SO_SNDBUF, bootstrapConfiguration.getSendBufferSize());
+        SocketTransportProvider.forChannelClass(eventLoopClass).configure(clientBootstrap, bootstrapConfiguration);
         return clientBootstrap;
     }
 
@@ -136,45 +130,4 @@ public class PoolableTargetChannelFactory implements PoolableObjectFactory {
         }
         return httpClientChannelInitializer;
     }
-
-    @Override
-    public void destroyObject(Object o) throws Exception {
-        Channel targetNettyChannel = ((TargetChannel) o).getChannel();
-        if (targetNettyChannel.isOpen()) {
-            targetNettyChannel.close();
-        }
-
-        if (LOG.isDebugEnabled()) {
-            LOG.debug("Destroying channel: {}", targetNettyChannel.id());
-        }
-    }
-
-    @Override
-    public boolean validateObject(Object o) {
-        TargetChannel targetChannel = (TargetChannel) o;
-        if (targetChannel.getChannel() != null) {
-            boolean answer = targetChannel.getChannel().isActive();
-            LOG.debug("Validating channel: {} -> {}", targetChannel.getChannel().id(), answer);
-            return answer;
-        }
-        return true;
-    }
-
-    @Override
-    public void activateObject(Object o) throws Exception {
-
-    }
-
-    @Override
-    public void passivateObject(Object o) throws Exception {
-
-    }
-
-    public void setEventLoopGroup(EventLoopGroup eventLoopGroup) {
-        this.eventLoopGroup = eventLoopGroup;
-    }
-
-    public void setEventLoopClass(Class eventLoopClass) {
-        this.eventLoopClass = eventLoopClass;
-    }
 }
@@ -0,0 +1,434 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.sender.channel.pool;
+
+import io.ballerina.stdlib.http.transport.contract.Constants;
+import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.TargetChannel;
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoop;
+import io.netty.channel.EventLoopGroup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Deque;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Non-blocking HTTP/1.1 connection pool of a single route. Idle channels are kept in a lock-free stack per event loop.
+ * A request correlated to an inbound channel, such as a passthrough request, only gets a connection bound to the event
+ * loop of the inbound channel, either an idle one or a new one, so that both sides of the request are served by the
+ * same thread. Other requests take an idle channel of any event loop. When the pool is exhausted, the acquisition
+ * is queued and completed by the next released channel or freed slot, or failed once the maximum wait time elapses,
+ * so no thread is blocked while waiting for a connection. Idle channels are only reused, and released channels only
+ * handed over, for acquisitions of the same channel class, as a route can be shared by listeners and clients of
+ * different socket transports.
+ * <p>
+ * The {@link PoolConfiguration} is interpreted the same way as the commons-pool based pool it replaces: the number
+ * of connections of the route is bounded by maxActivePerPool (negative for no limit), returned connections beyond
+ * maxIdlePerPool are closed, and idle connections are validated on borrow and evicted by a periodic run.
+ */
+public class TargetChannelPool {
+
+    public static final byte WHEN_EXHAUSTED_FAIL = 0;
+    public static final byte WHEN_EXHAUSTED_BLOCK = 1;
+    public static final byte WHEN_EXHAUSTED_GROW = 2;
+
+    private static final Logger LOG = LoggerFactory.getLogger(TargetChannelPool.class);
+
+    private final PoolableTargetChannelFactory channelFactory;
+    private final EventLoopGroup clientEventGroup;
+    private final int maxActive;
+    private final int maxIdle;
+    private final int minIdle;
+    private final boolean testOnBorrow;
+    private final boolean testWhileIdle;
+    private final long minEvictableIdleTime;
+    private final byte exhaustedAction;
+    private final long maxWaitTime;
+
+    private final Map<EventLoop, Deque<IdleTargetChannel>> idleChannels = new ConcurrentHashMap<>();
+    private final Queue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger numTotal = new AtomicInteger();
+    private final AtomicInteger numIdle = new AtomicInteger();
+
+    TargetChannelPool(PoolableTargetChannelFactory channelFactory, PoolConfiguration poolConfiguration,
+                      EventLoopGroup clientEventGroup) {
+        this.channelFactory = channelFactory;
+        this.clientEventGroup = clientEventGroup;
+        this.maxActive = poolConfiguration.getMaxActivePerPool();
+        this.maxIdle = poolConfiguration.getMaxIdlePerPool();
+        this.minIdle = poolConfiguration.getMinIdlePerPool();
+        this.testOnBorrow = poolConfiguration.isTestOnBorrow();
+        this.testWhileIdle = poolConfiguration.isTestWhileIdle();
+        this.minEvictableIdleTime = poolConfiguration.getMinEvictableIdleTime();
+        this.exhaustedAction = poolConfiguration.getExhaustedAction();
+        this.maxWaitTime = poolConfiguration.getMaxWaitTime();
+        long timeBetweenEvictionRuns = poolConfiguration.getTimeBetweenEvictionRuns();
+        if (timeBetweenEvictionRuns > 0) {
+            clientEventGroup.next().scheduleWithFixedDelay(this::evict, timeBetweenEvictionRuns,
+                                                           timeBetweenEvictionRuns, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Acquires a target channel from the pool.
+     *
+     * @param eventLoop      the event loop of the inbound channel the request is correlated to, which the channel
+     *                       must be bound to, or null if the request is not originated from the server connector
+     * @param eventLoopGroup the event loop group that a new channel should be bound to
+     * @param eventLoopClass the channel class of a new channel
+     * @return a future which completes with the target channel, or fails if a channel cannot be obtained
+     */
+    CompletableFuture<TargetChannel> acquire(EventLoop eventLoop, EventLoopGroup eventLoopGroup,
+                                             Class eventLoopClass) {
+        CompletableFuture<TargetChannel> future = new CompletableFuture<>();
+        TargetChannel targetChannel = pollIdle(eventLoop, eventLoopClass);
+        if (targetChannel != null) {
+            future.complete(targetChannel);
+            return future;
+        }
+        if (reserve()) {
+            createAndComplete(future, eventLoopGroup, eventLoopClass);
+            return future;
+        }
+        if (exhaustedAction == WHEN_EXHAUSTED_GROW) {
+            numTotal.incrementAndGet();
+            createAndComplete(future, eventLoopGroup, eventLoopClass);
+            return future;
+        }
+        if (exhaustedAction == WHEN_EXHAUSTED_FAIL) {
+            future.completeExceptionally(new NoSuchElementException("Pool exhausted"));
+            return future;
+        }
+        Waiter waiter = new Waiter(future, eventLoop, eventLoopGroup, eventLoopClass);
+        waiters.add(waiter);
+        if (maxWaitTime > 0) {
+            waiter.timeout = clientEventGroup.next().schedule(() -> {
+                if (future.completeExceptionally(new NoSuchElementException(Constants.MAXIMUM_WAIT_TIME_EXCEED))) {
+                    waiters.remove(waiter);
+                }
+            }, maxWaitTime, TimeUnit.MILLISECONDS);
+        }
+        dispatchToWaiters();
+        return future;
+    }
+
+    /**
+     * Returns a target channel to the pool. The channel is handed over to the oldest waiting acquisition if there is
+     * one, otherwise it is kept idle on the stack of its event loop.
+     *
+     * @param targetChannel the target channel to be returned
+     */
+    void release(TargetChannel targetChannel) {
+        if (targetChannel.isDestroyed()) {
+            return;
+        }
+        Channel channel = targetChannel.getChannel();
+        if (channel == null || !channel.isActive()) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Channel of {} is inactive hence not returning to connection pool", targetChannel);
+            }
+            invalidate(targetChannel);
+            return;
+        }
+        if (handOver(targetChannel)) {
+            return;
+        }
+        if (numIdle.incrementAndGet() > maxIdle && maxIdle >= 0) {
+            numIdle.decrementAndGet();
+            invalidate(targetChannel);
+            return;
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Returning connection {} to the pool", channel.id().asShortText());
+        }
+        pushIdle(targetChannel);
+        dispatchToWaiters();
+    }
+
+    /**
+     * Removes a target channel from the pool and closes it. Invalidating a channel more than once has no effect.
+     *
+     * @param targetChannel the target channel to be invalidated
+     */
+    void invalidate(TargetChannel targetChannel) {
+        if (!targetChannel.markDestroyed()) {
+            return;
+        }
+        Channel channel = targetChannel.getChannelFuture().channel();
+        if (channel.isOpen()) {
+            channel.close();
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Destroying channel: {}", channel.id());
+        }
+        numTotal.decrementAndGet();
+        dispatchToWaiters();
+    }
+
+    int getNumActive() {
+        return numTotal.get() - numIdle.get();
+    }
+
+    int getNumIdle() {
+        return numIdle.get();
+    }
+
+    /**
+     * Polls an idle channel of the given channel class.
+     *
+     * @param eventLoop    the event loop the channel must be bound to, or null to accept a channel of any event loop
+     * @param channelClass the channel class the channel must be of, or null to accept a channel of any class
+     * @return an idle channel, or null if there is none of the given event loop and class
+     */
+    private TargetChannel pollIdle(EventLoop eventLoop, Class channelClass) {
+        if (numIdle.get() <= 0) {
+            return null;
+        }
+        if (eventLoop != null) {
+            // The channels of other event loops are not taken, as only the h1c channels are moved back to the event
+            // loop of the inbound channel once acquired
+            return pollIdle(idleChannels.get(eventLoop), channelClass);
+        }
+        TargetChannel targetChannel;
+        for (Deque<IdleTargetChannel> stack : idleChannels.values()) {
+            targetChannel = pollIdle(stack, channelClass);
+            if (targetChannel != null) {
+                return targetChannel;
+            }
+        }
+        return null;
+    }
+
+    private TargetChannel pollIdle(Deque<IdleTargetChannel> stack, Class channelClass) {
+        if (stack == null) {
+            return null;
+        }
+        IdleTargetChannel idleTargetChannel;
+        while ((idleTargetChannel = stack.peekFirst()) != null) {
+            // All the channels of a stack are bound to the same event loop and hence are of the same channel class.
+            if (channelClass != null && idleTargetChannel.channelClass != channelClass) {
+                return null;
+            }
+            idleTargetChannel = stack.pollFirst();
+            if (idleTargetChannel == null) {
+                return null;
+            }
+            numIdle.decrementAndGet();
+            TargetChannel targetChannel = idleTargetChannel.targetChannel;
+            if (targetChannel.isDestroyed()) {
+                continue;
+            }
+            if (testOnBorrow && !isValid(targetChannel)) {
+                invalidate(targetChannel);
+                continue;
+            }
+            return targetChannel;
+        }
+        return null;
+    }
+
+    private boolean reserve() {
+        if (maxActive < 0) {
+            numTotal.incrementAndGet();
+            return true;
+        }
+        for (;;) {
+            int total = numTotal.get();
+            if (total >= maxActive) {
+                return false;
+            }
+            if (numTotal.compareAndSet(total, total + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private void createAndComplete(CompletableFuture<TargetChannel> future, EventLoopGroup eventLoopGroup,
+                                   Class eventLoopClass) {
+        TargetChannel targetChannel;
+        try {
+            targetChannel = channelFactory.makeObject(eventLoopGroup, eventLoopClass);
+        } catch (RuntimeException e) {
+            numTotal.decrementAndGet();
+            future.completeExceptionally(e);
+            dispatchToWaiters();
+            return;
+        }
+        targetChannel.setTargetChannelPool(this);
+        // Frees the slot of the channel when the connection fails or the channel is closed, including the channels
+        // which are upgraded to http/2 and hence never returned to this pool.
+        targetChannel.getChannelFuture().channel().closeFuture().addListener(
+                closeFuture -> invalidate(targetChannel));
+        if (!future.complete(targetChannel)) {
+            release(targetChannel);
+        }
+    }
+
+    private void pushIdle(TargetChannel targetChannel) {
+        idleChannels.computeIfAbsent(targetChannel.getChannel().eventLoop(), loop -> new ConcurrentLinkedDeque<>())
+                .offerFirst(new IdleTargetChannel(targetChannel, System.currentTimeMillis()));
+    }
+
+    private boolean handOver(TargetChannel targetChannel) {
+        Class channelClass = targetChannel.getChannel().getClass();
+        EventLoop eventLoop = targetChannel.getChannel().eventLoop();
+        for (Waiter waiter : waiters) {
+            if (waiter.future.isDone()) {
+                waiters.remove(waiter);
+                continue;
+            }
+            if (waiter.eventLoopClass != channelClass || (waiter.eventLoop != null && waiter.eventLoop != eventLoop)
+                    || !waiters.remove(waiter)) {
+                continue;
+            }
+            Waiter nextWaiter = waiter;
+            // Completes the acquisition in a new task of the channel's event loop, so that the waiting request does
+            // not run inside the call stack which released the channel.
+            targetChannel.getChannel().eventLoop().execute(() -> {
+                nextWaiter.cancelTimeout();
+                if (!nextWaiter.future.complete(targetChannel)) {
+                    release(targetChannel);
+                }
+            });
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Serves the waiting acquisitions with the idle channels and the free slots of the pool. This is invoked after
+     * every change which can make a channel available, and re-checks the waiters after putting back an idle channel,
+     * so a waiter enqueued concurrently is never left behind. When the pool is full and an idle channel is of a channel
+     * class or an event loop no waiter needs, it is closed to free a slot for the oldest waiter.
+     */
+    private void dispatchToWaiters() {
+        Waiter head;
+        while ((head = waiters.peek()) != null) {
+            TargetChannel targetChannel = pollIdle(head.eventLoop, head.eventLoopClass);
+            if (targetChannel != null) {
+                if (!handOver(targetChannel)) {
+                    numIdle.incrementAndGet();
+                    pushIdle(targetChannel);
+                }
+                continue;
+            }
+            if (!reserve()) {
+                targetChannel = pollIdle(null, null);
+                if (targetChannel == null) {
+                    return;
+                }
+                if (!handOver(targetChannel)) {
+                    invalidate(targetChannel);
+                }
+                continue;
+            }
+            Waiter waiter = waiters.poll();
+            if (waiter == null) {
+                numTotal.decrementAndGet();
+                continue;
+            }
+            waiter.cancelTimeout();
+            if (waiter.future.isDone()) {
+                numTotal.decrementAndGet();
+                continue;
+            }
+            createAndComplete(waiter.future, waiter.eventLoopGroup, waiter.eventLoopClass);
+        }
+    }
+
+    private void evict() {
+        long now = System.currentTimeMillis();
+        for (Deque<IdleTargetChannel> stack : idleChannels.values()) {
+            for (IdleTargetChannel idleTargetChannel : stack) {
+                TargetChannel targetChannel = idleTargetChannel.targetChannel;
+                boolean evict = targetChannel.isDestroyed()
+                        || (minEvictableIdleTime > 0 && now - idleTargetChannel.idleSince > minEvictableIdleTime
+                                && numIdle.get() > minIdle)
+                        || (testWhileIdle && !isValid(targetChannel));
+                if (evict && stack.removeFirstOccurrence(idleTargetChannel)) {
+                    numIdle.decrementAndGet();
+                    invalidate(targetChannel);
+                }
+            }
+        }
+    }
+
+    private static boolean isValid(TargetChannel targetChannel) {
+        Channel channel = targetChannel.getChannel();
+        if (channel != null) {
+            boolean answer = channel.isActive();
+            LOG.debug("Validating channel: {} -> {}", channel.id(), answer);
+            return answer;
+        }
+        return true;
+    }
+
+    /**
+     * A target channel kept idle in the pool.
+     */
+    private static final class IdleTargetChannel {
+
+        private final TargetChannel targetChannel;
+        private final Class channelClass;
+        private final long idleSince;
+
+        IdleTargetChannel(TargetChannel targetChannel, long idleSince) {
+            this.targetChannel = targetChannel;
+            this.channelClass = targetChannel.getChannel().getClass();
+            this.idleSince = idleSince;
+        }
+    }
+
+    /**
+     * An acquisition waiting for a channel to be released or a slot to be freed.
+     */
+    private static final class Waiter {
+
+        private final CompletableFuture<TargetChannel> future;
+        private final EventLoop eventLoop;
+        private final EventLoopGroup eventLoopGroup;
+        private final Class eventLoopClass;
+        private volatile Future<?> timeout;
+
+        Waiter(CompletableFuture<TargetChannel> future, EventLoop eventLoop, EventLoopGroup eventLoopGroup,
+               Class eventLoopClass) {
+            this.future = future;
+            this.eventLoop = eventLoop;
+            this.eventLoopGroup = eventLoopGroup;
+            this.eventLoopClass = eventLoopClass;
+        }
+
+        void cancelTimeout() {
+            Future<?> scheduledTimeout = timeout;
+            if (scheduledTimeout != null) {
+                scheduledTimeout.cancel(false);
+            }
+        }
+    }
+}
@@ -18,15 +18,17 @@
 
 package io.ballerina.stdlib.http.transport.contractimpl.sender.http2;
 
-import io.netty.channel.Channel;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
-import java.util.HashMap;
-import java.util.Map;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.LinkedBlockingQueue;
+import io.ballerina.stdlib.http.transport.contractimpl.common.HttpRoute;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * The ChannelPool maintained for HTTP2 requests. Each channel is grouped per route.
@@ -35,107 +37,182 @@ import java.util.concurrent.LinkedBlockingQueue;
  */
 class Http2ChannelPool {
 
-    private static final Logger LOG = LoggerFactory.getLogger(Http2ChannelPool.class);
-    private final Map<String, PerRouteConnectionPool> perRouteConnectionPools = new HashMap<>();
+    private final ConcurrentMap<HttpRoute, PerRouteConnectionPool> perRouteConnectionPools =
+            new ConcurrentHashMap<>();
 
-    PerRouteConnectionPool fetchPerRoutePool(String key) {
-        return perRouteConnectionPools.get(key);
+    PerRouteConnectionPool fetchPerRoutePool(HttpRoute route) {
+        return perRouteConnectionPools.get(route);
     }
 
-    Map<String, PerRouteConnectionPool> getPerRouteConnectionPools() {
+    ConcurrentMap<HttpRoute, PerRouteConnectionPool> getPerRouteConnectionPools() {
         return perRouteConnectionPools;
     }
 
     /**
-     * Entity which holds the pool of connections for a given http route.
+     * Entity which holds the pool of connections for a given http route. A stream is taken from the live connection
+     * with the least number of active streams, reserving it with a CAS on the stream count of that connection, so no
+     * lock is held while acquiring. When every connection has reached the maximum number of active streams, a single
+     * caller is told to open a new connection while the others are queued and completed once that connection is
+     * added or a stream is closed, instead of being parked on a latch.
      */
     static class PerRouteConnectionPool {
 
-        private final BlockingQueue<Http2ClientChannel> http2ClientChannels = new LinkedBlockingQueue<>();
+        private final CopyOnWriteArrayList<Http2ClientChannel> http2ClientChannels = new CopyOnWriteArrayList<>();
+        private final Queue<CompletableFuture<Http2ClientChannel>> waiters = new ConcurrentLinkedQueue<>();
+        // Whether a caller has been told to open a new connection which is not added to the pool yet
+        private final AtomicBoolean newChannelInitializing = new AtomicBoolean(false);
+        private final LongAdder saturatedAcquisitions = new LongAdder();
         // Maximum number of allowed active streams
         private final int maxActiveStreams;
-        private CountDownLatch newChannelInitializerLatch = new CountDownLatch(1);
-        private final Object lock = new Object();
-        private boolean newChannelInitializer = true;
+        private final int minConnections;
+        private final long maxWaitTime;
 
-        PerRouteConnectionPool(int maxActiveStreams) {
+        PerRouteConnectionPool(int maxActiveStreams, int minConnections, long maxWaitTime) {
             this.maxActiveStreams = maxActiveStreams;
+            this.minConnections = minConnections;
+            this.maxWaitTime = maxWaitTime;
         }
 
         /**
-         * Fetches an active {@code TargetChannel} from the pool. The first thread will add the channel to the pool. It
-         * is handled using a CountDownLatch. Subsequent threads will reuse the channel. Once the maxActiveStreams
-         * reaches in the channel, a new channel will be added to handle the excess requests. At that point also new
-         * channel addition happens through a synchronized manner to avoid multiple channels getting added to the pool.
+         * Fetches an active {@code Http2ClientChannel} from the pool without waiting. A stream of the returned channel
+         * is reserved for the caller.
          *
-         * @return active TargetChannel
+         * @return the least loaded channel which can open one more stream, or null if there is no such channel
          */
-        synchronized Http2ClientChannel fetchTargetChannel() {
-            waitTillNewChannelInitialized();
-            if (!http2ClientChannels.isEmpty()) {
-                Http2ClientChannel http2ClientChannel = http2ClientChannels.peek();
-                if (http2ClientChannel == null) {  // if channel is not active, forget it and fetch next one
-                    return fetchTargetChannel();
+        Http2ClientChannel fetchTargetChannel() {
+            for (;;) {
+                Http2ClientChannel leastLoaded = null;
+                int leastActiveStreams = maxActiveStreams;
+                for (Http2ClientChannel http2ClientChannel : http2ClientChannels) {
+                    if (http2ClientChannel.getChannel() == null) {  // if channel is not active, forget it
+                        http2ClientChannels.remove(http2ClientChannel);
+                        continue;
+                    }
+                    int activeStreams = http2ClientChannel.getActiveStreamCount();
+                    if (activeStreams < leastActiveStreams) {
+                        leastLoaded = http2ClientChannel;
+                        leastActiveStreams = activeStreams;
+                    }
                 }
-                Channel channel = http2ClientChannel.getChannel();
-                if (channel == null) {  // if channel is not active, forget it and fetch next one
-                    http2ClientChannels.remove(http2ClientChannel);
-                    return fetchTargetChannel();
+                if (leastLoaded == null) {
+                    return null;
                 }
-                // increment and get active stream count
-                int activeStreamCount = http2ClientChannel.incrementActiveStreamCount();
-
-                if (activeStreamCount < maxActiveStreams) {  // safe to fetch the Target Channel
-                    return http2ClientChannel;
-                } else if (activeStreamCount == maxActiveStreams) {  // no more streams except this one can be opened
-                    http2ClientChannel.markAsExhausted();
-                    http2ClientChannels.remove(http2ClientChannel);
-                    // When the stream count reaches maxActiveStreams, a new channel will be added only if the
-                    // channel queue is empty. This process is synchronized as transport thread can return channels
-                    // after being reset. If such channel is returned before the new CountDownLatch, the subsequent
-                    // ballerina thread will not take http1.1 thread as the channels queue is not empty. In such cases,
-                    // threads wait on the countdown latch cannot be released until another thread is returned. Hence
-                    // synchronized on a lock
-                    synchronized (lock) {
-                        if (http2ClientChannels.isEmpty()) {
-                            newChannelInitializer = true;
-                            newChannelInitializerLatch = new CountDownLatch(1);
-                        }
-                    }
-                    return http2ClientChannel;
-                } else {
-                    http2ClientChannels.remove(http2ClientChannel);
-                    return fetchTargetChannel();    // fetch the next one from the queue
+                if (leastLoaded.tryIncrementActiveStreamCount(maxActiveStreams)) {
+                    return leastLoaded;
                 }
+                // Another caller took the last stream of the selected channel in the meantime, hence look again
+            }
+        }
+
+        /**
+         * Acquires a stream from the pool. The returned future completes with a channel which has a stream reserved
+         * for the caller, or with null if the caller has to open a new connection and add it to the pool. Only one
+         * caller at a time is asked to open a connection, unless the route has fewer connections than the configured
+         * minimum or an acquisition waits longer than the maximum wait time.
+         *
+         * @return a future which completes with the channel to be used, or null
+         */
+        CompletableFuture<Http2ClientChannel> acquireChannel() {
+            if (http2ClientChannels.size() < minConnections && newChannelInitializing.compareAndSet(false, true)) {
+                return CompletableFuture.completedFuture(null);
+            }
+            Http2ClientChannel http2ClientChannel = fetchTargetChannel();
+            if (http2ClientChannel != null) {
+                return CompletableFuture.completedFuture(http2ClientChannel);
+            }
+            saturatedAcquisitions.increment();
+            if (newChannelInitializing.compareAndSet(false, true)) {
+                return CompletableFuture.completedFuture(null);
             }
-            return null;
+            CompletableFuture<Http2ClientChannel> waiter = new CompletableFuture<>();
+            waiters.add(waiter);
+            if (maxWaitTime > 0) {
+                // Stop waiting for the connection being opened and let the caller open its own one. The waiter is
+                // taken out of the queue, so that it is not counted as a pending acquisition anymore.
+                CompletableFuture.delayedExecutor(maxWaitTime, TimeUnit.MILLISECONDS).execute(() -> {
+                    if (waiters.remove(waiter)) {
+                        waiter.complete(null);
+                    }
+                });
+            }
+            // A channel can be added or a stream closed between the checks above and queueing the waiter
+            dispatchToWaiters();
+            return waiter;
         }
 
         void addChannel(Http2ClientChannel http2ClientChannel) {
-            http2ClientChannels.add(http2ClientChannel);
-            releaseCountdown();
+            http2ClientChannels.addIfAbsent(http2ClientChannel);
+            newChannelInitializing.set(false);
+            dispatchToWaiters();
         }
 
-        void releaseCountdown() {
-            synchronized (lock) {
-                newChannelInitializerLatch.countDown();
+        /**
+         * Notifies that the connection a caller was asked to open is not added to the pool, either because it failed
+         * or because it did not negotiate HTTP/2. All the queued acquisitions are released to open connections on
+         * their own, the same way they would have if the connection had been attempted by each of them.
+         */
+        void releaseWaiters() {
+            newChannelInitializing.set(false);
+            CompletableFuture<Http2ClientChannel> waiter;
+            while ((waiter = waiters.poll()) != null) {
+                waiter.complete(null);
             }
         }
 
         void removeChannel(Http2ClientChannel http2ClientChannel) {
             http2ClientChannels.remove(http2ClientChannel);
+            dispatchToWaiters();
         }
 
-        private void waitTillNewChannelInitialized() {
-            try {
-                if (newChannelInitializer) {
-                    newChannelInitializer = false;
-                } else {
-                    newChannelInitializerLatch.await();
+        void onStreamClosed() {
+            if (!waiters.isEmpty()) {
+                dispatchToWaiters();
+            }
+        }
+
+        /**
+         * Serves the queued acquisitions with the free streams of the pool. If there are waiters left without a free
+         * stream and no connection is being opened, the oldest of them is asked to open one. The queue is re-checked
+         * after every hand over, so a waiter queued concurrently is never left behind.
+         */
+        private void dispatchToWaiters() {
+            while (!waiters.isEmpty()) {
+                Http2ClientChannel http2ClientChannel = fetchTargetChannel();
+                if (http2ClientChannel != null) {
+                    if (!completeNextWaiter(http2ClientChannel)) {
+                        http2ClientChannel.decrementActiveStreamCount();
+                    }
+                    continue;
+                }
+                if (!newChannelInitializing.compareAndSet(false, true)) {
+                    return;
+                }
+                if (completeNextWaiter(null)) {
+                    return;
                 }
-            } catch (InterruptedException e) {
-                LOG.warn("Interrupted before adding the target channel");
+                newChannelInitializing.set(false);
+            }
+        }
+
+        private boolean completeNextWaiter(Http2ClientChannel http2ClientChannel) {
+            CompletableFuture<Http2ClientChannel> waiter;
+            while ((waiter = waiters.poll()) != null) {
+                if (waiter.complete(http2ClientChannel)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        Http2RoutePoolStats getStats() {
+            int connections = 0;
+            long activeStreams = 0;
+            for (Http2ClientChannel http2ClientChannel : http2ClientChannels) {
+                connections++;
+                activeStreams += http2ClientChannel.getActiveStreamCount();
             }
+            return new Http2RoutePoolStats(connections, activeStreams, (long) connections * maxActiveStreams,
+                                           waiters.size(), saturatedAcquisitions.sum());
         }
     }
 }
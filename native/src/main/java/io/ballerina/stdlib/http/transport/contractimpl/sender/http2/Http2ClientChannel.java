@@ -34,7 +34,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -53,8 +52,6 @@ public class Http2ClientChannel {
     private ChannelFuture channelFuture;
     private HttpRoute httpRoute;
     private Http2ConnectionManager http2ConnectionManager;
-    // Whether channel is operates with maximum number of allowed streams
-    private AtomicBoolean isExhausted = new AtomicBoolean(false);
     // Number of active streams. Need to start from 1 to prevent someone stealing the connection from the creator
     private AtomicInteger activeStreams = new AtomicInteger(1);
     private int socketIdleTimeout = Constants.ENDPOINT_TIMEOUT;
@@ -187,19 +184,37 @@ public class Http2ClientChannel {
     }
 
     /**
-     * Increments and gets the active streams count.
+     * Increments the active streams count if the channel has not reached the given maximum number of active streams.
      *
-     * @return number of active streams count
+     * @param maxActiveStreams maximum number of allowed active streams
+     * @return true if a stream is reserved for the caller
      */
-    int incrementActiveStreamCount() {
-        return activeStreams.incrementAndGet();
+    boolean tryIncrementActiveStreamCount(int maxActiveStreams) {
+        for (;;) {
+            int activeStreamCount = activeStreams.get();
+            if (activeStreamCount >= maxActiveStreams) {
+                return false;
+            }
+            if (activeStreams.compareAndSet(activeStreamCount, activeStreamCount + 1)) {
+                return true;
+            }
+        }
     }
 
     /**
-     * Marks the channel has reached the maximum number of active streams.
+     * Decrements the active streams count, giving back a stream which was reserved but not used.
      */
-    void markAsExhausted() {
-        isExhausted.set(true);
+    void decrementActiveStreamCount() {
+        activeStreams.decrementAndGet();
+    }
+
+    /**
+     * Gets the active streams count.
+     *
+     * @return number of active streams count
+     */
+    int getActiveStreamCount() {
+        return activeStreams.get();
     }
 
     /**
@@ -284,14 +299,12 @@ public class Http2ClientChannel {
 
         @Override
         public void onStreamClosed(Http2Stream stream) {
-            // Channel is no longer exhausted, so we can return it back to the pool
             http2ClientChannel.removeInFlightMessage(stream.id());
             activeStreams.decrementAndGet();
             http2ClientChannel.getDataEventListeners().
                     forEach(dataEventListener -> dataEventListener.onStreamClose(stream.id()));
-            if (isExhausted.getAndSet(false)) {
-                http2ConnectionManager.returnClientChannel(httpRoute, http2ClientChannel);
-            }
+            // The freed stream can be handed over to an acquisition waiting on the pool
+            http2ConnectionManager.onStreamClosed(httpRoute);
         }
     }
 
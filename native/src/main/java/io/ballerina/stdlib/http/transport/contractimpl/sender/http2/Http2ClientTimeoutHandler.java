@@ -20,6 +20,7 @@ package io.ballerina.stdlib.http.transport.contractimpl.sender.http2;
 
 import io.ballerina.stdlib.http.transport.contract.Constants;
 import io.ballerina.stdlib.http.transport.contract.exceptions.EndpointTimeOutException;
+import io.ballerina.stdlib.http.transport.contractimpl.common.TimeoutWheel;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.DecoderException;
@@ -30,23 +31,24 @@ import io.netty.handler.codec.http.LastHttpContent;
 import io.netty.handler.codec.http2.Http2Error;
 import io.netty.handler.codec.http2.Http2Exception;
 import io.netty.handler.codec.http2.Http2Headers;
+import io.netty.util.Timeout;
+import io.netty.util.collection.IntObjectHashMap;
+import io.netty.util.collection.IntObjectMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 import static io.ballerina.stdlib.http.transport.contract.Constants.IDLE_TIMEOUT_TRIGGERED_BEFORE_INITIATING_PUSH_RESPONSE;
 import static io.ballerina.stdlib.http.transport.contract.Constants.IDLE_TIMEOUT_TRIGGERED_WHILE_READING_INBOUND_RESPONSE_BODY;
 import static io.ballerina.stdlib.http.transport.contract.Constants.IDLE_TIMEOUT_TRIGGERED_WHILE_READING_PUSH_RESPONSE_BODY;
 import static io.ballerina.stdlib.http.transport.contract.Constants.REMOTE_SERVER_CLOSED_WHILE_WRITING_OUTBOUND_REQUEST_BODY;
-import static io.ballerina.stdlib.http.transport.contractimpl.common.Util.schedule;
 import static io.ballerina.stdlib.http.transport.contractimpl.common.Util.ticksInNanos;
 
 /**
- * {@code Http2ClientTimeoutHandler} handles the Read/Write Timeout of HTTP/2 streams.
+ * {@code Http2ClientTimeoutHandler} handles the Read/Write Timeout of HTTP/2 streams. The timeouts are kept on the
+ * shared {@link TimeoutWheel} and indexed by the primitive stream id. The timer tasks are only accessed from the event
+ * loop of the connection.
  */
 public class Http2ClientTimeoutHandler implements Http2DataEventListener {
 
@@ -55,12 +57,12 @@ public class Http2ClientTimeoutHandler implements Http2DataEventListener {
 
     private long idleTimeNanos;
     private Http2ClientChannel http2ClientChannel;
-    private Map<Integer, ScheduledFuture<?>> timerTasks;
+    private final IntObjectMap<Timeout> timerTasks;
 
     public Http2ClientTimeoutHandler(long idleTimeMills, Http2ClientChannel http2ClientChannel) {
         this.idleTimeNanos = Math.max(TimeUnit.MILLISECONDS.toNanos(idleTimeMills), MIN_TIMEOUT_NANOS);
         this.http2ClientChannel = http2ClientChannel;
-        timerTasks = new ConcurrentHashMap<>();
+        timerTasks = new IntObjectHashMap<>();
     }
 
     @Override
@@ -76,8 +78,7 @@ public class Http2ClientTimeoutHandler implements Http2DataEventListener {
     private void setTimerTask(ChannelHandlerContext ctx, int streamId, OutboundMsgHolder outboundMsgHolder) {
         if (outboundMsgHolder != null) {
             outboundMsgHolder.setLastReadWriteTime(ticksInNanos());
-            timerTasks.put(streamId,
-                           schedule(ctx, new IdleTimeoutTask(ctx, streamId, false), idleTimeNanos));
+            timerTasks.put(streamId, schedule(ctx, new IdleTimeoutTask(ctx, streamId, false), idleTimeNanos));
         }
     }
 
@@ -87,6 +88,18 @@ public class Http2ClientTimeoutHandler implements Http2DataEventListener {
                 TimeUnit.MILLISECONDS.toNanos(timeOut)));
     }
 
+    /**
+     * Cancels the timer task of a stream.
+     *
+     * @param streamId stream id
+     */
+    public void cancelTimerTask(int streamId) {
+        Timeout timerTask = timerTasks.remove(streamId);
+        if (timerTask != null) {
+            timerTask.cancel();
+        }
+    }
+
     @Override
     public boolean onHeadersRead(ChannelHandlerContext ctx, int streamId, Http2Headers headers, boolean endOfStream) {
         updateLastReadTime(streamId, endOfStream);
@@ -125,19 +138,21 @@ public class Http2ClientTimeoutHandler implements Http2DataEventListener {
 
     @Override
     public void onStreamClose(int streamId) {
-        ScheduledFuture timerTask = timerTasks.get(streamId);
-        if (timerTask != null) {
-            timerTask.cancel(false);
-            timerTasks.remove(streamId);
-        }
+        cancelTimerTask(streamId);
     }
 
     @Override
     public void destroy() {
-        timerTasks.forEach((streamId, task) -> task.cancel(false));
+        for (Timeout timerTask : timerTasks.values()) {
+            timerTask.cancel();
+        }
         timerTasks.clear();
     }
 
+    private static Timeout schedule(ChannelHandlerContext ctx, Runnable task, long delayNanos) {
+        return TimeoutWheel.schedule(ctx.executor(), task, delayNanos);
+    }
+
     private void updateLastReadTime(int streamId, boolean endOfStream) {
         OutboundMsgHolder outboundMsgHolder = http2ClientChannel.getInFlightMessage(streamId);
         if (outboundMsgHolder == null) {
@@ -264,8 +279,4 @@ public class Http2ClientTimeoutHandler implements Http2DataEventListener {
             return idleTimeNanos - (ticksInNanos() - msgHolder.getLastReadWriteTime());
         }
     }
-
-    public Map<Integer, ScheduledFuture<?>> getTimerTasks() {
-        return timerTasks;
-    }
 }
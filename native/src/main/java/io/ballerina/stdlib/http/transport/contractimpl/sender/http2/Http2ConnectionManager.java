@@ -21,6 +21,10 @@ package io.ballerina.stdlib.http.transport.contractimpl.sender.http2;
 import io.ballerina.stdlib.http.transport.contractimpl.common.HttpRoute;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.pool.PoolConfiguration;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * {@code Http2ConnectionManager} Manages HTTP/2 connections.
  */
@@ -31,6 +35,7 @@ public class Http2ConnectionManager {
 
     public Http2ConnectionManager(PoolConfiguration poolConfiguration) {
         this.poolConfiguration = poolConfiguration;
+        Http2ConnectionPoolMonitor.getInstance().register(this);
     }
 
     /**
@@ -41,96 +46,109 @@ public class Http2ConnectionManager {
      * @param http2ClientChannel newly created http/2 client channel
      */
     public void addHttp2ClientChannel(HttpRoute httpRoute, Http2ClientChannel http2ClientChannel) {
-        String key = generateKey(httpRoute);
-        final Http2ChannelPool.PerRouteConnectionPool perRouteConnectionPool =
-                getOrCreatePerRoutePool(this.http2ChannelPool, key);
+        final Http2ChannelPool.PerRouteConnectionPool perRouteConnectionPool = getOrCreatePerRoutePool(httpRoute);
         perRouteConnectionPool.addChannel(http2ClientChannel);
 
         // Configure a listener to remove connection from pool when it is closed
         http2ClientChannel.getChannel().closeFuture().
                 addListener(future -> {
-                                Http2ChannelPool.PerRouteConnectionPool pool =
-                                        this.http2ChannelPool.fetchPerRoutePool(key);
-                                if (pool != null) {
-                                    pool.removeChannel(http2ClientChannel);
-                                    http2ClientChannel.getDataEventListeners().
-                                            forEach(Http2DataEventListener::destroy);
-                                }
+                                perRouteConnectionPool.removeChannel(http2ClientChannel);
+                                http2ClientChannel.getDataEventListeners().
+                                        forEach(Http2DataEventListener::destroy);
                             }
                 );
     }
 
     /**
-     * Release the count down latch. If the connection upgrade is rejected, the H2Pool count down latch will not be
-     * release as the channel is not added. In such instances, forcefully reduces the count down to allow subsequent
-     * requests to proceed.
+     * Release the acquisitions waiting for a new connection. If the connection upgrade is rejected or the connection
+     * fails, the channel is not added to the pool. In such instances, the waiting acquisitions are completed so that
+     * subsequent requests can proceed.
      *
      * @param httpRoute  the route key
      */
-    public void releasePerRoutePoolLatch(HttpRoute httpRoute) {
-        String key = generateKey(httpRoute);
-        Http2ChannelPool.PerRouteConnectionPool perRouteConnectionPool = this.http2ChannelPool.fetchPerRoutePool(key);
+    public void releasePendingAcquisitions(HttpRoute httpRoute) {
+        Http2ChannelPool.PerRouteConnectionPool perRouteConnectionPool = this.http2ChannelPool.fetchPerRoutePool(
+                httpRoute);
         if (perRouteConnectionPool != null) {
-            perRouteConnectionPool.releaseCountdown();
+            perRouteConnectionPool.releaseWaiters();
         }
     }
 
     /**
      * Get or create the per route pool.
      *
-     * @param pool the HTTP2 channel pool
-     * @param key  the route key
+     * @param httpRoute the route key
      * @return PerRouteConnectionPool
      */
-    private Http2ChannelPool.PerRouteConnectionPool getOrCreatePerRoutePool(Http2ChannelPool pool, String key) {
-        final Http2ChannelPool.PerRouteConnectionPool perRouteConnectionPool = pool.fetchPerRoutePool(key);
+    private Http2ChannelPool.PerRouteConnectionPool getOrCreatePerRoutePool(HttpRoute httpRoute) {
+        final Http2ChannelPool.PerRouteConnectionPool perRouteConnectionPool =
+                this.http2ChannelPool.fetchPerRoutePool(httpRoute);
         if (perRouteConnectionPool != null) {
             return perRouteConnectionPool;
         }
-        return createPerRouteConnectionPool(pool, key);
+        return this.http2ChannelPool.getPerRouteConnectionPools()
+                .computeIfAbsent(httpRoute, p -> new Http2ChannelPool.PerRouteConnectionPool(
+                        this.poolConfiguration.getHttp2MaxActiveStreamsPerConnection(),
+                        this.poolConfiguration.getHttp2MinConnectionsPerRoute(),
+                        this.poolConfiguration.getMaxWaitTime()));
     }
 
     /**
-     * Create the per route pool synchronized manner to avoid multiple pool creating for the same route.
+     * Borrow an HTTP/2 client channel without waiting.
      *
-     * @param pool the HTTP2 channel pool
-     * @param key  the route key
-     * @return PerRouteConnectionPool
+     * @param httpRoute the http route
+     * @return Http2ClientChannel, or null if no channel of the route can open one more stream
      */
-    private synchronized Http2ChannelPool.PerRouteConnectionPool createPerRouteConnectionPool(
-            Http2ChannelPool pool, String key) {
-        return pool.getPerRouteConnectionPools()
-                .computeIfAbsent(key, p -> new Http2ChannelPool.PerRouteConnectionPool(
-                        this.poolConfiguration.getHttp2MaxActiveStreamsPerConnection()));
+    public Http2ClientChannel borrowChannel(HttpRoute httpRoute) {
+        return getOrCreatePerRoutePool(httpRoute).fetchTargetChannel();
     }
 
     /**
-     * Borrow an HTTP/2 client channel.
+     * Acquire an HTTP/2 client channel. If all the channels of the route have reached the maximum number of active
+     * streams while another caller is opening a new connection, the acquisition completes once a stream is
+     * available, without blocking the caller.
      *
      * @param httpRoute the http route
-     * @return Http2ClientChannel
+     * @return a future which completes with the Http2ClientChannel, or with null if the caller should open a new
+     * connection
      */
-    public Http2ClientChannel borrowChannel(HttpRoute httpRoute) {
-        Http2ChannelPool.PerRouteConnectionPool perRouteConnectionPool;
-        perRouteConnectionPool = getOrCreatePerRoutePool(this.http2ChannelPool, generateKey(httpRoute));
+    public CompletableFuture<Http2ClientChannel> acquireChannel(HttpRoute httpRoute) {
+        return getOrCreatePerRoutePool(httpRoute).acquireChannel();
+    }
 
-        Http2ClientChannel http2ClientChannel = null;
-        if (perRouteConnectionPool != null) {
-            http2ClientChannel = perRouteConnectionPool.fetchTargetChannel();
-        }
-        return http2ClientChannel;
+    /**
+     * Get the stream usage of the pool of a route.
+     *
+     * @param httpRoute the http route
+     * @return the stats of the route, or null if the route has no pool
+     */
+    public Http2RoutePoolStats getPerRoutePoolStats(HttpRoute httpRoute) {
+        Http2ChannelPool.PerRouteConnectionPool perRouteConnectionPool = fetchPerRoutePool(httpRoute);
+        return perRouteConnectionPool != null ? perRouteConnectionPool.getStats() : null;
     }
 
     /**
-     * Return the http/2 client channel to per route pool.
+     * Get the stream usage of the pools of all the routes. The stats are reported through
+     * {@link Http2ConnectionPoolMonitor}.
      *
-     * @param httpRoute          the http route
-     * @param http2ClientChannel represents the http/2 client channel
+     * @return the stats of each route which has a pool
+     */
+    public Map<HttpRoute, Http2RoutePoolStats> getPoolStats() {
+        Map<HttpRoute, Http2RoutePoolStats> poolStats = new HashMap<>();
+        this.http2ChannelPool.getPerRouteConnectionPools().forEach(
+                (httpRoute, perRouteConnectionPool) -> poolStats.put(httpRoute, perRouteConnectionPool.getStats()));
+        return poolStats;
+    }
+
+    /**
+     * Notify the per route pool that a stream of one of its channels is closed.
+     *
+     * @param httpRoute the http route
      */
-    void returnClientChannel(HttpRoute httpRoute, Http2ClientChannel http2ClientChannel) {
+    void onStreamClosed(HttpRoute httpRoute) {
         Http2ChannelPool.PerRouteConnectionPool perRouteConnectionPool = fetchPerRoutePool(httpRoute);
         if (perRouteConnectionPool != null) {
-            perRouteConnectionPool.addChannel(http2ClientChannel);
+            perRouteConnectionPool.onStreamClosed();
         }
     }
 
@@ -148,12 +166,6 @@ public class Http2ConnectionManager {
     }
 
     private Http2ChannelPool.PerRouteConnectionPool fetchPerRoutePool(HttpRoute httpRoute) {
-        String key = generateKey(httpRoute);
-        return this.http2ChannelPool.fetchPerRoutePool(key);
-    }
-
-    private String generateKey(HttpRoute httpRoute) {
-        return httpRoute.getScheme() + ":" + httpRoute.getHost() + ":" + httpRoute.getPort() + ":" +
-                httpRoute.getConfigHash();
+        return this.http2ChannelPool.fetchPerRoutePool(httpRoute);
     }
 }
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.sender.http2;
+
+import io.ballerina.stdlib.http.transport.contractimpl.common.HttpRoute;
+import io.ballerina.stdlib.http.transport.contractimpl.common.MBeanRegistrar;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Reports the stream usage of the HTTP/2 connection pools of all the clients through JMX. The connection managers
+ * are held weakly, so that a pool which is not used by any client anymore is dropped from the report.
+ */
+public class Http2ConnectionPoolMonitor implements Http2ConnectionPoolMonitorMBean {
+
+    private static final Http2ConnectionPoolMonitor INSTANCE = new Http2ConnectionPoolMonitor();
+
+    static {
+        MBeanRegistrar.getInstance().registerMBean(INSTANCE, "ConnectionPool", "Http2ConnectionPool");
+    }
+
+    private final Set<Http2ConnectionManager> connectionManagers =
+            Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+    public static Http2ConnectionPoolMonitor getInstance() {
+        return INSTANCE;
+    }
+
+    private Http2ConnectionPoolMonitor() {
+    }
+
+    void register(Http2ConnectionManager connectionManager) {
+        connectionManagers.add(connectionManager);
+    }
+
+    @Override
+    public int getConnections() {
+        int connections = 0;
+        for (Http2RoutePoolStats stats : collectStats()) {
+            connections += stats.getConnections();
+        }
+        return connections;
+    }
+
+    @Override
+    public long getActiveStreams() {
+        long activeStreams = 0;
+        for (Http2RoutePoolStats stats : collectStats()) {
+            activeStreams += stats.getActiveStreams();
+        }
+        return activeStreams;
+    }
+
+    @Override
+    public long getStreamCapacity() {
+        long streamCapacity = 0;
+        for (Http2RoutePoolStats stats : collectStats()) {
+            streamCapacity += stats.getStreamCapacity();
+        }
+        return streamCapacity;
+    }
+
+    @Override
+    public int getPendingAcquisitions() {
+        int pendingAcquisitions = 0;
+        for (Http2RoutePoolStats stats : collectStats()) {
+            pendingAcquisitions += stats.getPendingAcquisitions();
+        }
+        return pendingAcquisitions;
+    }
+
+    @Override
+    public long getSaturatedAcquisitions() {
+        long saturatedAcquisitions = 0;
+        for (Http2RoutePoolStats stats : collectStats()) {
+            saturatedAcquisitions += stats.getSaturatedAcquisitions();
+        }
+        return saturatedAcquisitions;
+    }
+
+    /**
+     * Gets the stats of every route pool, one entry per pool in the form of {@code route: stats}.
+     *
+     * @return the stats of the route pools
+     */
+    @Override
+    public String[] getRoutePoolStats() {
+        List<String> routePoolStats = new ArrayList<>();
+        for (Http2ConnectionManager connectionManager : snapshot()) {
+            for (Map.Entry<HttpRoute, Http2RoutePoolStats> entry : connectionManager.getPoolStats().entrySet()) {
+                routePoolStats.add(entry.getKey() + ": " + entry.getValue());
+            }
+        }
+        return routePoolStats.toArray(new String[0]);
+    }
+
+    private List<Http2RoutePoolStats> collectStats() {
+        List<Http2RoutePoolStats> stats = new ArrayList<>();
+        for (Http2ConnectionManager connectionManager : snapshot()) {
+            stats.addAll(connectionManager.getPoolStats().values());
+        }
+        return stats;
+    }
+
+    private List<Http2ConnectionManager> snapshot() {
+        synchronized (connectionManagers) {
+            return new ArrayList<>(connectionManagers);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.sender.http2;
+
+/**
+ * JMX view of the stream usage of the HTTP/2 connection pools of the clients.
+ */
+public interface Http2ConnectionPoolMonitorMBean {
+
+    int getConnections();
+
+    long getActiveStreams();
+
+    long getStreamCapacity();
+
+    int getPendingAcquisitions();
+
+    long getSaturatedAcquisitions();
+
+    String[] getRoutePoolStats();
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.sender.http2;
+
+/**
+ * A point in time view of the stream usage of the HTTP/2 connections of a route.
+ */
+public class Http2RoutePoolStats {
+
+    private final int connections;
+    private final long activeStreams;
+    private final long streamCapacity;
+    private final int pendingAcquisitions;
+    private final long saturatedAcquisitions;
+
+    Http2RoutePoolStats(int connections, long activeStreams, long streamCapacity, int pendingAcquisitions,
+                        long saturatedAcquisitions) {
+        this.connections = connections;
+        this.activeStreams = activeStreams;
+        this.streamCapacity = streamCapacity;
+        this.pendingAcquisitions = pendingAcquisitions;
+        this.saturatedAcquisitions = saturatedAcquisitions;
+    }
+
+    /**
+     * Gets the number of HTTP/2 connections in the pool of the route.
+     *
+     * @return the number of connections
+     */
+    public int getConnections() {
+        return connections;
+    }
+
+    /**
+     * Gets the number of active streams across all the connections of the route.
+     *
+     * @return the number of active streams
+     */
+    public long getActiveStreams() {
+        return activeStreams;
+    }
+
+    /**
+     * Gets the number of streams the connections of the route can have active at once.
+     *
+     * @return the stream capacity
+     */
+    public long getStreamCapacity() {
+        return streamCapacity;
+    }
+
+    /**
+     * Gets the number of acquisitions waiting for a stream.
+     *
+     * @return the number of pending acquisitions
+     */
+    public int getPendingAcquisitions() {
+        return pendingAcquisitions;
+    }
+
+    /**
+     * Gets the number of acquisitions which found every connection of the route at its maximum number of active
+     * streams since the pool was created.
+     *
+     * @return the number of saturated acquisitions
+     */
+    public long getSaturatedAcquisitions() {
+        return saturatedAcquisitions;
+    }
+
+    /**
+     * Gets the ratio of the active streams to the stream capacity of the route.
+     *
+     * @return the stream saturation between 0 and 1, or 1 if the route has no connections
+     */
+    public double getSaturation() {
+        return streamCapacity == 0 ? 1 : Math.min(1, (double) activeStreams / streamCapacity);
+    }
+
+    @Override
+    public String toString() {
+        return "connections=" + connections + ", activeStreams=" + activeStreams + ", streamCapacity=" +
+                streamCapacity + ", pendingAcquisitions=" + pendingAcquisitions + ", saturatedAcquisitions=" +
+                saturatedAcquisitions;
+    }
+}
@@ -73,6 +73,19 @@ public class BlockingEntityCollector implements EntityCollector {
         }
     }
 
+    public boolean handOverHttpContent(HttpContent httpContent) {
+        try {
+            readWriteLock.lock();
+            if (!httpContentQueue.isEmpty()) {
+                return false;
+            }
+            state = httpContent instanceof LastHttpContent ? EntityBodyState.CONSUMED : EntityBodyState.CONSUMABLE;
+            return true;
+        } finally {
+            readWriteLock.unlock();
+        }
+    }
+
     public void addMessageBody(ByteBuffer msgBody) {
         addHttpContent(new DefaultHttpContent(Unpooled.copiedBuffer(msgBody)));
     }
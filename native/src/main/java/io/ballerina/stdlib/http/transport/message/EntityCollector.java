@@ -40,6 +40,15 @@ public interface EntityCollector {
      */
     HttpContent getHttpContent();
 
+    /**
+     * Hands over the httpContent to a consumer which takes it right away, without queueing it. This is only done
+     * when nothing is queued ahead of the content, and leaves the collector in the same state as adding the content
+     * and getting it back.
+     * @param httpContent httpContent
+     * @return true if the content can be handed over, false if it has to be queued instead
+     */
+    boolean handOverHttpContent(HttpContent httpContent);
+
     /**
      * Get the first ByteBuffer version of the HttpContent from the queue.
      * @return ByteBuffer
@@ -44,7 +44,6 @@ import io.netty.handler.codec.http.LastHttpContent;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -53,9 +52,12 @@ import java.util.Map;
  */
 public class HttpCarbonMessage {
 
+    private static final boolean LOCK_FREE_ENTITY_COLLECTOR_ENABLED =
+            Boolean.getBoolean(Constants.LOCK_FREE_ENTITY_COLLECTOR_ENABLED);
+
     protected HttpMessage httpMessage;
     private EntityCollector blockingEntityCollector;
-    private Map<String, Object> properties = new HashMap<>(Constants.HTTP_CARBON_MESSAGE_PROPERTIES_MAP_DEFAULT_SIZE);
+    private final MessageProperties properties = new MessageProperties();
 
     private MessageFuture messageFuture;
     private final ServerConnectorFuture httpOutboundRespFuture = new HttpWsServerConnectorFuture();
@@ -83,19 +85,19 @@ public class HttpCarbonMessage {
 
     public HttpCarbonMessage(HttpMessage httpMessage, Listener contentListener) {
         this.httpMessage = httpMessage;
-        setBlockingEntityCollector(new BlockingEntityCollector(Constants.ENDPOINT_TIMEOUT));
+        setBlockingEntityCollector(createEntityCollector(Constants.ENDPOINT_TIMEOUT));
         this.contentObservable.setListener(contentListener);
     }
 
     public HttpCarbonMessage(HttpMessage httpMessage, int maxWaitTime, Listener contentListener) {
         this.httpMessage = httpMessage;
-        setBlockingEntityCollector(new BlockingEntityCollector(maxWaitTime));
+        setBlockingEntityCollector(createEntityCollector(maxWaitTime));
         this.contentObservable.setListener(contentListener);
     }
 
     public HttpCarbonMessage(HttpMessage httpMessage) {
         this.httpMessage = httpMessage;
-        setBlockingEntityCollector(new BlockingEntityCollector(Constants.ENDPOINT_TIMEOUT));
+        setBlockingEntityCollector(createEntityCollector(Constants.ENDPOINT_TIMEOUT));
     }
 
     /**
@@ -112,13 +114,21 @@ public class HttpCarbonMessage {
                 removeMessageFuture();
                 throw new RuntimeException(this.getIoException());
             }
-            blockingEntityCollector.addHttpContent(httpContent);
-            if (messageFuture.isMessageListenerSet()) {
-                messageFuture.notifyMessageListener(blockingEntityCollector.getHttpContent());
-                //This should only be called once the message listener is set and the HttpContent is retrieved from the
-                //blocking entity collector. Calling this before that will raise a race condition in passthrough
-                //scenario.
+            if (passthrough && messageFuture.isMessageListenerSet()
+                    && blockingEntityCollector.handOverHttpContent(httpContent)) {
+                // The body is not built in passthrough, so the content goes straight to the outbound writer and its
+                // reference count is handed over along with it
+                messageFuture.notifyMessageListener(httpContent);
                 contentObservable.notifyGetListener(httpContent);
+            } else {
+                blockingEntityCollector.addHttpContent(httpContent);
+                if (messageFuture.isMessageListenerSet()) {
+                    messageFuture.notifyMessageListener(blockingEntityCollector.getHttpContent());
+                    //This should only be called once the message listener is set and the HttpContent is retrieved
+                    //from the blocking entity collector. Calling this before that will raise a race condition in
+                    //passthrough scenario.
+                    contentObservable.notifyGetListener(httpContent);
+                }
             }
             // We remove the feature as the message has reached it life time. If there is a need
             // for using the same message again, we need to set the future again and restart
@@ -305,11 +315,17 @@ public class HttpCarbonMessage {
     }
 
     public Object getProperty(String key) {
-        if (properties != null) {
-            return properties.get(key);
-        } else {
-            return null;
-        }
+        return properties.get(key);
+    }
+
+    /**
+     * Gets a property by its slot, which skips the lookup of the slot by the key.
+     *
+     * @param slot one of the public slots of {@link MessageProperties}
+     * @return the value of the property, or null if it is not set
+     */
+    public Object getProperty(int slot) {
+        return properties.get(slot);
     }
 
     public synchronized void removeMessageFuture() {
@@ -318,12 +334,22 @@ public class HttpCarbonMessage {
         passthrough = false;
     }
 
-    public Map<String, Object> getProperties() {
+    public MessageProperties getProperties() {
         return properties;
     }
 
     public void setProperty(String key, Object value) {
-        properties.put(key, value);
+        properties.set(key, value);
+    }
+
+    /**
+     * Sets a property by its slot, which skips the lookup of the slot by the key.
+     *
+     * @param slot  one of the public slots of {@link MessageProperties}
+     * @param value the value of the property, or null to remove it
+     */
+    public void setProperty(int slot, Object value) {
+        properties.set(slot, value);
     }
 
     public void removeProperty(String key) {
@@ -369,10 +395,26 @@ public class HttpCarbonMessage {
         return "Unknown Status";
     }
 
-    private void setBlockingEntityCollector(BlockingEntityCollector blockingEntityCollector) {
+    private void setBlockingEntityCollector(EntityCollector blockingEntityCollector) {
         this.blockingEntityCollector = blockingEntityCollector;
     }
 
+    /**
+     * Replaces the entity collector of the message. This must be done before any content is added to the message.
+     *
+     * @param entityCollector the entity collector which holds the message content
+     */
+    void setEntityCollector(EntityCollector entityCollector) {
+        setBlockingEntityCollector(entityCollector);
+    }
+
+    private static EntityCollector createEntityCollector(int soTimeOut) {
+        if (LOCK_FREE_ENTITY_COLLECTOR_ENABLED) {
+            return new LockFreeEntityCollector(soTimeOut);
+        }
+        return new BlockingEntityCollector(soTimeOut);
+    }
+
     /**
      * Returns the future responsible for sending back the response.
      *
@@ -431,8 +473,7 @@ public class HttpCarbonMessage {
     public HttpCarbonMessage cloneCarbonMessageWithOutData() {
         HttpCarbonMessage newCarbonMessage = getNewHttpCarbonMessage();
 
-        Map<String, Object> propertiesMap = this.getProperties();
-        propertiesMap.forEach(newCarbonMessage::setProperty);
+        this.properties.copyTo(newCarbonMessage.properties);
         newCarbonMessage.setHttpStatusCode(this.getHttpStatusCode());
         newCarbonMessage.setHttpMethod(this.getHttpMethod());
         newCarbonMessage.setRequestUrl(this.getRequestUrl());
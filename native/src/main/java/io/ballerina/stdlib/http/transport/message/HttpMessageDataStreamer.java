@@ -35,7 +35,7 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.nio.ByteBuffer;
+import java.util.Objects;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.InflaterInputStream;
 
@@ -71,35 +71,99 @@ public class HttpMessageDataStreamer {
         private int count;
         private boolean chunkFinished = true;
         private int limit;
-        private ByteBuffer byteBuffer;
+        private ByteBuf byteBuf;
         private HttpContent httpContent;
         private int referenceCount = 0;
 
         @Override
         public int read() {
-            if ((httpContent instanceof LastHttpContent) && chunkFinished) {
+            if (!hasRemainingContent()) {
+                return -1;
+            }
+            int value = byteBuf.getByte(byteBuf.readerIndex() + count) & 0xff;
+            consume(1);
+            return value;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            Objects.checkFromIndexSize(offset, length, bytes.length);
+            if (length == 0) {
+                return 0;
+            }
+            if (!hasRemainingContent()) {
                 return -1;
+            }
+            int readableBytes = Math.min(length, limit - count);
+            byteBuf.getBytes(byteBuf.readerIndex() + count, bytes, offset, readableBytes);
+            consume(readableBytes);
+            return readableBytes;
+        }
+
+        @Override
+        public long skip(long length) {
+            if (length <= 0 || !hasRemainingContent()) {
+                return 0;
+            }
+            int skippedBytes = (int) Math.min(length, limit - count);
+            consume(skippedBytes);
+            return skippedBytes;
+        }
+
+        @Override
+        public int available() {
+            return chunkFinished ? 0 : limit - count;
+        }
+
+        @Override
+        public long transferTo(OutputStream outputStream) throws IOException {
+            Objects.requireNonNull(outputStream, "outputStream");
+            long transferred = 0;
+            while (hasRemainingContent()) {
+                int readableBytes = limit - count;
+                if (outputStream instanceof ByteBufferOutputStream) {
+                    ((ByteBufferOutputStream) outputStream).writeByteBuf(
+                            byteBuf.retainedSlice(byteBuf.readerIndex() + count, readableBytes));
+                } else {
+                    byteBuf.getBytes(byteBuf.readerIndex() + count, outputStream, readableBytes);
+                }
+                consume(readableBytes);
+                transferred += readableBytes;
+            }
+            return transferred;
+        }
+
+        /**
+         * Makes sure that the current chunk has unread bytes by taking the next content from the message when the
+         * current one is consumed.
+         *
+         * @return false if the end of the stream is reached
+         */
+        private boolean hasRemainingContent() {
+            if ((httpContent instanceof LastHttpContent) && chunkFinished) {
+                return false;
             } else if (chunkFinished) {
                 httpContent = httpCarbonMessage.getHttpContent();
                 referenceCount++;
                 validateHttpContent();
-                byteBuffer = httpContent.content().nioBuffer();
+                byteBuf = httpContent.content();
                 count = 0;
-                limit = byteBuffer.limit();
+                limit = byteBuf.readableBytes();
                 if (limit == 0) {
-                    return -1;
+                    return false;
                 }
                 chunkFinished = false;
             }
-            count++;
+            return true;
+        }
+
+        private void consume(int length) {
+            count += length;
             if (count == limit) {
-                int value = byteBuffer.get() & 0xff;
                 chunkFinished = true;
-                byteBuffer = null;
+                byteBuf = null;
                 releaseHttpContent();
-                return value;
             }
-            return byteBuffer.get() & 0xff;
         }
 
         private void validateHttpContent() {
@@ -112,7 +176,7 @@ public class HttpMessageDataStreamer {
 
         @Override
         public void close() throws IOException {
-            byteBuffer = null;
+            byteBuf = null;
             releaseHttpContent();    //fix memory leak issue in error path
             super.close();
         }
@@ -140,16 +204,56 @@ public class HttpMessageDataStreamer {
             if (dataHolder == null) {
                 dataHolder = getBuffer();
             }
-            if (dataHolder.writableBytes() != 0) {
-                dataHolder.writeByte((byte) b);
-            } else {
-                try {
+            if (dataHolder.writableBytes() == 0) {
+                addDataHolder();
+            }
+            dataHolder.writeByte((byte) b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            Objects.checkFromIndexSize(offset, length, bytes.length);
+            if (length == 0) {
+                return;
+            }
+            if (dataHolder == null) {
+                dataHolder = getBuffer();
+            }
+            int remaining = length;
+            while (remaining > 0) {
+                if (dataHolder.writableBytes() == 0) {
+                    addDataHolder();
+                }
+                int writableBytes = Math.min(remaining, dataHolder.writableBytes());
+                dataHolder.writeBytes(bytes, offset + length - remaining, writableBytes);
+                remaining -= writableBytes;
+            }
+        }
+
+        /**
+         * Adds the given buffer to the content queue as it is, after the bytes which are already written. The
+         * ownership of the buffer is transferred to the message.
+         *
+         * @param byteBuf buffer to be written
+         */
+        void writeByteBuf(ByteBuf byteBuf) {
+            try {
+                if (dataHolder != null && dataHolder.isReadable()) {
                     httpCarbonMessage.addHttpContent(new DefaultHttpContent(dataHolder));
-                    dataHolder = getBuffer();
-                    dataHolder.writeByte((byte) b);
-                } catch (RuntimeException ex) {
-                    throw new EncoderException(httpCarbonMessage.getIoException());
+                    dataHolder = null;
                 }
+                httpCarbonMessage.addHttpContent(new DefaultHttpContent(byteBuf));
+            } catch (RuntimeException ex) {
+                throw new EncoderException(httpCarbonMessage.getIoException());
+            }
+        }
+
+        private void addDataHolder() {
+            try {
+                httpCarbonMessage.addHttpContent(new DefaultHttpContent(dataHolder));
+                dataHolder = getBuffer();
+            } catch (RuntimeException ex) {
+                throw new EncoderException(httpCarbonMessage.getIoException());
             }
         }
 
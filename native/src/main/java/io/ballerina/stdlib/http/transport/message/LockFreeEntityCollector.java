@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.message;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.LastHttpContent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Entity collector backed by a linked queue in which adding content never takes a lock. The producer (usually the
+ * Netty event loop) links the content and wakes up the consumer only if it is parked on an empty queue. The number
+ * of queued bytes and last contents are kept as running counters, so the length queries wait for the required
+ * content to arrive instead of draining and re-adding the queue. Consumer side operations are serialized among
+ * themselves, which is uncontended in the common case of a single reading strand.
+ */
+public class LockFreeEntityCollector implements EntityCollector {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LockFreeEntityCollector.class);
+
+    private final long soTimeOutNanos;
+    private volatile EntityBodyState state;
+
+    private final AtomicReference<Node> tail;
+    private Node head;
+    private final AtomicLong queuedBytes = new AtomicLong();
+    private final AtomicInteger queuedLastContents = new AtomicInteger();
+    private final Object consumerLock = new Object();
+    private volatile Thread waiter;
+
+    LockFreeEntityCollector(int soTimeOut) {
+        this.soTimeOutNanos = TimeUnit.MILLISECONDS.toNanos(soTimeOut);
+        this.state = EntityBodyState.EXPECTING;
+        this.head = new Node(null);
+        this.tail = new AtomicReference<>(head);
+    }
+
+    public void addHttpContent(HttpContent httpContent) {
+        if (httpContent == null) {
+            LOG.error("Cannot put content to queue", new NullPointerException("httpContent"));
+            return;
+        }
+        state = EntityBodyState.CONSUMABLE;
+        Node node = new Node(httpContent);
+        queuedBytes.addAndGet(node.bytes);
+        tail.getAndSet(node).next = node;
+        if (node.lastContent) {
+            queuedLastContents.incrementAndGet();
+        }
+        Thread parkedConsumer = waiter;
+        if (parkedConsumer != null) {
+            LockSupport.unpark(parkedConsumer);
+        }
+    }
+
+    public boolean handOverHttpContent(HttpContent httpContent) {
+        synchronized (consumerLock) {
+            if (head.next != null) {
+                return false;
+            }
+            state = httpContent instanceof LastHttpContent ? EntityBodyState.CONSUMED : EntityBodyState.CONSUMABLE;
+            return true;
+        }
+    }
+
+    public void addMessageBody(ByteBuffer msgBody) {
+        addHttpContent(new DefaultHttpContent(Unpooled.copiedBuffer(msgBody)));
+    }
+
+    public HttpContent getHttpContent() {
+        synchronized (consumerLock) {
+            if (state == EntityBodyState.CONSUMABLE || state == EntityBodyState.EXPECTING) {
+                HttpContent httpContent = take(System.nanoTime() + soTimeOutNanos);
+                if (httpContent instanceof LastHttpContent) {
+                    state = EntityBodyState.CONSUMED;
+                    clear();
+                }
+                return httpContent;
+            }
+            return null;
+        }
+    }
+
+    public ByteBuf getMessageBody() {
+        HttpContent httpContent = getHttpContent();
+        if (httpContent != null) {
+            return httpContent.content();
+        }
+        return null;
+    }
+
+    public long getFullMessageLength() {
+        synchronized (consumerLock) {
+            long size = 0;
+            if (state == EntityBodyState.CONSUMABLE || state == EntityBodyState.EXPECTING) {
+                if (!await(System.nanoTime() + soTimeOutNanos, Long.MAX_VALUE)) {
+                    LOG.error("Error while retrieving http content length: last content did not arrive before the " +
+                                      "timeout");
+                }
+                size = queuedBytes.get();
+            }
+            state = EntityBodyState.CONSUMABLE;
+            return size;
+        }
+    }
+
+    public long countMessageLengthTill(long maxSize) throws IllegalStateException {
+        synchronized (consumerLock) {
+            long size = 0;
+            if (state == EntityBodyState.CONSUMABLE || state == EntityBodyState.EXPECTING) {
+                if (!await(System.nanoTime() + soTimeOutNanos, maxSize)) {
+                    IllegalStateException exception = new IllegalStateException("poll timeout expired");
+                    LOG.warn("Error while retrieving http content", exception);
+                    throw exception;
+                }
+                size = queuedBytes.get();
+            }
+            state = EntityBodyState.CONSUMABLE;
+            return size;
+        }
+    }
+
+    public void waitAndReleaseAllEntities() {
+        synchronized (consumerLock) {
+            if (state == EntityBodyState.CONSUMABLE) {
+                long deadline = System.nanoTime() + soTimeOutNanos;
+                boolean isEndOfMessageProcessed = false;
+                while (!isEndOfMessageProcessed) {
+                    HttpContent httpContent = take(deadline);
+                    if (httpContent == null) {
+                        LOG.error("Error while waiting and releasing the content: content did not arrive before " +
+                                          "the timeout");
+                        break;
+                    }
+                    if (httpContent instanceof LastHttpContent) {
+                        isEndOfMessageProcessed = true;
+                        state = EntityBodyState.CONSUMED;
+                        clear();
+                    }
+                    httpContent.release();
+                }
+            }
+            state = EntityBodyState.EXPECTING;
+        }
+    }
+
+    public boolean isEmpty() {
+        synchronized (consumerLock) {
+            return head.next == null;
+        }
+    }
+
+    public void completeMessage() {
+        if (state == EntityBodyState.EXPECTING) {
+            this.addHttpContent(new DefaultLastHttpContent());
+        }
+    }
+
+    private HttpContent take(long deadline) {
+        Node next;
+        while ((next = head.next) == null) {
+            if (!park(deadline)) {
+                return null;
+            }
+        }
+        return poll(next);
+    }
+
+    private HttpContent poll(Node next) {
+        HttpContent httpContent = next.content;
+        next.content = null;
+        head = next;
+        queuedBytes.addAndGet(-next.bytes);
+        if (next.lastContent) {
+            queuedLastContents.decrementAndGet();
+        }
+        return httpContent;
+    }
+
+    /**
+     * Drops the contents queued after the last content, same as clearing the queue of the blocking collector.
+     */
+    private void clear() {
+        Node next;
+        while ((next = head.next) != null) {
+            poll(next);
+        }
+    }
+
+    /**
+     * Waits till the queued content reaches the given size or the last content is queued.
+     */
+    private boolean await(long deadline, long minSize) {
+        while (queuedLastContents.get() == 0 && queuedBytes.get() < minSize) {
+            if (!park(deadline)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Parks the consumer till a producer adds content. The consumer is registered before the park and the producer
+     * checks for it after linking the content, so a wake up cannot be missed.
+     */
+    private boolean park(long deadline) {
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+            return false;
+        }
+        int lastContents = queuedLastContents.get();
+        long bytes = queuedBytes.get();
+        Node next = head.next;
+        waiter = Thread.currentThread();
+        if (head.next == next && queuedBytes.get() == bytes && queuedLastContents.get() == lastContents) {
+            LockSupport.parkNanos(this, remaining);
+        }
+        waiter = null;
+        if (Thread.interrupted()) {
+            LOG.error("Error while retrieving http content from queue", new InterruptedException());
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Queue node which holds a single content.
+     */
+    private static final class Node {
+
+        private HttpContent content;
+        private final int bytes;
+        private final boolean lastContent;
+        private volatile Node next;
+
+        Node(HttpContent content) {
+            this.content = content;
+            this.bytes = content != null ? content.content().readableBytes() : 0;
+            this.lastContent = content instanceof LastHttpContent;
+        }
+    }
+}
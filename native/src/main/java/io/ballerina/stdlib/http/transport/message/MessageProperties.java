@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.message;
+
+import io.ballerina.stdlib.http.api.HttpConstants;
+import io.ballerina.stdlib.http.transport.contract.Constants;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * The properties of a {@link HttpCarbonMessage}. The properties which the transport and the service dispatching set
+ * on each request are well known, and each of them is given a fixed slot of an array, the same for all messages, so
+ * setting them allocates no map entries. The slots of the properties which are accessed several times for each
+ * request are public, so that those accesses skip the lookup of the slot by the key. Other properties are kept in a
+ * map, which is only created when the first of them is set. As before, a property set to null is the same as a
+ * property which is not set.
+ */
+public class MessageProperties {
+
+    public static final int TO_SLOT = 0;
+    public static final int RAW_URI_SLOT = 1;
+    public static final int MATRIX_PARAMS_SLOT = 2;
+    public static final int RESOURCE_ARGS_SLOT = 3;
+    public static final int REQUEST_INTERCEPTOR_INDEX_SLOT = 4;
+
+    private static final String[] WELL_KNOWN_KEYS = {
+            // The properties with public slots, in the order of their slots
+            Constants.TO,
+            HttpConstants.RAW_URI,
+            HttpConstants.MATRIX_PARAMS,
+            HttpConstants.RESOURCE_ARGS,
+            HttpConstants.REQUEST_INTERCEPTOR_INDEX,
+            // Set by the transport on inbound requests and responses
+            Constants.PROTOCOL,
+            Constants.LOCAL_ADDRESS,
+            Constants.REMOTE_ADDRESS,
+            Constants.LISTENER_PORT,
+            Constants.LISTENER_INTERFACE_ID,
+            Constants.IS_SECURED_CONNECTION,
+            Constants.MUTUAL_SSL_HANDSHAKE_RESULT,
+            Constants.BASE_64_ENCODED_CERT,
+            Constants.POOLED_BYTE_BUFFER_FACTORY,
+            Constants.CHNL_HNDLR_CTX,
+            Constants.SRC_HANDLER,
+            Constants.DIRECTION,
+            Constants.EXECUTOR_WORKER_POOL,
+            Constants.HTTP_REASON_PHRASE,
+            Constants.HTTP_HOST,
+            Constants.HTTP_PORT,
+            // Set while the request is dispatched to the interceptors and the resource
+            HttpConstants.BASE_PATH,
+            HttpConstants.SUB_PATH,
+            HttpConstants.QUERY_STR,
+            HttpConstants.RAW_QUERY_STR,
+            HttpConstants.QUERY_PARAM_VIEW,
+            HttpConstants.RESOURCES_CORS,
+            HttpConstants.TARGET_SERVICE,
+            HttpConstants.INTERCEPTORS,
+            HttpConstants.INTERCEPTOR_CHAIN,
+            HttpConstants.INTERCEPTOR_REQUEST_PATH,
+            HttpConstants.INTERCEPTOR_SERVICE,
+            HttpConstants.INTERCEPTOR_SERVICE_ERROR,
+            HttpConstants.RESPONSE_INTERCEPTOR_INDEX,
+            HttpConstants.WAIT_FOR_FULL_REQUEST,
+            HttpConstants.ORIGIN_HOST,
+            HttpConstants.OBSERVABILITY_CONTEXT_PROPERTY,
+            Constants.HTTP_RESOURCE
+    };
+    private static final Map<String, Integer> SLOTS = new HashMap<>(WELL_KNOWN_KEYS.length * 2);
+
+    static {
+        for (int i = 0; i < WELL_KNOWN_KEYS.length; i++) {
+            if (SLOTS.put(WELL_KNOWN_KEYS[i], i) != null) {
+                throw new IllegalStateException("Duplicate message property: " + WELL_KNOWN_KEYS[i]);
+            }
+        }
+    }
+
+    private Object[] values;
+    private Map<String, Object> others;
+
+    /**
+     * Gets the slot of a property.
+     *
+     * @param key the key of the property
+     * @return the slot, or -1 if the property is not a well known one
+     */
+    static int slotOf(String key) {
+        Integer slot = SLOTS.get(key);
+        return slot != null ? slot : -1;
+    }
+
+    public Object get(String key) {
+        int slot = slotOf(key);
+        if (slot >= 0) {
+            return get(slot);
+        }
+        return others != null ? others.get(key) : null;
+    }
+
+    /**
+     * Gets a property by its slot.
+     *
+     * @param slot one of the public slots, such as {@link #TO_SLOT}
+     * @return the value of the property, or null if it is not set
+     */
+    public Object get(int slot) {
+        return values != null ? values[slot] : null;
+    }
+
+    public void set(String key, Object value) {
+        int slot = slotOf(key);
+        if (slot >= 0) {
+            set(slot, value);
+        } else {
+            if (others == null) {
+                others = new HashMap<>();
+            }
+            others.put(key, value);
+        }
+    }
+
+    /**
+     * Sets a property by its slot.
+     *
+     * @param slot  one of the public slots, such as {@link #TO_SLOT}
+     * @param value the value of the property, or null to remove it
+     */
+    public void set(int slot, Object value) {
+        if (values == null) {
+            if (value == null) {
+                return;
+            }
+            values = new Object[WELL_KNOWN_KEYS.length];
+        }
+        values[slot] = value;
+    }
+
+    public void remove(String key) {
+        int slot = slotOf(key);
+        if (slot >= 0) {
+            if (values != null) {
+                values[slot] = null;
+            }
+        } else if (others != null) {
+            others.remove(key);
+        }
+    }
+
+    /**
+     * Performs the given action for each property which is set.
+     *
+     * @param action the action to be performed for each property
+     */
+    public void forEach(BiConsumer<String, Object> action) {
+        if (values != null) {
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] != null) {
+                    action.accept(WELL_KNOWN_KEYS[i], values[i]);
+                }
+            }
+        }
+        if (others != null) {
+            others.forEach(action);
+        }
+    }
+
+    /**
+     * Copies the properties to the properties of another message, replacing the ones with the same keys.
+     *
+     * @param target the properties of the other message
+     */
+    void copyTo(MessageProperties target) {
+        if (values != null) {
+            if (target.values == null) {
+                target.values = values.clone();
+            } else {
+                for (int i = 0; i < values.length; i++) {
+                    if (values[i] != null) {
+                        target.values[i] = values[i];
+                    }
+                }
+            }
+        }
+        if (others != null) {
+            if (target.others == null) {
+                target.others = new HashMap<>(others);
+            } else {
+                target.others.putAll(others);
+            }
+        }
+    }
+}
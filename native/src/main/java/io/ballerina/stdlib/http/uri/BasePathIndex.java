@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.uri;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable index of the service base paths attached to a host, rebuilt whenever a service is attached or detached.
+ * A base path matches a request path if both are equal ignoring case, or if the request path starts with the base
+ * path followed by a '/'. The second form can only match at the segment boundaries of the request path, so the
+ * request path is scanned once, carrying the hash of the prefix up to each boundary, and every boundary is a
+ * single probe into a hash table of base paths. No lower-cased copies of the path or the base paths are created.
+ */
+public final class BasePathIndex {
+
+    public static final BasePathIndex EMPTY = new BasePathIndex(Collections.emptyList());
+
+    private static final char PATH_DELIMITER = '/';
+
+    private final String[] basePaths;
+    private final String[] basePathsIgnoreCase;
+    private final int mask;
+    private final int maxLength;
+
+    /**
+     * Creates the index.
+     *
+     * @param sortedBasePaths base paths sorted by the dispatching priority. When two base paths are equal ignoring
+     *                        case, the first one is returned for a request path which equals both
+     */
+    public BasePathIndex(List<String> sortedBasePaths) {
+        int capacity = Integer.highestOneBit(Math.max(sortedBasePaths.size(), 1) * 2 - 1) << 1;
+        this.basePaths = new String[capacity];
+        this.basePathsIgnoreCase = new String[capacity];
+        this.mask = capacity - 1;
+        int max = 0;
+        for (String basePath : sortedBasePaths) {
+            insert(basePaths, basePath, basePath.hashCode(), false);
+            insert(basePathsIgnoreCase, basePath, hashIgnoreCase(basePath, basePath.length()), true);
+            max = Math.max(max, basePath.length());
+        }
+        this.maxLength = max;
+    }
+
+    /**
+     * Finds the most specific base path for the given request path.
+     *
+     * @param requestPath raw request path without the query
+     * @return the matching base path or null if none of the base paths match
+     */
+    public String findTheMostSpecificBasePath(String requestPath) {
+        int length = requestPath.length();
+        if (length == 0 || maxLength == 0) {
+            return null;
+        }
+        if (length <= maxLength) {
+            String basePath = lookup(basePathsIgnoreCase, requestPath, length,
+                                     hashIgnoreCase(requestPath, length), true);
+            if (basePath != null) {
+                return basePath;
+            }
+        }
+        String mostSpecific = null;
+        int limit = Math.min(length, maxLength + 1);
+        int hash = 0;
+        for (int i = 0; i < limit; i++) {
+            char ch = requestPath.charAt(i);
+            if (ch == PATH_DELIMITER && i > 0) {
+                String basePath = lookup(basePaths, requestPath, i, hash, false);
+                if (basePath != null) {
+                    mostSpecific = basePath;
+                }
+            }
+            hash = 31 * hash + ch;
+        }
+        return mostSpecific;
+    }
+
+    private void insert(String[] table, String basePath, int hash, boolean ignoreCase) {
+        int slot = spread(hash) & mask;
+        String existing;
+        while ((existing = table[slot]) != null) {
+            if (existing.length() == basePath.length() &&
+                    existing.regionMatches(ignoreCase, 0, basePath, 0, basePath.length())) {
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = basePath;
+    }
+
+    private String lookup(String[] table, String requestPath, int prefixLength, int hash, boolean ignoreCase) {
+        int slot = spread(hash) & mask;
+        String basePath;
+        while ((basePath = table[slot]) != null) {
+            if (basePath.length() == prefixLength &&
+                    requestPath.regionMatches(ignoreCase, 0, basePath, 0, prefixLength)) {
+                return basePath;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    private static int hashIgnoreCase(String value, int length) {
+        int hash = 0;
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + Character.toLowerCase(Character.toUpperCase(value.charAt(i)));
+        }
+        return hash;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.uri;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.http.api.HttpConstants;
+import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Lazily parsed view of the query parameters of a request. The offsets of the parameters are indexed by a single
+ * scan of the raw query on the first lookup, and the values of a parameter are decoded only when that parameter is
+ * requested. The decoded values are kept, so a view cached on the inbound message serves both the resource
+ * signature binding and the request object.
+ * <p>
+ * The parameters are interpreted as follows. The values of a parameter are separated by commas and the duplicate
+ * values within a single occurrence of the parameter are dropped, while the values of repeated occurrences are
+ * appended. A parameter which only appears without an '=' is present but has no values.
+ */
+public final class QueryParamView {
+
+    private static final char PARAM_SEPARATOR = '&';
+    private static final char VALUE_SEPARATOR = '=';
+    private static final char VALUES_DELIMITER = ',';
+    private static final int LINEAR_DEDUPE_LIMIT = 8;
+
+    private final String rawQuery;
+    private Map<String, Param> params;
+
+    public QueryParamView(String rawQuery) {
+        this.rawQuery = rawQuery;
+    }
+
+    /**
+     * Returns the view cached on the given message, creating it from the raw query of the message if it has not
+     * been created yet.
+     *
+     * @param inboundMessage the inbound request message
+     * @return the query parameter view of the message
+     */
+    public static QueryParamView fromMessage(HttpCarbonMessage inboundMessage) {
+        Object view = inboundMessage.getProperty(HttpConstants.QUERY_PARAM_VIEW);
+        if (view instanceof QueryParamView) {
+            return (QueryParamView) view;
+        }
+        QueryParamView queryParamView = new QueryParamView(
+                (String) inboundMessage.getProperty(HttpConstants.RAW_QUERY_STR));
+        inboundMessage.setProperty(HttpConstants.QUERY_PARAM_VIEW, queryParamView);
+        return queryParamView;
+    }
+
+    public boolean containsKey(String name) {
+        return getParams().containsKey(name);
+    }
+
+    /**
+     * Gets the decoded values of a parameter.
+     *
+     * @param name the parameter name
+     * @return the values, or null if the parameter is not present or has no values
+     */
+    public BArray get(String name) {
+        Param param = getParams().get(name);
+        return param != null ? param.getValues(rawQuery) : null;
+    }
+
+    /**
+     * Decodes all the parameters into the given map, in the order of their first occurrence.
+     *
+     * @param queryParamsMap the map to be populated
+     */
+    public void populate(BMap<BString, Object> queryParamsMap) {
+        for (Map.Entry<String, Param> entry : getParams().entrySet()) {
+            queryParamsMap.put(StringUtils.fromString(entry.getKey()), entry.getValue().getValues(rawQuery));
+        }
+    }
+
+    private Map<String, Param> getParams() {
+        Map<String, Param> indexedParams = params;
+        if (indexedParams == null) {
+            indexedParams = index(rawQuery);
+            params = indexedParams;
+        }
+        return indexedParams;
+    }
+
+    private static Map<String, Param> index(String rawQuery) {
+        if (rawQuery == null) {
+            return Map.of();
+        }
+        Map<String, Param> indexedParams = new LinkedHashMap<>();
+        // Trailing empty parameters are ignored, except for an empty query which has a single empty parameter
+        int end = rawQuery.length();
+        while (end > 0 && rawQuery.charAt(end - 1) == PARAM_SEPARATOR) {
+            end--;
+        }
+        if (end == 0 && !rawQuery.isEmpty()) {
+            return indexedParams;
+        }
+        int start = 0;
+        while (start <= end) {
+            int paramEnd = rawQuery.indexOf(PARAM_SEPARATOR, start);
+            if (paramEnd < 0 || paramEnd > end) {
+                paramEnd = end;
+            }
+            int separator = rawQuery.indexOf(VALUE_SEPARATOR, start);
+            if (separator < 0 || separator >= paramEnd) {
+                indexedParams.putIfAbsent(rawQuery.substring(start, paramEnd), new Param());
+            } else {
+                String name = rawQuery.substring(trimStart(rawQuery, start, separator),
+                                                 trimEnd(rawQuery, start, separator));
+                int valueStart = trimStart(rawQuery, separator + 1, paramEnd);
+                int valueEnd = trimEnd(rawQuery, valueStart, paramEnd);
+                indexedParams.computeIfAbsent(name, key -> new Param()).addOccurrence(valueStart, valueEnd);
+            }
+            start = paramEnd + 1;
+        }
+        return indexedParams;
+    }
+
+    private static int trimStart(String value, int start, int end) {
+        while (start < end && value.charAt(start) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    private static int trimEnd(String value, int start, int end) {
+        while (end > start && value.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end;
+    }
+
+    /**
+     * Offsets of the values of a parameter and its decoded values once they are requested.
+     */
+    private static final class Param {
+
+        private int[] offsets;
+        private int occurrences;
+        private BArray values;
+
+        void addOccurrence(int valueStart, int valueEnd) {
+            if (offsets == null) {
+                offsets = new int[2];
+            } else if (offsets.length == occurrences * 2) {
+                int[] grown = new int[offsets.length * 2];
+                System.arraycopy(offsets, 0, grown, 0, offsets.length);
+                offsets = grown;
+            }
+            offsets[occurrences * 2] = valueStart;
+            offsets[occurrences * 2 + 1] = valueEnd;
+            occurrences++;
+        }
+
+        BArray getValues(String rawQuery) {
+            if (values == null && occurrences > 0) {
+                List<String> decodedValues = new ArrayList<>();
+                for (int i = 0; i < occurrences; i++) {
+                    decodeOccurrence(rawQuery, offsets[i * 2], offsets[i * 2 + 1], decodedValues);
+                }
+                values = StringUtils.fromStringArray(decodedValues.toArray(new String[0]));
+            }
+            return values;
+        }
+
+        /**
+         * Decodes the comma separated values of an occurrence, dropping the duplicates within the occurrence. An
+         * empty value is a single empty string, and trailing empty values are ignored otherwise.
+         */
+        private static void decodeOccurrence(String rawQuery, int start, int end, List<String> decodedValues) {
+            int first = decodedValues.size();
+            if (start == end) {
+                decodedValues.add("");
+                return;
+            }
+            while (end > start && rawQuery.charAt(end - 1) == VALUES_DELIMITER) {
+                end--;
+            }
+            if (start == end) {
+                return;
+            }
+            Set<String> uniqueValues = null;
+            int valueStart = start;
+            while (valueStart <= end) {
+                int valueEnd = rawQuery.indexOf(VALUES_DELIMITER, valueStart);
+                if (valueEnd < 0 || valueEnd > end) {
+                    valueEnd = end;
+                }
+                String value = URLDecoder.decode(rawQuery.substring(valueStart, valueEnd), StandardCharsets.UTF_8);
+                int count = decodedValues.size() - first;
+                if (uniqueValues == null && count >= LINEAR_DEDUPE_LIMIT) {
+                    uniqueValues = new HashSet<>(decodedValues.subList(first, decodedValues.size()));
+                }
+                boolean unique = uniqueValues != null ? uniqueValues.add(value)
+                        : !decodedValues.subList(first, decodedValues.size()).contains(value);
+                if (unique) {
+                    decodedValues.add(value);
+                }
+                valueStart = valueEnd + 1;
+            }
+        }
+    }
+}
@@ -23,6 +23,7 @@ import io.ballerina.stdlib.http.uri.parser.DataElement;
 import io.ballerina.stdlib.http.uri.parser.DataElementFactory;
 import io.ballerina.stdlib.http.uri.parser.DataReturnAgent;
 import io.ballerina.stdlib.http.uri.parser.Node;
+import io.ballerina.stdlib.http.uri.parser.URIDispatchTrie;
 import io.ballerina.stdlib.http.uri.parser.URITemplateParser;
 
 import java.io.UnsupportedEncodingException;
@@ -36,6 +37,7 @@ import java.io.UnsupportedEncodingException;
 public class URITemplate<DataType, InboundMsgType> {
 
     private Node<DataType, InboundMsgType> syntaxTree;
+    private volatile URIDispatchTrie<DataType, InboundMsgType> dispatchTrie;
 
     public URITemplate(Node<DataType, InboundMsgType> syntaxTree) {
         this.syntaxTree = syntaxTree;
@@ -43,7 +45,9 @@ public class URITemplate<DataType, InboundMsgType> {
 
     public DataType matches(String uri, HttpResourceArguments variables, InboundMsgType inboundMsg) {
         DataReturnAgent<DataType> dataReturnAgent = new DataReturnAgent<>();
-        boolean isFound = syntaxTree.matchAll(uri, variables, 0, inboundMsg, dataReturnAgent);
+        URIDispatchTrie<DataType, InboundMsgType> trie = dispatchTrie;
+        boolean isFound = trie != null ? trie.matchAll(uri, variables, inboundMsg, dataReturnAgent) :
+                syntaxTree.matchAll(uri, variables, 0, inboundMsg, dataReturnAgent);
         if (isFound) {
             return dataReturnAgent.getData();
         }
@@ -60,6 +64,24 @@ public class URITemplate<DataType, InboundMsgType> {
 
         URITemplateParser<DataType, InboundMsgType> parser = new URITemplateParser<>(syntaxTree, elementCreator);
         parser.parse(uriTemplate, resource);
+        dispatchTrie = null;
+    }
+
+    /**
+     * Compiles the parsed templates into a dispatch trie. Should be called once all the resources are parsed;
+     * until then, or if the templates cannot be compiled, matching falls back to walking the syntax tree.
+     */
+    public void compile() {
+        dispatchTrie = URIDispatchTrie.compile(syntaxTree);
+    }
+
+    /**
+     * Checks whether matching uses the compiled dispatch trie rather than walking the syntax tree.
+     *
+     * @return true if the templates are compiled
+     */
+    boolean isCompiled() {
+        return dispatchTrie != null;
     }
 
     private String removeTheFirstAndLastBackSlash(String template) throws URITemplateException {
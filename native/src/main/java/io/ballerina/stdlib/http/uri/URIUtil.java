@@ -22,20 +22,13 @@ import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
-import io.ballerina.stdlib.http.api.HttpConstants;
 import io.ballerina.stdlib.http.api.HttpErrorType;
 import io.ballerina.stdlib.http.api.HttpUtil;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+import io.ballerina.stdlib.http.transport.message.MessageProperties;
 
-import java.io.UnsupportedEncodingException;
-import java.net.URLDecoder;
-import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
-import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 /**
  * Utilities related to URI processing.
@@ -53,53 +46,15 @@ public class URIUtil {
         return path.substring(basePath.length());
     }
 
-    @SuppressWarnings("unchecked")
-    public static void populateQueryParamMap(String queryParamString, BMap<BString, Object> queryParamsMap)
-            throws UnsupportedEncodingException {
-        Map<String, List<String>> tempParamMap = new HashMap<>();
-        String[] queryParamVals = queryParamString.split("&");
-        for (String queryParam : queryParamVals) {
-            int index = queryParam.indexOf('=');
-            if (index == -1) {
-                if (!tempParamMap.containsKey(queryParam)) {
-                    tempParamMap.put(queryParam, null);
-                }
-                continue;
-            }
-            String queryParamName = queryParam.substring(0, index).trim();
-            String queryParamValue = queryParam.substring(index + 1).trim();
-            List<String> values = new ArrayList<>();
-            Set<String> uniqueValues = new HashSet<>();
-            for (String val : queryParamValue.split(",")) {
-                String decodedValue = URLDecoder.decode(val, StandardCharsets.UTF_8);
-                if (uniqueValues.add(decodedValue)) {
-                    values.add(decodedValue);
-                }
-            }
-
-            if (tempParamMap.containsKey(queryParamName) && tempParamMap.get(queryParamName) != null) {
-                tempParamMap.get(queryParamName).addAll(values);
-            } else {
-                tempParamMap.put(queryParamName, values);
-            }
-        }
-
-        for (Map.Entry<String, List<String>> entry : tempParamMap.entrySet()) {
-            List<String> entryValue = entry.getValue();
-            if (entryValue != null) {
-                queryParamsMap.put(StringUtils.fromString(entry.getKey()),
-                        StringUtils.fromStringArray(entryValue.toArray(new String[0])));
-            } else {
-                queryParamsMap.put(StringUtils.fromString(entry.getKey()), null);
-            }
-        }
+    public static void populateQueryParamMap(String queryParamString, BMap<BString, Object> queryParamsMap) {
+        new QueryParamView(queryParamString).populate(queryParamsMap);
     }
 
     @SuppressWarnings("unchecked")
     public static BMap<BString, Object> getMatrixParamsMap(String path, HttpCarbonMessage carbonMessage) {
         BMap<BString, Object> matrixParamsBMap = ValueCreator.createMapValue();
         Map<String, Map<String, String>> pathToMatrixParamMap =
-                (Map<String, Map<String, String>>) carbonMessage.getProperty(HttpConstants.MATRIX_PARAMS);
+                (Map<String, Map<String, String>>) carbonMessage.getProperty(MessageProperties.MATRIX_PARAMS_SLOT);
         Map<String, String> matrixParamsMap = pathToMatrixParamMap.get(path);
         if (matrixParamsMap != null) {
             for (Map.Entry<String, String> matrixParamEntry : matrixParamsMap.entrySet()) {
@@ -18,11 +18,9 @@
 
 package io.ballerina.stdlib.http.uri.parser;
 
-import io.ballerina.stdlib.http.api.HttpConstants;
 import io.ballerina.stdlib.http.api.HttpResourceArguments;
 import io.ballerina.stdlib.http.uri.URITemplateException;
 
-import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -128,10 +126,8 @@ public abstract class Node<DataType, InboundMsgType> {
         return false;
     }
 
-    private void setUriPostFix(HttpResourceArguments variables, String subUriFragment) {
-        Map<Integer, String> indexValueMap =
-                Collections.singletonMap(HttpConstants.EXTRA_PATH_INDEX, URI_PATH_DELIMITER + subUriFragment);
-        variables.getMap().putIfAbsent(HttpConstants.EXTRA_PATH_INFO, indexValueMap);
+    static void setUriPostFix(HttpResourceArguments variables, String subUriFragment) {
+        variables.setExtraPathInfoIfAbsent(URI_PATH_DELIMITER + subUriFragment);
     }
 
     abstract String expand(Map<String, String> variables);
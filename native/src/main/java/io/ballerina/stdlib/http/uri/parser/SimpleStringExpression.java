@@ -21,7 +21,6 @@ package io.ballerina.stdlib.http.uri.parser;
 import io.ballerina.stdlib.http.api.HttpResourceArguments;
 import io.ballerina.stdlib.http.uri.URITemplateException;
 
-import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -107,16 +106,8 @@ public class SimpleStringExpression<DataType, InboundMsgType> extends Expression
     boolean setVariables(String expressionValue, HttpResourceArguments variables) {
         String finalValue = decodeValue(expressionValue);
         for (Variable var : variableList) {
-            String name = var.getName();
-            Map<Integer, String> indexValueMap;
-            if (variables.getMap().containsKey(name)) {
-                indexValueMap = variables.getMap().get(name);
-            } else {
-                indexValueMap = new HashMap<>();
-                variables.getMap().put(name, indexValueMap);
-            }
             if (var.checkModifier(finalValue)) {
-                indexValueMap.put(getExpressionIndex(), finalValue);
+                variables.setValue(getExpressionIndex(), finalValue);
             } else {
                 return false;
             }
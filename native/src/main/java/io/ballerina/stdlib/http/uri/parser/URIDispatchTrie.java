@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.uri.parser;
+
+import io.ballerina.stdlib.http.api.HttpResourceArguments;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.ballerina.stdlib.http.uri.URIUtil.URI_PATH_DELIMITER;
+
+/**
+ * Immutable dispatch trie compiled from the {@link Node} tree of a uri-template once all the resources are
+ * registered. Literal children are kept in a hash table keyed by the segment, so each request path segment is
+ * resolved with a single probe over index ranges of the raw path instead of walking the child list. The order in
+ * which the children are tried (literal, path param, rest param) and the resource argument bookkeeping are the
+ * same as {@link Node#matchAll}.
+ *
+ * @param <DataType> Type of data which should be stored in the node.
+ * @param <InboundMsgType> Inbound message type for additional checks.
+ */
+public final class URIDispatchTrie<DataType, InboundMsgType> {
+
+    private static final char PATH_DELIMITER = '/';
+    private static final String WILDCARD = "*";
+
+    private final TrieNode<DataType, InboundMsgType> root;
+
+    private URIDispatchTrie(TrieNode<DataType, InboundMsgType> root) {
+        this.root = root;
+    }
+
+    /**
+     * Compiles the given uri-template syntax tree.
+     *
+     * @param syntaxTree root node of the uri-template
+     * @param <DataType> Type of data which should be stored in the node.
+     * @param <InboundMsgType> Inbound message type for additional checks.
+     * @return the compiled trie or null if the tree has nodes which cannot be compiled (e.g. literals with a
+     * trailing wildcard), in which case the tree should be matched using {@link Node#matchAll}
+     */
+    public static <DataType, InboundMsgType> URIDispatchTrie<DataType, InboundMsgType> compile(
+            Node<DataType, InboundMsgType> syntaxTree) {
+        if (!(syntaxTree instanceof Literal) || !URI_PATH_DELIMITER.equals(syntaxTree.getToken())) {
+            return null;
+        }
+        TrieNode<DataType, InboundMsgType> root = compileChildren(new TrieNode<>(TrieNode.ROOT, syntaxTree),
+                                                                  syntaxTree);
+        return root == null ? null : new URIDispatchTrie<>(root);
+    }
+
+    private static <DataType, InboundMsgType> TrieNode<DataType, InboundMsgType> compileChildren(
+            TrieNode<DataType, InboundMsgType> trieNode, Node<DataType, InboundMsgType> node) {
+        List<TrieNode<DataType, InboundMsgType>> literals = new ArrayList<>();
+        for (Node<DataType, InboundMsgType> childNode : node.childNodesList) {
+            TrieNode<DataType, InboundMsgType> child;
+            if (childNode instanceof SimpleStringExpression) {
+                if (trieNode.expressionChild != null) {
+                    return null;
+                }
+                child = new TrieNode<>(TrieNode.EXPRESSION, childNode);
+                trieNode.expressionChild = child;
+            } else if (childNode instanceof Literal) {
+                String token = childNode.getToken();
+                if (WILDCARD.equals(token)) {
+                    child = new TrieNode<>(TrieNode.WILDCARD, childNode);
+                    trieNode.wildcardChild = child;
+                } else if (token.indexOf('*') >= 0 || token.indexOf(PATH_DELIMITER) >= 0) {
+                    return null;
+                } else {
+                    child = new TrieNode<>(TrieNode.LITERAL, childNode);
+                    literals.add(child);
+                }
+            } else {
+                return null;
+            }
+            if (compileChildren(child, childNode) == null) {
+                return null;
+            }
+        }
+        trieNode.indexLiterals(literals);
+        return trieNode;
+    }
+
+    /**
+     * Matches the given request path against the compiled template.
+     *
+     * @param uri             request path which starts with a '/'
+     * @param variables       holder for the path param values
+     * @param inboundMsg      inbound message for the additional checks of the data element
+     * @param dataReturnAgent agent to return the matched data or the dispatching error
+     * @return true if a matching data element is found
+     */
+    public boolean matchAll(String uri, HttpResourceArguments variables, InboundMsgType inboundMsg,
+                            DataReturnAgent<DataType> dataReturnAgent) {
+        return matchAll(root, uri, 0, variables, inboundMsg, dataReturnAgent);
+    }
+
+    private boolean matchAll(TrieNode<DataType, InboundMsgType> node, String uri, int start,
+                             HttpResourceArguments variables, InboundMsgType inboundMsg,
+                             DataReturnAgent<DataType> dataReturnAgent) {
+        int length = uri.length();
+        int matchEnd = node.match(uri, start, variables);
+        if (matchEnd < 0) {
+            return false;
+        }
+        if (matchEnd == length) {
+            return node.dataElement.getData(inboundMsg, dataReturnAgent);
+        }
+
+        int next;
+        if (uri.charAt(start) == PATH_DELIMITER) {
+            next = matchEnd;
+        } else if (uri.indexOf(PATH_DELIMITER, start) >= 0) {
+            if (uri.charAt(matchEnd) != PATH_DELIMITER) {
+                return false;
+            }
+            next = matchEnd + 1;
+        } else {
+            return false;
+        }
+
+        int segmentEnd = uri.indexOf(PATH_DELIMITER, next);
+        TrieNode<DataType, InboundMsgType> literalChild = node.findLiteral(uri, next,
+                                                                           segmentEnd < 0 ? length : segmentEnd);
+        if (literalChild != null && matchAll(literalChild, uri, next, variables, inboundMsg, dataReturnAgent)) {
+            return true;
+        }
+        if (node.expressionChild != null &&
+                matchAll(node.expressionChild, uri, next, variables, inboundMsg, dataReturnAgent)) {
+            return true;
+        }
+        if (node.wildcardChild != null &&
+                matchAll(node.wildcardChild, uri, next, variables, inboundMsg, dataReturnAgent)) {
+            Node.setUriPostFix(variables, uri.substring(next));
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Compiled representation of a single uri-template node.
+     */
+    private static final class TrieNode<DataType, InboundMsgType> {
+
+        static final int ROOT = 0;
+        static final int LITERAL = 1;
+        static final int EXPRESSION = 2;
+        static final int WILDCARD = 3;
+
+        private final int kind;
+        private final String token;
+        private final DataElement<DataType, InboundMsgType> dataElement;
+        private final SimpleStringExpression<DataType, InboundMsgType> expression;
+
+        private String[] literalKeys;
+        private TrieNode<DataType, InboundMsgType>[] literalChildren;
+        private int literalMask;
+        private TrieNode<DataType, InboundMsgType> expressionChild;
+        private TrieNode<DataType, InboundMsgType> wildcardChild;
+
+        TrieNode(int kind, Node<DataType, InboundMsgType> node) {
+            this.kind = kind;
+            this.token = node.getToken();
+            this.dataElement = node.getDataElement();
+            this.expression = kind == EXPRESSION ? (SimpleStringExpression<DataType, InboundMsgType>) node : null;
+        }
+
+        @SuppressWarnings("unchecked")
+        void indexLiterals(List<TrieNode<DataType, InboundMsgType>> literals) {
+            if (literals.isEmpty()) {
+                return;
+            }
+            int capacity = Integer.highestOneBit(literals.size() * 2 - 1) << 1;
+            literalKeys = new String[capacity];
+            literalChildren = new TrieNode[capacity];
+            literalMask = capacity - 1;
+            for (TrieNode<DataType, InboundMsgType> literal : literals) {
+                int slot = spread(literal.token.hashCode()) & literalMask;
+                while (literalKeys[slot] != null) {
+                    slot = (slot + 1) & literalMask;
+                }
+                literalKeys[slot] = literal.token;
+                literalChildren[slot] = literal;
+            }
+        }
+
+        TrieNode<DataType, InboundMsgType> findLiteral(String uri, int start, int end) {
+            if (literalKeys == null || start == end) {
+                return null;
+            }
+            int hash = 0;
+            for (int i = start; i < end; i++) {
+                hash = 31 * hash + uri.charAt(i);
+            }
+            int segmentLength = end - start;
+            int slot = spread(hash) & literalMask;
+            String key;
+            while ((key = literalKeys[slot]) != null) {
+                if (key.length() == segmentLength && uri.regionMatches(start, key, 0, segmentLength)) {
+                    return literalChildren[slot];
+                }
+                slot = (slot + 1) & literalMask;
+            }
+            return null;
+        }
+
+        /**
+         * Returns the end index of the match in the given uri, or -1 if the node does not match.
+         */
+        int match(String uri, int start, HttpResourceArguments variables) {
+            int length = uri.length();
+            switch (kind) {
+                case ROOT:
+                    if (start >= length || uri.charAt(start) != PATH_DELIMITER) {
+                        return -1;
+                    }
+                    // special case request urls which contains only the root("/") to be dispatched to default
+                    // resource("/*").
+                    return length - start == 1 && !dataElement.hasData() ? start : start + 1;
+                case LITERAL:
+                    return uri.startsWith(token, start) ? start + token.length() : -1;
+                case EXPRESSION:
+                    if (start == length) {
+                        return start;
+                    }
+                    int delimiter = uri.indexOf(PATH_DELIMITER, start);
+                    int end = delimiter < 0 ? length : delimiter;
+                    return expression.setVariables(uri.substring(start, end), variables) ? end : -1;
+                default:
+                    return length;
+            }
+        }
+
+        private static int spread(int hash) {
+            return hash ^ (hash >>> 16);
+        }
+    }
+}
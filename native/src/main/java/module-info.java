@@ -35,11 +35,11 @@ module io.ballerina.stdlib.http {
     requires io.netty.buffer;
     requires io.netty.common;
     requires io.netty.transport;
+    requires io.netty.transport.classes.epoll;
     requires io.netty.codec.http2;
     requires org.eclipse.osgi;
     requires io.netty.codec;
     requires io.netty.handler;
-    requires commons.pool;
     requires io.netty.handler.proxy;
     exports io.ballerina.stdlib.http.api;
     exports io.ballerina.stdlib.http.transport.contract.websocket;
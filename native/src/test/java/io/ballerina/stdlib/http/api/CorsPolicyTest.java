@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.api;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A unit test class for the {@link CorsPolicy}.
+ */
+public class CorsPolicyTest {
+
+    private static final List<String> ORIGINS = Arrays.asList("http://www.wso2.com", "http://www.ballerina.io");
+
+    @Test
+    public void testSimpleRequest() {
+        CorsPolicy policy = new CorsPolicy(ORIGINS, 1, Collections.singletonList("GET"), null, -1,
+                                           Arrays.asList("X-Correlation-Id", "X-Trace"));
+        CorsPolicy.ResponseHeaders responseHeaders = policy.processSimpleRequest("http://www.wso2.com");
+        Assert.assertEquals(responseHeaders.get(HttpHeaderNames.ACCESS_CONTROL_ALLOW_ORIGIN), "http://www.wso2.com");
+        Assert.assertEquals(responseHeaders.get(HttpHeaderNames.ACCESS_CONTROL_ALLOW_CREDENTIALS), "true");
+        Assert.assertEquals(responseHeaders.get(HttpHeaderNames.ACCESS_CONTROL_EXPOSE_HEADERS),
+                            "X-Correlation-Id, X-Trace");
+        Assert.assertTrue(policy.processSimpleRequest("http://www.wso2.com") == responseHeaders);
+
+        responseHeaders = policy.processSimpleRequest("http://www.wso2.com http://www.ballerina.io");
+        Assert.assertEquals(responseHeaders.get(HttpHeaderNames.ACCESS_CONTROL_ALLOW_ORIGIN),
+                            "http://www.wso2.com http://www.ballerina.io");
+
+        Assert.assertEquals(policy.processSimpleRequest("http://www.wso2.com http://www.example.com"), null);
+        Assert.assertEquals(policy.processSimpleRequest("www.wso2.com"), null);
+    }
+
+    @Test
+    public void testWildcardOrigin() {
+        CorsPolicy policy = new CorsPolicy(Collections.singletonList("*"), 0, Collections.singletonList("*"), null,
+                                           -1, null);
+        CorsPolicy.ResponseHeaders responseHeaders = policy.processSimpleRequest("http://www.example.com");
+        Assert.assertEquals(responseHeaders.get(HttpHeaderNames.ACCESS_CONTROL_ALLOW_ORIGIN),
+                            "http://www.example.com");
+        Assert.assertEquals(responseHeaders.get(HttpHeaderNames.ACCESS_CONTROL_ALLOW_CREDENTIALS), null);
+        Assert.assertEquals(responseHeaders.get(HttpHeaderNames.ACCESS_CONTROL_EXPOSE_HEADERS), null);
+        Assert.assertTrue(policy.processPreflightRequest("http://www.example.com", "PATCH", null) != null);
+    }
+
+    @Test
+    public void testPreflightRequest() {
+        CorsPolicy policy = new CorsPolicy(ORIGINS, 1, Arrays.asList("GET", "PUT"), Arrays.asList("X-PINGOTHER"),
+                                           3600, null);
+        CorsPolicy.ResponseHeaders responseHeaders = policy.processPreflightRequest(
+                "http://www.wso2.com", "PUT", Collections.singletonList("x-pingother"));
+        Assert.assertEquals(responseHeaders.get(HttpHeaderNames.ACCESS_CONTROL_ALLOW_ORIGIN), "http://www.wso2.com");
+        Assert.assertEquals(responseHeaders.get(HttpHeaderNames.ACCESS_CONTROL_ALLOW_METHODS), "PUT");
+        Assert.assertEquals(responseHeaders.get(HttpHeaderNames.ACCESS_CONTROL_MAX_AGE), "3600");
+        Assert.assertEquals(responseHeaders.get(HttpHeaderNames.ACCESS_CONTROL_ALLOW_CREDENTIALS), "true");
+        Assert.assertTrue(policy.processPreflightRequest("http://www.wso2.com", "PUT", null) == responseHeaders);
+
+        // The request headers are checked even if the response is cached
+        Assert.assertEquals(policy.processPreflightRequest("http://www.wso2.com", "PUT",
+                                                           Collections.singletonList("X-PONGOTHER")), null);
+        Assert.assertEquals(policy.processPreflightRequest("http://www.wso2.com", "POST", null), null);
+        Assert.assertEquals(policy.processPreflightRequest("http://www.example.com", "PUT", null), null);
+    }
+
+    @Test
+    public void testCachedResponsesAreBounded() {
+        CorsPolicy policy = new CorsPolicy(Collections.singletonList("*"), 0, Collections.singletonList("*"), null,
+                                           -1, null);
+        for (int i = 0; i < CorsPolicy.MAX_CACHED_RESPONSES * 2; i++) {
+            String origin = "http://host" + i + ".example.com";
+            CorsPolicy.ResponseHeaders responseHeaders = policy.processSimpleRequest(origin);
+            Assert.assertEquals(responseHeaders.get(HttpHeaderNames.ACCESS_CONTROL_ALLOW_ORIGIN), origin);
+        }
+        String origin = "http://host" + (CorsPolicy.MAX_CACHED_RESPONSES + 1) + ".example.com";
+        Assert.assertTrue(policy.processSimpleRequest(origin) != policy.processSimpleRequest(origin));
+    }
+}
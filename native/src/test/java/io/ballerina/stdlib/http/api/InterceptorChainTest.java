@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.api;
+
+import io.ballerina.stdlib.http.api.service.signature.ParamHandler;
+import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+import io.ballerina.stdlib.http.uri.URITemplate;
+import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpVersion;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tests for {@link InterceptorChain}.
+ */
+public class InterceptorChainTest {
+
+    private static final String SERVICE_BASE_PATH = "/foo";
+
+    @Test
+    public void testInterceptorsResolvedWhenChainIsBuilt() throws Exception {
+        InterceptorResource listenerResource = getResource(false);
+        InterceptorResource serviceResource = getResource(true);
+        HTTPInterceptorServicesRegistry emptyRegistry = Mockito.mock(HTTPInterceptorServicesRegistry.class);
+        Mockito.when(emptyRegistry.getServicesType()).thenReturn(HttpConstants.RESPONSE_INTERCEPTOR);
+        InterceptorChain chain = new InterceptorChain(Arrays.asList(
+                getRegistry(HttpConstants.DEFAULT_BASE_PATH, listenerResource),
+                getRegistry(SERVICE_BASE_PATH, serviceResource), emptyRegistry));
+
+        Assert.assertEquals(chain.size(), 3);
+        Assert.assertSame(chain.get(0).getService().getResource(), listenerResource);
+        Assert.assertEquals(chain.get(0).getServicesType(), HttpConstants.REQUEST_INTERCEPTOR);
+        Assert.assertFalse(chain.get(0).isPayloadBindingRequired());
+        Assert.assertSame(chain.get(1).getService().getResource(), serviceResource);
+        Assert.assertTrue(chain.get(1).isPayloadBindingRequired());
+        Assert.assertNull(chain.get(2).getService());
+        Assert.assertEquals(chain.get(2).getServicesType(), HttpConstants.RESPONSE_INTERCEPTOR);
+        Assert.assertFalse(chain.get(2).isPayloadBindingRequired());
+    }
+
+    @Test
+    public void testRequestPathParsedOnce() throws Exception {
+        InterceptorResource listenerResource = getResource(false);
+        InterceptorResource serviceResource = getResource(false);
+        InterceptorChain chain = new InterceptorChain(Arrays.asList(
+                getRegistry(HttpConstants.DEFAULT_BASE_PATH, listenerResource),
+                getRegistry(SERVICE_BASE_PATH, serviceResource)));
+        HttpCarbonMessage inboundMessage = getInboundMessage("/foo;a=b/bar?x=1");
+
+        Assert.assertSame(HttpDispatcher.findInterceptorResource(chain.get(0), inboundMessage), listenerResource);
+        Assert.assertEquals(inboundMessage.getProperty(HttpConstants.RAW_URI), "/foo;a=b/bar?x=1");
+        Assert.assertEquals(inboundMessage.getProperty(HttpConstants.TO), "/foo/bar?x=1");
+        Assert.assertEquals(inboundMessage.getProperty(HttpConstants.BASE_PATH), HttpConstants.DEFAULT_BASE_PATH);
+        Assert.assertEquals(inboundMessage.getProperty(HttpConstants.SUB_PATH), "/foo/bar");
+        Assert.assertEquals(inboundMessage.getProperty(HttpConstants.QUERY_STR), "x=1");
+        Object matrixParams = inboundMessage.getProperty(HttpConstants.MATRIX_PARAMS);
+        Assert.assertEquals(((Map<?, ?>) matrixParams).get("/foo"), Collections.singletonMap("a", "b"));
+
+        Assert.assertSame(HttpDispatcher.findInterceptorResource(chain.get(1), inboundMessage), serviceResource);
+        Assert.assertEquals(inboundMessage.getProperty(HttpConstants.BASE_PATH), SERVICE_BASE_PATH);
+        Assert.assertEquals(inboundMessage.getProperty(HttpConstants.SUB_PATH), "/bar");
+        // The matrix parameters of the first parse are kept for the following interceptors
+        Assert.assertSame(inboundMessage.getProperty(HttpConstants.MATRIX_PARAMS), matrixParams);
+        Assert.assertEquals(inboundMessage.getProperty(HttpConstants.RAW_URI), "/foo;a=b/bar?x=1");
+    }
+
+    @Test
+    public void testInterceptorNotApplicableToPath() throws Exception {
+        InterceptorChain chain = new InterceptorChain(Collections.singletonList(
+                getRegistry(SERVICE_BASE_PATH, getResource(false))));
+        HttpCarbonMessage inboundMessage = getInboundMessage("/baz");
+        Assert.assertNull(HttpDispatcher.findInterceptorResource(chain.get(0), inboundMessage));
+        Assert.assertNull(inboundMessage.getProperty(HttpConstants.BASE_PATH));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static HTTPInterceptorServicesRegistry getRegistry(String basePath, InterceptorResource resource)
+            throws Exception {
+        URITemplate<Resource, HttpCarbonMessage> uriTemplate = Mockito.mock(URITemplate.class);
+        Mockito.when(uriTemplate.matches(ArgumentMatchers.anyString(), ArgumentMatchers.any(),
+                                         ArgumentMatchers.any())).thenReturn(resource);
+        InterceptorService service = Mockito.mock(InterceptorService.class);
+        Mockito.when(service.getResource()).thenReturn(resource);
+        Mockito.when(service.getUriTemplate()).thenReturn(uriTemplate);
+
+        Map<String, InterceptorService> servicesByBasePath = new HashMap<>();
+        servicesByBasePath.put(basePath, service);
+        List<String> sortedServiceURIs = new ArrayList<>(servicesByBasePath.keySet());
+        HTTPInterceptorServicesRegistry.ServicesMapHolder holder =
+                new HTTPInterceptorServicesRegistry.ServicesMapHolder(servicesByBasePath, sortedServiceURIs);
+
+        HTTPInterceptorServicesRegistry registry = Mockito.mock(HTTPInterceptorServicesRegistry.class);
+        Mockito.when(registry.getServicesType()).thenReturn(HttpConstants.REQUEST_INTERCEPTOR);
+        Mockito.when(registry.getServicesMapHolder(HttpConstants.DEFAULT_HOST)).thenReturn(holder);
+        Mockito.when(registry.findTheMostSpecificBasePath(ArgumentMatchers.anyString(), ArgumentMatchers.eq(holder)))
+                .thenAnswer(invocation -> {
+                    String path = invocation.getArgument(0);
+                    return basePath.equals(HttpConstants.DEFAULT_BASE_PATH) || path.equals(basePath)
+                            || path.startsWith(basePath + "/") ? basePath : null;
+                });
+        return registry;
+    }
+
+    private static InterceptorResource getResource(boolean payloadBindingRequired) {
+        ParamHandler paramHandler = Mockito.mock(ParamHandler.class);
+        Mockito.when(paramHandler.isPayloadBindingRequired()).thenReturn(payloadBindingRequired);
+        InterceptorResource resource = Mockito.mock(InterceptorResource.class);
+        Mockito.when(resource.getParamHandler()).thenReturn(paramHandler);
+        return resource;
+    }
+
+    private static HttpCarbonMessage getInboundMessage(String uri) {
+        HttpCarbonMessage inboundMessage = new HttpCarbonMessage(
+                new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, uri));
+        inboundMessage.setProperty(HttpConstants.TO, uri);
+        inboundMessage.setProperty(HttpConstants.PROTOCOL, HttpConstants.PROTOCOL_HTTP);
+        return inboundMessage;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.api;
+
+import io.ballerina.runtime.api.Runtime;
+import io.ballerina.runtime.api.async.Callback;
+import io.ballerina.runtime.api.types.ObjectType;
+import io.ballerina.runtime.api.types.ResourceMethodType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BObject;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+
+/**
+ * Tests for {@link InvocationDescriptor}.
+ */
+public class InvocationDescriptorTest {
+
+    private static final String RESOURCE_NAME = "$get$greeting";
+
+    @Test
+    public void testIsolatedResourceInvokedConcurrently() {
+        BObject service = getServiceObject(true, true);
+        ResourceMethodType resource = getResourceMethodType();
+        InvocationDescriptor descriptor = new InvocationDescriptor(service, resource, false);
+        Assert.assertTrue(descriptor.isIsolated());
+        Assert.assertFalse(descriptor.isTransactionInfectable());
+
+        Runtime runtime = Mockito.mock(Runtime.class);
+        Object[] args = new Object[]{"arg"};
+        descriptor.invoke(runtime, Mockito.mock(Callback.class), new HashMap<>(), args);
+        Mockito.verify(runtime).invokeMethodAsyncConcurrently(ArgumentMatchers.eq(service),
+                ArgumentMatchers.eq(RESOURCE_NAME), ArgumentMatchers.isNull(), ArgumentMatchers.any(),
+                ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.eq(resource.getReturnType()),
+                ArgumentMatchers.eq("arg"));
+        Mockito.verifyNoMoreInteractions(runtime);
+    }
+
+    @Test
+    public void testNonIsolatedResourceInvokedSequentially() {
+        BObject service = getServiceObject(true, false);
+        InvocationDescriptor descriptor = new InvocationDescriptor(service, getResourceMethodType(), true);
+        Assert.assertFalse(descriptor.isIsolated());
+        Assert.assertTrue(descriptor.isTransactionInfectable());
+
+        Runtime runtime = Mockito.mock(Runtime.class);
+        descriptor.invoke(runtime, Mockito.mock(Callback.class), new HashMap<>(), new Object[0]);
+        Mockito.verify(runtime).invokeMethodAsyncSequentially(ArgumentMatchers.eq(service),
+                ArgumentMatchers.eq(RESOURCE_NAME), ArgumentMatchers.isNull(), ArgumentMatchers.any(),
+                ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any());
+        Mockito.verifyNoMoreInteractions(runtime);
+    }
+
+    @Test
+    public void testResourceOfNonIsolatedService() {
+        InvocationDescriptor descriptor = new InvocationDescriptor(getServiceObject(false, true),
+                                                                   getResourceMethodType(), true);
+        Assert.assertFalse(descriptor.isIsolated());
+    }
+
+    private static BObject getServiceObject(boolean isolatedService, boolean isolatedResource) {
+        ObjectType serviceType = Mockito.mock(ObjectType.class);
+        Mockito.when(serviceType.isIsolated()).thenReturn(isolatedService);
+        Mockito.when(serviceType.isIsolated(RESOURCE_NAME)).thenReturn(isolatedResource);
+        BObject service = Mockito.mock(BObject.class);
+        Mockito.when(service.getType()).thenReturn(serviceType);
+        return service;
+    }
+
+    private static ResourceMethodType getResourceMethodType() {
+        ResourceMethodType resource = Mockito.mock(ResourceMethodType.class);
+        Mockito.when(resource.getName()).thenReturn(RESOURCE_NAME);
+        Mockito.when(resource.getReturnType()).thenReturn(Mockito.mock(Type.class));
+        return resource;
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.api.client.caching;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * A unit test class for the {@link HttpResponseStore}.
+ */
+public class HttpResponseStoreTest {
+
+    @Test
+    public void testHitSharesStoredPayload() {
+        HttpResponseStore store = new HttpResponseStore(16, -1);
+        byte[] payload = "hello".getBytes(StandardCharsets.UTF_8);
+        CachedResponse response = new CachedResponse(200, "OK", new DefaultHttpHeaders(), payload, null, null, null,
+                                                     null, null);
+        Assert.assertTrue(store.put("GET /hello", response));
+
+        CachedResponse hit = store.get("GET /hello", null);
+        Assert.assertSame(hit, response);
+        ByteBuf content = hit.getContent();
+        Assert.assertEquals(content.toString(StandardCharsets.UTF_8), "hello");
+        // The payload is wrapped, not copied
+        Assert.assertTrue(content.hasArray());
+        Assert.assertSame(content.array(), payload);
+        Assert.assertNull(store.get("GET /bye", null));
+
+        store.remove("GET /hello");
+        Assert.assertFalse(store.containsKey("GET /hello"));
+        Assert.assertEquals(store.weight(), 0);
+    }
+
+    @Test
+    public void testVaryHeaderSelectsResponse() {
+        HttpResponseStore store = new HttpResponseStore(16, -1);
+        HttpHeaders varyHeaders = new DefaultHttpHeaders().add(HttpHeaderNames.VARY, "Accept-Language");
+        store.put("GET /greeting", createResponse("hello", varyHeaders, requestHeaders("en")));
+        store.put("GET /greeting", createResponse("bonjour", varyHeaders.copy(), requestHeaders("fr")));
+
+        Assert.assertEquals(getPayload(store.get("GET /greeting", requestHeaders("fr"))), "bonjour");
+        Assert.assertEquals(getPayload(store.get("GET /greeting", requestHeaders("en"))), "hello");
+        Assert.assertNull(store.get("GET /greeting", requestHeaders("de")));
+        Assert.assertNull(store.get("GET /greeting", null));
+
+        store.put("GET /greeting", createResponse("salut", varyHeaders.copy(), requestHeaders("fr")));
+        Assert.assertEquals(getPayload(store.get("GET /greeting", requestHeaders("fr"))), "salut");
+        Assert.assertEquals(store.getAll("GET /greeting", response -> true).size(), 2);
+    }
+
+    @Test
+    public void testVaryAllIsNotStored() {
+        HttpResponseStore store = new HttpResponseStore(16, -1);
+        Assert.assertFalse(store.put("GET /hello", createResponse(
+                "hello", new DefaultHttpHeaders().add(HttpHeaderNames.VARY, "*"), null)));
+        Assert.assertEquals(store.size(), 0);
+        Assert.assertEquals(store.weight(), 0);
+    }
+
+    @Test
+    public void testReplacedResponseRemainsReadable() {
+        HttpResponseStore store = new HttpResponseStore(16, -1);
+        CachedResponse first = createResponse("first", new DefaultHttpHeaders(), null);
+        store.put("GET /hello", first);
+        ByteBuf content = store.get("GET /hello", null).getContent();
+        store.put("GET /hello", createResponse("second", new DefaultHttpHeaders(), null));
+
+        // The payload handed out before the response is replaced remains readable
+        Assert.assertEquals(content.toString(StandardCharsets.UTF_8), "first");
+        Assert.assertEquals(getPayload(store.get("GET /hello", null)), "second");
+        Assert.assertEquals(store.size(), 1);
+        Assert.assertEquals(store.weight(), store.get("GET /hello", null).getWeight());
+    }
+
+    @Test
+    public void testEachHitHasItsOwnReaderIndex() {
+        HttpResponseStore store = new HttpResponseStore(16, -1);
+        store.put("GET /hello", createResponse("hello", new DefaultHttpHeaders(), null));
+
+        // Responses which are looked up and dropped without reading the body need no release, as done for the
+        // validation, and reading the body of one does not consume the payload of another
+        ByteBuf first = store.get("GET /hello", null).getContent();
+        first.skipBytes(first.readableBytes());
+        Assert.assertTrue(first.release());
+        Assert.assertEquals(store.getAll("GET /hello", response -> true).size(), 1);
+        Assert.assertEquals(getPayload(store.get("GET /hello", null)), "hello");
+    }
+
+    @Test
+    public void testETagFilter() {
+        HttpResponseStore store = new HttpResponseStore(16, -1);
+        HttpHeaders varyHeaders = new DefaultHttpHeaders().add(HttpHeaderNames.VARY, "Accept")
+                .add(HttpHeaderNames.ETAG, "\"v1\"");
+        store.put("GET /data", createResponse("json", varyHeaders, new DefaultHttpHeaders().add("Accept", "json")));
+        store.put("GET /data", createResponse("xml", varyHeaders.copy().set(HttpHeaderNames.ETAG, "\"v2\""),
+                                              new DefaultHttpHeaders().add("Accept", "xml")));
+
+        List<CachedResponse> hits = store.getAll("GET /data", response -> "\"v2\"".equals(response.getETag()));
+        Assert.assertEquals(hits.size(), 1);
+        Assert.assertEquals(getPayload(hits.get(0)), "xml");
+    }
+
+    @Test
+    public void testFrequentKeysAreRetained() {
+        HttpResponseStore store = new HttpResponseStore(4, -1);
+        for (int i = 0; i < 4; i++) {
+            store.put("GET /popular/" + i, createResponse("popular", new DefaultHttpHeaders(), null));
+            for (int j = 0; j < 5; j++) {
+                store.get("GET /popular/" + i, null);
+            }
+        }
+        for (int i = 0; i < 100; i++) {
+            store.put("GET /scan/" + i, createResponse("scan", new DefaultHttpHeaders(), null));
+        }
+        Assert.assertEquals(store.size(), 4);
+        int retained = 0;
+        for (int i = 0; i < 4; i++) {
+            if (store.containsKey("GET /popular/" + i)) {
+                retained++;
+            }
+        }
+        Assert.assertEquals(retained, 3);
+    }
+
+    @Test
+    public void testSizeBound() {
+        CachedResponse sample = createResponse("0123456789", new DefaultHttpHeaders(), null);
+        long maxWeight = sample.getWeight() * 3L;
+
+        HttpResponseStore store = new HttpResponseStore(100, maxWeight);
+        for (int i = 0; i < 10; i++) {
+            store.put("GET /" + i, createResponse("0123456789", new DefaultHttpHeaders(), null));
+            Assert.assertTrue(store.weight() <= maxWeight);
+        }
+        Assert.assertEquals(store.size(), 3);
+
+        Assert.assertFalse(store.put("GET /large", new CachedResponse(200, "OK", new DefaultHttpHeaders(),
+                                                                      new byte[(int) maxWeight], null, null, null,
+                                                                      null, null)));
+        Assert.assertEquals(store.size(), 3);
+    }
+
+    private static CachedResponse createResponse(String payload, HttpHeaders headers, HttpHeaders requestHeaders) {
+        return new CachedResponse(200, "OK", headers, payload.getBytes(StandardCharsets.UTF_8), requestHeaders, null,
+                                  null, null, null);
+    }
+
+    private static HttpHeaders requestHeaders(String language) {
+        return new DefaultHttpHeaders().add(HttpHeaderNames.ACCEPT_LANGUAGE, language);
+    }
+
+    private static String getPayload(CachedResponse response) {
+        Assert.assertNotNull(response);
+        return response.getContent().toString(StandardCharsets.UTF_8);
+    }
+}
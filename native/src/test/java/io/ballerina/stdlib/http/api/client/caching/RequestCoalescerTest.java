@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.api.client.caching;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A unit test class for the {@link RequestCoalescer}.
+ */
+public class RequestCoalescerTest {
+
+    @Test
+    public void testOnlyFirstCallerOwnsFlight() {
+        RequestCoalescer coalescer = new RequestCoalescer();
+        Assert.assertTrue(coalescer.start("GET /hello"));
+        Assert.assertFalse(coalescer.start("GET /hello"));
+        Assert.assertTrue(coalescer.start("GET /bye"));
+        Assert.assertTrue(coalescer.isInFlight("GET /hello"));
+
+        coalescer.end("GET /hello");
+        Assert.assertFalse(coalescer.isInFlight("GET /hello"));
+        Assert.assertTrue(coalescer.start("GET /hello"));
+    }
+
+    @Test
+    public void testWaitersAreReleasedWhenFlightEnds() throws Exception {
+        RequestCoalescer coalescer = new RequestCoalescer();
+        Assert.assertTrue(coalescer.await("GET /hello", 10).get(1, TimeUnit.SECONDS));
+
+        coalescer.start("GET /hello");
+        CompletableFuture<Boolean> first = coalescer.await("GET /hello", 10000);
+        CompletableFuture<Boolean> second = coalescer.await("GET /hello", 10000);
+        Assert.assertFalse(first.isDone());
+        Assert.assertFalse(second.isDone());
+
+        coalescer.end("GET /hello");
+        Assert.assertTrue(first.get(1, TimeUnit.SECONDS));
+        Assert.assertTrue(second.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testWaitTimesOut() throws Exception {
+        RequestCoalescer coalescer = new RequestCoalescer();
+        coalescer.start("GET /slow");
+        Assert.assertFalse(coalescer.await("GET /slow", 50).get(5, TimeUnit.SECONDS));
+        Assert.assertTrue(coalescer.isInFlight("GET /slow"));
+        coalescer.end("GET /slow");
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.api.client.cookie;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * A unit test class for the {@link CookieIndex}.
+ */
+public class CookieIndexTest {
+
+    @Test
+    public void testMatchDomainsAndPaths() {
+        CookieIndex<String> index = new CookieIndex<>();
+        index.add("hostOnly", "a", "example.com", "/", true, false, false, false);
+        index.add("domain", "b", "example.com", "/", false, false, false, false);
+        index.add("path", "c", "example.com", "/docs", false, false, false, false);
+        index.add("other", "d", "other.com", "/", false, false, false, false);
+        index.add("subdomain", "e", "www.example.com", "/", true, false, false, false);
+
+        Assert.assertEquals(index.match("example.com", "/", false, false), Arrays.asList("hostOnly", "domain"));
+        Assert.assertEquals(index.match("www.example.com", "/docs/intro", false, false),
+                            Arrays.asList("domain", "path", "subdomain"));
+        Assert.assertEquals(index.match("www.example.com", "/docsx", false, false),
+                            Arrays.asList("domain", "subdomain"));
+        Assert.assertEquals(index.match("notexample.com", "/", false, false), Collections.emptyList());
+    }
+
+    @Test
+    public void testMatchSecureAndHttpOnlyCookies() {
+        CookieIndex<String> index = new CookieIndex<>();
+        index.add("secure", "a", "example.com", "/", false, true, false, false);
+        index.add("httpOnly", "b", "example.com", "/", false, false, true, false);
+
+        Assert.assertEquals(index.match("example.com", "/", false, false), Collections.emptyList());
+        Assert.assertEquals(index.match("example.com", "/", true, true), Arrays.asList("secure", "httpOnly"));
+    }
+
+    @Test
+    public void testReplaceAndRemoveKeepStoreOrder() {
+        CookieIndex<String> index = new CookieIndex<>();
+        index.add("persistent", "a", "example.com", "/", false, false, false, true);
+        index.add("first", "b", "example.com", "/", false, false, false, false);
+        index.add("second", "c", "example.com", "/", false, false, false, false);
+        index.add("replaced", "b", "example.com", "/", false, false, false, false);
+
+        Assert.assertEquals(index.getAll(), Arrays.asList("second", "replaced", "persistent"));
+        Assert.assertEquals(index.size(), 3);
+        Assert.assertEquals(index.countByDomain("example.com"), 3);
+        Assert.assertEquals(index.get("b", "example.com", "/"), "replaced");
+
+        Assert.assertTrue(index.remove("a", "example.com", "/").isPersistent());
+        Assert.assertFalse(index.remove("b", "example.com", "/").isPersistent());
+        Assert.assertEquals(index.remove("b", "example.com", "/"), null);
+        Assert.assertEquals(index.getAll(), Collections.singletonList("second"));
+        Assert.assertEquals(index.size(), 1);
+    }
+
+    @Test
+    public void testSessionCookieRelatedToDomain() {
+        CookieIndex<String> index = new CookieIndex<>();
+        index.add("persistent", "a", "example.com", "/", false, false, false, true);
+        Assert.assertFalse(index.hasSessionCookieRelatedTo("example.com"));
+
+        index.add("session", "b", "example.com", "/", false, false, false, false);
+        Assert.assertTrue(index.hasSessionCookieRelatedTo("example.com"));
+        Assert.assertTrue(index.hasSessionCookieRelatedTo("www.example.com"));
+        Assert.assertTrue(index.hasSessionCookieRelatedTo("com"));
+        Assert.assertFalse(index.hasSessionCookieRelatedTo("notexample.com"));
+    }
+}
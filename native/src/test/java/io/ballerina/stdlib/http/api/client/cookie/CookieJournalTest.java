@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.api.client.cookie;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A unit test class for the {@link CookieJournal}.
+ */
+public class CookieJournalTest {
+
+    @Test
+    public void testReplayStoredAndRemovedCookies() throws IOException {
+        Path directory = Files.createTempDirectory("cookies");
+        Path file = directory.resolve("cookies.csv");
+        try {
+            CookieJournal journal = new CookieJournal(file.toString());
+            journal.store(cookieRecord("SID001", "a", "/"));
+            journal.store(cookieRecord("SID002", "b", "/"));
+            journal.store(cookieRecord("SID001", "c", "/"));
+            Assert.assertTrue(journal.remove("SID002", "example.com", "/"));
+            Assert.assertFalse(journal.remove("SID003", "example.com", "/"));
+            Assert.assertEquals(Files.readAllLines(file).size(), 4);
+
+            List<String[]> records = new CookieJournal(file.toString()).getAll();
+            Assert.assertEquals(records.size(), 1);
+            Assert.assertEquals(records.get(0), cookieRecord("SID001", "c", "/"));
+        } finally {
+            deleteAll(directory);
+        }
+    }
+
+    @Test
+    public void testCompactStaleRecords() throws IOException {
+        Path directory = Files.createTempDirectory("cookies");
+        Path file = directory.resolve("cookies.csv");
+        try {
+            CookieJournal journal = new CookieJournal(file.toString());
+            for (int i = 0; i < 1000; i++) {
+                journal.store(cookieRecord("SID" + (i % 4), String.valueOf(i), "/"));
+            }
+            Assert.assertTrue(journal.getLines() <= 64, "The journal is not compacted: " + journal.getLines());
+            Assert.assertTrue(Files.readAllLines(file).size() == journal.getLines());
+            Assert.assertEquals(new CookieJournal(file.toString()).getAll().size(), 4);
+            Assert.assertFalse(Files.exists(directory.resolve("cookies.csv.tmp")));
+        } finally {
+            deleteAll(directory);
+        }
+    }
+
+    @Test
+    public void testFileRemovedExternally() throws IOException {
+        Path directory = Files.createTempDirectory("cookies");
+        Path file = directory.resolve("cookies.csv");
+        try {
+            CookieJournal journal = new CookieJournal(file.toString());
+            journal.store(cookieRecord("SID001", "a", "/"));
+            Files.delete(file);
+            Assert.assertEquals(journal.getAll().size(), 0);
+
+            journal.store(cookieRecord("SID002", "b", "/"));
+            Assert.assertEquals(new CookieJournal(file.toString()).getAll().size(), 1);
+        } finally {
+            deleteAll(directory);
+        }
+    }
+
+    @Test
+    public void testQuotedFields() throws IOException {
+        String[] cookieRecord = cookieRecord("SID001", "a,\"b\"", "/");
+        cookieRecord[4] = "Wed, 15 Jul 2030 05:46:22 GMT";
+        String line = CookieJournal.format(cookieRecord);
+        Assert.assertEquals(line.substring(0, line.indexOf("example.com")), "SID001,\"a,\"\"b\"\"\",");
+        Assert.assertEquals(CookieJournal.parse(line.trim()), cookieRecord);
+
+        Path directory = Files.createTempDirectory("cookies");
+        Path file = directory.resolve("cookies.csv");
+        try {
+            Files.write(file, line.getBytes(StandardCharsets.UTF_8));
+            Assert.assertEquals(new CookieJournal(file.toString()).getAll().get(0), cookieRecord);
+        } finally {
+            deleteAll(directory);
+        }
+    }
+
+    private static String[] cookieRecord(String name, String value, String path) {
+        return new String[]{name, value, "example.com", path, "-", "3600", "true", "false",
+                "2026-01-01T00:00:00Z", "2026-01-01T00:00:00Z", "false"};
+    }
+
+    private static void deleteAll(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.collect(Collectors.toList())) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+}
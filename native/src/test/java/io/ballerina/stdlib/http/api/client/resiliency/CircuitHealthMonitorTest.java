@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.api.client.resiliency;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.ballerina.stdlib.http.api.client.resiliency.CircuitHealthMonitor.CLOSED;
+import static io.ballerina.stdlib.http.api.client.resiliency.CircuitHealthMonitor.HALF_OPEN;
+import static io.ballerina.stdlib.http.api.client.resiliency.CircuitHealthMonitor.NO_TRANSITION;
+import static io.ballerina.stdlib.http.api.client.resiliency.CircuitHealthMonitor.OPEN;
+import static io.ballerina.stdlib.http.api.client.resiliency.CircuitHealthMonitor.RESET_TIMEOUT_REACHED;
+import static io.ballerina.stdlib.http.api.client.resiliency.CircuitHealthMonitor.TRIAL_SUCCEEDED;
+import static io.ballerina.stdlib.http.api.client.resiliency.CircuitHealthMonitor.TRIAL_FAILED;
+import static io.ballerina.stdlib.http.api.client.resiliency.CircuitHealthMonitor.TRIPPED;
+import static io.ballerina.stdlib.http.api.client.resiliency.CircuitHealthMonitor.stateOf;
+import static io.ballerina.stdlib.http.api.client.resiliency.CircuitHealthMonitor.transitionOf;
+
+/**
+ * A unit test class for the {@link CircuitHealthMonitor}.
+ */
+public class CircuitHealthMonitorTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    public void testCircuitTripsAndRecovers() {
+        AtomicLong clock = new AtomicLong();
+        CircuitHealthMonitor monitor = new CircuitHealthMonitor(6, 10, 5, 4, 0.5, clock::get);
+        for (int i = 0; i < 4; i++) {
+            Assert.assertEquals(transitionOf(monitor.onRequest()), NO_TRANSITION);
+            monitor.onFailure();
+        }
+        Assert.assertEquals(monitor.getFailureRatio(), 1.0);
+        Assert.assertEquals(transitionOf(monitor.onRequest()), TRIPPED);
+        Assert.assertEquals(monitor.getState(), OPEN);
+        monitor.onRejection();
+        Assert.assertEquals(monitor.getRemainingResetTime(), 5);
+
+        clock.addAndGet(6 * SECOND);
+        Assert.assertEquals(transitionOf(monitor.onRequest()), RESET_TIMEOUT_REACHED);
+        Assert.assertEquals(monitor.getState(), HALF_OPEN);
+        monitor.onSuccess();
+        Assert.assertEquals(transitionOf(monitor.onRequest()), TRIAL_SUCCEEDED);
+        Assert.assertEquals(monitor.getState(), CLOSED);
+    }
+
+    @Test
+    public void testOldBucketsLeaveRollingWindow() {
+        AtomicLong clock = new AtomicLong();
+        CircuitHealthMonitor monitor = new CircuitHealthMonitor(3, 1, 5, 10, 0.5, clock::get);
+        monitor.onRequest();
+        monitor.onFailure();
+        clock.addAndGet(SECOND);
+        monitor.onRequest();
+        Assert.assertEquals(monitor.getTotalCount(), 2);
+        Assert.assertEquals(monitor.getFailureRatio(), 0.5);
+
+        clock.addAndGet(2 * SECOND);
+        Assert.assertEquals(monitor.getTotalCount(), 1);
+        Assert.assertEquals(monitor.getFailureRatio(), 0.0);
+
+        // The slot of the first bucket is reused without counting its old requests
+        monitor.onRequest();
+        Assert.assertEquals(monitor.getTotalCount(), 2);
+
+        clock.addAndGet(10 * SECOND);
+        Assert.assertEquals(monitor.getTotalCount(), 0);
+    }
+
+    @Test
+    public void testForcedStates() {
+        AtomicLong clock = new AtomicLong();
+        CircuitHealthMonitor monitor = new CircuitHealthMonitor(6, 10, 5, 1, 0.1, clock::get);
+        monitor.onRequest();
+        monitor.onFailure();
+        clock.addAndGet(SECOND);
+        monitor.forceOpen();
+        Assert.assertEquals(monitor.getState(), OPEN);
+        Assert.assertEquals(monitor.getRemainingResetTime(), 5);
+
+        monitor.forceClose();
+        Assert.assertEquals(monitor.getState(), CLOSED);
+        Assert.assertEquals(monitor.getTotalCount(), 0);
+        Assert.assertEquals(transitionOf(monitor.onRequest()), NO_TRANSITION);
+    }
+
+    @Test
+    public void testConcurrentRequestsAreAllCounted() throws InterruptedException {
+        int threads = 8;
+        int requestsPerThread = 10000;
+        CircuitHealthMonitor monitor = new CircuitHealthMonitor(6, 60, 5, Long.MAX_VALUE, 1.0);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger transitions = new AtomicInteger();
+        try {
+            for (int i = 0; i < threads; i++) {
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    for (int j = 0; j < requestsPerThread; j++) {
+                        if (transitionOf(monitor.onRequest()) != NO_TRANSITION) {
+                            transitions.incrementAndGet();
+                        }
+                        if (j % 2 == 0) {
+                            monitor.onFailure();
+                        } else {
+                            monitor.onSuccess();
+                        }
+                    }
+                });
+            }
+            start.countDown();
+        } finally {
+            executor.shutdown();
+            Assert.assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        }
+        Assert.assertEquals(monitor.getTotalCount(), (long) threads * requestsPerThread);
+        Assert.assertEquals(monitor.getFailureRatio(), 0.5);
+        Assert.assertEquals(transitions.get(), 0);
+    }
+
+    @Test
+    public void testOnlyOneRequestTripsCircuit() throws InterruptedException {
+        AtomicLong clock = new AtomicLong();
+        CircuitHealthMonitor monitor = new CircuitHealthMonitor(6, 10, 5, 1, 0.1, clock::get);
+        monitor.onRequest();
+        monitor.onFailure();
+
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        AtomicInteger trips = new AtomicInteger();
+        for (int i = 0; i < threads; i++) {
+            executor.execute(() -> {
+                if (transitionOf(monitor.onRequest()) == TRIPPED) {
+                    trips.incrementAndGet();
+                }
+            });
+        }
+        executor.shutdown();
+        Assert.assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        Assert.assertEquals(trips.get(), 1);
+        Assert.assertEquals(monitor.getState(), OPEN);
+    }
+
+    @Test
+    public void testTrialRequestSeesHalfOpenState() {
+        AtomicLong clock = new AtomicLong();
+        CircuitHealthMonitor monitor = new CircuitHealthMonitor(6, 10, 5, 1, 0.1, clock::get);
+        monitor.onRequest();
+        monitor.onFailure();
+        int tripped = monitor.onRequest();
+        Assert.assertEquals(transitionOf(tripped), TRIPPED);
+        Assert.assertEquals(stateOf(tripped), OPEN);
+        int rejected = monitor.onRequest();
+        Assert.assertEquals(transitionOf(rejected), NO_TRANSITION);
+        Assert.assertEquals(stateOf(rejected), OPEN);
+
+        clock.addAndGet(6 * SECOND);
+        // The trial request switches the circuit to half-open, and another request follows it before its outcome
+        int trial = monitor.onRequest();
+        int next = monitor.onRequest();
+        Assert.assertEquals(transitionOf(trial), RESET_TIMEOUT_REACHED);
+        Assert.assertEquals(stateOf(trial), HALF_OPEN);
+        Assert.assertEquals(transitionOf(next), TRIAL_FAILED);
+        Assert.assertEquals(stateOf(next), OPEN);
+        Assert.assertEquals(monitor.getState(), OPEN);
+    }
+
+    @Test
+    public void testClosedStateIsReturned() {
+        AtomicLong clock = new AtomicLong();
+        CircuitHealthMonitor monitor = new CircuitHealthMonitor(6, 10, 5, 1, 0.5, clock::get);
+        int result = monitor.onRequest();
+        Assert.assertEquals(transitionOf(result), NO_TRANSITION);
+        Assert.assertEquals(stateOf(result), CLOSED);
+        monitor.onSuccess();
+        result = monitor.onRequest();
+        Assert.assertEquals(transitionOf(result), NO_TRANSITION);
+        Assert.assertEquals(stateOf(result), CLOSED);
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.api.client.resiliency;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.function.LongToIntFunction;
+
+/**
+ * A unit test class for the {@link LoadBalancerSelector} and the {@link BackendLoad}.
+ */
+public class LoadBalancerSelectorTest {
+
+    private static final long MILLISECOND = 1_000_000L;
+
+    @Test
+    public void testLeastOutstandingSkipsBusyBackends() {
+        BackendLoad[] loads = {new BackendLoad(), new BackendLoad(), new BackendLoad()};
+        loads[0].start(0);
+        loads[2].start(0);
+        loads[2].start(0);
+        for (int i = 0; i < 20; i++) {
+            Assert.assertEquals(LoadBalancerSelector.selectLeastOutstanding(3, index -> loads[index], 0), 1);
+        }
+        Assert.assertEquals(LoadBalancerSelector.selectLeastOutstanding(2, index -> index == 0 ? null : loads[2], 0),
+                            1);
+    }
+
+    @Test
+    public void testLeastOutstandingPenalizesFailingBackends() {
+        BackendLoad[] loads = {new BackendLoad(), new BackendLoad()};
+        loads[0].end(loads[0].start(0), MILLISECOND, true);
+        loads[1].start(0);
+        loads[1].start(0);
+        for (int i = 0; i < 20; i++) {
+            Assert.assertEquals(LoadBalancerSelector.selectLeastOutstanding(2, index -> loads[index], MILLISECOND), 1);
+        }
+        // The failure is forgotten while the backend is not used
+        Assert.assertEquals(LoadBalancerSelector.selectLeastOutstanding(
+                2, index -> loads[index], MILLISECOND + BackendLoad.DECAY_TIME_NANOS * 5), 0);
+    }
+
+    @Test
+    public void testPeakEwmaFollowsSpikesAndDecays() {
+        BackendLoad load = new BackendLoad();
+        load.end(load.start(0), 10 * MILLISECOND, false);
+        Assert.assertEquals(load.getCost(10 * MILLISECOND), 10.0 * MILLISECOND);
+
+        // A spike replaces the average right away
+        load.end(load.start(20 * MILLISECOND), 220 * MILLISECOND, false);
+        Assert.assertEquals(load.getCost(220 * MILLISECOND), 200.0 * MILLISECOND);
+        Assert.assertEquals(load.getOutstanding(), 0);
+
+        // A faster sample is only blended in, and the average fades while the backend is idle
+        load.end(load.start(220 * MILLISECOND), 230 * MILLISECOND, false);
+        Assert.assertTrue(load.getCost(230 * MILLISECOND) > 150.0 * MILLISECOND);
+        Assert.assertTrue(load.getCost(230 * MILLISECOND + BackendLoad.DECAY_TIME_NANOS * 5) < MILLISECOND * 2);
+
+        load.end(load.start(0), MILLISECOND, true);
+        Assert.assertTrue(load.getCost(MILLISECOND) >= BackendLoad.FAILURE_PENALTY_NANOS);
+    }
+
+    @Test
+    public void testPeakEwmaPrefersCheaperBackend() {
+        BackendLoad[] loads = {new BackendLoad(), new BackendLoad()};
+        loads[0].end(loads[0].start(0), 100 * MILLISECOND, false);
+        loads[1].end(loads[1].start(0), 10 * MILLISECOND, false);
+        for (int i = 0; i < 20; i++) {
+            Assert.assertEquals(LoadBalancerSelector.selectPeakEwma(2, index -> loads[index], 100 * MILLISECOND), 1);
+        }
+        Assert.assertEquals(LoadBalancerSelector.selectPeakEwma(1, index -> loads[index], 0), 0);
+    }
+
+    @Test
+    public void testPeakEwmaSkipsEmptySlots() {
+        BackendLoad load = new BackendLoad();
+        for (int i = 0; i < 50; i++) {
+            Assert.assertEquals(LoadBalancerSelector.selectPeakEwma(3, index -> index == 1 ? load : null, 0), 1);
+        }
+    }
+
+    /**
+     * Simulates the requests of a load balance client to three local backends, one of which is ten times slower than
+     * the others. Each backend serves one request at a time, so the requests routed to the slow one queue up.
+     */
+    @Test
+    public void testLoadAwareRulesCutTailLatency() {
+        long[] serviceTimes = {5 * MILLISECOND, 5 * MILLISECOND, 50 * MILLISECOND};
+        BackendLoad[] roundRobinLoads = newLoads(3);
+        int[] counter = {0};
+        long roundRobin = simulateP99(serviceTimes, roundRobinLoads, now -> counter[0]++ % 3);
+        BackendLoad[] leastOutstandingLoads = newLoads(3);
+        long leastOutstanding = simulateP99(serviceTimes, leastOutstandingLoads,
+                now -> LoadBalancerSelector.selectLeastOutstanding(3, index -> leastOutstandingLoads[index], now));
+        BackendLoad[] peakEwmaLoads = newLoads(3);
+        long peakEwma = simulateP99(serviceTimes, peakEwmaLoads,
+                now -> LoadBalancerSelector.selectPeakEwma(3, index -> peakEwmaLoads[index], now));
+
+        Assert.assertTrue(roundRobin >= serviceTimes[2], "round robin p99: " + roundRobin);
+        Assert.assertTrue(leastOutstanding < roundRobin / 2, "least outstanding p99: " + leastOutstanding);
+        Assert.assertTrue(peakEwma < roundRobin / 2, "peak EWMA p99: " + peakEwma);
+    }
+
+    private static BackendLoad[] newLoads(int size) {
+        BackendLoad[] loads = new BackendLoad[size];
+        for (int i = 0; i < size; i++) {
+            loads[i] = new BackendLoad();
+        }
+        return loads;
+    }
+
+    private static long simulateP99(long[] serviceTimes, BackendLoad[] loads, LongToIntFunction selector) {
+        Random random = new Random(42);
+        // Arrivals at 400 requests per second, which the slow backend cannot keep up with at a third of the traffic
+        double meanInterval = 2.5 * MILLISECOND;
+        long[] freeAt = new long[serviceTimes.length];
+        PriorityQueue<long[]> completions = new PriorityQueue<>((a, b) -> Long.compare(a[0], b[0]));
+        List<Long> latencies = new ArrayList<>();
+        long now = 0;
+        for (int i = 0; i < 20000; i++) {
+            now += (long) (-Math.log(1 - random.nextDouble()) * meanInterval);
+            while (!completions.isEmpty() && completions.peek()[0] <= now) {
+                long[] completion = completions.poll();
+                loads[(int) completion[1]].end(completion[2], completion[0], false);
+            }
+            int backend = selector.applyAsInt(now);
+            long startTime = loads[backend].start(now);
+            long completionTime = Math.max(now, freeAt[backend]) + serviceTimes[backend];
+            freeAt[backend] = completionTime;
+            completions.add(new long[]{completionTime, backend, startTime});
+            latencies.add(completionTime - now);
+        }
+        Collections.sort(latencies);
+        return latencies.get((int) (latencies.size() * 0.99));
+    }
+}
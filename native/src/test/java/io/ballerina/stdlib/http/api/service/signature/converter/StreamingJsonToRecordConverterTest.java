@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.api.service.signature.converter;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import org.mockito.MockedStatic;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.StringReader;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mockStatic;
+
+/**
+ * A unit test class for {@link StreamingJsonToRecordConverter}.
+ */
+public class StreamingJsonToRecordConverterTest {
+
+    private static final ArrayType INT_ARRAY = TypeCreator.createArrayType(PredefinedTypes.TYPE_INT);
+    private static final ArrayType STRING_ARRAY = TypeCreator.createArrayType(PredefinedTypes.TYPE_STRING);
+    private static final Module MODULE = new Module("test", "payloads", "1.0.0");
+    private static final BString NAME = StringUtils.fromString("name");
+    private static final BString AGE = StringUtils.fromString("age");
+    private static final BString NOTE = StringUtils.fromString("note");
+    private static final BString TAG = StringUtils.fromString("tag");
+    private static final BString BUYER = StringUtils.fromString("buyer");
+    private static final BString FRIENDS = StringUtils.fromString("friends");
+    private static final long DEFAULT_AGE = 18;
+
+    // type Person record {| string name; int age = 18; string? note; string tag?; |};
+    private static final RecordType PERSON = createClosedRecordType(
+            "Person",
+            field("name", PredefinedTypes.TYPE_STRING, SymbolFlags.REQUIRED),
+            field("age", PredefinedTypes.TYPE_INT, 0),
+            field("note", TypeCreator.createUnionType(PredefinedTypes.TYPE_STRING, PredefinedTypes.TYPE_NULL),
+                  SymbolFlags.REQUIRED),
+            field("tag", PredefinedTypes.TYPE_STRING, SymbolFlags.OPTIONAL));
+    // type Order record {| int id; Person buyer; Person[] friends; |};
+    private static final RecordType ORDER = createClosedRecordType(
+            "Order",
+            field("id", PredefinedTypes.TYPE_INT, SymbolFlags.REQUIRED),
+            field("buyer", PERSON, SymbolFlags.REQUIRED),
+            field("friends", TypeCreator.createArrayType(PERSON), SymbolFlags.REQUIRED));
+
+    private MockedStatic<ValueCreator> valueCreator;
+
+    /**
+     * Records can only be created with their default values through the values of a compiled module, hence the
+     * creation is replaced with one which fills in the defaults of the test types.
+     */
+    @BeforeClass
+    public void setup() {
+        Map<String, RecordType> recordTypes = Map.of(PERSON.getName(), PERSON, ORDER.getName(), ORDER);
+        valueCreator = mockStatic(ValueCreator.class, CALLS_REAL_METHODS);
+        valueCreator.when(() -> ValueCreator.createRecordValue(any(Module.class), anyString())).thenAnswer(
+                invocation -> {
+                    RecordType recordType = recordTypes.get(invocation.<String>getArgument(1));
+                    BMap<BString, Object> record = ValueCreator.createMapValue(recordType);
+                    if (recordType == PERSON) {
+                        record.put(AGE, DEFAULT_AGE);
+                    }
+                    return record;
+                });
+    }
+
+    @AfterClass
+    public void cleanUp() {
+        valueCreator.close();
+    }
+
+    @Test
+    public void testBindArrays() {
+        BArray ints = (BArray) StreamingJsonToRecordConverter.convert(INT_ARRAY, new StringReader(" [1, -2, 3] "));
+        Assert.assertEquals(ints.size(), 3);
+        Assert.assertEquals(ints.getInt(1), -2L);
+
+        BArray strings = (BArray) StreamingJsonToRecordConverter.convert(STRING_ARRAY,
+                                                                         new StringReader("[\"a\", \"b\\u0063\"]"));
+        Assert.assertEquals(strings.size(), 2);
+        Assert.assertEquals(strings.getBString(1).getValue(), "bc");
+    }
+
+    @Test
+    public void testBindRecordWithDefaults() {
+        BMap<BString, Object> person = toRecord(StreamingJsonToRecordConverter.convert(PERSON, new StringReader(
+                "{\"name\": \"Anne\", \"note\": null}")));
+        Assert.assertEquals(person.getStringValue(NAME).getValue(), "Anne");
+        Assert.assertEquals(person.getIntValue(AGE).longValue(), DEFAULT_AGE);
+
+        person = toRecord(StreamingJsonToRecordConverter.convert(PERSON, new StringReader(
+                "{\"age\": 30, \"note\": null, \"name\": \"Anne\"}")));
+        Assert.assertEquals(person.getIntValue(AGE).longValue(), 30L);
+    }
+
+    @Test
+    public void testBindNestedRecords() {
+        BMap<BString, Object> order = toRecord(StreamingJsonToRecordConverter.convert(ORDER, new StringReader(
+                "{\"id\": 7, \"buyer\": {\"name\": \"Anne\", \"note\": \"vip\"}, " +
+                        "\"friends\": [{\"name\": \"Bob\", \"age\": 40, \"note\": null}]}")));
+        BMap<BString, Object> buyer = toRecord(order.get(BUYER));
+        Assert.assertEquals(buyer.getStringValue(NAME).getValue(), "Anne");
+        Assert.assertEquals(buyer.getStringValue(NOTE).getValue(), "vip");
+        Assert.assertEquals(buyer.getIntValue(AGE).longValue(), DEFAULT_AGE);
+        BArray friends = (BArray) order.get(FRIENDS);
+        Assert.assertEquals(friends.size(), 1);
+        Assert.assertEquals(toRecord(friends.get(0)).getIntValue(AGE).longValue(), 40L);
+    }
+
+    @Test
+    public void testBindNilableAndOptionalFields() {
+        BMap<BString, Object> person = toRecord(StreamingJsonToRecordConverter.convert(PERSON, new StringReader(
+                "{\"name\": \"Anne\", \"note\": null}")));
+        Assert.assertTrue(person.containsKey(NOTE));
+        Assert.assertNull(person.get(NOTE));
+        Assert.assertFalse(person.containsKey(TAG));
+
+        person = toRecord(StreamingJsonToRecordConverter.convert(PERSON, new StringReader(
+                "{\"name\": \"Anne\", \"note\": \"vip\", \"tag\": \"a\"}")));
+        Assert.assertEquals(person.getStringValue(NOTE).getValue(), "vip");
+        Assert.assertEquals(person.getStringValue(TAG).getValue(), "a");
+    }
+
+    @Test
+    public void testMismatchedRecordPayloadsAreNotBound() {
+        String[] payloads = {
+                // missing required fields
+                "{\"note\": null}", "{\"name\": \"Anne\"}",
+                // extra field against the closed record
+                "{\"name\": \"Anne\", \"note\": null, \"nickname\": \"A\"}",
+                // nil for a field which is not nilable
+                "{\"name\": null, \"note\": null}",
+                "{\"name\": \"Anne\", \"note\": null, \"age\": \"30\"}", "[]"
+        };
+        for (String payload : payloads) {
+            Assert.assertSame(StreamingJsonToRecordConverter.convert(PERSON, new StringReader(payload)),
+                              StreamingJsonToRecordConverter.MISMATCH, "Bound payload: " + payload);
+        }
+        Assert.assertSame(StreamingJsonToRecordConverter.convert(ORDER, new StringReader(
+                "{\"id\": 7, \"buyer\": {\"name\": \"Anne\"}, \"friends\": []}")),
+                          StreamingJsonToRecordConverter.MISMATCH);
+    }
+
+    @Test
+    public void testMismatchedPayloadsAreNotBound() {
+        String[] payloads = {"[1, \"2\"]", "[1.5]", "{\"a\": 1}", "[1] [2]", "[1,", "null", ""};
+        for (String payload : payloads) {
+            Assert.assertSame(StreamingJsonToRecordConverter.convert(INT_ARRAY, new StringReader(payload)),
+                              StreamingJsonToRecordConverter.MISMATCH, "Bound payload: " + payload);
+        }
+    }
+
+    @Test
+    public void testUnsupportedTypes() {
+        Assert.assertTrue(StreamingJsonToRecordConverter.isSupported(INT_ARRAY));
+        Assert.assertTrue(StreamingJsonToRecordConverter.isSupported(TypeCreator.createArrayType(
+                TypeCreator.createUnionType(PredefinedTypes.TYPE_DECIMAL, PredefinedTypes.TYPE_NULL))));
+        Assert.assertFalse(StreamingJsonToRecordConverter.isSupported(
+                TypeCreator.createArrayType(PredefinedTypes.TYPE_JSON)));
+        Assert.assertFalse(StreamingJsonToRecordConverter.isSupported(TypeCreator.createArrayType(
+                PredefinedTypes.TYPE_INT, 2)));
+        Assert.assertSame(StreamingJsonToRecordConverter.convert(PredefinedTypes.TYPE_ANYDATA,
+                                                                 new StringReader("1")),
+                          StreamingJsonToRecordConverter.MISMATCH);
+    }
+
+    private static Field field(String name, Type type, long flags) {
+        return TypeCreator.createField(type, name, flags);
+    }
+
+    private static RecordType createClosedRecordType(String name, Field... fields) {
+        Map<String, Field> fieldMap = new LinkedHashMap<>();
+        for (Field field : fields) {
+            fieldMap.put(field.getFieldName(), field);
+        }
+        return TypeCreator.createRecordType(name, MODULE, 0, fieldMap, null, true, 0);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BMap<BString, Object> toRecord(Object value) {
+        return (BMap<BString, Object>) value;
+    }
+}
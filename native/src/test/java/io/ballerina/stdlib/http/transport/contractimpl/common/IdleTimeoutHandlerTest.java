@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.common;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.DefaultEventLoop;
+import io.netty.channel.EventLoop;
+import io.netty.handler.timeout.IdleStateEvent;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * A unit test class for the {@link IdleTimeoutHandler} and the {@link TimeoutWheel}.
+ */
+public class IdleTimeoutHandlerTest {
+
+    private EventLoop eventLoop;
+
+    @BeforeClass
+    public void setup() {
+        eventLoop = new DefaultEventLoop();
+    }
+
+    @Test
+    public void testIdleEventIsTriggered() throws Exception {
+        ChannelHandlerContext ctx = createContext();
+        IdleTimeoutHandler handler = new IdleTimeoutHandler(50);
+        eventLoop.submit(() -> handler.handlerAdded(ctx)).sync();
+        verify(ctx, timeout(1000)).fireUserEventTriggered(IdleStateEvent.FIRST_ALL_IDLE_STATE_EVENT);
+        verify(ctx, timeout(1000)).fireUserEventTriggered(IdleStateEvent.ALL_IDLE_STATE_EVENT);
+        eventLoop.submit(() -> handler.handlerRemoved(ctx)).sync();
+    }
+
+    @Test
+    public void testReadPostponesIdleEvent() throws Exception {
+        ChannelHandlerContext ctx = createContext();
+        IdleTimeoutHandler handler = new IdleTimeoutHandler(200);
+        eventLoop.submit(() -> handler.handlerAdded(ctx)).sync();
+        for (int i = 0; i < 5; i++) {
+            Thread.sleep(80);
+            eventLoop.submit(() -> {
+                handler.channelRead(ctx, "data");
+                return null;
+            }).sync();
+        }
+        verify(ctx, never()).fireUserEventTriggered(any());
+        eventLoop.submit(() -> handler.handlerRemoved(ctx)).sync();
+    }
+
+    @Test
+    public void testRemovedHandlerDoesNotTrigger() throws Exception {
+        ChannelHandlerContext ctx = createContext();
+        IdleTimeoutHandler handler = new IdleTimeoutHandler(50);
+        eventLoop.submit(() -> {
+            handler.handlerAdded(ctx);
+            handler.handlerRemoved(ctx);
+        }).sync();
+        verify(ctx, after(200).never()).fireUserEventTriggered(any());
+    }
+
+    @Test
+    public void testWheelRunsTimeoutsOnTheExecutor() throws InterruptedException {
+        int timeouts = 10000;
+        CountDownLatch latch = new CountDownLatch(timeouts);
+        for (int i = 0; i < timeouts; i++) {
+            TimeoutWheel.schedule(eventLoop, () -> {
+                Assert.assertTrue(eventLoop.inEventLoop());
+                latch.countDown();
+            }, TimeUnit.MILLISECONDS.toNanos(20));
+        }
+        Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+    }
+
+    @AfterClass
+    public void cleanUp() {
+        eventLoop.shutdownGracefully();
+    }
+
+    private ChannelHandlerContext createContext() {
+        Channel channel = mock(Channel.class);
+        when(channel.isActive()).thenReturn(true);
+        when(channel.isRegistered()).thenReturn(true);
+        when(channel.isOpen()).thenReturn(true);
+        ChannelHandlerContext ctx = mock(ChannelHandlerContext.class);
+        when(ctx.channel()).thenReturn(channel);
+        when(ctx.executor()).thenReturn(eventLoop);
+        return ctx;
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.common;
+
+import io.ballerina.stdlib.http.transport.contentaware.listeners.EchoStreamingMessageListener;
+import io.ballerina.stdlib.http.transport.contract.Constants;
+import io.ballerina.stdlib.http.transport.contract.HttpWsConnectorFactory;
+import io.ballerina.stdlib.http.transport.contract.ServerConnector;
+import io.ballerina.stdlib.http.transport.contract.ServerConnectorFuture;
+import io.ballerina.stdlib.http.transport.contract.config.ListenerConfiguration;
+import io.ballerina.stdlib.http.transport.contract.config.ServerBootstrapConfiguration;
+import io.ballerina.stdlib.http.transport.contract.config.SocketTransport;
+import io.ballerina.stdlib.http.transport.contractimpl.DefaultHttpWsConnectorFactory;
+import io.ballerina.stdlib.http.transport.util.TestUtil;
+import io.ballerina.stdlib.http.transport.util.client.http.HttpClient;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpVersion;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A unit test class for the {@link SocketTransportProvider}.
+ */
+public class SocketTransportProviderTest {
+
+    @Test
+    public void testNioTransport() {
+        SocketTransportProvider provider = SocketTransportProvider.get(SocketTransport.NIO);
+        Assert.assertEquals(provider.getSocketTransport(), SocketTransport.NIO);
+        Assert.assertEquals(provider.getServerChannelClass(), NioServerSocketChannel.class);
+        Assert.assertEquals(provider.getSocketChannelClass(), NioSocketChannel.class);
+        Assert.assertFalse(provider.isReusePortSupported());
+        Assert.assertSame(SocketTransportProvider.forChannelClass(NioSocketChannel.class), provider);
+        Assert.assertSame(SocketTransportProvider.forChannelClass(EmbeddedChannel.class), provider);
+    }
+
+    @Test
+    public void testNativeTransportsFallBackWhenUnavailable() {
+        SocketTransport expected = Epoll.isAvailable() ? SocketTransport.EPOLL : SocketTransport.NIO;
+        Assert.assertEquals(SocketTransportProvider.get(SocketTransport.AUTO).getSocketTransport(), expected);
+        Assert.assertEquals(SocketTransportProvider.get(SocketTransport.EPOLL).getSocketTransport(), expected);
+        Assert.assertNotEquals(SocketTransportProvider.get(SocketTransport.IO_URING).getSocketTransport(),
+                               SocketTransport.AUTO);
+        if (Epoll.isAvailable()) {
+            SocketTransportProvider provider = SocketTransportProvider.get(SocketTransport.EPOLL);
+            Assert.assertEquals(provider.getServerChannelClass(), EpollServerSocketChannel.class);
+            Assert.assertTrue(provider.isReusePortSupported());
+            Assert.assertSame(SocketTransportProvider.forChannelClass(provider.getSocketChannelClass()), provider);
+        }
+    }
+
+    @Test
+    public void testListenerWithReusePortOnAutoTransport() throws Exception {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(Constants.SERVER_BOOTSTRAP_TRANSPORT, SocketTransport.AUTO.name());
+        properties.put(Constants.SERVER_BOOTSTRAP_SO_REUSEPORT, true);
+        properties.put(Constants.SERVER_BOOTSTRAP_TCP_QUICKACK, true);
+        ListenerConfiguration listenerConfiguration = new ListenerConfiguration();
+        listenerConfiguration.setPort(TestUtil.SERVER_CONNECTOR_PORT);
+        listenerConfiguration.setServerHeader(TestUtil.TEST_SERVER);
+
+        HttpWsConnectorFactory httpWsConnectorFactory = new DefaultHttpWsConnectorFactory(2, 2, 2);
+        ServerConnector serverConnector = httpWsConnectorFactory.createServerConnector(
+                new ServerBootstrapConfiguration(properties), listenerConfiguration);
+        try {
+            ServerConnectorFuture serverConnectorFuture = serverConnector.start();
+            serverConnectorFuture.setHttpConnectorListener(new EchoStreamingMessageListener());
+            serverConnectorFuture.sync();
+            for (int i = 0; i < 4; i++) {
+                HttpClient httpClient = new HttpClient(TestUtil.TEST_HOST, TestUtil.SERVER_CONNECTOR_PORT);
+                String payload = "request-" + i;
+                FullHttpRequest httpRequest = new DefaultFullHttpRequest(
+                        HttpVersion.HTTP_1_1, HttpMethod.POST, "/",
+                        Unpooled.wrappedBuffer(payload.getBytes(StandardCharsets.UTF_8)));
+                FullHttpResponse httpResponse = httpClient.sendRequest(httpRequest);
+                Assert.assertEquals(TestUtil.getEntityBodyFrom(httpResponse), payload);
+            }
+        } finally {
+            serverConnector.stop();
+            httpWsConnectorFactory.shutdown();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.ssl;
+
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.SslProvider;
+import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests for {@link ClientSslContexts}.
+ */
+public class ClientSslContextsTest {
+
+    @Test
+    public void testContextsSharedPerConfig() {
+        SSLConfig sslConfig = new SSLConfig();
+        ClientSslContexts clientSslContexts = ClientSslContexts.of(sslConfig);
+        Assert.assertSame(ClientSslContexts.of(sslConfig), clientSslContexts);
+        Assert.assertNotSame(ClientSslContexts.of(new SSLConfig()), clientSslContexts);
+        Assert.assertSame(clientSslContexts.getSslHandlerFactory(false), clientSslContexts.getSslHandlerFactory(false));
+    }
+
+    @Test
+    public void testContextCreatedOncePerProtocol() throws Exception {
+        ClientSslContexts clientSslContexts = ClientSslContexts.of(new SSLConfig());
+        AtomicInteger created = new AtomicInteger();
+        ClientSslContexts.SslContextFactory factory = () -> {
+            created.incrementAndGet();
+            return insecureSslContext();
+        };
+        SslContext http = clientSslContexts.getSslContext(ClientSslContexts.HTTP, factory);
+        Assert.assertSame(clientSslContexts.getSslContext(ClientSslContexts.HTTP, factory), http);
+        Assert.assertEquals(created.get(), 1);
+        Assert.assertNotSame(clientSslContexts.getSslContext(ClientSslContexts.HTTP2, factory), http);
+        Assert.assertEquals(created.get(), 2);
+    }
+
+    private static SslContext insecureSslContext() throws Exception {
+        return SslContextBuilder.forClient().sslProvider(SslProvider.JDK)
+                .trustManager(InsecureTrustManagerFactory.INSTANCE).build();
+    }
+}
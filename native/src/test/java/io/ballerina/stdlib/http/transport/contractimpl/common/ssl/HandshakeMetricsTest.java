@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.ssl;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.handler.ssl.SslProvider;
+import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for {@link HandshakeMetrics}.
+ */
+public class HandshakeMetricsTest {
+
+    @Test
+    public void testCompletedHandshakes() {
+        HandshakeMetrics metrics = new HandshakeMetrics("localhost:9443");
+        metrics.record(false, 300);
+        metrics.record(true, 100);
+        metrics.record(true, 100);
+        Assert.assertEquals(metrics.getFullHandshakes(), 1);
+        Assert.assertEquals(metrics.getResumedHandshakes(), 2);
+        Assert.assertEquals(metrics.getFailedHandshakes(), 0);
+        Assert.assertEquals(metrics.getHandshakeNanos(), 500);
+    }
+
+    @Test
+    public void testFailedHandshake() throws Exception {
+        HandshakeMetrics metrics = new HandshakeMetrics("client");
+        SslContext sslContext = SslContextBuilder.forClient().sslProvider(SslProvider.JDK)
+                .trustManager(InsecureTrustManagerFactory.INSTANCE).build();
+        EmbeddedChannel channel = new EmbeddedChannel();
+        SslHandler sslHandler = sslContext.newHandler(channel.alloc(), "localhost", 9443);
+        metrics.track(sslHandler);
+        channel.pipeline().addLast(sslHandler);
+        channel.close();
+        Assert.assertEquals(metrics.getFailedHandshakes(), 1);
+        Assert.assertEquals(metrics.getFullHandshakes(), 0);
+        Assert.assertEquals(metrics.getResumedHandshakes(), 0);
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void testSessionsResumedByTheirId() {
+        HandshakeMetrics metrics = new HandshakeMetrics("client");
+        Assert.assertFalse(metrics.isResumed(new byte[]{1, 2, 3}));
+        Assert.assertFalse(metrics.isResumed(new byte[]{4, 5, 6}));
+        Assert.assertTrue(metrics.isResumed(new byte[]{1, 2, 3}));
+        // A session without an ID is never taken as resumed
+        Assert.assertFalse(metrics.isResumed(new byte[0]));
+        Assert.assertFalse(metrics.isResumed(new byte[0]));
+    }
+
+    @Test
+    public void testOnlyRecentSessionIdsAreKept() {
+        HandshakeMetrics metrics = new HandshakeMetrics("client");
+        for (int i = 0; i <= 1024; i++) {
+            Assert.assertFalse(metrics.isResumed(new byte[]{(byte) (i >> 8), (byte) i}));
+        }
+        Assert.assertFalse(metrics.isResumed(new byte[]{0, 0}));
+        Assert.assertTrue(metrics.isResumed(new byte[]{4, 0}));
+    }
+
+    @Test
+    public void testMetricsAreReportedThroughTheMonitor() {
+        HandshakeMetricsMonitor monitor = HandshakeMetricsMonitor.getInstance();
+        long fullHandshakes = monitor.getFullHandshakes();
+        long resumedHandshakes = monitor.getResumedHandshakes();
+        HandshakeMetrics metrics = new HandshakeMetrics("localhost:9444");
+        metrics.record(false, TimeUnit.MILLISECONDS.toNanos(30));
+        metrics.record(true, TimeUnit.MILLISECONDS.toNanos(10));
+        Assert.assertEquals(monitor.getFullHandshakes(), fullHandshakes + 1);
+        Assert.assertEquals(monitor.getResumedHandshakes(), resumedHandshakes + 1);
+        Assert.assertTrue(Arrays.asList(monitor.getHandshakeStats())
+                                  .contains("localhost:9444: full=1, resumed=1, failed=0, averageMillis=20"));
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.ssl;
+
+import io.netty.handler.ssl.OpenSslSessionTicketKey;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+
+/**
+ * Tests for {@link SessionTicketKeys}.
+ */
+public class SessionTicketKeysTest {
+
+    @Test
+    public void testRotation() {
+        SessionTicketKeys sessionTicketKeys = new SessionTicketKeys(3600);
+        OpenSslSessionTicketKey[] initial = sessionTicketKeys.getKeys();
+        Assert.assertEquals(initial.length, 1);
+
+        sessionTicketKeys.rotate();
+        OpenSslSessionTicketKey[] rotated = sessionTicketKeys.getKeys();
+        Assert.assertEquals(rotated.length, 2);
+        Assert.assertFalse(Arrays.equals(rotated[0].name(), initial[0].name()));
+        // The previous key is kept to decrypt the tickets issued with it
+        Assert.assertTrue(Arrays.equals(rotated[1].name(), initial[0].name()));
+
+        sessionTicketKeys.rotate();
+        OpenSslSessionTicketKey[] rotatedAgain = sessionTicketKeys.getKeys();
+        Assert.assertEquals(rotatedAgain.length, 2);
+        Assert.assertTrue(Arrays.equals(rotatedAgain[1].name(), rotated[0].name()));
+    }
+
+    @Test
+    public void testRotationNotDue() {
+        SessionTicketKeys sessionTicketKeys = new SessionTicketKeys(3600);
+        OpenSslSessionTicketKey[] initial = sessionTicketKeys.getKeys();
+        sessionTicketKeys.rotateIfDue();
+        OpenSslSessionTicketKey[] keys = sessionTicketKeys.getKeys();
+        Assert.assertEquals(keys.length, 1);
+        Assert.assertTrue(Arrays.equals(keys[0].name(), initial[0].name()));
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.listener;
+
+import io.ballerina.stdlib.http.transport.contract.config.ResponseCompressionConfig;
+import io.ballerina.stdlib.http.transport.contract.config.ResponseCompressionConfig.ContentTypeSettings;
+import io.ballerina.stdlib.http.transport.contractimpl.listener.compression.CompressionPolicy;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.util.ReferenceCountUtil;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Tests for {@link CustomHttpContentCompressor}.
+ */
+public class CustomHttpContentCompressorTest {
+
+    private static final String HOST = "localhost:9090";
+    private static final String ETAG = "\"v1\"";
+    private static final String PAYLOAD = "Hello, compression! ".repeat(100);
+
+    @Test
+    public void testCompressedOutputIsCaptured() throws IOException {
+        CompressionPolicy policy = new CompressionPolicy(createConfig(1024));
+        EmbeddedChannel channel = new EmbeddedChannel(new CustomHttpContentCompressor(policy));
+        channel.writeInbound(createRequest(HttpMethod.GET, "/greeting", "gzip"));
+        channel.writeOutbound(createCacheableResponse(PAYLOAD));
+
+        EncodedResponse response = readResponse(channel);
+        Assert.assertEquals(response.contentEncoding, "gzip");
+        Assert.assertEquals(gunzip(response.body), PAYLOAD);
+        String key = CompressionPolicy.getCacheKey("gzip", HOST, "/greeting", ETAG);
+        Assert.assertEquals(policy.getCache().get(key), response.body);
+        Assert.assertEquals(policy.getMetrics().getCompressedResponses(), 1);
+        Assert.assertEquals(policy.getMetrics().getCachedResponses(), 0);
+        Assert.assertEquals(policy.getMetrics().getInputBytes(), PAYLOAD.length());
+        Assert.assertEquals(policy.getMetrics().getOutputBytes(), response.body.length);
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void testCacheHitIsReplayed() throws IOException {
+        CompressionPolicy policy = new CompressionPolicy(createConfig(1024));
+        EmbeddedChannel channel = new EmbeddedChannel(new CustomHttpContentCompressor(policy));
+        channel.writeInbound(createRequest(HttpMethod.GET, "/greeting", "gzip"));
+        channel.writeOutbound(createCacheableResponse(PAYLOAD));
+        byte[] compressed = readResponse(channel).body;
+
+        // The cached payload is written when the encoder is closed, in place of the one written by the service
+        channel.writeInbound(createRequest(HttpMethod.GET, "/greeting", "gzip"));
+        channel.writeOutbound(createCacheableResponse(PAYLOAD));
+        EncodedResponse replayed = readResponse(channel);
+        Assert.assertEquals(replayed.contentEncoding, "gzip");
+        Assert.assertEquals(replayed.body, compressed);
+        Assert.assertEquals(gunzip(replayed.body), PAYLOAD);
+        Assert.assertEquals(policy.getMetrics().getCompressedResponses(), 2);
+        Assert.assertEquals(policy.getMetrics().getCachedResponses(), 1);
+
+        // Another entity tag is a miss
+        channel.writeInbound(createRequest(HttpMethod.GET, "/greeting", "gzip"));
+        FullHttpResponse changed = createCacheableResponse(PAYLOAD + "!");
+        changed.headers().set(HttpHeaderNames.ETAG, "\"v2\"");
+        channel.writeOutbound(changed);
+        Assert.assertEquals(gunzip(readResponse(channel).body), PAYLOAD + "!");
+        Assert.assertEquals(policy.getMetrics().getCachedResponses(), 1);
+        Assert.assertEquals(policy.getCache().size(), 2);
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void testSmallAndDisabledPayloadsAreNotCompressed() {
+        ResponseCompressionConfig config = createConfig(0);
+        config.setMinSize(1024);
+        config.addContentType(new ContentTypeSettings("image/*", false, -1, -1));
+        CompressionPolicy policy = new CompressionPolicy(config);
+        EmbeddedChannel channel = new EmbeddedChannel(new CustomHttpContentCompressor(policy));
+
+        channel.writeInbound(createRequest(HttpMethod.GET, "/small", "gzip"));
+        channel.writeOutbound(createResponse("small"));
+        EncodedResponse small = readResponse(channel);
+        Assert.assertNull(small.contentEncoding);
+        Assert.assertEquals(new String(small.body, StandardCharsets.UTF_8), "small");
+
+        channel.writeInbound(createRequest(HttpMethod.GET, "/image", "gzip"));
+        FullHttpResponse image = createResponse(PAYLOAD);
+        image.headers().set(HttpHeaderNames.CONTENT_TYPE, "image/png");
+        channel.writeOutbound(image);
+        EncodedResponse disabled = readResponse(channel);
+        Assert.assertNull(disabled.contentEncoding);
+        Assert.assertEquals(new String(disabled.body, StandardCharsets.UTF_8), PAYLOAD);
+        Assert.assertEquals(policy.getMetrics().getCompressedResponses(), 0);
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void testPipelinedRequestsUseTheirOwnEncoding() throws IOException {
+        CompressionPolicy policy = new CompressionPolicy(createConfig(0));
+        EmbeddedChannel channel = new EmbeddedChannel(new CustomHttpContentCompressor(policy));
+        channel.writeInbound(createRequest(HttpMethod.GET, "/first", "gzip"));
+        channel.writeInbound(createRequest(HttpMethod.GET, "/second", "deflate"));
+        channel.writeInbound(createRequest(HttpMethod.GET, "/third", null));
+
+        channel.writeOutbound(createResponse(PAYLOAD));
+        channel.writeOutbound(createResponse(PAYLOAD));
+        channel.writeOutbound(createResponse(PAYLOAD));
+        EncodedResponse first = readResponse(channel);
+        EncodedResponse second = readResponse(channel);
+        EncodedResponse third = readResponse(channel);
+        Assert.assertEquals(first.contentEncoding, "gzip");
+        Assert.assertEquals(gunzip(first.body), PAYLOAD);
+        Assert.assertEquals(second.contentEncoding, "deflate");
+        Assert.assertEquals(inflate(second.body), PAYLOAD);
+        Assert.assertNull(third.contentEncoding);
+        Assert.assertEquals(new String(third.body, StandardCharsets.UTF_8), PAYLOAD);
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void testOptionsResponseIsPassedThrough() {
+        CompressionPolicy policy = new CompressionPolicy(createConfig(0));
+        EmbeddedChannel channel = new EmbeddedChannel(new CustomHttpContentCompressor(policy));
+        channel.writeInbound(createRequest(HttpMethod.OPTIONS, "/greeting", "gzip"));
+        // A full response without content is passed through by the encoder itself, so the headers are sent apart
+        HttpResponse response = new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK);
+        response.headers().set(HttpHeaderNames.CONTENT_TYPE, "text/plain");
+        response.headers().set(HttpHeaderNames.CONTENT_LENGTH, 0);
+        response.headers().set(HttpHeaderNames.ALLOW, "GET, OPTIONS");
+        channel.writeOutbound(response, LastHttpContent.EMPTY_LAST_CONTENT);
+
+        EncodedResponse options = readResponse(channel);
+        Assert.assertNull(options.contentEncoding);
+        Assert.assertEquals(options.headers.get(HttpHeaderNames.CONTENT_LENGTH), "0");
+        Assert.assertEquals(options.body.length, 0);
+        channel.finishAndReleaseAll();
+    }
+
+    private static ResponseCompressionConfig createConfig(long cacheSize) {
+        ResponseCompressionConfig config = new ResponseCompressionConfig();
+        config.setMinSize(0);
+        config.setCacheSize(cacheSize * 1024);
+        return config;
+    }
+
+    private static FullHttpRequest createRequest(HttpMethod method, String uri, String acceptEncoding) {
+        FullHttpRequest request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, method, uri);
+        request.headers().set(HttpHeaderNames.HOST, HOST);
+        if (acceptEncoding != null) {
+            request.headers().set(HttpHeaderNames.ACCEPT_ENCODING, acceptEncoding);
+        }
+        return request;
+    }
+
+    private static FullHttpResponse createResponse(String payload) {
+        ByteBuf content = Unpooled.copiedBuffer(payload, StandardCharsets.UTF_8);
+        FullHttpResponse response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK, content);
+        response.headers().set(HttpHeaderNames.CONTENT_TYPE, "text/plain");
+        response.headers().set(HttpHeaderNames.CONTENT_LENGTH, content.readableBytes());
+        return response;
+    }
+
+    private static FullHttpResponse createCacheableResponse(String payload) {
+        FullHttpResponse response = createResponse(payload);
+        response.headers().set(HttpHeaderNames.ETAG, ETAG);
+        response.headers().set(HttpHeaderNames.CACHE_CONTROL, "public, max-age=60");
+        return response;
+    }
+
+    /**
+     * Reads the messages of the next response written by the compressor, up to and including its last content.
+     */
+    private static EncodedResponse readResponse(EmbeddedChannel channel) {
+        EncodedResponse encoded = new EncodedResponse();
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        for (;;) {
+            Object msg = channel.readOutbound();
+            Assert.assertNotNull(msg, "The response is not complete");
+            try {
+                if (msg instanceof HttpResponse) {
+                    HttpResponse response = (HttpResponse) msg;
+                    encoded.headers = response.headers();
+                    encoded.contentEncoding = response.headers().get(HttpHeaderNames.CONTENT_ENCODING);
+                }
+                if (msg instanceof HttpContent) {
+                    body.writeBytes(ByteBufUtil.getBytes(((HttpContent) msg).content()));
+                }
+                if (msg instanceof LastHttpContent) {
+                    encoded.body = body.toByteArray();
+                    return encoded;
+                }
+            } finally {
+                ReferenceCountUtil.release(msg);
+            }
+        }
+    }
+
+    private static String gunzip(byte[] body) throws IOException {
+        return decode(new GZIPInputStream(new ByteArrayInputStream(body)));
+    }
+
+    private static String inflate(byte[] body) throws IOException {
+        return decode(new InflaterInputStream(new ByteArrayInputStream(body)));
+    }
+
+    private static String decode(InputStream inputStream) throws IOException {
+        try (InputStream decoded = inputStream) {
+            return new String(decoded.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static class EncodedResponse {
+
+        private HttpHeaders headers;
+        private String contentEncoding;
+        private byte[] body;
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.listener.accesslog;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+/**
+ * A unit test class for the {@link AccessLogWriter} and the {@link AccessLogRing}.
+ */
+public class AccessLogWriterTest {
+
+    @Test
+    public void testFlatFormat() {
+        List<String> messages = new ArrayList<>();
+        AccessLogWriter writer = new AccessLogWriter(createLogger("flat", messages), 16, false);
+        Assert.assertTrue(writer.publish(createRecord("/hello", 200, 12)));
+        Assert.assertEquals(writer.drain(), 1);
+        Assert.assertEquals(messages.size(), 1);
+        String entry = messages.get(0);
+        Assert.assertTrue(entry.startsWith("127.0.0.1 - - ["), entry);
+        Assert.assertTrue(entry.endsWith("] \"GET /hello HTTP/1.1\" 200 12 \"-\" \"curl/7.79.1\""), entry);
+    }
+
+    @Test
+    public void testJsonFormat() {
+        List<String> messages = new ArrayList<>();
+        AccessLogWriter writer = new AccessLogWriter(createLogger("json", messages), 16, true);
+        writer.publish(createRecord("/hello?name=\"ballerina\"", 404, 0));
+        writer.drain();
+        JsonObject entry = new JsonParser().parse(messages.get(0)).getAsJsonObject();
+        Assert.assertEquals(entry.get("ip").getAsString(), "127.0.0.1");
+        Assert.assertEquals(entry.get("http_method").getAsString(), "GET");
+        Assert.assertEquals(entry.get("resource_path").getAsString(), "/hello?name=\"ballerina\"");
+        Assert.assertEquals(entry.get("http_version").getAsString(), "HTTP/1.1");
+        Assert.assertEquals(entry.get("status").getAsInt(), 404);
+        Assert.assertEquals(entry.get("response_body_size").getAsLong(), 0);
+        Assert.assertEquals(entry.get("http_referrer").getAsString(), "-");
+        Assert.assertEquals(entry.get("http_user_agent").getAsString(), "curl/7.79.1");
+        Assert.assertNotNull(entry.get("date_time"));
+    }
+
+    @Test
+    public void testRecordsAreWrittenInBatches() {
+        List<String> messages = new ArrayList<>();
+        AccessLogWriter writer = new AccessLogWriter(createLogger("batch", messages), 1024, false);
+        for (int i = 0; i < 600; i++) {
+            Assert.assertTrue(writer.publish(createRecord("/" + i, 200, i)));
+        }
+        Assert.assertEquals(writer.drain(), 600);
+        Assert.assertEquals(messages.size(), 2);
+        String[] firstBatch = messages.get(0).split(System.lineSeparator());
+        Assert.assertEquals(firstBatch.length, 512);
+        Assert.assertTrue(firstBatch[0].contains("\"GET /0 HTTP/1.1\""));
+        Assert.assertTrue(messages.get(1).endsWith("\"GET /599 HTTP/1.1\" 200 599 \"-\" \"curl/7.79.1\""));
+        Assert.assertEquals(writer.getWrittenRecords(), 600);
+    }
+
+    @Test
+    public void testOverloadedWriterSamplesAndDrops() {
+        AccessLogWriter writer = new AccessLogWriter(createLogger("overload", new ArrayList<>()), 16, false);
+        for (int i = 0; i < 200; i++) {
+            writer.publish(createRecord("/" + i, 200, 0));
+        }
+        Assert.assertEquals(writer.getPublishedRecords(), 16);
+        Assert.assertTrue(writer.getSampledOutRecords() > 0);
+        Assert.assertTrue(writer.getDroppedRecords() > 0);
+        Assert.assertEquals(writer.getPublishedRecords() + writer.getSampledOutRecords() +
+                                    writer.getDroppedRecords(), 200);
+    }
+
+    @Test
+    public void testRingWithConcurrentProducers() throws InterruptedException {
+        int producers = 4;
+        int elementsPerProducer = 10000;
+        AccessLogRing<Integer> ring = new AccessLogRing<>(1024);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch latch = new CountDownLatch(producers);
+        for (int p = 0; p < producers; p++) {
+            executor.execute(() -> {
+                for (int i = 0; i < elementsPerProducer; i++) {
+                    while (!ring.offer(i)) {
+                        Thread.yield();
+                    }
+                }
+                latch.countDown();
+            });
+        }
+        long sum = 0;
+        int polled = 0;
+        while (polled < producers * elementsPerProducer) {
+            Integer element = ring.poll();
+            if (element != null) {
+                sum += element;
+                polled++;
+            }
+        }
+        Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        executor.shutdownNow();
+        Assert.assertEquals(sum, (long) producers * elementsPerProducer * (elementsPerProducer - 1) / 2);
+        Assert.assertNull(ring.poll());
+        Assert.assertEquals(ring.size(), 0);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testRingCapacityShouldBePowerOfTwo() {
+        new AccessLogRing<>(100);
+    }
+
+    private static AccessLogRecord createRecord(String uri, int status, long contentLength) {
+        AccessLogRecord record = new AccessLogRecord("127.0.0.1", "GET", uri, "HTTP/1.1", "-", "curl/7.79.1",
+                                                     System.currentTimeMillis());
+        record.setStatus(status);
+        record.setContentLength(contentLength);
+        return record;
+    }
+
+    private static Logger createLogger(String name, List<String> messages) {
+        Logger logger = Logger.getLogger("http.accesslog.test." + name);
+        logger.setUseParentHandlers(false);
+        logger.addHandler(new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                messages.add(record.getMessage());
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        });
+        return logger;
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.listener.compression;
+
+import io.ballerina.stdlib.http.transport.contract.config.ResponseCompressionConfig;
+import io.ballerina.stdlib.http.transport.contract.config.ResponseCompressionConfig.ContentTypeSettings;
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+
+/**
+ * Tests for {@link CompressionPolicy} and {@link CompressedBodyCache}.
+ */
+public class CompressionPolicyTest {
+
+    @Test
+    public void testSelectEncoding() {
+        CompressionPolicy policy = new CompressionPolicy(new ResponseCompressionConfig());
+        Assert.assertEquals(policy.selectEncoding("gzip, deflate"), "gzip");
+        Assert.assertEquals(policy.selectEncoding("deflate;q=1.0, gzip;q=0.8"), "deflate");
+        Assert.assertEquals(policy.selectEncoding("GZIP"), "gzip");
+        Assert.assertEquals(policy.selectEncoding("*"), "gzip");
+        Assert.assertEquals(policy.selectEncoding("gzip;q=0, *;q=0.5"), "deflate");
+        Assert.assertNull(policy.selectEncoding("identity"));
+        Assert.assertNull(policy.selectEncoding("gzip;q=0, deflate;q=0"));
+        Assert.assertNull(policy.selectEncoding(null));
+    }
+
+    @Test
+    public void testConfiguredEncodings() {
+        ResponseCompressionConfig config = new ResponseCompressionConfig();
+        config.setEncodings(Arrays.asList("deflate", "unknown"));
+        CompressionPolicy policy = new CompressionPolicy(config);
+        Assert.assertEquals(policy.selectEncoding("gzip, deflate"), "deflate");
+        Assert.assertNull(policy.selectEncoding("gzip, unknown"));
+    }
+
+    @Test
+    public void testContentTypeSettings() {
+        ResponseCompressionConfig config = new ResponseCompressionConfig();
+        config.setLevel(4);
+        config.setMinSize(1024);
+        config.addContentType(new ContentTypeSettings("application/json", true, 9, -1));
+        config.addContentType(new ContentTypeSettings("image/*", false, -1, -1));
+        config.addContentType(new ContentTypeSettings("image/svg+xml", true, -1, 0));
+        CompressionPolicy policy = new CompressionPolicy(config);
+
+        CompressionPolicy.Settings json = policy.getSettings("application/json; charset=utf-8");
+        Assert.assertTrue(json.isEnabled());
+        Assert.assertEquals(json.getLevel(), 9);
+        Assert.assertEquals(json.getMinSize(), 1024);
+
+        Assert.assertFalse(policy.getSettings("image/png").isEnabled());
+        CompressionPolicy.Settings svg = policy.getSettings("IMAGE/SVG+XML");
+        Assert.assertTrue(svg.isEnabled());
+        Assert.assertEquals(svg.getLevel(), 4);
+        Assert.assertEquals(svg.getMinSize(), 0);
+
+        CompressionPolicy.Settings text = policy.getSettings("text/plain");
+        Assert.assertTrue(text.isEnabled());
+        Assert.assertEquals(text.getLevel(), 4);
+        Assert.assertEquals(policy.getSettings(null).getMinSize(), 1024);
+    }
+
+    @Test
+    public void testAnyMediaTypeSettings() {
+        ResponseCompressionConfig config = new ResponseCompressionConfig();
+        config.addContentType(new ContentTypeSettings("*/*", false, -1, -1));
+        config.addContentType(new ContentTypeSettings("text/*", true, -1, -1));
+        CompressionPolicy policy = new CompressionPolicy(config);
+        Assert.assertTrue(policy.getSettings("text/html").isEnabled());
+        Assert.assertFalse(policy.getSettings("application/octet-stream").isEnabled());
+    }
+
+    @Test
+    public void testCacheableResponses() {
+        Assert.assertTrue(CompressionPolicy.isCacheable(200, headers("\"v1\"", "public, max-age=60", null)));
+        Assert.assertTrue(CompressionPolicy.isCacheable(200, headers("\"v1\"", "s-maxage=60", "Accept-Encoding")));
+        Assert.assertFalse(CompressionPolicy.isCacheable(201, headers("\"v1\"", "public", null)));
+        Assert.assertFalse(CompressionPolicy.isCacheable(200, headers(null, "public", null)));
+        Assert.assertFalse(CompressionPolicy.isCacheable(200, headers("W/\"v1\"", "public", null)));
+        Assert.assertFalse(CompressionPolicy.isCacheable(200, headers("\"v1\"", null, null)));
+        Assert.assertFalse(CompressionPolicy.isCacheable(200, headers("\"v1\"", "max-age=60, private", null)));
+        Assert.assertFalse(CompressionPolicy.isCacheable(200, headers("\"v1\"", "public, no-store", null)));
+        Assert.assertFalse(CompressionPolicy.isCacheable(200, headers("\"v1\"", "public", "accept-encoding, cookie")));
+    }
+
+    @Test
+    public void testCacheKey() {
+        Assert.assertNotEquals(CompressionPolicy.getCacheKey("gzip", "localhost", "/a", "\"v1\""),
+                               CompressionPolicy.getCacheKey("br", "localhost", "/a", "\"v1\""));
+        Assert.assertNotEquals(CompressionPolicy.getCacheKey("gzip", "localhost", "/a", "\"v1\""),
+                               CompressionPolicy.getCacheKey("gzip", "localhost", "/a", "\"v2\""));
+        Assert.assertEquals(CompressionPolicy.getCacheKey("gzip", null, "/a", "\"v1\""),
+                            CompressionPolicy.getCacheKey("gzip", null, "/a", "\"v1\""));
+    }
+
+    @Test
+    public void testCacheDisabledByDefault() {
+        Assert.assertNull(new CompressionPolicy(new ResponseCompressionConfig()).getCache());
+        ResponseCompressionConfig config = new ResponseCompressionConfig();
+        config.setCacheSize(1024);
+        Assert.assertNotNull(new CompressionPolicy(config).getCache());
+    }
+
+    @Test
+    public void testCacheEviction() {
+        CompressedBodyCache cache = new CompressedBodyCache(10);
+        cache.put("a", new byte[4]);
+        cache.put("b", new byte[4]);
+        Assert.assertNotNull(cache.get("a"));
+        cache.put("c", new byte[4]);
+        // b is the least recently used
+        Assert.assertNull(cache.get("b"));
+        Assert.assertNotNull(cache.get("a"));
+        Assert.assertNotNull(cache.get("c"));
+        Assert.assertEquals(cache.weight(), 8);
+
+        cache.put("a", new byte[2]);
+        Assert.assertEquals(cache.weight(), 6);
+        cache.put("d", new byte[11]);
+        Assert.assertNull(cache.get("d"));
+        Assert.assertEquals(cache.size(), 2);
+    }
+
+    @Test
+    public void testMetrics() {
+        CompressionMetrics metrics = new CompressionMetrics();
+        metrics.record(1000, 200, 50, false);
+        metrics.record(1000, 200, 0, true);
+        Assert.assertEquals(metrics.getCompressedResponses(), 2);
+        Assert.assertEquals(metrics.getCachedResponses(), 1);
+        Assert.assertEquals(metrics.getBytesSaved(), 1600);
+        Assert.assertEquals(metrics.getCompressionNanos(), 50);
+    }
+
+    private static HttpHeaders headers(String etag, String cacheControl, String vary) {
+        HttpHeaders headers = new DefaultHttpHeaders();
+        if (etag != null) {
+            headers.set(HttpHeaderNames.ETAG, etag);
+        }
+        if (cacheControl != null) {
+            headers.set(HttpHeaderNames.CACHE_CONTROL, cacheControl);
+        }
+        if (vary != null) {
+            headers.set(HttpHeaderNames.VARY, vary);
+        }
+        return headers;
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.sender.channel.pool;
+
+import io.ballerina.stdlib.http.transport.contract.Constants;
+import io.ballerina.stdlib.http.transport.contractimpl.common.HttpRoute;
+import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.TargetChannel;
+import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.EventLoop;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * A unit test class for the {@link TargetChannelPool}.
+ */
+public class TargetChannelPoolTest {
+
+    private static final HttpRoute ROUTE = new HttpRoute(Constants.HTTP_SCHEME, "localhost", 9090, 0);
+
+    private EventLoopGroup clientEventGroup;
+
+    @BeforeClass
+    public void setup() {
+        clientEventGroup = new DefaultEventLoopGroup(1);
+    }
+
+    @Test
+    public void testReleasedChannelIsReused() throws Exception {
+        PoolableTargetChannelFactory channelFactory = createChannelFactory();
+        TargetChannelPool pool = new TargetChannelPool(channelFactory, createPoolConfiguration(-1), clientEventGroup);
+        TargetChannel targetChannel = pool.acquire(null, clientEventGroup, EmbeddedChannel.class).get();
+        pool.release(targetChannel);
+        Assert.assertEquals(pool.getNumIdle(), 1);
+        Assert.assertSame(pool.acquire(null, clientEventGroup, EmbeddedChannel.class).get(), targetChannel);
+        Assert.assertEquals(pool.getNumActive(), 1);
+        verify(channelFactory, times(1)).makeObject(any(), any());
+    }
+
+    @Test
+    public void testChannelOfTheSameEventLoopIsPreferred() throws Exception {
+        TargetChannelPool pool = new TargetChannelPool(createChannelFactory(), createPoolConfiguration(-1),
+                                                       clientEventGroup);
+        TargetChannel first = pool.acquire(null, clientEventGroup, EmbeddedChannel.class).get();
+        TargetChannel second = pool.acquire(null, clientEventGroup, EmbeddedChannel.class).get();
+        pool.release(first);
+        pool.release(second);
+        Assert.assertSame(pool.acquire(first.getChannel().eventLoop(), clientEventGroup,
+                                       EmbeddedChannel.class).get(), first);
+        Assert.assertSame(pool.acquire(second.getChannel().eventLoop(), clientEventGroup,
+                                       EmbeddedChannel.class).get(), second);
+    }
+
+    @Test
+    public void testPassthroughAcquisitionDoesNotTakeChannelOfAnotherEventLoop() throws Exception {
+        PoolableTargetChannelFactory channelFactory = createChannelFactory();
+        TargetChannelPool pool = new TargetChannelPool(channelFactory, createPoolConfiguration(-1), clientEventGroup);
+        TargetChannel targetChannel = pool.acquire(null, clientEventGroup, EmbeddedChannel.class).get();
+        pool.release(targetChannel);
+
+        EventLoop inboundEventLoop = clientEventGroup.next();
+        TargetChannel acquired = pool.acquire(inboundEventLoop, inboundEventLoop, EmbeddedChannel.class).get();
+        Assert.assertNotSame(acquired, targetChannel);
+        Assert.assertEquals(pool.getNumIdle(), 1);
+        verify(channelFactory, times(2)).makeObject(any(), any());
+    }
+
+    @Test
+    public void testPassthroughAcquisitionFreesSlotOfChannelOfAnotherEventLoop() throws Exception {
+        TargetChannelPool pool = new TargetChannelPool(createChannelFactory(), createPoolConfiguration(1),
+                                                       clientEventGroup);
+        TargetChannel targetChannel = pool.acquire(null, clientEventGroup, EmbeddedChannel.class).get();
+        pool.release(targetChannel);
+
+        // The pool is full, so the idle channel of the other event loop is closed to create one on the inbound loop
+        EventLoop inboundEventLoop = clientEventGroup.next();
+        CompletableFuture<TargetChannel> acquired = pool.acquire(inboundEventLoop, inboundEventLoop,
+                                                                 EmbeddedChannel.class);
+        Assert.assertTrue(acquired.isDone());
+        Assert.assertNotSame(acquired.get(), targetChannel);
+        Assert.assertFalse(targetChannel.getChannel().isOpen());
+        Assert.assertEquals(pool.getNumIdle(), 0);
+        Assert.assertEquals(pool.getNumActive(), 1);
+    }
+
+    @Test
+    public void testChannelOfAnotherClassIsNotStolen() throws Exception {
+        PoolableTargetChannelFactory channelFactory = createChannelFactory();
+        TargetChannelPool pool = new TargetChannelPool(channelFactory, createPoolConfiguration(-1), clientEventGroup);
+        TargetChannel targetChannel = pool.acquire(null, clientEventGroup, EmbeddedChannel.class).get();
+        pool.release(targetChannel);
+        Assert.assertNotSame(pool.acquire(null, clientEventGroup, NioSocketChannel.class).get(), targetChannel);
+        Assert.assertEquals(pool.getNumIdle(), 1);
+        verify(channelFactory, times(2)).makeObject(any(), any());
+    }
+
+    @Test
+    public void testReleasedChannelIsNotHandedOverToAnotherClass() throws Exception {
+        TargetChannelPool pool = new TargetChannelPool(createChannelFactory(), createPoolConfiguration(1),
+                                                       clientEventGroup);
+        TargetChannel targetChannel = pool.acquire(null, clientEventGroup, EmbeddedChannel.class).get();
+        CompletableFuture<TargetChannel> waiting = pool.acquire(null, clientEventGroup, NioSocketChannel.class);
+        Assert.assertFalse(waiting.isDone());
+
+        pool.release(targetChannel);
+        ((EmbeddedChannel) targetChannel.getChannel()).runPendingTasks();
+        Assert.assertTrue(waiting.isDone());
+        Assert.assertNotSame(waiting.get(), targetChannel);
+        Assert.assertFalse(targetChannel.getChannel().isOpen());
+        Assert.assertEquals(pool.getNumIdle(), 0);
+        Assert.assertEquals(pool.getNumActive(), 1);
+    }
+
+    @Test
+    public void testWaitingAcquisitionGetsReleasedChannel() throws Exception {
+        TargetChannelPool pool = new TargetChannelPool(createChannelFactory(), createPoolConfiguration(1),
+                                                       clientEventGroup);
+        TargetChannel targetChannel = pool.acquire(null, clientEventGroup, EmbeddedChannel.class).get();
+        CompletableFuture<TargetChannel> waiting = pool.acquire(null, clientEventGroup, EmbeddedChannel.class);
+        Assert.assertFalse(waiting.isDone());
+
+        pool.release(targetChannel);
+        ((EmbeddedChannel) targetChannel.getChannel()).runPendingTasks();
+        Assert.assertSame(waiting.get(), targetChannel);
+        Assert.assertEquals(pool.getNumIdle(), 0);
+    }
+
+    @Test
+    public void testInvalidationFreesSlotForWaitingAcquisition() throws Exception {
+        TargetChannelPool pool = new TargetChannelPool(createChannelFactory(), createPoolConfiguration(1),
+                                                       clientEventGroup);
+        TargetChannel targetChannel = pool.acquire(null, clientEventGroup, EmbeddedChannel.class).get();
+        CompletableFuture<TargetChannel> waiting = pool.acquire(null, clientEventGroup, EmbeddedChannel.class);
+        Assert.assertFalse(waiting.isDone());
+
+        pool.invalidate(targetChannel);
+        pool.invalidate(targetChannel);
+        Assert.assertFalse(targetChannel.getChannel().isOpen());
+        Assert.assertTrue(waiting.isDone());
+        Assert.assertNotSame(waiting.get(), targetChannel);
+        Assert.assertEquals(pool.getNumActive(), 1);
+    }
+
+    @Test
+    public void testWaitingTimeout() throws Exception {
+        PoolConfiguration poolConfiguration = createPoolConfiguration(1);
+        poolConfiguration.setMaxWaitTime(100);
+        TargetChannelPool pool = new TargetChannelPool(createChannelFactory(), poolConfiguration, clientEventGroup);
+        pool.acquire(null, clientEventGroup, EmbeddedChannel.class).get();
+        try {
+            pool.acquire(null, clientEventGroup, EmbeddedChannel.class).get(5, TimeUnit.SECONDS);
+            Assert.fail("Acquisition should fail once the maximum wait time elapses");
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof NoSuchElementException);
+            Assert.assertEquals(e.getCause().getMessage(), Constants.MAXIMUM_WAIT_TIME_EXCEED);
+        }
+    }
+
+    @Test
+    public void testExhaustedActionFail() {
+        PoolConfiguration poolConfiguration = createPoolConfiguration(1);
+        poolConfiguration.setExhaustedAction(TargetChannelPool.WHEN_EXHAUSTED_FAIL);
+        TargetChannelPool pool = new TargetChannelPool(createChannelFactory(), poolConfiguration, clientEventGroup);
+        pool.acquire(null, clientEventGroup, EmbeddedChannel.class);
+        Assert.assertTrue(pool.acquire(null, clientEventGroup, EmbeddedChannel.class).isCompletedExceptionally());
+    }
+
+    @Test
+    public void testChannelsBeyondMaxIdleAreClosed() throws Exception {
+        PoolConfiguration poolConfiguration = createPoolConfiguration(-1);
+        poolConfiguration.setMaxIdlePerPool(1);
+        TargetChannelPool pool = new TargetChannelPool(createChannelFactory(), poolConfiguration, clientEventGroup);
+        TargetChannel first = pool.acquire(null, clientEventGroup, EmbeddedChannel.class).get();
+        TargetChannel second = pool.acquire(null, clientEventGroup, EmbeddedChannel.class).get();
+        pool.release(first);
+        pool.release(second);
+        Assert.assertEquals(pool.getNumIdle(), 1);
+        Assert.assertTrue(first.getChannel().isOpen());
+        Assert.assertFalse(second.getChannel().isOpen());
+    }
+
+    @Test
+    public void testInactiveChannelIsNotReturned() throws Exception {
+        TargetChannelPool pool = new TargetChannelPool(createChannelFactory(), createPoolConfiguration(-1),
+                                                       clientEventGroup);
+        TargetChannel targetChannel = pool.acquire(null, clientEventGroup, EmbeddedChannel.class).get();
+        targetChannel.getChannel().close();
+        pool.release(targetChannel);
+        Assert.assertEquals(pool.getNumIdle(), 0);
+        Assert.assertEquals(pool.getNumActive(), 0);
+        Assert.assertTrue(targetChannel.isDestroyed());
+    }
+
+    @AfterClass
+    public void cleanUp() {
+        clientEventGroup.shutdownGracefully();
+    }
+
+    private static PoolConfiguration createPoolConfiguration(int maxActive) {
+        PoolConfiguration poolConfiguration = new PoolConfiguration();
+        poolConfiguration.setMaxActivePerPool(maxActive);
+        poolConfiguration.setMaxWaitTime(-1);
+        poolConfiguration.setTimeBetweenEvictionRuns(-1);
+        return poolConfiguration;
+    }
+
+    private static PoolableTargetChannelFactory createChannelFactory() {
+        PoolableTargetChannelFactory channelFactory = mock(PoolableTargetChannelFactory.class);
+        when(channelFactory.makeObject(any(), any())).thenAnswer(invocation -> {
+            EmbeddedChannel channel = new EmbeddedChannel();
+            TargetChannel targetChannel = new TargetChannel(null, channel.newSucceededFuture(), ROUTE, null);
+            targetChannel.setChannel(channel);
+            return targetChannel;
+        });
+        return channelFactory;
+    }
+}
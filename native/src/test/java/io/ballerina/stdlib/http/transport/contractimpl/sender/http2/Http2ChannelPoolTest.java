@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.sender.http2;
+
+import io.ballerina.stdlib.http.transport.contract.Constants;
+import io.ballerina.stdlib.http.transport.contractimpl.common.HttpRoute;
+import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.pool.PoolConfiguration;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http2.DefaultHttp2Connection;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A unit test class for the {@link Http2ChannelPool}.
+ */
+public class Http2ChannelPoolTest {
+
+    private static final HttpRoute ROUTE = new HttpRoute(Constants.HTTP_SCHEME, "localhost", 9090, 0);
+
+    private final Http2ConnectionManager connectionManager = new Http2ConnectionManager(new PoolConfiguration());
+
+    @Test
+    public void testLeastLoadedChannelIsSelected() {
+        Http2ChannelPool.PerRouteConnectionPool pool = new Http2ChannelPool.PerRouteConnectionPool(10, 0, 0);
+        Http2ClientChannel first = createChannel();
+        Http2ClientChannel second = createChannel();
+        pool.addChannel(first);
+        pool.addChannel(second);
+        Assert.assertTrue(first.tryIncrementActiveStreamCount(10));
+
+        Assert.assertSame(pool.fetchTargetChannel(), second);
+        Assert.assertEquals(second.getActiveStreamCount(), 2);
+        Assert.assertEquals(pool.fetchTargetChannel().getActiveStreamCount(), 3);
+    }
+
+    @Test
+    public void testSaturatedChannelIsNotSelected() {
+        Http2ChannelPool.PerRouteConnectionPool pool = new Http2ChannelPool.PerRouteConnectionPool(2, 0, 0);
+        Http2ClientChannel channel = createChannel();
+        pool.addChannel(channel);
+        Assert.assertSame(pool.fetchTargetChannel(), channel);
+        Assert.assertNull(pool.fetchTargetChannel());
+
+        channel.decrementActiveStreamCount();
+        Assert.assertSame(pool.fetchTargetChannel(), channel);
+    }
+
+    @Test
+    public void testAcquisitionsWaitForTheNewChannel() throws Exception {
+        Http2ChannelPool.PerRouteConnectionPool pool = new Http2ChannelPool.PerRouteConnectionPool(2, 0, 0);
+        Assert.assertNull(pool.acquireChannel().get(), "The first acquisition should open the connection");
+        CompletableFuture<Http2ClientChannel> waiter = pool.acquireChannel();
+        Assert.assertFalse(waiter.isDone());
+        Assert.assertEquals(pool.getStats().getPendingAcquisitions(), 1);
+
+        Http2ClientChannel channel = createChannel();
+        pool.addChannel(channel);
+        Assert.assertSame(waiter.get(), channel);
+        Assert.assertEquals(channel.getActiveStreamCount(), 2);
+    }
+
+    @Test
+    public void testClosedStreamIsHandedOverToWaiter() throws Exception {
+        Http2ChannelPool.PerRouteConnectionPool pool = new Http2ChannelPool.PerRouteConnectionPool(1, 0, 0);
+        Http2ClientChannel channel = createChannel();
+        pool.addChannel(channel);
+        Assert.assertNull(pool.acquireChannel().get(), "The saturated pool should ask for a new connection");
+        CompletableFuture<Http2ClientChannel> waiter = pool.acquireChannel();
+        Assert.assertFalse(waiter.isDone());
+
+        channel.decrementActiveStreamCount();
+        pool.onStreamClosed();
+        Assert.assertSame(waiter.get(), channel);
+    }
+
+    @Test
+    public void testFailedConnectionReleasesWaiters() throws Exception {
+        Http2ChannelPool.PerRouteConnectionPool pool = new Http2ChannelPool.PerRouteConnectionPool(2, 0, 0);
+        Assert.assertNull(pool.acquireChannel().get());
+        CompletableFuture<Http2ClientChannel> first = pool.acquireChannel();
+        CompletableFuture<Http2ClientChannel> second = pool.acquireChannel();
+
+        pool.releaseWaiters();
+        Assert.assertNull(first.get());
+        Assert.assertNull(second.get());
+        Assert.assertNull(pool.acquireChannel().get(), "A new connection should be opened after the failure");
+    }
+
+    @Test
+    public void testWaiterOpensConnectionAfterMaxWaitTime() throws Exception {
+        Http2ChannelPool.PerRouteConnectionPool pool = new Http2ChannelPool.PerRouteConnectionPool(2, 0, 100);
+        Assert.assertNull(pool.acquireChannel().get());
+        Assert.assertNull(pool.acquireChannel().get(5, TimeUnit.SECONDS));
+        Assert.assertEquals(pool.getStats().getPendingAcquisitions(), 0);
+    }
+
+    @Test
+    public void testMinimumConnectionsAreOpened() throws Exception {
+        Http2ChannelPool.PerRouteConnectionPool pool = new Http2ChannelPool.PerRouteConnectionPool(10, 2, 0);
+        Http2ClientChannel channel = createChannel();
+        pool.addChannel(channel);
+        Assert.assertNull(pool.acquireChannel().get(), "A second connection should be opened");
+        Assert.assertSame(pool.acquireChannel().get(), channel,
+                          "The existing connection should be used while the second one is opened");
+
+        pool.addChannel(createChannel());
+        Http2ClientChannel selected = pool.acquireChannel().get();
+        Assert.assertNotNull(selected);
+        Assert.assertNotSame(selected, channel);
+    }
+
+    @Test
+    public void testStats() {
+        Http2ChannelPool.PerRouteConnectionPool pool = new Http2ChannelPool.PerRouteConnectionPool(4, 0, 0);
+        pool.addChannel(createChannel());
+        pool.addChannel(createChannel());
+        pool.fetchTargetChannel();
+        pool.acquireChannel();
+
+        Http2RoutePoolStats stats = pool.getStats();
+        Assert.assertEquals(stats.getConnections(), 2);
+        Assert.assertEquals(stats.getActiveStreams(), 4);
+        Assert.assertEquals(stats.getStreamCapacity(), 8);
+        Assert.assertEquals(stats.getSaturation(), 0.5);
+        Assert.assertEquals(stats.getSaturatedAcquisitions(), 0);
+    }
+
+    @Test
+    public void testStatsAreReportedThroughTheMonitor() {
+        Http2ConnectionManager http2ConnectionManager = new Http2ConnectionManager(new PoolConfiguration());
+        http2ConnectionManager.addHttp2ClientChannel(ROUTE, createChannel());
+
+        Http2RoutePoolStats stats = http2ConnectionManager.getPoolStats().get(ROUTE);
+        Assert.assertEquals(stats.getConnections(), 1);
+        Http2ConnectionPoolMonitor monitor = Http2ConnectionPoolMonitor.getInstance();
+        Assert.assertTrue(monitor.getConnections() >= 1);
+        Assert.assertTrue(Arrays.asList(monitor.getRoutePoolStats()).contains(ROUTE + ": " + stats));
+    }
+
+    private Http2ClientChannel createChannel() {
+        return new Http2ClientChannel(connectionManager, new DefaultHttp2Connection(false), ROUTE,
+                                      new EmbeddedChannel());
+    }
+}
@@ -19,6 +19,9 @@
 package io.ballerina.stdlib.http.transport.message;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
 import io.netty.handler.codec.http.HttpContent;
 import io.netty.handler.codec.http.HttpMessage;
 import io.netty.handler.codec.http.HttpRequest;
@@ -28,8 +31,12 @@ import org.testng.annotations.Test;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 /**
  * A unit test class for Transport module HttpCarbonMessage class functions.
@@ -115,6 +122,29 @@ public class HttpCarbonMessageTest {
         httpCarbonMessage.addHttpContent(httpContent);
     }
 
+    @Test
+    public void testPassthroughContentIsHandedOverWithoutQueueing() {
+        HttpMessage httpRequest = mock(HttpRequest.class);
+        Listener contentListener = mock(Listener.class);
+        HttpCarbonMessage httpCarbonMessage = new HttpCarbonMessage(httpRequest, 100, contentListener);
+        HttpContent queuedContent = new DefaultHttpContent(Unpooled.wrappedBuffer(new byte[]{1}));
+        httpCarbonMessage.addHttpContent(queuedContent);
+        httpCarbonMessage.setPassthrough(true);
+        List<HttpContent> written = new ArrayList<>();
+        httpCarbonMessage.getHttpContentAsync().setMessageListener(written::add);
+
+        HttpContent content = new DefaultHttpContent(Unpooled.wrappedBuffer(new byte[]{2}));
+        HttpContent lastContent = new DefaultLastHttpContent(Unpooled.wrappedBuffer(new byte[]{3}));
+        httpCarbonMessage.addHttpContent(content);
+        httpCarbonMessage.addHttpContent(lastContent);
+
+        Assert.assertEquals(written, Arrays.asList(queuedContent, content, lastContent));
+        Assert.assertTrue(httpCarbonMessage.isEmpty());
+        Assert.assertNull(httpCarbonMessage.getHttpContent());
+        Assert.assertFalse(httpCarbonMessage.isPassthrough());
+        verify(contentListener).onRemove(lastContent);
+    }
+
     @Test
     public void testNotifyContentFailure() {
         HttpMessage httpResponse = mock(HttpResponse.class);
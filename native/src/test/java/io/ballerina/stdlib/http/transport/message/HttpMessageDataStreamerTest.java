@@ -19,11 +19,21 @@
 package io.ballerina.stdlib.http.transport.message;
 
 import io.ballerina.stdlib.http.transport.util.client.http2.MessageGenerator;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
 import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpVersion;
 import org.junit.Assert;
 import org.testng.annotations.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.zip.InflaterInputStream;
 
 /**
@@ -57,4 +67,64 @@ public class HttpMessageDataStreamerTest {
 
     }
 
+    @Test
+    public void testBulkReadAcrossChunks() throws IOException {
+        HttpCarbonMessage httpCarbonMessage = createMessage("Hello", " ", "World");
+        InputStream inputStream = new HttpMessageDataStreamer(httpCarbonMessage).getInputStream();
+        byte[] bytes = new byte[16];
+        Assert.assertEquals(3, inputStream.read(bytes, 0, 3));
+        Assert.assertEquals(2, inputStream.available());
+        Assert.assertEquals(2, inputStream.read(bytes, 3, 10));
+        Assert.assertEquals(' ', inputStream.read());
+        Assert.assertEquals(2, inputStream.skip(2));
+        Assert.assertEquals(3, inputStream.read(bytes, 5, 10));
+        Assert.assertEquals(-1, inputStream.read(bytes, 0, 10));
+        Assert.assertEquals("Hellorld", new String(bytes, 0, 8, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testBulkWriteSpanningContentBuffers() throws IOException {
+        HttpCarbonMessage httpCarbonMessage = createMessage();
+        byte[] payload = new byte[20000];
+        for (int i = 0; i < payload.length; i++) {
+            payload[i] = (byte) i;
+        }
+        OutputStream outputStream = new HttpMessageDataStreamer(httpCarbonMessage).getOutputStream();
+        outputStream.write(payload, 0, 10);
+        outputStream.write(payload[10]);
+        outputStream.write(payload, 11, payload.length - 11);
+        outputStream.close();
+
+        InputStream inputStream = new HttpMessageDataStreamer(httpCarbonMessage).getInputStream();
+        Assert.assertArrayEquals(payload, inputStream.readAllBytes());
+    }
+
+    @Test
+    public void testTransferTo() throws IOException {
+        HttpCarbonMessage source = createMessage("Hello", " ", "World");
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        Assert.assertEquals(11, new HttpMessageDataStreamer(source).getInputStream().transferTo(outputStream));
+        Assert.assertEquals("Hello World", outputStream.toString(StandardCharsets.UTF_8));
+
+        source = createMessage("Hello", " ", "World");
+        HttpCarbonMessage target = createMessage();
+        OutputStream targetOutputStream = new HttpMessageDataStreamer(target).getOutputStream();
+        targetOutputStream.write('>');
+        Assert.assertEquals(11, new HttpMessageDataStreamer(source).getInputStream().transferTo(targetOutputStream));
+        targetOutputStream.close();
+        byte[] transferred = new HttpMessageDataStreamer(target).getInputStream().readAllBytes();
+        Assert.assertEquals(">Hello World", new String(transferred, StandardCharsets.UTF_8));
+    }
+
+    private static HttpCarbonMessage createMessage(String... chunks) {
+        HttpCarbonMessage httpCarbonMessage = new HttpCarbonRequest(
+                new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, "/"));
+        for (int i = 0; i < chunks.length; i++) {
+            byte[] chunk = chunks[i].getBytes(StandardCharsets.UTF_8);
+            httpCarbonMessage.addHttpContent(i == chunks.length - 1 ?
+                    new DefaultLastHttpContent(Unpooled.wrappedBuffer(chunk)) :
+                    new DefaultHttpContent(Unpooled.wrappedBuffer(chunk)));
+        }
+        return httpCarbonMessage;
+    }
 }
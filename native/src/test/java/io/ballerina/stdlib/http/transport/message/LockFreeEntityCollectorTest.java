@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.message;
+
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.LastHttpContent;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A unit test class for Transport module LockFreeEntityCollector class functions.
+ */
+public class LockFreeEntityCollectorTest {
+
+    private static final int TIMEOUT = 10000;
+
+    @Test
+    public void testAddHttpContentWithNullHttpContent() {
+        LockFreeEntityCollector entityCollector = new LockFreeEntityCollector(5);
+        entityCollector.addHttpContent(null);
+        Assert.assertTrue(entityCollector.isEmpty());
+    }
+
+    @Test
+    public void testGetHttpContentTimesOutOnEmptyQueue() {
+        LockFreeEntityCollector entityCollector = new LockFreeEntityCollector(5);
+        Assert.assertNull(entityCollector.getMessageBody());
+        Assert.assertEquals(entityCollector.getFullMessageLength(), 0);
+    }
+
+    @Test
+    public void testMessageLength() {
+        LockFreeEntityCollector entityCollector = new LockFreeEntityCollector(TIMEOUT);
+        entityCollector.addHttpContent(content("hello"));
+        entityCollector.addHttpContent(content("world"));
+        Assert.assertEquals(entityCollector.countMessageLengthTill(8), 10);
+        entityCollector.addHttpContent(new DefaultLastHttpContent(Unpooled.wrappedBuffer("!".getBytes())));
+        Assert.assertEquals(entityCollector.getFullMessageLength(), 11);
+        Assert.assertEquals(entityCollector.getMessageBody().readableBytes(), 5);
+        Assert.assertEquals(entityCollector.getFullMessageLength(), 6);
+        Assert.assertFalse(entityCollector.isEmpty());
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void testCountMessageLengthTillTimesOut() {
+        LockFreeEntityCollector entityCollector = new LockFreeEntityCollector(5);
+        entityCollector.addHttpContent(content("hello"));
+        entityCollector.countMessageLengthTill(10);
+    }
+
+    @Test
+    public void testContentAfterLastContentIsDropped() {
+        LockFreeEntityCollector entityCollector = new LockFreeEntityCollector(TIMEOUT);
+        entityCollector.addHttpContent(new DefaultLastHttpContent());
+        entityCollector.addHttpContent(content("stale"));
+        Assert.assertTrue(entityCollector.getHttpContent() instanceof LastHttpContent);
+        Assert.assertTrue(entityCollector.isEmpty());
+        Assert.assertNull(entityCollector.getHttpContent());
+    }
+
+    @Test
+    public void testWaitAndReleaseAllEntities() throws Exception {
+        LockFreeEntityCollector entityCollector = new LockFreeEntityCollector(TIMEOUT);
+        HttpContent httpContent = content("hello");
+        entityCollector.addHttpContent(httpContent);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> release = executor.submit(entityCollector::waitAndReleaseAllEntities);
+            entityCollector.addHttpContent(new DefaultLastHttpContent());
+            release.get(TIMEOUT, TimeUnit.MILLISECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        Assert.assertEquals(httpContent.refCnt(), 0);
+        Assert.assertTrue(entityCollector.isEmpty());
+    }
+
+    @Test
+    public void testConcurrentProducerAndConsumer() throws Exception {
+        int contentCount = 100000;
+        LockFreeEntityCollector entityCollector = new LockFreeEntityCollector(TIMEOUT);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> producer = executor.submit(() -> {
+                for (int i = 0; i < contentCount; i++) {
+                    entityCollector.addHttpContent(content(Integer.toString(i)));
+                }
+                entityCollector.addHttpContent(new DefaultLastHttpContent());
+            });
+            for (int i = 0; i < contentCount; i++) {
+                HttpContent httpContent = entityCollector.getHttpContent();
+                Assert.assertNotNull(httpContent, "Content did not arrive: " + i);
+                Assert.assertEquals(httpContent.content().toString(StandardCharsets.UTF_8),
+                                    Integer.toString(i));
+                httpContent.release();
+            }
+            Assert.assertTrue(entityCollector.getHttpContent() instanceof LastHttpContent);
+            producer.get(TIMEOUT, TimeUnit.MILLISECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        Assert.assertTrue(entityCollector.isEmpty());
+    }
+
+    @Test
+    public void testSelectedOnCarbonMessage() {
+        HttpCarbonMessage carbonMessage = new HttpCarbonMessage(null);
+        LockFreeEntityCollector entityCollector = new LockFreeEntityCollector(TIMEOUT);
+        carbonMessage.setEntityCollector(entityCollector);
+        carbonMessage.addHttpContent(new DefaultLastHttpContent(Unpooled.wrappedBuffer("hello".getBytes())));
+        Assert.assertSame(carbonMessage.getBlockingEntityCollector(), entityCollector);
+        Assert.assertEquals(carbonMessage.getFullMessageLength(), 5);
+    }
+
+    private static HttpContent content(String value) {
+        return new DefaultHttpContent(Unpooled.wrappedBuffer(value.getBytes()));
+    }
+}
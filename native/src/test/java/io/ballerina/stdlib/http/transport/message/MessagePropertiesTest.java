@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.message;
+
+import io.ballerina.stdlib.http.api.HttpConstants;
+import io.ballerina.stdlib.http.transport.contract.Constants;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Tests for {@link MessageProperties}.
+ */
+public class MessagePropertiesTest {
+
+    private static final String USER_PROPERTY = "userProperty";
+
+    @Test
+    public void testWellKnownProperties() {
+        Assert.assertTrue(MessageProperties.slotOf(Constants.TO) >= 0);
+        Assert.assertTrue(MessageProperties.slotOf(HttpConstants.REQUEST_INTERCEPTOR_INDEX) >= 0);
+        Assert.assertEquals(MessageProperties.slotOf(HttpConstants.TO), MessageProperties.slotOf(Constants.TO));
+        Assert.assertNotEquals(MessageProperties.slotOf(HttpConstants.BASE_PATH),
+                               MessageProperties.slotOf(HttpConstants.SUB_PATH));
+        Assert.assertEquals(MessageProperties.slotOf(USER_PROPERTY), -1);
+    }
+
+    @Test
+    public void testPublicSlots() {
+        Assert.assertEquals(MessageProperties.slotOf(Constants.TO), MessageProperties.TO_SLOT);
+        Assert.assertEquals(MessageProperties.slotOf(HttpConstants.RAW_URI), MessageProperties.RAW_URI_SLOT);
+        Assert.assertEquals(MessageProperties.slotOf(HttpConstants.MATRIX_PARAMS),
+                            MessageProperties.MATRIX_PARAMS_SLOT);
+        Assert.assertEquals(MessageProperties.slotOf(HttpConstants.RESOURCE_ARGS),
+                            MessageProperties.RESOURCE_ARGS_SLOT);
+        Assert.assertEquals(MessageProperties.slotOf(HttpConstants.REQUEST_INTERCEPTOR_INDEX),
+                            MessageProperties.REQUEST_INTERCEPTOR_INDEX_SLOT);
+    }
+
+    @Test
+    public void testSetAndGetBySlot() {
+        MessageProperties properties = new MessageProperties();
+        Assert.assertNull(properties.get(MessageProperties.TO_SLOT));
+        properties.set(MessageProperties.RAW_URI_SLOT, null);
+        Assert.assertNull(properties.get(HttpConstants.RAW_URI));
+
+        properties.set(MessageProperties.TO_SLOT, "/foo");
+        properties.set(HttpConstants.REQUEST_INTERCEPTOR_INDEX, 1);
+        Assert.assertEquals(properties.get(Constants.TO), "/foo");
+        Assert.assertEquals(properties.get(MessageProperties.REQUEST_INTERCEPTOR_INDEX_SLOT), 1);
+
+        properties.set(MessageProperties.TO_SLOT, null);
+        Assert.assertNull(properties.get(Constants.TO));
+        Assert.assertEquals(properties.get(HttpConstants.REQUEST_INTERCEPTOR_INDEX), 1);
+    }
+
+    @Test
+    public void testSetGetAndRemove() {
+        MessageProperties properties = new MessageProperties();
+        Assert.assertNull(properties.get(Constants.TO));
+        Assert.assertNull(properties.get(USER_PROPERTY));
+        properties.remove(Constants.TO);
+        properties.remove(USER_PROPERTY);
+
+        properties.set(Constants.TO, "/foo");
+        properties.set(HttpConstants.REQUEST_INTERCEPTOR_INDEX, 2);
+        properties.set(USER_PROPERTY, "value");
+        Assert.assertEquals(properties.get(Constants.TO), "/foo");
+        Assert.assertEquals(properties.get(HttpConstants.REQUEST_INTERCEPTOR_INDEX), 2);
+        Assert.assertEquals(properties.get(USER_PROPERTY), "value");
+        Assert.assertNull(properties.get(HttpConstants.SUB_PATH));
+
+        properties.remove(Constants.TO);
+        properties.set(HttpConstants.REQUEST_INTERCEPTOR_INDEX, null);
+        properties.remove(USER_PROPERTY);
+        Assert.assertNull(properties.get(Constants.TO));
+        Assert.assertNull(properties.get(HttpConstants.REQUEST_INTERCEPTOR_INDEX));
+        Assert.assertNull(properties.get(USER_PROPERTY));
+    }
+
+    @Test
+    public void testForEach() {
+        MessageProperties properties = new MessageProperties();
+        properties.set(Constants.TO, "/foo");
+        properties.set(HttpConstants.BASE_PATH, "/");
+        properties.set(USER_PROPERTY, "value");
+        properties.set(HttpConstants.SUB_PATH, "/bar");
+        properties.remove(HttpConstants.SUB_PATH);
+
+        Map<String, Object> visited = new HashMap<>();
+        properties.forEach(visited::put);
+        Map<String, Object> expected = new HashMap<>();
+        expected.put(Constants.TO, "/foo");
+        expected.put(HttpConstants.BASE_PATH, "/");
+        expected.put(USER_PROPERTY, "value");
+        Assert.assertEquals(visited, expected);
+    }
+
+    @Test
+    public void testCopyTo() {
+        MessageProperties properties = new MessageProperties();
+        properties.set(Constants.TO, "/foo");
+        properties.set(USER_PROPERTY, "value");
+
+        MessageProperties empty = new MessageProperties();
+        properties.copyTo(empty);
+        Assert.assertEquals(empty.get(Constants.TO), "/foo");
+        Assert.assertEquals(empty.get(USER_PROPERTY), "value");
+        // The copy does not share the slots of the original
+        empty.set(Constants.TO, "/bar");
+        Assert.assertEquals(properties.get(Constants.TO), "/foo");
+
+        MessageProperties target = new MessageProperties();
+        target.set(Constants.TO, "/baz");
+        target.set(Constants.PROTOCOL, "http");
+        target.set("other", "other");
+        properties.copyTo(target);
+        Assert.assertEquals(target.get(Constants.TO), "/foo");
+        Assert.assertEquals(target.get(Constants.PROTOCOL), "http");
+        Assert.assertEquals(target.get(USER_PROPERTY), "value");
+        Assert.assertEquals(target.get("other"), "other");
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.uri;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * A unit test class for {@link BasePathIndex}.
+ */
+public class BasePathIndexTest {
+
+    private final BasePathIndex index = new BasePathIndex(Arrays.asList("/hello/world", "/hello", "/Hi", "/"));
+
+    @Test
+    public void testMostSpecificBasePath() {
+        Assert.assertEquals(index.findTheMostSpecificBasePath("/hello/world/foo"), "/hello/world");
+        Assert.assertEquals(index.findTheMostSpecificBasePath("/hello/world"), "/hello/world");
+        Assert.assertEquals(index.findTheMostSpecificBasePath("/hello/worlds"), "/hello");
+        Assert.assertEquals(index.findTheMostSpecificBasePath("/hello/foo/bar"), "/hello");
+        Assert.assertEquals(index.findTheMostSpecificBasePath("/"), "/");
+    }
+
+    @Test
+    public void testBasePathMatchIgnoresCaseOnlyForTheWholePath() {
+        Assert.assertEquals(index.findTheMostSpecificBasePath("/HELLO"), "/hello");
+        Assert.assertEquals(index.findTheMostSpecificBasePath("/hi"), "/Hi");
+        Assert.assertNull(index.findTheMostSpecificBasePath("/HELLO/foo"));
+        Assert.assertNull(index.findTheMostSpecificBasePath("/hi/foo"));
+    }
+
+    @Test
+    public void testNoMatchingBasePath() {
+        Assert.assertNull(index.findTheMostSpecificBasePath("/foo/hello"));
+        Assert.assertNull(index.findTheMostSpecificBasePath("/hellofoo"));
+        Assert.assertNull(index.findTheMostSpecificBasePath(""));
+        Assert.assertNull(BasePathIndex.EMPTY.findTheMostSpecificBasePath("/hello"));
+        Assert.assertNull(new BasePathIndex(Collections.singletonList("/a/b/c")).findTheMostSpecificBasePath("/a/b"));
+    }
+}
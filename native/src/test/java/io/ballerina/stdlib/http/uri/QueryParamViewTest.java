@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.uri;
+
+import io.ballerina.runtime.api.values.BArray;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * A unit test class for {@link QueryParamView}.
+ */
+public class QueryParamViewTest {
+
+    @Test
+    public void testRepeatedParamsAreAppended() {
+        QueryParamView view = new QueryParamView("foo=a,b,a&bar=1&foo=a,c");
+        assertValues(view.get("foo"), "a", "b", "a", "c");
+        assertValues(view.get("bar"), "1");
+        Assert.assertNull(view.get("baz"));
+        Assert.assertFalse(view.containsKey("baz"));
+    }
+
+    @Test
+    public void testDuplicateValuesWithinAnOccurrence() {
+        assertValues(new QueryParamView("x=1,2,3,4,5,6,7,8,9,1,9,10").get("x"),
+                     "1", "2", "3", "4", "5", "6", "7", "8", "9", "10");
+    }
+
+    @Test
+    public void testParamWithoutValue() {
+        QueryParamView view = new QueryParamView("flag&name=&flag=on");
+        Assert.assertTrue(view.containsKey("flag"));
+        assertValues(view.get("flag"), "on");
+        assertValues(view.get("name"), "");
+        QueryParamView onlyFlag = new QueryParamView("name=1&flag&name");
+        Assert.assertTrue(onlyFlag.containsKey("flag"));
+        Assert.assertNull(onlyFlag.get("flag"));
+        assertValues(onlyFlag.get("name"), "1");
+    }
+
+    @Test
+    public void testEmptyAndTrailingSeparators() {
+        Assert.assertTrue(new QueryParamView("").containsKey(""));
+        Assert.assertFalse(new QueryParamView("&&").containsKey(""));
+        Assert.assertFalse(new QueryParamView(null).containsKey(""));
+        QueryParamView view = new QueryParamView("a=1,2,,&b=,&&");
+        assertValues(view.get("a"), "1", "2");
+        assertValues(view.get("b"));
+        Assert.assertFalse(view.containsKey(""));
+    }
+
+    @Test
+    public void testDecodingAndTrimming() {
+        QueryParamView view = new QueryParamView(" na%20me = hello+world,%E0%B6%85 ");
+        assertValues(view.get("na%20me"), "hello world", "\u0d85");
+    }
+
+    @Test
+    public void testValuesAreDecodedOnce() {
+        QueryParamView view = new QueryParamView("a=1");
+        Assert.assertSame(view.get("a"), view.get("a"));
+    }
+
+    private static void assertValues(BArray values, String... expected) {
+        Assert.assertNotNull(values);
+        Assert.assertEquals(values.getStringArray(), expected);
+    }
+}
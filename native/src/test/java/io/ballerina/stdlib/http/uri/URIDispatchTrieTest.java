@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.uri;
+
+import io.ballerina.stdlib.http.api.HttpResourceArguments;
+import io.ballerina.stdlib.http.uri.parser.DataElement;
+import io.ballerina.stdlib.http.uri.parser.DataReturnAgent;
+import io.ballerina.stdlib.http.uri.parser.Literal;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A unit test class for the compiled {@link io.ballerina.stdlib.http.uri.parser.URIDispatchTrie}.
+ */
+public class URIDispatchTrieTest {
+
+    private static final String[] TEMPLATES = {
+            "/", "/foo", "/foo/bar", "/foo/{id}", "/foo/{id}/bar", "/foo/{id}/{name}", "/foo/*", "/baz/{a}/qux/*",
+            "/fo", "/foobar", "/{x}/bar", "/a+b/c%20d"
+    };
+
+    private static final String[] PATHS = {
+            "/", "/foo", "/foo/bar", "/foo/123", "/foo/123/bar", "/foo/123/abc", "/foo/123/abc/def", "/fo",
+            "/foob", "/foobar", "/xyz/bar", "/xyz/baz", "/baz/1/qux", "/baz/1/qux/a/b", "/foo//bar", "/foo/a%20b",
+            "/a+b/c%20d", "/unknown/path/here"
+    };
+
+    @DataProvider(name = "resourceCounts")
+    public Object[][] resourceCounts() {
+        return new Object[][]{{10}, {100}, {1000}};
+    }
+
+    @Test
+    public void testMatchesSameAsSyntaxTreeWalk() throws Exception {
+        URITemplate<String, Object> walked = createTemplate(TEMPLATES);
+        URITemplate<String, Object> compiled = createTemplate(TEMPLATES);
+        compiled.compile();
+        Assert.assertTrue(compiled.isCompiled());
+        for (String path : PATHS) {
+            assertSameMatch(walked, compiled, path);
+        }
+    }
+
+    @Test(dataProvider = "resourceCounts")
+    public void testMatchesWithManyResources(int resourceCount) throws Exception {
+        List<String> templates = new ArrayList<>();
+        for (int i = 0; i < resourceCount; i++) {
+            templates.add("/service" + (i % 10) + "/resource" + i);
+            templates.add("/service" + (i % 10) + "/resource" + i + "/{id}");
+        }
+        templates.add("/service0/*");
+        URITemplate<String, Object> walked = createTemplate(templates.toArray(new String[0]));
+        URITemplate<String, Object> compiled = createTemplate(templates.toArray(new String[0]));
+        compiled.compile();
+        Assert.assertTrue(compiled.isCompiled());
+        for (int i = 0; i < resourceCount; i++) {
+            assertSameMatch(walked, compiled, "/service" + (i % 10) + "/resource" + i);
+            assertSameMatch(walked, compiled, "/service" + (i % 10) + "/resource" + i + "/" + i);
+            assertSameMatch(walked, compiled, "/service" + (i % 10) + "/resource" + i + "/" + i + "/extra");
+        }
+        Assert.assertEquals(compiled.matches("/service1/resource1/7", new HttpResourceArguments(), null),
+                            "/service1/resource1/{id}");
+    }
+
+    @Test
+    public void testArgumentsAreCapturedByTemplateIndex() throws Exception {
+        URITemplate<String, Object> compiled = createTemplate(TEMPLATES);
+        compiled.compile();
+        Assert.assertTrue(compiled.isCompiled());
+        HttpResourceArguments arguments = new HttpResourceArguments();
+        Assert.assertEquals(compiled.matches("/foo/123/abc", arguments, null), "/foo/{id}/{name}");
+        Assert.assertEquals(arguments.getValue(0), "123");
+        Assert.assertEquals(arguments.getValue(1), "abc");
+        Assert.assertNull(arguments.getExtraPathInfo());
+
+        arguments = new HttpResourceArguments();
+        Assert.assertEquals(compiled.matches("/baz/1/qux/a/b", arguments, null), "/baz/{a}/qux/*");
+        Assert.assertEquals(arguments.getValue(0), "1");
+        Assert.assertEquals(arguments.getExtraPathInfo(), "/a/b");
+    }
+
+    @Test
+    public void testParseAfterCompileFallsBackToTreeWalk() throws Exception {
+        URITemplate<String, Object> template = createTemplate("/foo");
+        template.compile();
+        Assert.assertTrue(template.isCompiled());
+        template.parse("/bar", "/bar", TestDataElement::new);
+        Assert.assertFalse(template.isCompiled());
+        Assert.assertEquals(template.matches("/bar", new HttpResourceArguments(), null), "/bar");
+    }
+
+    private static void assertSameMatch(URITemplate<String, Object> walked, URITemplate<String, Object> compiled,
+                                        String path) {
+        HttpResourceArguments walkedArgs = new HttpResourceArguments();
+        HttpResourceArguments compiledArgs = new HttpResourceArguments();
+        String resource = walked.matches(path, walkedArgs, null);
+        Assert.assertEquals(compiled.matches(path, compiledArgs, null), resource,
+                            "Mismatched resource for path: " + path);
+        if (resource == null) {
+            return;
+        }
+        for (int i = 0; i < resource.split("\\{", -1).length - 1; i++) {
+            Assert.assertEquals(compiledArgs.getValue(i), walkedArgs.getValue(i),
+                                "Mismatched argument " + i + " for path: " + path);
+        }
+        Assert.assertEquals(compiledArgs.getExtraPathInfo(), walkedArgs.getExtraPathInfo(),
+                            "Mismatched extra path for path: " + path);
+    }
+
+    private static URITemplate<String, Object> createTemplate(String... templates) throws Exception {
+        URITemplate<String, Object> uriTemplate = new URITemplate<>(new Literal<>(new TestDataElement(), "/"));
+        for (String template : templates) {
+            uriTemplate.parse(template, template, TestDataElement::new);
+        }
+        return uriTemplate;
+    }
+
+    private static class TestDataElement implements DataElement<String, Object> {
+
+        private String data;
+
+        @Override
+        public void setData(String data) {
+            this.data = data;
+        }
+
+        @Override
+        public boolean hasData() {
+            return data != null;
+        }
+
+        @Override
+        public boolean getData(Object inboundMessage, DataReturnAgent<String> dataReturnAgent) {
+            if (data == null) {
+                return false;
+            }
+            dataReturnAgent.setData(data);
+            return true;
+        }
+    }
+}